@@ -0,0 +1,95 @@
+package com.taskflow.kanban.benchmark;
+
+import com.taskflow.kanban.board.entity.Board;
+import com.taskflow.kanban.board.entity.BoardColumn;
+import com.taskflow.kanban.board.entity.Card;
+import com.taskflow.kanban.board.entity.CardMember;
+import com.taskflow.kanban.board.entity.CardRole;
+import com.taskflow.kanban.board.entity.Label;
+import com.taskflow.kanban.user.entity.Role;
+import com.taskflow.kanban.user.entity.User;
+import com.taskflow.kanban.workspace.entity.Workspace;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Detached entity graphs shaped like a real board: every card has two members and two labels drawn from a small
+ * shared pool, as returned by a board load with members and labels fetched.
+ */
+public final class BenchmarkFixtures {
+
+    private static final int USERS = 20;
+    private static final int LABELS = 8;
+
+    private BenchmarkFixtures() {
+    }
+
+    public static User user(int index) {
+        User user = User.builder()
+                .username("user" + index)
+                .email("user" + index + "@example.com")
+                .password("{bcrypt}hash")
+                .active(true)
+                .lastLogin(LocalDateTime.now())
+                .roles(new HashSet<>(Set.of(new Role("USER"), new Role("ADMIN"))))
+                .build();
+        user.setId(UUID.randomUUID());
+        return user;
+    }
+
+    /** Cards in position order within one column of a fresh board. */
+    public static List<Card> cards(int count) {
+        Random random = new Random(42);
+        Workspace workspace = Workspace.builder().name("Bench Workspace").build();
+        workspace.setId(UUID.randomUUID());
+        Board board = Board.builder().name("Bench Board").workspace(workspace).build();
+        board.setId(UUID.randomUUID());
+        BoardColumn column = BoardColumn.builder().name("Backlog").board(board).position(0).build();
+        column.setId(UUID.randomUUID());
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(user(i));
+        }
+        List<Label> labels = new ArrayList<>();
+        for (int i = 0; i < LABELS; i++) {
+            Label label = Label.builder().name("label" + i).color("#00000" + i).board(board).build();
+            label.setId(UUID.randomUUID());
+            labels.add(label);
+        }
+
+        List<Card> cards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Card card = Card.builder()
+                    .title("Card " + i)
+                    .description("Description of card " + i + " with enough text to look like a real one")
+                    .position(i)
+                    .dueDate(Instant.now().plusSeconds(86_400L * (i % 30)))
+                    .priority(i % 4)
+                    .column(column)
+                    .build();
+            card.setId(UUID.randomUUID());
+            for (CardRole role : new CardRole[]{CardRole.LEAD, CardRole.ASSIGNEE}) {
+                CardMember member = CardMember.builder()
+                        .card(card)
+                        .user(users.get(random.nextInt(USERS)))
+                        .role(role)
+                        .build();
+                member.setId(UUID.randomUUID());
+                card.getMembers().add(member);
+            }
+            card.getLabels().add(labels.get(random.nextInt(LABELS)));
+            card.getLabels().add(labels.get(random.nextInt(LABELS)));
+            cards.add(card);
+        }
+        column.getCards().addAll(cards);
+        return cards;
+    }
+}
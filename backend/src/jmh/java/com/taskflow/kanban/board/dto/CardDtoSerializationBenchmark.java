@@ -0,0 +1,58 @@
+package com.taskflow.kanban.board.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.taskflow.kanban.benchmark.BenchmarkFixtures;
+import com.taskflow.kanban.board.dto.mappers.BoardMapper;
+import com.taskflow.kanban.config.AppConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing card lists with the application's ObjectMapper (AppConfig), as the card endpoints do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardDtoSerializationBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int cards;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter listWriter;
+    private List<CardDto> dtos;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new AppConfig().objectMapper();
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, CardDto.class));
+        dtos = BenchmarkFixtures.cards(cards).stream().map(BoardMapper::toCardDto).toList();
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(dtos);
+    }
+
+    @Benchmark
+    public byte[] typedListWriter() throws JsonProcessingException {
+        return listWriter.writeValueAsBytes(dtos);
+    }
+}
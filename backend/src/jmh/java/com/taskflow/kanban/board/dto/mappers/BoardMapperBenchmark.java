@@ -0,0 +1,46 @@
+package com.taskflow.kanban.board.dto.mappers;
+
+import com.taskflow.kanban.benchmark.BenchmarkFixtures;
+import com.taskflow.kanban.board.dto.CardDto;
+import com.taskflow.kanban.board.entity.Card;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping as done by CardServiceImpl and BoardServiceImpl, which both delegate to BoardMapper.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardMapperBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int cards;
+
+    private List<Card> column;
+
+    @Setup
+    public void setUp() {
+        column = BenchmarkFixtures.cards(cards);
+    }
+
+    @Benchmark
+    public List<CardDto> toCardDtos() {
+        return column.stream().map(BoardMapper::toCardDto).toList();
+    }
+}
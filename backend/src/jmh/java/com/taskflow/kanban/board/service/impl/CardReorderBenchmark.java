@@ -0,0 +1,63 @@
+package com.taskflow.kanban.board.service.impl;
+
+import com.taskflow.kanban.benchmark.BenchmarkFixtures;
+import com.taskflow.kanban.board.entity.Card;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The in-memory half of CardServiceImpl.moveCard: list splice plus renumbering every card in the column.
+ * Each invocation moves the top card to the bottom (or to the other column), so the lists stay the same size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardReorderBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int cards;
+
+    private List<Card> source;
+    private List<Card> target;
+
+    @Setup
+    public void setUp() {
+        source = new ArrayList<>(BenchmarkFixtures.cards(cards));
+        target = new ArrayList<>(BenchmarkFixtures.cards(cards));
+    }
+
+    @Benchmark
+    public List<Card> moveWithinColumn() {
+        Card card = source.remove(0);
+        CardServiceImpl.insertAt(source, card, source.size());
+        return source;
+    }
+
+    @Benchmark
+    public List<Card> moveAcrossColumns() {
+        Card card = source.remove(0);
+        CardServiceImpl.renumber(source);
+        CardServiceImpl.insertAt(target, card, target.size() / 2);
+        // Swap roles so the next invocation moves a card back and both columns keep their size
+        List<Card> swap = source;
+        source = target;
+        target = swap;
+        return target;
+    }
+}
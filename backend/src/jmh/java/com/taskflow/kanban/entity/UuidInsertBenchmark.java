@@ -0,0 +1,116 @@
+package com.taskflow.kanban.entity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Insert throughput, in rows per second, and primary-key index size for random (v4) versus time-ordered (v7) UUID
+ * keys. Each operation is one committed batch of {@value #BATCH} rows into a table that keeps growing for the whole
+ * trial, so the random keys pay for their scattered index page writes as the index outgrows memory.
+ * <p>
+ * Runs against in-memory H2, which reports throughput only, unless BENCHMARK_DB_URL (with BENCHMARK_DB_USER and
+ * BENCHMARK_DB_PASSWORD) points it at PostgreSQL; the forked benchmark JVM inherits the environment:
+ * <pre>
+ * BENCHMARK_DB_URL=jdbc:postgresql://localhost:5432/taskflow BENCHMARK_DB_USER=... BENCHMARK_DB_PASSWORD=... \
+ *     mvn -Pbenchmark -DskipTests verify -Djmh.include=UuidInsertBenchmark
+ * </pre>
+ * On PostgreSQL the index size per row is printed when each trial ends.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class UuidInsertBenchmark {
+
+    private static final int BATCH = 1_000;
+
+    @Param({"v4", "v7"})
+    public String keys;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private Supplier<UUID> ids;
+    private String table;
+    private long rows;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                env("BENCHMARK_DB_URL", "jdbc:h2:mem:uuid_bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1"),
+                env("BENCHMARK_DB_USER", "sa"), env("BENCHMARK_DB_PASSWORD", ""));
+        connection.setAutoCommit(false);
+        ids = keys.equals("v7") ? UuidV7::next : UUID::randomUUID;
+        table = "uuid_bench_" + keys;
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS " + table);
+            ddl.execute("CREATE TABLE " + table + " (id UUID PRIMARY KEY, created_at TIMESTAMP WITH TIME ZONE NOT NULL, "
+                    + "payload VARCHAR(64) NOT NULL)");
+        }
+        connection.commit();
+        insert = connection.prepareStatement("INSERT INTO " + table + " (id, created_at, payload) VALUES (?, ?, ?)");
+        rows = 0;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int[] insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH; i++) {
+            insert.setObject(1, ids.get());
+            insert.setTimestamp(2, Timestamp.from(Instant.now()));
+            insert.setString(3, "activity " + (rows + i));
+            insert.addBatch();
+        }
+        int[] counts = insert.executeBatch();
+        connection.commit();
+        rows += BATCH;
+        return counts;
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        if (connection.getMetaData().getDatabaseProductName().equals("PostgreSQL")) {
+            try (Statement query = connection.createStatement();
+                 ResultSet rs = query.executeQuery("SELECT pg_relation_size('" + table + "_pkey')")) {
+                rs.next();
+                System.out.printf("%n%s: %,d rows, pk index %,d bytes (%.1f bytes/row)%n",
+                        table, rows, rs.getLong(1), (double) rs.getLong(1) / rows);
+            }
+        }
+        insert.close();
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE " + table);
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    private static String env(String name, String fallback) {
+        String value = System.getenv(name);
+        return value != null ? value : fallback;
+    }
+}
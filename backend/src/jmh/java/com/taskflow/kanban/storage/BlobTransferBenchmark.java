@@ -0,0 +1,137 @@
+package com.taskflow.kanban.storage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.FilterOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sending a stored blob to a socket, as BlobResponseWriter does for downloads: {@link FileChannel#transferTo} straight
+ * into the socket channel (what Tomcat's sendfile does), transferTo into the response stream (BlobResponseWriter's
+ * fallback) and a plain InputStream-to-OutputStream copy (what a Resource-returning controller does). A loopback
+ * connection drained by a background thread stands in for the client.
+ * <p>
+ * The {@code gc} profiler the benchmark profile runs with reports {@code gc.alloc.rate.norm}, the bytes allocated per
+ * transfer, next to the throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlobTransferBenchmark {
+
+    @Param({"65536", "8388608"})
+    public int bytes;
+
+    private Path file;
+    private ServerSocketChannel server;
+    private SocketChannel client;
+    private OutputStream clientStream;
+    private Thread drain;
+
+    @Setup
+    public void setUp() throws IOException {
+        byte[] content = new byte[bytes];
+        new Random(42).nextBytes(content);
+        file = Files.createTempFile("blob-transfer", ".bin");
+        Files.write(file, content);
+
+        server = ServerSocketChannel.open().bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        client = SocketChannel.open(server.getLocalAddress());
+        clientStream = new ResponseStream(Channels.newOutputStream(client));
+        SocketChannel peer = server.accept();
+        drain = new Thread(() -> {
+            ByteBuffer sink = ByteBuffer.allocateDirect(256 * 1024);
+            try (peer) {
+                while (peer.read(sink.clear()) >= 0) {
+                    // discard
+                }
+            } catch (IOException e) {
+                // closed at tear-down
+            }
+        }, "blob-transfer-drain");
+        drain.setDaemon(true);
+        drain.start();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        client.close();
+        server.close();
+        drain.join(1000);
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long transferToSocketChannel() throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return transfer(channel, client);
+        }
+    }
+
+    @Benchmark
+    public long transferToStream() throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return transfer(channel, Channels.newChannel(clientStream));
+        }
+    }
+
+    @Benchmark
+    public long streamCopy() throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return in.transferTo(clientStream);
+        }
+    }
+
+    /**
+     * An opaque stream, like a servlet response stream. The JDK short-cuts copies between its own channel-backed
+     * streams into transferTo, which would hide the copy a real response stream costs.
+     */
+    private static final class ResponseStream extends FilterOutputStream {
+        ResponseStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+    }
+
+    private static long transfer(FileChannel channel, WritableByteChannel target) throws IOException {
+        long size = channel.size();
+        long position = 0;
+        while (position < size) {
+            position += channel.transferTo(position, size - position, target);
+        }
+        return position;
+    }
+}
@@ -0,0 +1,50 @@
+package com.taskflow.kanban.user.dto.mappers;
+
+import com.taskflow.kanban.benchmark.BenchmarkFixtures;
+import com.taskflow.kanban.user.dto.UserProfileDto;
+import com.taskflow.kanban.user.dto.UserResponseDto;
+import com.taskflow.kanban.user.dto.UserSummaryDto;
+import com.taskflow.kanban.user.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserMapperBenchmark {
+
+    private User user;
+
+    @Setup
+    public void setUp() {
+        user = BenchmarkFixtures.user(0);
+    }
+
+    @Benchmark
+    public UserResponseDto toResponseDto() {
+        return UserMapper.toResponseDto(user);
+    }
+
+    @Benchmark
+    public UserSummaryDto toSummaryDto() {
+        return UserMapper.toSummaryDto(user);
+    }
+
+    @Benchmark
+    public UserProfileDto toProfileDto() {
+        return UserMapper.toProfileDto(user);
+    }
+}
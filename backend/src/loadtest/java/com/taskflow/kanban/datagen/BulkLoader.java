@@ -0,0 +1,141 @@
+package com.taskflow.kanban.datagen;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Buffers generated rows per table and writes them with PostgreSQL COPY (CSV over the wire) or, on other databases,
+ * JDBC batches. Tables are flushed in registration order, so registering parents first keeps every flush valid
+ * against the foreign keys; each flush commits.
+ */
+final class BulkLoader {
+
+    enum Method { COPY, BATCH }
+
+    private record Table(String name, String[] columns, List<Object[]> rows) {
+    }
+
+    private final Connection connection;
+    private final Method method;
+    private final int flushRows;
+    private final Map<String, Table> tables = new LinkedHashMap<>();
+    private final Map<String, Long> written = new LinkedHashMap<>();
+    private int buffered;
+
+    BulkLoader(Connection connection, Method method, int flushRows) throws SQLException {
+        this.connection = connection;
+        this.method = method;
+        this.flushRows = flushRows;
+        connection.setAutoCommit(false);
+    }
+
+    static Method detect(Connection connection, String setting) throws SQLException {
+        return switch (setting.toLowerCase()) {
+            case "copy" -> Method.COPY;
+            case "batch" -> Method.BATCH;
+            default -> connection.isWrapperFor(PGConnection.class) ? Method.COPY : Method.BATCH;
+        };
+    }
+
+    Method method() {
+        return method;
+    }
+
+    void table(String name, String... columns) {
+        tables.put(name, new Table(name, columns, new ArrayList<>()));
+        written.put(name, 0L);
+    }
+
+    void add(String table, Object... values) throws SQLException {
+        Table target = tables.get(table);
+        if (values.length != target.columns().length) {
+            throw new IllegalArgumentException(table + " expects " + target.columns().length + " values");
+        }
+        target.rows().add(values);
+        if (++buffered >= flushRows) {
+            flush();
+        }
+    }
+
+    void flush() throws SQLException {
+        for (Table table : tables.values()) {
+            if (table.rows().isEmpty()) {
+                continue;
+            }
+            if (method == Method.COPY) {
+                copy(table);
+            } else {
+                batch(table);
+            }
+            written.merge(table.name(), (long) table.rows().size(), Long::sum);
+            table.rows().clear();
+        }
+        connection.commit();
+        buffered = 0;
+    }
+
+    Map<String, Long> written() {
+        return written;
+    }
+
+    private void copy(Table table) throws SQLException {
+        StringBuilder csv = new StringBuilder(table.rows().size() * 128);
+        for (Object[] row : table.rows()) {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    csv.append(',');
+                }
+                appendCsv(csv, row[i]);
+            }
+            csv.append('\n');
+        }
+        CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        try {
+            copyManager.copyIn("COPY " + table.name() + " (" + String.join(", ", table.columns()) + ") FROM STDIN WITH (FORMAT csv)",
+                    new StringReader(csv.toString()));
+        } catch (IOException e) {
+            throw new SQLException("COPY into " + table.name() + " failed", e);
+        }
+    }
+
+    private static void appendCsv(StringBuilder csv, Object value) {
+        // An unquoted empty field is NULL in CSV mode; anything textual is quoted so an empty string stays one
+        if (value == null) {
+            return;
+        }
+        if (value instanceof String text) {
+            csv.append('"').append(text.replace("\"", "\"\"")).append('"');
+        } else {
+            csv.append(value);
+        }
+    }
+
+    private void batch(Table table) throws SQLException {
+        String placeholders = String.join(", ", Collections.nCopies(table.columns().length, "?"));
+        String sql = "INSERT INTO " + table.name() + " (" + String.join(", ", table.columns()) + ") VALUES (" + placeholders + ")";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (Object[] row : table.rows()) {
+                for (int i = 0; i < row.length; i++) {
+                    Object value = row[i] instanceof Instant instant ? OffsetDateTime.ofInstant(instant, ZoneOffset.UTC) : row[i];
+                    statement.setObject(i + 1, value);
+                }
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+}
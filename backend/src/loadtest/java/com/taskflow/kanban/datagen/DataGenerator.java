@@ -0,0 +1,373 @@
+package com.taskflow.kanban.datagen;
+
+import com.taskflow.kanban.datagen.Distributions.WeightedSampler;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.nio.file.Path;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.IntSupplier;
+
+/**
+ * Bulk-loads a synthetic TaskFlow dataset at production-like volume into a migrated schema. Run through the datagen
+ * profile:
+ * <pre>
+ *     mvn -Pdatagen -DskipTests verify [-Ddatagen.settings=path/to/datagen.properties]
+ * </pre>
+ * Shapes are skewed the way real tenants are: cards per board follow a Zipf law, cards within a board pile into a
+ * few columns (log-normal weights), workspace sizes are Pareto-distributed and membership favours a core of popular
+ * users. Per-card members, labels, comments and activity are geometric, so most cards are quiet and a few are busy.
+ * Every value, ids included, comes from one seeded stream, so the same settings always load the same rows.
+ */
+public final class DataGenerator {
+
+    private static final String[] COLUMN_NAMES = {"Backlog", "To Do", "In Progress", "Review", "Blocked", "QA", "Ready", "Done"};
+    private static final String[] LABEL_NAMES = {"bug", "feature", "chore", "urgent", "design", "backend", "frontend", "docs",
+            "security", "performance", "ux", "infra"};
+    private static final String[] LABEL_COLORS = {"#e53935", "#43a047", "#1e88e5", "#fb8c00", "#8e24aa", "#00897b",
+            "#fdd835", "#6d4c41"};
+    private static final String[] WORDS = {"login", "invoice", "export", "mobile", "search", "billing", "onboarding",
+            "report", "api", "cache", "dashboard", "email", "upload", "session", "payment", "profile", "settings",
+            "migration", "timeout", "sync", "webhook", "filter", "calendar", "reminder", "import", "audit", "theme",
+            "permissions", "notification", "pagination"};
+    private static final String[] VERBS = {"Fix", "Add", "Refactor", "Investigate", "Update", "Remove", "Document", "Test"};
+
+    /** Tables in foreign-key order; BulkLoader flushes them in this order. */
+    private static final List<String> TABLES = List.of("users", "user_roles", "workspaces", "workspace_members", "boards",
+            "board_members", "board_columns", "labels", "cards", "card_members", "card_labels", "comments", "activity_logs");
+
+    private final GeneratorSettings settings;
+    private final Connection connection;
+    private final Distributions random;
+    private final BulkLoader loader;
+    private final Instant end;
+    private final Instant start;
+
+    DataGenerator(GeneratorSettings settings, Connection connection) throws SQLException {
+        this.settings = settings;
+        this.connection = connection;
+        this.random = new Distributions(settings.seed());
+        this.loader = new BulkLoader(connection, BulkLoader.detect(connection, settings.method()), settings.flushRows());
+        this.end = settings.endTime();
+        this.start = end.minus(Duration.ofDays(settings.historyDays()));
+    }
+
+    public static void main(String[] args) throws Exception {
+        GeneratorSettings settings = GeneratorSettings.load(Path.of(args.length > 0 ? args[0] : "src/loadtest/resources/datagen.properties"));
+        try (Connection connection = DriverManager.getConnection(settings.jdbcUrl(), settings.username(), settings.password())) {
+            DataGenerator generator = new DataGenerator(settings, connection);
+            System.out.printf("Generating %d cards on %d boards into %s (%s)%n",
+                    settings.cards(), settings.boards(), settings.jdbcUrl(), generator.loader.method());
+            long started = System.nanoTime();
+            Map<String, Long> written = generator.generate();
+            double seconds = (System.nanoTime() - started) / 1e9;
+            long total = 0;
+            for (Map.Entry<String, Long> entry : written.entrySet()) {
+                System.out.printf("%-20s %,12d%n", entry.getKey(), entry.getValue());
+                total += entry.getValue();
+            }
+            System.out.printf("%,d rows in %.1fs (%,.0f rows/s)%n", total, seconds, total / seconds);
+        }
+    }
+
+    Map<String, Long> generate() throws SQLException {
+        if (settings.truncate()) {
+            truncate();
+        }
+        registerTables();
+        if (loader.method() == BulkLoader.Method.COPY) {
+            createActivityPartitions();
+        }
+
+        List<UUID> users = generateUsers(findRole("USER"));
+        WeightedSampler userSampler = random.sampler(Distributions.zipfWeights(users.size(), settings.userPopularityExponent()));
+        long[] boardSizes = Distributions.apportion(settings.cards(),
+                Distributions.zipfWeights(settings.boards(), settings.boardSizeExponent()));
+        shuffle(boardSizes); // Otherwise the largest boards would all share the first workspace
+
+        int board = 0;
+        for (int w = 0; w < settings.workspaces(); w++) {
+            Workspace workspace = generateWorkspace(w, users, userSampler);
+            for (int b = 0; b < settings.boardsPerWorkspace(); b++) {
+                generateBoard(workspace, b, boardSizes[board++]);
+            }
+        }
+        loader.flush();
+        if (loader.method() == BulkLoader.Method.COPY) {
+            try (Statement statement = connection.createStatement()) {
+                // Fresh statistics, or the planner keeps costing these tables as empty
+                statement.execute("ANALYZE");
+            }
+            connection.commit();
+        }
+        return loader.written();
+    }
+
+    private record Workspace(UUID id, UUID owner, List<UUID> members) {
+    }
+
+    private void registerTables() {
+        String[] audit = {"id", "created_at", "updated_at", "created_by", "updated_by", "deleted"};
+        loader.table("users", concat(audit, "username", "email", "password", "active", "account_locked",
+                "credentials_expired", "account_expired"));
+        loader.table("user_roles", "user_id", "role_id");
+        loader.table("workspaces", concat(audit, "name", "description", "is_private"));
+        loader.table("workspace_members", concat(audit, "workspace_id", "user_id", "role"));
+        loader.table("boards", concat(audit, "name", "description", "archived", "is_private", "position", "workspace_id"));
+        loader.table("board_members", concat(audit, "board_id", "user_id", "role"));
+        loader.table("board_columns", concat(audit, "name", "position", "wip_limit", "archived", "card_count", "board_id"));
+        loader.table("labels", concat(audit, "name", "color", "board_id"));
+        loader.table("cards", concat(audit, "title", "description", "position", "archived", "achieved", "due_date",
+                "start_date", "priority", "comment_count", "attachment_count", "column_id"));
+        loader.table("card_members", concat(audit, "card_id", "user_id", "role"));
+        loader.table("card_labels", "card_id", "label_id");
+        loader.table("comments", concat(audit, "content", "edited", "card_id", "author_id"));
+        loader.table("activity_logs", "id", "entity_type", "entity_id", "action", "details", "timestamp", "performed_by",
+                "board_id");
+    }
+
+    private List<UUID> generateUsers(UUID userRole) throws SQLException {
+        String passwordHash = BCrypt.hashpw(settings.userPassword(), BCrypt.gensalt(10, seededSecureRandom()));
+        List<UUID> users = new ArrayList<>(settings.users());
+        for (int i = 1; i <= settings.users(); i++) {
+            UUID id = random.uuid();
+            Instant created = random.between(start, end);
+            String username = String.format("user%06d", i);
+            loader.add("users", id, created, created, null, null, false,
+                    username, username + "@example.com", passwordHash, true, false, false, false);
+            if (userRole != null) {
+                loader.add("user_roles", id, userRole);
+            }
+            users.add(id);
+        }
+        return users;
+    }
+
+    private Workspace generateWorkspace(int index, List<UUID> users, WeightedSampler userSampler) throws SQLException {
+        UUID id = random.uuid();
+        Instant created = random.between(start, start.plus(Duration.ofDays(settings.historyDays() / 4)));
+        int size = (int) Math.min(users.size(), Math.max(1, Math.round(random.pareto(settings.membersPerWorkspace(), settings.membersTailIndex()))));
+        List<UUID> members = new ArrayList<>();
+        for (int userIndex : distinct(size, users.size(), userSampler::next)) {
+            members.add(users.get(userIndex));
+        }
+        UUID owner = members.get(0);
+        loader.add("workspaces", id, created, created, owner, owner, false,
+                "Workspace " + (index + 1) + " " + word(), null, random.chance(0.2));
+        for (int i = 0; i < members.size(); i++) {
+            String role = i == 0 ? "OWNER" : random.chance(0.05) ? "ADMIN" : random.chance(0.05) ? "VIEWER" : "MEMBER";
+            loader.add("workspace_members", random.uuid(), created, created, owner, owner, false, id, members.get(i), role);
+        }
+        return new Workspace(id, owner, members);
+    }
+
+    private void generateBoard(Workspace workspace, int position, long cardCount) throws SQLException {
+        UUID boardId = random.uuid();
+        Instant boardCreated = random.between(start, start.plus(Duration.ofDays(settings.historyDays() / 2)));
+        UUID owner = workspace.owner();
+        loader.add("boards", boardId, boardCreated, boardCreated, owner, owner, false,
+                capitalize(word()) + " " + word(), random.chance(0.5) ? "Board for the " + word() + " team" : null,
+                random.chance(0.02), random.chance(0.1), position, workspace.id());
+        loader.add("activity_logs", random.uuid(), "Board", boardId, "CREATE", "Board created", boardCreated, owner, boardId);
+
+        List<UUID> members = new ArrayList<>();
+        members.add(owner);
+        loader.add("board_members", random.uuid(), boardCreated, boardCreated, owner, owner, false, boardId, owner, "OWNER");
+        for (UUID userId : workspace.members().subList(1, workspace.members().size())) {
+            if (random.chance(settings.boardMemberRatio())) {
+                members.add(userId);
+                String role = random.chance(0.1) ? "ADMIN" : random.chance(0.05) ? "VIEWER" : "MEMBER";
+                loader.add("board_members", random.uuid(), boardCreated, boardCreated, owner, owner, false, boardId, userId, role);
+            }
+        }
+        // A few members do most of the work on any board
+        WeightedSampler memberSampler = random.sampler(Distributions.zipfWeights(members.size(), settings.userPopularityExponent()));
+
+        List<UUID> labels = new ArrayList<>();
+        for (int i = 0; i < settings.labelsPerBoard(); i++) {
+            UUID labelId = random.uuid();
+            loader.add("labels", labelId, boardCreated, boardCreated, owner, owner, false,
+                    LABEL_NAMES[i % LABEL_NAMES.length], LABEL_COLORS[i % LABEL_COLORS.length], boardId);
+            labels.add(labelId);
+        }
+
+        int columnCount = settings.columnsPerBoard();
+        long[] columnSizes = Distributions.apportion(cardCount, random.logNormalWeights(columnCount, settings.columnSkew()));
+        for (int c = 0; c < columnCount; c++) {
+            UUID columnId = random.uuid();
+            String columnName = columnName(c, columnCount);
+            loader.add("board_columns", columnId, boardCreated, boardCreated, owner, owner, false,
+                    columnName, c, random.chance(0.2) ? 5 + random.nextInt(20) : null, false, (int) columnSizes[c], boardId);
+            boolean doneColumn = c == columnCount - 1;
+            for (int p = 0; p < columnSizes[c]; p++) {
+                generateCard(boardId, columnId, columnName, p, doneColumn, boardCreated, members, memberSampler, labels);
+            }
+        }
+    }
+
+    private void generateCard(UUID boardId, UUID columnId, String columnName, int position, boolean done, Instant boardCreated,
+                              List<UUID> members, WeightedSampler memberSampler, List<UUID> labels) throws SQLException {
+        UUID cardId = random.uuid();
+        Instant created = random.between(boardCreated, end);
+        Instant updated = random.between(created, end);
+        UUID creator = members.get(memberSampler.next());
+        String title = VERBS[random.nextInt(VERBS.length)] + " " + word() + " " + word();
+        Instant dueDate = random.chance(0.35) ? created.plus(Duration.ofDays(1 + random.nextInt(60))) : null;
+        Instant startDate = random.chance(0.15) ? created.plus(Duration.ofDays(random.nextInt(7))) : null;
+        Integer priority = random.chance(0.5) ? random.nextInt(4) : null;
+        // Drawn up front so the badge counter goes out with the card row; no attachments are generated
+        int commentCount = random.geometric(settings.commentsPerCard());
+        loader.add("cards", cardId, created, updated, creator, creator, false,
+                title, random.chance(0.6) ? "Steps and notes about " + word() + " and " + word() + "." : null,
+                position, random.chance(0.03), done, dueDate, startDate, priority, commentCount, 0, columnId);
+        loader.add("activity_logs", random.uuid(), "Card", cardId, "CREATE",
+                "Card '" + title + "' was created in column '" + columnName + "'", created, creator, boardId);
+
+        int memberCount = Math.min(random.geometric(settings.membersPerCard()), members.size());
+        for (int index : distinct(memberCount, members.size(), memberSampler::next)) {
+            String role = random.chance(0.2) ? "REVIEWER" : "ASSIGNEE";
+            loader.add("card_members", random.uuid(), created, created, creator, creator, false,
+                    cardId, members.get(index), role);
+        }
+        int labelCount = Math.min(random.geometric(settings.labelsPerCard()), labels.size());
+        for (int index : distinct(labelCount, labels.size(), () -> random.nextInt(labels.size()))) {
+            loader.add("card_labels", cardId, labels.get(index));
+        }
+        for (int i = commentCount; i > 0; i--) {
+            UUID author = members.get(memberSampler.next());
+            Instant at = random.between(created, end);
+            String content = "Looked into the " + word() + " part, " + word() + " still needs a check.";
+            loader.add("comments", random.uuid(), at, at, author, author, false, content, random.chance(0.1), cardId, author);
+            loader.add("activity_logs", random.uuid(), "Card", cardId, "COMMENT", "Comment added", at, author, boardId);
+        }
+        for (int i = random.geometric(settings.activityPerCard()); i > 0; i--) {
+            boolean move = random.chance(0.5);
+            loader.add("activity_logs", random.uuid(), "Card", cardId, move ? "MOVE" : "UPDATE",
+                    move ? "Card '" + title + "' moved" : "Card '" + title + "' updated",
+                    random.between(created, end), members.get(memberSampler.next()), boardId);
+        }
+    }
+
+    /**
+     * Up to {@code count} distinct indexes below {@code bound}, drawn from {@code draw}; falls back to the lowest
+     * unused indexes when the draw keeps repeating itself, as a steep Zipf draw does.
+     */
+    private static Set<Integer> distinct(int count, int bound, IntSupplier draw) {
+        Set<Integer> picked = new LinkedHashSet<>();
+        for (int attempt = 0; picked.size() < count && attempt < count * 20; attempt++) {
+            picked.add(draw.getAsInt());
+        }
+        for (int i = 0; picked.size() < count && i < bound; i++) {
+            picked.add(i);
+        }
+        return picked;
+    }
+
+    private void truncate() throws SQLException {
+        // Children first, for the DELETE fallback; TRUNCATE ... CASCADE does not care
+        List<String> tables = new ArrayList<>(List.of("attachments", "cold_cards", "board_views", "activity_daily_rollups"));
+        tables.addAll(TABLES.reversed());
+        try (Statement statement = connection.createStatement()) {
+            if (loader.method() == BulkLoader.Method.COPY) {
+                statement.execute("TRUNCATE " + String.join(", ", tables) + " CASCADE");
+            } else {
+                for (String table : tables) {
+                    statement.execute("DELETE FROM " + table);
+                }
+            }
+        }
+        connection.commit();
+    }
+
+    /**
+     * Monthly activity_logs partitions for the generated range, named as ActivityHistoryServiceImpl names them, so the
+     * rows do not land in the default partition (which would then block creating those months later).
+     */
+    private void createActivityPartitions() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet partitioned = statement.executeQuery("SELECT 1 FROM pg_partitioned_table p "
+                     + "JOIN pg_class c ON c.oid = p.partrelid WHERE c.relname = 'activity_logs'")) {
+            if (!partitioned.next()) {
+                return;
+            }
+        }
+        LocalDate month = LocalDate.ofInstant(start, ZoneOffset.UTC).withDayOfMonth(1);
+        try (Statement statement = connection.createStatement()) {
+            for (; month.atStartOfDay(ZoneOffset.UTC).toInstant().isBefore(end); month = month.plusMonths(1)) {
+                statement.execute(String.format("CREATE TABLE IF NOT EXISTS activity_logs_p%d%02d PARTITION OF activity_logs "
+                                + "FOR VALUES FROM ('%s') TO ('%s')", month.getYear(), month.getMonthValue(),
+                        month.atStartOfDay(ZoneOffset.UTC).toInstant(), month.plusMonths(1).atStartOfDay(ZoneOffset.UTC).toInstant()));
+            }
+        }
+        connection.commit();
+    }
+
+    private UUID findRole(String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT id FROM roles WHERE name = ?")) {
+            statement.setString(1, name);
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next() ? result.getObject(1, UUID.class) : null;
+            }
+        }
+    }
+
+    private SecureRandom seededSecureRandom() {
+        // SHA1PRNG seeded before first use is deterministic, which keeps the password hash (and the run) reproducible
+        try {
+            SecureRandom secureRandom = SecureRandom.getInstance("SHA1PRNG");
+            secureRandom.setSeed(settings.seed());
+            return secureRandom;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void shuffle(long[] values) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+    }
+
+    private static String columnName(int index, int count) {
+        // The last column is always Done, so achieved cards sit where users expect them
+        if (index == count - 1) {
+            return COLUMN_NAMES[COLUMN_NAMES.length - 1];
+        }
+        String name = COLUMN_NAMES[index % (COLUMN_NAMES.length - 1)];
+        return index < COLUMN_NAMES.length - 1 ? name : name + " " + (index / (COLUMN_NAMES.length - 1) + 1);
+    }
+
+    private String word() {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    private static String[] concat(String[] head, String... tail) {
+        String[] all = new String[head.length + tail.length];
+        System.arraycopy(head, 0, all, 0, head.length);
+        System.arraycopy(tail, 0, all, head.length, tail.length);
+        return all;
+    }
+}
@@ -0,0 +1,132 @@
+package com.taskflow.kanban.datagen;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * The seeded randomness behind the generator. Every draw goes through one SplittableRandom, so a run is a pure
+ * function of the settings and the seed, ids included.
+ */
+final class Distributions {
+
+    private final SplittableRandom random;
+
+    Distributions(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    /** A version 4 UUID drawn from the seeded stream rather than the system's secure random. */
+    UUID uuid() {
+        long most = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long least = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(most, least);
+    }
+
+    int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    long nextLong(long bound) {
+        return random.nextLong(bound);
+    }
+
+    /** A whole-second instant in [from, to), or {@code from} when the range is empty. */
+    Instant between(Instant from, Instant to) {
+        long seconds = to.getEpochSecond() - from.getEpochSecond();
+        return seconds <= 0 ? from : from.plusSeconds(random.nextLong(seconds));
+    }
+
+    double nextDouble() {
+        return random.nextDouble();
+    }
+
+    boolean chance(double probability) {
+        return random.nextDouble() < probability;
+    }
+
+    /** Geometric count on 0, 1, 2, ... with the given mean: mostly small, with a long tail. */
+    int geometric(double mean) {
+        if (mean <= 0) {
+            return 0;
+        }
+        double p = 1 / (1 + mean);
+        return (int) Math.floor(Math.log(1 - random.nextDouble()) / Math.log(1 - p));
+    }
+
+    /** Pareto sample with scale {@code minimum} and tail index {@code alpha}. */
+    double pareto(double minimum, double alpha) {
+        return minimum / Math.pow(1 - random.nextDouble(), 1 / alpha);
+    }
+
+    /** Log-normal weights, one per slot; sigma 0 gives equal weights. */
+    double[] logNormalWeights(int count, double sigma) {
+        double[] weights = new double[count];
+        for (int i = 0; i < count; i++) {
+            weights[i] = Math.exp(sigma * random.nextGaussian());
+        }
+        return weights;
+    }
+
+    /** Zipf weights for ranks 1..count: rank k gets 1 / k^exponent. */
+    static double[] zipfWeights(int count, double exponent) {
+        double[] weights = new double[count];
+        for (int k = 0; k < count; k++) {
+            weights[k] = 1 / Math.pow(k + 1, exponent);
+        }
+        return weights;
+    }
+
+    /**
+     * Splits {@code total} over the weights in proportion, rounding by largest remainder so the parts add up exactly.
+     */
+    static long[] apportion(long total, double[] weights) {
+        double sum = Arrays.stream(weights).sum();
+        long[] parts = new long[weights.length];
+        double[] remainders = new double[weights.length];
+        long assigned = 0;
+        for (int i = 0; i < weights.length; i++) {
+            double exact = total * weights[i] / sum;
+            parts[i] = (long) Math.floor(exact);
+            remainders[i] = exact - parts[i];
+            assigned += parts[i];
+        }
+        for (long left = total - assigned; left > 0; left--) {
+            int best = 0;
+            for (int i = 1; i < remainders.length; i++) {
+                if (remainders[i] > remainders[best]) {
+                    best = i;
+                }
+            }
+            parts[best]++;
+            remainders[best] = -1;
+        }
+        return parts;
+    }
+
+    /** Draws indexes in proportion to fixed weights, by binary search over the cumulative sums. */
+    final class WeightedSampler {
+
+        private final double[] cumulative;
+
+        WeightedSampler(double[] weights) {
+            cumulative = new double[weights.length];
+            double sum = 0;
+            for (int i = 0; i < weights.length; i++) {
+                sum += weights[i];
+                cumulative[i] = sum;
+            }
+        }
+
+        int next() {
+            double target = random.nextDouble() * cumulative[cumulative.length - 1];
+            int index = Arrays.binarySearch(cumulative, target);
+            return Math.min(index >= 0 ? index + 1 : -index - 1, cumulative.length - 1);
+        }
+    }
+
+    WeightedSampler sampler(double[] weights) {
+        return new WeightedSampler(weights);
+    }
+}
@@ -0,0 +1,87 @@
+package com.taskflow.kanban.datagen;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Properties;
+
+/**
+ * Data generator settings read from a properties file (src/loadtest/resources/datagen.properties documents each key).
+ */
+record GeneratorSettings(String jdbcUrl,
+                         String username,
+                         String password,
+                         String method,
+                         int flushRows,
+                         boolean truncate,
+                         long seed,
+                         Instant endTime,
+                         int historyDays,
+                         int users,
+                         int workspaces,
+                         int boardsPerWorkspace,
+                         int columnsPerBoard,
+                         int labelsPerBoard,
+                         long cards,
+                         double boardSizeExponent,
+                         double columnSkew,
+                         int membersPerWorkspace,
+                         double membersTailIndex,
+                         double userPopularityExponent,
+                         double boardMemberRatio,
+                         double membersPerCard,
+                         double labelsPerCard,
+                         double commentsPerCard,
+                         double activityPerCard,
+                         String userPassword) {
+
+    static GeneratorSettings load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        }
+        return new GeneratorSettings(
+                text(properties, "jdbc-url", "jdbc:postgresql://localhost:5432/taskflow_db"),
+                text(properties, "username", "postgres"),
+                text(properties, "password", ""),
+                text(properties, "method", "auto"),
+                (int) number(properties, "flush-rows", 50_000),
+                Boolean.parseBoolean(text(properties, "truncate", "false")),
+                Long.parseLong(text(properties, "seed", "42")),
+                Instant.parse(text(properties, "end-time", "2026-10-01T00:00:00Z")),
+                (int) number(properties, "history-days", 180),
+                (int) number(properties, "users", 5_000),
+                (int) number(properties, "workspaces", 40),
+                (int) number(properties, "boards-per-workspace", 10),
+                (int) number(properties, "columns-per-board", 6),
+                (int) number(properties, "labels-per-board", 8),
+                Long.parseLong(text(properties, "cards", "200000")),
+                number(properties, "board-size-exponent", 1.0),
+                number(properties, "column-skew", 1.0),
+                (int) number(properties, "members-per-workspace", 20),
+                number(properties, "members-tail-index", 1.5),
+                number(properties, "user-popularity-exponent", 1.1),
+                number(properties, "board-member-ratio", 0.6),
+                number(properties, "members-per-card", 1.2),
+                number(properties, "labels-per-card", 1.0),
+                number(properties, "comments-per-card", 1.5),
+                number(properties, "activity-per-card", 2.0),
+                text(properties, "user-password", "password"));
+    }
+
+    int boards() {
+        return workspaces * boardsPerWorkspace;
+    }
+
+    private static String text(Properties properties, String key, String defaultValue) {
+        String value = properties.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    private static double number(Properties properties, String key, double defaultValue) {
+        String value = properties.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : Double.parseDouble(value.trim());
+    }
+}
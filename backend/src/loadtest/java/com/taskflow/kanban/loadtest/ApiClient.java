@@ -0,0 +1,113 @@
+package com.taskflow.kanban.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Thin JSON client for the REST API. Every call is timed under a route template (e.g. {@code GET /cards/{id}/move})
+ * so the report groups requests by endpoint rather than by URL. A call is timed from when it was due
+ * ({@link #dueAt}) when the caller schedules it, so time spent waiting behind a slow earlier response counts
+ * against the endpoint; otherwise from when it is sent.
+ */
+class ApiClient {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final LatencyRecorder recorder;
+    private String token;
+    private boolean scheduled;
+    private long dueNanos;
+
+    ApiClient(HttpClient httpClient, String baseUrl, LatencyRecorder recorder) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+        this.recorder = recorder;
+    }
+
+    void authenticate(String token) {
+        this.token = token;
+    }
+
+    /**
+     * Times the next call from the given {@link System#nanoTime} instead of its send. Only the first call after this
+     * uses it; the calls that follow it in the same action start once it has returned and are timed from their send.
+     */
+    void dueAt(long nanos) {
+        scheduled = true;
+        dueNanos = nanos;
+    }
+
+    JsonNode get(String route, String path) {
+        return send(route, request(path).GET());
+    }
+
+    JsonNode post(String route, String path, Map<String, ?> body) {
+        return send(route, request(path).POST(json(body)));
+    }
+
+    JsonNode put(String route, String path, Map<String, ?> body) {
+        return send(route, request(path).PUT(json(body)));
+    }
+
+    static String query(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private JsonNode send(String route, HttpRequest.Builder builder) {
+        long start = scheduled ? Math.min(dueNanos, System.nanoTime()) : System.nanoTime();
+        scheduled = false;
+        try {
+            HttpResponse<byte[]> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+            long elapsed = System.nanoTime() - start;
+            boolean success = response.statusCode() < 400;
+            recorder.record(route, elapsed, success);
+            if (!success) {
+                throw new ApiException(route + " returned " + response.statusCode());
+            }
+            return response.body().length == 0 ? MAPPER.nullNode() : MAPPER.readTree(response.body());
+        } catch (IOException e) {
+            recorder.record(route, System.nanoTime() - start, false);
+            throw new ApiException(route + " failed: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(route + " interrupted");
+        }
+    }
+
+    private static HttpRequest.BodyPublisher json(Map<String, ?> body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(MAPPER.writeValueAsBytes(body));
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    static class ApiException extends RuntimeException {
+        ApiException(String message) {
+            super(message);
+        }
+    }
+}
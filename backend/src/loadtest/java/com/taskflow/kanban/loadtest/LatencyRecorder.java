@@ -0,0 +1,63 @@
+package com.taskflow.kanban.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Collects raw latencies per endpoint and reports exact percentiles (nearest rank) once the run is over.
+ * Raw samples keep the numbers honest for the few hundred thousand requests a local run produces.
+ */
+class LatencyRecorder {
+
+    private final Map<String, Samples> endpoints = new TreeMap<>();
+
+    synchronized void record(String endpoint, long nanos, boolean success) {
+        Samples samples = endpoints.computeIfAbsent(endpoint, e -> new Samples());
+        if (success) {
+            samples.add(nanos);
+        } else {
+            samples.errors++;
+        }
+    }
+
+    synchronized Map<String, EndpointStats> summarize(double elapsedSeconds) {
+        Map<String, EndpointStats> result = new LinkedHashMap<>();
+        endpoints.forEach((endpoint, samples) -> result.put(endpoint, samples.stats(elapsedSeconds)));
+        return result;
+    }
+
+    record EndpointStats(int count, int errors, double throughputPerSecond,
+                         double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+    }
+
+    private static final class Samples {
+        private long[] nanos = new long[1024];
+        private int size;
+        private int errors;
+
+        void add(long value) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = value;
+        }
+
+        EndpointStats stats(double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(nanos, size);
+            Arrays.sort(sorted);
+            return new EndpointStats(size, errors, size / elapsedSeconds,
+                    percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99),
+                    size == 0 ? 0 : sorted[size - 1] / 1e6);
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+            return sorted[Math.max(0, rank - 1)] / 1e6;
+        }
+    }
+}
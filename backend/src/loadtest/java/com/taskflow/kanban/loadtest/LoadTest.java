@@ -0,0 +1,123 @@
+package com.taskflow.kanban.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskflow.kanban.TaskFlowKanbanBackendApplication;
+import com.taskflow.kanban.loadtest.LatencyRecorder.EndpointStats;
+import com.taskflow.kanban.loadtest.Workload.SeededUser;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays a synthetic kanban workload against the backend and reports per-endpoint latency percentiles and
+ * throughput. Run through the loadtest profile:
+ * <pre>
+ *     mvn -Ploadtest -DskipTests verify [-Dloadtest.scenario=path/to/scenario.properties]
+ * </pre>
+ * With no base-url the app is started in-process on the H2 test database, so the numbers measure the application
+ * rather than a particular database server; point base-url at a deployed instance for the real thing.
+ * Results are printed and written as JSON to the report directory.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Scenario scenario = Scenario.load(Path.of(args.length > 0 ? args[0] : "src/loadtest/resources/scenario.properties"));
+        ConfigurableApplicationContext standIn = null;
+        String baseUrl = scenario.baseUrl();
+        if (baseUrl.isEmpty()) {
+            standIn = startStandIn();
+            int port = ((ServletWebServerApplicationContext) standIn).getWebServer().getPort();
+            baseUrl = "http://localhost:" + port + "/api";
+        }
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .executor(executor)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            String runId = Long.toString(System.currentTimeMillis(), 36);
+            System.out.printf("Seeding %d boards and %d users against %s%n", scenario.boards(), scenario.virtualUsers(), baseUrl);
+            List<SeededUser> users = Workload.seed(scenario, httpClient, baseUrl, runId);
+
+            LatencyRecorder recorder = new LatencyRecorder();
+            long rampStepNanos = users.isEmpty() ? 0
+                    : TimeUnit.SECONDS.toNanos(scenario.rampUpSeconds()) / users.size();
+            long start = System.nanoTime();
+            long deadline = start + TimeUnit.SECONDS.toNanos(scenario.rampUpSeconds() + scenario.durationSeconds());
+            System.out.printf("Running %d virtual users for %ds after a %ds ramp-up%n",
+                    users.size(), scenario.durationSeconds(), scenario.rampUpSeconds());
+            for (int i = 0; i < users.size(); i++) {
+                SeededUser user = users.get(i);
+                ApiClient client = new ApiClient(httpClient, baseUrl, recorder);
+                client.authenticate(user.token());
+                VirtualUser virtualUser = new VirtualUser(scenario, client, user.board(), scenario.seed() + i, deadline);
+                long delay = rampStepNanos * i;
+                executor.submit(() -> {
+                    TimeUnit.NANOSECONDS.sleep(delay);
+                    virtualUser.run();
+                    return null;
+                });
+            }
+            TimeUnit.NANOSECONDS.sleep(Math.max(0, deadline - System.nanoTime()));
+            double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+            report(scenario, recorder.summarize(elapsedSeconds), elapsedSeconds);
+            executor.shutdownNow();
+        } finally {
+            if (standIn != null) {
+                standIn.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startStandIn() {
+        // The test profile's H2 database (application-test.properties, data.sql) stands in for PostgreSQL.
+        // Passed as arguments rather than default properties so they win over application.yml
+        return new SpringApplicationBuilder(TaskFlowKanbanBackendApplication.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--spring.jpa.show-sql=false",
+                        "--sql-budget.strict=false",
+                        "--card-tiering.enabled=false",
+                        "--activity-logs.maintenance-enabled=false",
+                        "--logging.level.com.taskflow.kanban=INFO",
+                        "--logging.level.org.springframework.security=INFO",
+                        "--logging.level.org.hibernate.SQL=WARN");
+    }
+
+    private static void report(Scenario scenario, Map<String, EndpointStats> stats, double elapsedSeconds) throws IOException {
+        System.out.printf("%n%-40s %8s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        stats.forEach((endpoint, s) -> System.out.printf("%-40s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint, s.count(), s.errors(), s.throughputPerSecond(),
+                s.p50Millis(), s.p95Millis(), s.p99Millis(), s.maxMillis()));
+        int total = stats.values().stream().mapToInt(EndpointStats::count).sum();
+        System.out.printf("%nTotal %d requests in %.1fs (%.1f req/s)%n", total, elapsedSeconds, total / elapsedSeconds);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", Instant.now().toString());
+        report.put("elapsedSeconds", elapsedSeconds);
+        report.put("scenario", scenario);
+        report.put("endpoints", stats);
+        Path dir = Path.of(scenario.reportDir());
+        Files.createDirectories(dir);
+        Path file = dir.resolve("loadtest-" + System.currentTimeMillis() + ".json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+        System.out.println("Report written to " + file.toAbsolutePath());
+    }
+}
@@ -0,0 +1,61 @@
+package com.taskflow.kanban.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * Load-test settings read from a properties file (src/loadtest/resources/scenario.properties documents each key).
+ */
+record Scenario(String baseUrl,
+                int virtualUsers,
+                int rampUpSeconds,
+                int durationSeconds,
+                long actionIntervalMillis,
+                int pollIntervalSeconds,
+                long seed,
+                int boards,
+                int columnsPerBoard,
+                int cardsPerColumn,
+                int openBoardWeight,
+                int moveCardWeight,
+                int addCommentWeight,
+                int searchWeight,
+                double snapshotRatio,
+                String reportDir) {
+
+    static Scenario load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        }
+        return new Scenario(
+                properties.getProperty("base-url", "").trim(),
+                intValue(properties, "virtual-users", 50),
+                intValue(properties, "ramp-up-seconds", 10),
+                intValue(properties, "duration-seconds", 120),
+                intValue(properties, "action-interval-ms", 500),
+                intValue(properties, "poll-interval-seconds", 60),
+                Long.parseLong(properties.getProperty("seed", "42").trim()),
+                intValue(properties, "boards", 5),
+                intValue(properties, "columns-per-board", 5),
+                intValue(properties, "cards-per-column", 40),
+                intValue(properties, "weight.open-board", 30),
+                intValue(properties, "weight.move-card", 25),
+                intValue(properties, "weight.add-comment", 15),
+                intValue(properties, "weight.search", 10),
+                Double.parseDouble(properties.getProperty("snapshot-ratio", "0.5").trim()),
+                properties.getProperty("report-dir", "target").trim());
+    }
+
+    int totalWeight() {
+        return openBoardWeight + moveCardWeight + addCommentWeight + searchWeight;
+    }
+
+    private static int intValue(Properties properties, String key, int defaultValue) {
+        String value = properties.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.trim());
+    }
+}
@@ -0,0 +1,128 @@
+package com.taskflow.kanban.loadtest;
+
+import com.taskflow.kanban.loadtest.Workload.SeededBoard;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One simulated user: works on a single board, picking weighted actions, and refreshes the board in the background
+ * on the poll interval like the board view does. Actions arrive on a schedule fixed up front (exponential gaps with
+ * the scenario's mean, polls on the interval) rather than a pause after each response, so a slow response does not
+ * hold back the requests due behind it: the user falls behind and sends them as soon as it can, and each is timed
+ * from when it was due. Timing from the send instead would drop exactly the waits a stall causes.
+ */
+class VirtualUser implements Runnable {
+
+    private final Scenario scenario;
+    private final ApiClient client;
+    private final SeededBoard board;
+    private final Random random;
+    private final long deadlineNanos;
+    private long nextActionNanos;
+    private long nextPollNanos;
+
+    VirtualUser(Scenario scenario, ApiClient client, SeededBoard board, long seed, long deadlineNanos) {
+        this.scenario = scenario;
+        this.client = client;
+        this.board = board;
+        this.random = new Random(seed);
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    @Override
+    public void run() {
+        long start = System.nanoTime();
+        nextActionNanos = start + interval();
+        nextPollNanos = start + TimeUnit.SECONDS.toNanos(scenario.pollIntervalSeconds());
+        while (!Thread.currentThread().isInterrupted()) {
+            boolean polling = nextPollNanos <= nextActionNanos;
+            long due = polling ? nextPollNanos : nextActionNanos;
+            if (due >= deadlineNanos || !waitUntil(due)) {
+                return;
+            }
+            client.dueAt(due);
+            try {
+                if (polling) {
+                    nextPollNanos += TimeUnit.SECONDS.toNanos(scenario.pollIntervalSeconds());
+                    poll();
+                } else {
+                    nextActionNanos += interval();
+                    act();
+                }
+            } catch (ApiClient.ApiException e) {
+                // Already counted as an error for its endpoint; keep the user going like a real client would
+            }
+        }
+    }
+
+    private void act() {
+        int pick = random.nextInt(Math.max(1, scenario.totalWeight()));
+        if ((pick -= scenario.openBoardWeight()) < 0) {
+            openBoard();
+        } else if ((pick -= scenario.moveCardWeight()) < 0) {
+            moveCard();
+        } else if ((pick -= scenario.addCommentWeight()) < 0) {
+            addComment();
+        } else {
+            search();
+        }
+    }
+
+    private void openBoard() {
+        if (random.nextDouble() < scenario.snapshotRatio()) {
+            client.get("GET /boards/{id}/snapshot", "/boards/" + board.boardId() + "/snapshot");
+        } else {
+            client.get("GET /boards/{id}/column-cards", "/boards/" + board.boardId() + "/column-cards?limit=20");
+        }
+    }
+
+    /** The board view's refresh: board, its columns, then every column's cards one request at a time. */
+    private void poll() {
+        client.get("GET /boards/{id}", "/boards/" + board.boardId());
+        client.get("GET /columns?boardId", "/columns?boardId=" + board.boardId());
+        for (UUID columnId : board.columnIds()) {
+            client.get("GET /cards?columnId", "/cards?columnId=" + columnId);
+        }
+    }
+
+    private void moveCard() {
+        UUID cardId = pick(board.cardIds());
+        // Position 0 is valid for any column, however the other users have reshuffled it
+        client.put("PUT /cards/{id}/move", "/cards/" + cardId + "/move",
+                Map.of("targetColumnId", pick(board.columnIds()), "newPosition", 0));
+    }
+
+    private void addComment() {
+        client.post("POST /comments", "/comments",
+                Map.of("cardId", pick(board.cardIds()), "content", "Load comment " + random.nextInt(1_000_000)));
+    }
+
+    private void search() {
+        String word = Workload.VOCABULARY.get(random.nextInt(Workload.VOCABULARY.size()));
+        client.get("GET /search", "/search?q=" + ApiClient.query(word));
+    }
+
+    /** Gap to the next action: exponential with the scenario's mean, so each user's actions are Poisson arrivals. */
+    private long interval() {
+        double mean = TimeUnit.MILLISECONDS.toNanos(Math.max(1, scenario.actionIntervalMillis()));
+        return (long) (-Math.log(1 - random.nextDouble()) * mean);
+    }
+
+    /** Sleeps until the given time; returns at once when the user is already behind schedule. */
+    private boolean waitUntil(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos - System.nanoTime());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private <T> T pick(java.util.List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
@@ -0,0 +1,82 @@
+package com.taskflow.kanban.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Seeds the boards the virtual users work on, through the public API so the run needs nothing but a base URL.
+ * Each board lives in its own workspace; every user assigned to a board is added to that workspace.
+ */
+final class Workload {
+
+    /** Words used in card titles; searches draw from the same list so they hit. */
+    static final List<String> VOCABULARY = List.of(
+            "login", "invoice", "export", "mobile", "search", "billing", "onboarding", "report", "api", "cache");
+
+    record SeededBoard(UUID boardId, List<UUID> columnIds, List<UUID> cardIds) {
+    }
+
+    record SeededUser(String token, SeededBoard board) {
+    }
+
+    private Workload() {
+    }
+
+    static List<SeededUser> seed(Scenario scenario, HttpClient httpClient, String baseUrl, String runId) {
+        LatencyRecorder setup = new LatencyRecorder();
+        List<SeededBoard> boards = new ArrayList<>();
+        List<ApiClient> owners = new ArrayList<>();
+        List<UUID> workspaceIds = new ArrayList<>();
+        for (int b = 0; b < scenario.boards(); b++) {
+            ApiClient owner = new ApiClient(httpClient, baseUrl, setup);
+            register(owner, runId + "-owner" + b);
+            UUID workspaceId = id(owner.post("POST /workspaces", "/workspaces",
+                    Map.of("name", "Load " + runId + " " + b, "isPrivate", false)));
+            UUID boardId = id(owner.post("POST /boards", "/boards",
+                    Map.of("name", "Board " + b, "workspaceId", workspaceId, "isPrivate", false)));
+            List<UUID> columnIds = new ArrayList<>();
+            List<UUID> cardIds = new ArrayList<>();
+            for (int c = 0; c < scenario.columnsPerBoard(); c++) {
+                UUID columnId = id(owner.post("POST /columns", "/columns",
+                        Map.of("name", "Column " + c, "boardId", boardId, "position", c)));
+                columnIds.add(columnId);
+                for (int i = 0; i < scenario.cardsPerColumn(); i++) {
+                    String word = VOCABULARY.get((b + c + i) % VOCABULARY.size());
+                    cardIds.add(id(owner.post("POST /cards", "/cards",
+                            Map.of("title", "Card " + i + " " + word, "columnId", columnId))));
+                }
+            }
+            boards.add(new SeededBoard(boardId, columnIds, cardIds));
+            owners.add(owner);
+            workspaceIds.add(workspaceId);
+        }
+
+        List<SeededUser> users = new ArrayList<>();
+        for (int u = 0; u < scenario.virtualUsers(); u++) {
+            int b = u % boards.size();
+            ApiClient client = new ApiClient(httpClient, baseUrl, setup);
+            JsonNode auth = register(client, runId + "-vu" + u);
+            UUID userId = UUID.fromString(auth.path("user").path("id").asText());
+            owners.get(b).post("POST /workspaces/{id}/members/{userId}",
+                    "/workspaces/" + workspaceIds.get(b) + "/members/" + userId, Map.of());
+            users.add(new SeededUser(auth.path("accessToken").asText(), boards.get(b)));
+        }
+        return users;
+    }
+
+    private static JsonNode register(ApiClient client, String username) {
+        JsonNode auth = client.post("POST /auth/register", "/auth/register",
+                Map.of("username", username, "email", username + "@loadtest.local", "password", "loadtest"));
+        client.authenticate(auth.path("accessToken").asText());
+        return auth;
+    }
+
+    private static UUID id(JsonNode node) {
+        return UUID.fromString(node.path("id").asText());
+    }
+}
@@ -3,10 +3,12 @@ package com.taskflow.kanban;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.bind.annotation.CrossOrigin;
 
 @SpringBootApplication
 @EnableAsync
+@EnableScheduling
 @CrossOrigin(origins = "http://localhost:4200")
 public class TaskFlowKanbanBackendApplication {
 
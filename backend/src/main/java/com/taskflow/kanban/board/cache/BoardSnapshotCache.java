@@ -0,0 +1,131 @@
+package com.taskflow.kanban.board.cache;
+
+import com.taskflow.kanban.board.event.BoardChangedEvent;
+import com.taskflow.kanban.config.BoardCacheProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * In-process cache of serialized board snapshots.
+ * Bounded by total bytes with LRU eviction; concurrent misses for the same board share one load.
+ * Every {@link BoardChangedEvent} invalidates its board so readers never see a snapshot older than the last commit.
+ */
+@Component
+public class BoardSnapshotCache {
+
+    public record Snapshot(byte[] body, String etag) {
+        public Snapshot(byte[] body) {
+            this(body, DigestUtils.md5DigestAsHex(body));
+        }
+    }
+
+    private final long maxBytes;
+    private final LinkedHashMap<UUID, Snapshot> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<UUID, CompletableFuture<Snapshot>> inFlight = new ConcurrentHashMap<>();
+    private long totalBytes;
+
+    public BoardSnapshotCache(BoardCacheProperties properties) {
+        this.maxBytes = properties.getMaxBytes();
+    }
+
+    public Snapshot get(UUID boardId, Supplier<byte[]> loader) {
+        Snapshot cached = lookup(boardId);
+        if (cached != null) return cached;
+
+        CompletableFuture<Snapshot> load = new CompletableFuture<>();
+        CompletableFuture<Snapshot> existing = inFlight.putIfAbsent(boardId, load);
+        if (existing != null) {
+            return await(existing);
+        }
+        try {
+            // Another caller may have finished loading between the lookup and claiming the slot
+            Snapshot snapshot = lookup(boardId);
+            if (snapshot == null) {
+                snapshot = new Snapshot(loader.get());
+                store(boardId, load, snapshot);
+            }
+            load.complete(snapshot);
+            return snapshot;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(boardId, load);
+        }
+    }
+
+    @EventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        invalidate(event.boardId());
+    }
+
+    /**
+     * Evicts the board now and again once the current transaction commits,
+     * so a load racing with the write cannot re-populate the pre-commit state.
+     */
+    public void invalidate(UUID boardId) {
+        evict(boardId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(boardId);
+                }
+            });
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    private synchronized Snapshot lookup(UUID boardId) {
+        return entries.get(boardId);
+    }
+
+    private synchronized void store(UUID boardId, CompletableFuture<Snapshot> load, Snapshot snapshot) {
+        // An invalidation during the load detaches it from inFlight; its result is then already stale
+        if (inFlight.get(boardId) != load) return;
+        long size = snapshot.body().length;
+        if (size > maxBytes) return;
+        Snapshot previous = entries.put(boardId, snapshot);
+        if (previous != null) totalBytes -= previous.body().length;
+        totalBytes += size;
+        Iterator<Map.Entry<UUID, Snapshot>> eldest = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            totalBytes -= eldest.next().getValue().body().length;
+            eldest.remove();
+        }
+    }
+
+    private synchronized void evict(UUID boardId) {
+        inFlight.remove(boardId);
+        Snapshot removed = entries.remove(boardId);
+        if (removed != null) totalBytes -= removed.body().length;
+    }
+
+    private static Snapshot await(CompletableFuture<Snapshot> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+}
@@ -1,16 +1,21 @@
 package com.taskflow.kanban.board.controller;
 
+import com.taskflow.kanban.board.dto.ActivityDailyRollupDto;
 import com.taskflow.kanban.board.dto.ActivityLogDto;
+import com.taskflow.kanban.board.service.ActivityHistoryService;
 import com.taskflow.kanban.board.service.ActivityService;
 import com.taskflow.kanban.security.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,6 +25,7 @@ import java.util.UUID;
 public class ActivityController {
 
     private final ActivityService activityService;
+    private final ActivityHistoryService activityHistoryService;
 
     @GetMapping
     @PreAuthorize("isAuthenticated()")
@@ -40,4 +46,14 @@ public class ActivityController {
         }
         return List.of();
     }
+
+    @GetMapping("/boards/{boardId}/daily")
+    @PreAuthorize("isAuthenticated()")
+    public List<ActivityDailyRollupDto> getDailyActivity(
+            @PathVariable UUID boardId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return activityHistoryService.getDailyActivityByBoard(boardId, from, to);
+    }
 }
@@ -1,13 +1,29 @@
 package com.taskflow.kanban.board.controller;
 
 import com.taskflow.kanban.board.dto.AttachmentDto;
+import com.taskflow.kanban.board.dto.AttachmentUploadCreateDto;
+import com.taskflow.kanban.board.dto.AttachmentUploadDto;
+import com.taskflow.kanban.board.dto.ChunkRange;
 import com.taskflow.kanban.board.service.AttachmentService;
+import com.taskflow.kanban.board.service.ResourceVersionService;
+import com.taskflow.kanban.board.service.ThumbnailService;
+import com.taskflow.kanban.exception.BadRequestException;
+import com.taskflow.kanban.storage.BlobResponseWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.UUID;
 
@@ -17,8 +33,11 @@ import java.util.UUID;
 public class AttachmentController {
 
     private final AttachmentService attachmentService;
+    private final ResourceVersionService resourceVersionService;
+    private final ThumbnailService thumbnailService;
+    private final BlobResponseWriter blobResponseWriter;
 
-    // This is a simplified endpoint. A real implementation would handle file storage.
+    /** Records an attachment held elsewhere, by URL; files stored here go through {@link #startUpload}. */
     @PostMapping("/cards/{cardId}")
     @ResponseStatus(HttpStatus.CREATED)
     @PreAuthorize("isAuthenticated()")
@@ -34,14 +53,87 @@ public class AttachmentController {
 
     @GetMapping("/cards/{cardId}")
     @PreAuthorize("isAuthenticated()")
-    public List<AttachmentDto> getAttachmentsByCard(@PathVariable UUID cardId) {
+    public List<AttachmentDto> getAttachmentsByCard(@PathVariable UUID cardId, WebRequest request) {
+        if (request.checkNotModified(resourceVersionService.getAttachmentsVersion(cardId))) {
+            return null;
+        }
         return attachmentService.getAttachmentsByCard(cardId);
     }
 
+    /**
+     * Content of a stored attachment, with byte ranges and conditional requests. The lookup and access check finish
+     * before any bytes are sent, so no database connection is held while a large file downloads.
+     */
+    @GetMapping("/{id}/content")
+    @PreAuthorize("isAuthenticated()")
+    public void downloadAttachment(@PathVariable UUID id, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        AttachmentDto attachment = attachmentService.getStoredAttachment(id);
+        blobResponseWriter.write(request, response, attachment.getContentHash(), attachment.getMimeType(),
+                attachment.getFileName());
+    }
+
+    /** A downscaled JPEG of a stored image; 404 while it is still being rendered. */
+    @GetMapping("/{id}/thumbnails/{size}")
+    @PreAuthorize("isAuthenticated()")
+    public void downloadThumbnail(@PathVariable UUID id, @PathVariable String size, HttpServletRequest request,
+                                  HttpServletResponse response) throws IOException {
+        AttachmentDto attachment = attachmentService.getStoredAttachment(id);
+        Path thumbnail = thumbnailService.getThumbnail(attachment.getContentHash(), attachment.getMimeType(), size);
+        blobResponseWriter.write(request, response, thumbnail, thumbnail.getFileName().toString(),
+                MediaType.IMAGE_JPEG_VALUE, StringUtils.stripFilenameExtension(attachment.getFileName()) + "-" + size + ".jpg");
+    }
+
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @PreAuthorize("isAuthenticated()")
     public void deleteAttachment(@PathVariable UUID id) {
         attachmentService.deleteAttachment(id);
     }
+
+    /**
+     * Opens a resumable upload. The file is then sent as raw {@code application/octet-stream} bodies to
+     * {@code PUT /attachments/uploads/{uploadId}}, in one request or in chunks carrying {@code Content-Range}.
+     */
+    @PostMapping("/cards/{cardId}/uploads")
+    @ResponseStatus(HttpStatus.CREATED)
+    @PreAuthorize("isAuthenticated()")
+    public AttachmentUploadDto startUpload(@PathVariable UUID cardId,
+                                           @Valid @RequestBody AttachmentUploadCreateDto createDto) {
+        return attachmentService.startUpload(cardId, createDto);
+    }
+
+    /** Where an interrupted upload stands; {@code receivedBytes} is the offset to resume from. */
+    @GetMapping("/uploads/{uploadId}")
+    @PreAuthorize("isAuthenticated()")
+    public AttachmentUploadDto getUpload(@PathVariable UUID uploadId) {
+        return attachmentService.getUpload(uploadId);
+    }
+
+    /**
+     * Appends one chunk. The body is streamed from the request to storage as it arrives rather than bound or spooled
+     * by the container; a chunk whose {@code Content-Range} does not start where the upload stands gets a 409. A
+     * range whose size is not the upload's, or whose length is not the body's, gets a 400, and one that ends past the
+     * file a 416. Sending the last chunk again after the upload completed returns the same attachment.
+     */
+    @PutMapping(value = "/uploads/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public AttachmentUploadDto uploadChunk(@PathVariable UUID uploadId,
+                                           @RequestHeader(value = HttpHeaders.CONTENT_RANGE, required = false) String contentRange,
+                                           HttpServletRequest request) throws IOException {
+        ChunkRange range = ChunkRange.parse(contentRange);
+        long contentLength = request.getContentLengthLong();
+        if (range != null && contentLength >= 0 && contentLength != range.length()) {
+            throw new BadRequestException("Content-Length " + contentLength + " does not match the " + range.length()
+                    + " bytes in Content-Range");
+        }
+        return attachmentService.appendChunk(uploadId, range, request.getInputStream());
+    }
+
+    @DeleteMapping("/uploads/{uploadId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @PreAuthorize("isAuthenticated()")
+    public void cancelUpload(@PathVariable UUID uploadId) {
+        attachmentService.cancelUpload(uploadId);
+    }
 }
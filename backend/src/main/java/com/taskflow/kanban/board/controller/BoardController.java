@@ -1,20 +1,32 @@
 package com.taskflow.kanban.board.controller;
 
+import com.taskflow.kanban.board.cache.BoardSnapshotCache;
 import com.taskflow.kanban.board.dto.BoardCreateDto;
 import com.taskflow.kanban.board.dto.BoardDto;
 import com.taskflow.kanban.board.dto.BoardMemberUpdateDto;
 import com.taskflow.kanban.board.dto.BoardUpdateDto;
 import com.taskflow.kanban.board.dto.CardDto;
+import com.taskflow.kanban.board.dto.CardFilterDto;
+import com.taskflow.kanban.board.dto.ColdCardDto;
 import com.taskflow.kanban.board.entity.BoardRole;
 import com.taskflow.kanban.board.service.BoardService;
+import com.taskflow.kanban.board.service.BoardSnapshotService;
+import com.taskflow.kanban.board.service.BoardViewService;
 import com.taskflow.kanban.board.service.CardService;
+import com.taskflow.kanban.board.service.CardTieringService;
+import com.taskflow.kanban.board.service.ResourceVersionService;
+import com.taskflow.kanban.dto.CursorPageResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -24,6 +36,10 @@ public class BoardController {
 
     private final BoardService boardService;
     private final CardService cardService;
+    private final CardTieringService cardTieringService;
+    private final ResourceVersionService resourceVersionService;
+    private final BoardSnapshotService boardSnapshotService;
+    private final BoardViewService boardViewService;
 
     @GetMapping("/{id}/archived-cards")
     @PreAuthorize("isAuthenticated()")
@@ -31,6 +47,27 @@ public class BoardController {
         return cardService.getArchivedCardsByBoard(id);
     }
 
+    @GetMapping("/{id}/cold-cards")
+    @PreAuthorize("isAuthenticated()")
+    public List<ColdCardDto> getColdCards(@PathVariable UUID id) {
+        return cardTieringService.getColdCardsByBoard(id);
+    }
+
+    /** Initial board load: the first cards of every column, keyed by column id, with cursors for the rest. */
+    @GetMapping("/{id}/column-cards")
+    @PreAuthorize("isAuthenticated()")
+    public Map<UUID, CursorPageResponse<CardDto>> getFirstCardsPerColumn(@PathVariable UUID id,
+                                                                       @RequestParam(defaultValue = "20") int limit) {
+        return cardService.getFirstCardsByBoard(id, limit);
+    }
+
+    /** A page of the board's cards matching the filter, in board order unless sorted; see CardFilterDto. */
+    @GetMapping("/{id}/cards")
+    @PreAuthorize("isAuthenticated()")
+    public CursorPageResponse<CardDto> filterCards(@PathVariable UUID id, CardFilterDto filter) {
+        return cardService.filterCardsByBoard(id, filter);
+    }
+
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     @PreAuthorize("isAuthenticated()")
@@ -49,10 +86,37 @@ public class BoardController {
 
     @GetMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
-    public BoardDto getBoardById(@PathVariable UUID id) {
+    public BoardDto getBoardById(@PathVariable UUID id, WebRequest request) {
+        if (request.checkNotModified(resourceVersionService.getBoardVersion(id))) {
+            return null;
+        }
         return boardService.getBoardById(id);
     }
 
+    /** Whole board (columns with their cards, labels) as cached JSON bytes, written without re-serializing. */
+    @GetMapping("/{id}/snapshot")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<byte[]> getBoardSnapshot(@PathVariable UUID id, WebRequest request) {
+        BoardSnapshotCache.Snapshot snapshot = boardSnapshotService.getSnapshot(id);
+        if (request.checkNotModified(snapshot.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.body());
+    }
+
+    /** Repairs drift in the persisted board views: one board, or every board when boardId is omitted. */
+    @PostMapping("/views/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Map<String, Integer> rebuildBoardViews(@RequestParam(required = false) UUID boardId) {
+        if (boardId != null) {
+            boardViewService.rebuild(boardId);
+            return Map.of("rebuilt", 1);
+        }
+        return Map.of("rebuilt", boardViewService.rebuildAll());
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
     public BoardDto updateBoard(@PathVariable UUID id, @RequestBody BoardUpdateDto updateDto) {
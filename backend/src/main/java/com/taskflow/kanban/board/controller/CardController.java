@@ -1,18 +1,27 @@
 package com.taskflow.kanban.board.controller;
 
+import com.taskflow.kanban.board.dto.ActivityLogDto;
+import com.taskflow.kanban.board.dto.AssignedCardDto;
 import com.taskflow.kanban.board.dto.CardCreateDto;
+import com.taskflow.kanban.board.dto.CardDetailDto;
 import com.taskflow.kanban.board.dto.CardDto;
 import com.taskflow.kanban.board.dto.CardMoveDto;
 import com.taskflow.kanban.board.dto.CardUpdateDto;
 import com.taskflow.kanban.board.entity.CardRole;
+import com.taskflow.kanban.board.service.CardDetailService;
 import com.taskflow.kanban.board.service.CardService;
+import com.taskflow.kanban.board.service.CardTieringService;
+import com.taskflow.kanban.board.service.ResourceVersionService;
+import com.taskflow.kanban.dto.CursorPageResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -21,6 +30,9 @@ import java.util.UUID;
 public class CardController {
 
     private final CardService cardService;
+    private final CardDetailService cardDetailService;
+    private final CardTieringService cardTieringService;
+    private final ResourceVersionService resourceVersionService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -31,16 +43,56 @@ public class CardController {
 
     @GetMapping
     @PreAuthorize("isAuthenticated()")
-    public List<CardDto> getCardsByColumn(@RequestParam UUID columnId) {
+    public List<CardDto> getCardsByColumn(@RequestParam UUID columnId, WebRequest request) {
+        if (request.checkNotModified(resourceVersionService.getCardsVersion(columnId))) {
+            return null;
+        }
         return cardService.getCardsByColumn(columnId);
     }
 
+    @GetMapping("/page")
+    @PreAuthorize("isAuthenticated()")
+    public CursorPageResponse<CardDto> getCardPage(@RequestParam UUID columnId,
+                                                   @RequestParam(required = false) String cursor,
+                                                   @RequestParam(defaultValue = "50") int limit,
+                                                   WebRequest request) {
+        if (request.checkNotModified(resourceVersionService.getCardsVersion(columnId))) {
+            return null;
+        }
+        return cardService.getCardPage(columnId, cursor, limit);
+    }
+
+    /** Cards the current user is a member of, across all boards, soonest due and most urgent first. */
+    @GetMapping("/mine")
+    @PreAuthorize("isAuthenticated()")
+    public CursorPageResponse<AssignedCardDto> getMyCards(@RequestParam(required = false) String cursor,
+                                                          @RequestParam(defaultValue = "50") int limit) {
+        return cardService.getMyCards(cursor, limit);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
     public CardDto getCardById(@PathVariable UUID id) {
         return cardService.getCardById(id);
     }
 
+    /** The card modal in one call: card, attachments and the first pages of comments and activity. */
+    @GetMapping("/{id}/detail")
+    @PreAuthorize("isAuthenticated()")
+    public CardDetailDto getCardDetail(@PathVariable UUID id,
+                                       @RequestParam(defaultValue = "20") int commentLimit,
+                                       @RequestParam(defaultValue = "20") int activityLimit) {
+        return cardDetailService.getCardDetail(id, commentLimit, activityLimit);
+    }
+
+    @GetMapping("/{id}/activity")
+    @PreAuthorize("isAuthenticated()")
+    public CursorPageResponse<ActivityLogDto> getCardActivity(@PathVariable UUID id,
+                                                              @RequestParam(required = false) String cursor,
+                                                              @RequestParam(defaultValue = "50") int limit) {
+        return cardDetailService.getCardActivity(id, cursor, limit);
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
     public CardDto updateCard(@PathVariable UUID id, @RequestBody CardUpdateDto updateDto) {
@@ -54,6 +106,18 @@ public class CardController {
         cardService.deleteCard(id);
     }
     
+    @PostMapping("/{id}/restore")
+    @PreAuthorize("isAuthenticated()")
+    public CardDto restoreCard(@PathVariable UUID id) {
+        return cardTieringService.restoreCard(id);
+    }
+
+    @PostMapping("/tiering/run")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Map<String, Integer> runTiering() {
+        return Map.of("tiered", cardTieringService.tierCards());
+    }
+
     @PutMapping("/{id}/move")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @PreAuthorize("isAuthenticated()")
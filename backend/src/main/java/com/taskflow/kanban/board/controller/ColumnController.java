@@ -4,11 +4,13 @@ import com.taskflow.kanban.board.dto.ColumnCreateDto;
 import com.taskflow.kanban.board.dto.ColumnDto;
 import com.taskflow.kanban.board.dto.ColumnUpdateDto;
 import com.taskflow.kanban.board.service.ColumnService;
+import com.taskflow.kanban.board.service.ResourceVersionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -19,6 +21,7 @@ import java.util.UUID;
 public class ColumnController {
 
     private final ColumnService columnService;
+    private final ResourceVersionService resourceVersionService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -29,7 +32,10 @@ public class ColumnController {
 
     @GetMapping
     @PreAuthorize("isAuthenticated()")
-    public List<ColumnDto> getColumnsByBoard(@RequestParam UUID boardId) {
+    public List<ColumnDto> getColumnsByBoard(@RequestParam UUID boardId, WebRequest request) {
+        if (request.checkNotModified(resourceVersionService.getColumnsVersion(boardId))) {
+            return null;
+        }
         return columnService.getColumnsByBoard(boardId);
     }
 
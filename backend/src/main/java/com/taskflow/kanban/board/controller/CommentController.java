@@ -3,13 +3,18 @@ package com.taskflow.kanban.board.controller;
 import com.taskflow.kanban.board.dto.CommentCreateDto;
 import com.taskflow.kanban.board.dto.CommentDto;
 import com.taskflow.kanban.board.service.CommentService;
+import com.taskflow.kanban.board.service.ResourceVersionService;
+import com.taskflow.kanban.dto.CursorPageResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -18,6 +23,7 @@ import java.util.UUID;
 public class CommentController {
 
     private final CommentService commentService;
+    private final ResourceVersionService resourceVersionService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -28,10 +34,33 @@ public class CommentController {
 
     @GetMapping("/cards/{cardId}")
     @PreAuthorize("isAuthenticated()")
-    public List<CommentDto> getCommentsByCard(@PathVariable UUID cardId) {
+    public List<CommentDto> getCommentsByCard(@PathVariable UUID cardId, WebRequest request) {
+        if (request.checkNotModified(resourceVersionService.getCommentsVersion(cardId))) {
+            return null;
+        }
         return commentService.getCommentsByCard(cardId);
     }
 
+    /** Keyset-paged thread, newest first unless {@code order=asc}; pass nextCursor back as cursor. */
+    @GetMapping("/cards/{cardId}/page")
+    @PreAuthorize("isAuthenticated()")
+    public CursorPageResponse<CommentDto> getCommentPage(@PathVariable UUID cardId,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam(defaultValue = "50") int limit,
+                                                         @RequestParam(defaultValue = "desc") String order,
+                                                         WebRequest request) {
+        if (request.checkNotModified(resourceVersionService.getCommentsVersion(cardId))) {
+            return null;
+        }
+        return commentService.getCommentPage(cardId, cursor, limit, Sort.Direction.fromString(order));
+    }
+
+    @GetMapping("/cards/{cardId}/count")
+    @PreAuthorize("isAuthenticated()")
+    public Map<String, Long> countCommentsByCard(@PathVariable UUID cardId) {
+        return Map.of("count", commentService.countCommentsByCard(cardId));
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
     public CommentDto updateComment(@PathVariable UUID id, @RequestBody String content) {
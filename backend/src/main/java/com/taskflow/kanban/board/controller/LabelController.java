@@ -4,11 +4,13 @@ import com.taskflow.kanban.board.dto.LabelCreateDto;
 import com.taskflow.kanban.board.dto.LabelDto;
 import com.taskflow.kanban.board.dto.LabelUpdateDto;
 import com.taskflow.kanban.board.service.LabelService;
+import com.taskflow.kanban.board.service.ResourceVersionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -19,6 +21,7 @@ import java.util.UUID;
 public class LabelController {
 
     private final LabelService labelService;
+    private final ResourceVersionService resourceVersionService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -29,7 +32,10 @@ public class LabelController {
 
     @GetMapping
     @PreAuthorize("isAuthenticated()")
-    public List<LabelDto> getLabelsByBoard(@RequestParam UUID boardId) {
+    public List<LabelDto> getLabelsByBoard(@RequestParam UUID boardId, WebRequest request) {
+        if (request.checkNotModified(resourceVersionService.getLabelsVersion(boardId))) {
+            return null;
+        }
         return labelService.getLabelsByBoard(boardId);
     }
 
@@ -0,0 +1,20 @@
+package com.taskflow.kanban.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityDailyRollupDto {
+    private LocalDate day;
+    private String entityType;
+    private String action;
+    private long eventCount;
+    private long userCount;
+}
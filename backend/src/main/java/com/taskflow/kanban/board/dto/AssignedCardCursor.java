@@ -0,0 +1,47 @@
+package com.taskflow.kanban.board.dto;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+
+/**
+ * Position in the "my cards" feed, which is ordered by (due date, priority, id) with undated and unprioritised cards
+ * last. Sent to clients as "&lt;dueDate&gt;_&lt;priority&gt;_&lt;id&gt;". Missing values are stored as the
+ * {@link #NO_DUE_DATE} and {@link #NO_PRIORITY} sentinels, which the feed query sorts by as well.
+ */
+public record AssignedCardCursor(Instant dueDate, int priority, UUID id) {
+
+    public static final Instant NO_DUE_DATE = Instant.parse("9999-12-31T23:59:59Z");
+    public static final int NO_PRIORITY = Integer.MAX_VALUE;
+
+    /** Before every real row, so a first page runs the same range scan as the rest. */
+    public static final AssignedCardCursor FIRST =
+            new AssignedCardCursor(Instant.parse("0001-01-01T00:00:00Z"), Integer.MIN_VALUE, new UUID(0, 0));
+
+    /** The key of a card, with its missing due date or priority replaced by the sentinel. */
+    public static AssignedCardCursor of(Instant dueDate, Integer priority, UUID id) {
+        return new AssignedCardCursor(dueDate != null ? dueDate : NO_DUE_DATE,
+                priority != null ? priority : NO_PRIORITY, id);
+    }
+
+    /** The parsed cursor, or {@link #FIRST} when the client sent none. */
+    public static AssignedCardCursor parse(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        String[] parts = cursor.split("_");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        try {
+            return new AssignedCardCursor(Instant.parse(parts[0]), Integer.parseInt(parts[1]), UUID.fromString(parts[2]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return dueDate + "_" + priority + "_" + id;
+    }
+}
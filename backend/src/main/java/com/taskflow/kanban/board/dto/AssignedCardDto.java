@@ -0,0 +1,19 @@
+package com.taskflow.kanban.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/** One entry of the cross-board "my cards" feed: the card and the board it sits on. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssignedCardDto {
+    private CardDto card;
+    private UUID boardId;
+    private String boardName;
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Map;
 import java.util.UUID;
 
 @Data
@@ -17,5 +18,8 @@ public class AttachmentDto {
     private String fileUrl;
     private long fileSize;
     private String mimeType;
+    private String contentHash;
     private UUID cardId;
+    /** Thumbnail URLs by size name; only stored images have them. */
+    private Map<String, String> thumbnails;
 }
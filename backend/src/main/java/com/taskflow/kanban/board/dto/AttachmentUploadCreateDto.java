@@ -0,0 +1,16 @@
+package com.taskflow.kanban.board.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+@Data
+public class AttachmentUploadCreateDto {
+    @NotBlank(message = "File name is required")
+    private String fileName;
+    private String mimeType;
+    @NotNull(message = "File size is required")
+    @Positive(message = "File size must be positive")
+    private Long fileSize;
+}
@@ -0,0 +1,27 @@
+package com.taskflow.kanban.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * State of a resumable upload. {@code receivedBytes} is the offset the next chunk must start at; once it reaches
+ * {@code fileSize} the upload is complete and {@code attachment} holds the stored attachment.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttachmentUploadDto {
+    private UUID id;
+    private UUID cardId;
+    private String fileName;
+    private String mimeType;
+    private long fileSize;
+    private long receivedBytes;
+    private boolean complete;
+    private AttachmentDto attachment;
+}
@@ -0,0 +1,18 @@
+package com.taskflow.kanban.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardSnapshotDto {
+    private BoardDto board;
+    private List<ColumnSnapshotDto> columns;
+    private List<LabelDto> labels;
+}
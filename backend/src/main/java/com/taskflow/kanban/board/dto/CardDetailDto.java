@@ -0,0 +1,24 @@
+package com.taskflow.kanban.board.dto;
+
+import com.taskflow.kanban.dto.CursorPageResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Everything the card modal shows, in one response. Comments and activity hold their first page, newest first;
+ * the rest is fetched from /comments/cards/{id}/page and /cards/{id}/activity with the returned cursors.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardDetailDto {
+    private CardDto card;
+    private List<AttachmentDto> attachments;
+    private CursorPageResponse<CommentDto> comments;
+    private CursorPageResponse<ActivityLogDto> activity;
+}
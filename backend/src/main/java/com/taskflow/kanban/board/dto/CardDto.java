@@ -24,6 +24,8 @@ public class CardDto {
     private Instant startDate;
     private Integer priority;
     private UUID columnId;
+    private int commentCount;
+    private int attachmentCount;
     private Set<CardMemberDto> members;
     private Set<LabelDto> labels;
 }
@@ -0,0 +1,34 @@
+package com.taskflow.kanban.board.dto;
+
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Query parameters of GET /boards/{id}/cards. Lists may be repeated or comma-separated and match any of their
+ * values; criteria left out do not filter. Sort keys are priority, dueDate and updatedAt, with a leading "-" for
+ * descending, e.g. {@code sort=priority,-dueDate}; ties and unsorted results keep board order. Results come in pages
+ * of {@code limit} cards; pass the previous page's nextCursor as {@code cursor}, with the same sort, for the next one.
+ * Only the first page carries totalElements.
+ */
+@Data
+public class CardFilterDto {
+    private List<UUID> labelIds;
+    private List<UUID> assigneeIds;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Instant dueFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Instant dueTo;
+
+    private List<Integer> priorities;
+    private Boolean achieved;
+    private boolean archived = false;
+    private List<String> sort;
+    private int limit = 200;
+    private String cursor;
+}
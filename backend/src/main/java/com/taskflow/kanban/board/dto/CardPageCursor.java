@@ -0,0 +1,33 @@
+package com.taskflow.kanban.board.dto;
+
+import java.util.UUID;
+
+/**
+ * Position in a column's card pages, which are ordered by (position, id), sent to clients as
+ * "&lt;position&gt;_&lt;id&gt;". Positions are not unique (a client may create a card at a taken position), so
+ * the id breaks ties.
+ */
+public record CardPageCursor(int position, UUID id) {
+
+    /** Before every real row, so a first page runs the same range scan as the rest. */
+    public static final CardPageCursor FIRST = new CardPageCursor(Integer.MIN_VALUE, new UUID(0, 0));
+
+    /** The parsed cursor, or {@link #FIRST} when the client sent none. */
+    public static CardPageCursor parse(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        int separator = cursor.indexOf('_');
+        try {
+            return new CardPageCursor(Integer.parseInt(cursor.substring(0, Math.max(separator, 0))),
+                    UUID.fromString(cursor.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return position + "_" + id;
+    }
+}
@@ -0,0 +1,40 @@
+package com.taskflow.kanban.board.dto;
+
+import com.taskflow.kanban.exception.BadRequestException;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The {@code Content-Range} of an upload chunk: bytes {@code first} to {@code last} inclusive of a file of
+ * {@code size} bytes, or of unstated size when the header says {@code *}.
+ */
+public record ChunkRange(long first, long last, Long size) {
+
+    private static final Pattern CONTENT_RANGE = Pattern.compile("bytes (\\d+)-(\\d+)/(\\d+|\\*)");
+
+    /** The parsed header, or null when the request had none. */
+    public static ChunkRange parse(String contentRange) {
+        if (contentRange == null) {
+            return null;
+        }
+        Matcher matcher = CONTENT_RANGE.matcher(contentRange.trim());
+        try {
+            if (matcher.matches()) {
+                ChunkRange range = new ChunkRange(Long.parseLong(matcher.group(1)), Long.parseLong(matcher.group(2)),
+                        "*".equals(matcher.group(3)) ? null : Long.valueOf(matcher.group(3)));
+                if (range.last >= range.first) {
+                    return range;
+                }
+            }
+        } catch (NumberFormatException e) {
+            // Out of range for a long; reported as malformed below
+        }
+        throw new BadRequestException("Content-Range must look like 'bytes <first>-<last>/<size>'");
+    }
+
+    /** The number of bytes the chunk carries. */
+    public long length() {
+        return last - first + 1;
+    }
+}
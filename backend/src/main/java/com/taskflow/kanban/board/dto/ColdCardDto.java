@@ -0,0 +1,23 @@
+package com.taskflow.kanban.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ColdCardDto {
+    private UUID id;
+    private String title;
+    private boolean archived;
+    private boolean achieved;
+    private UUID columnId;
+    private UUID boardId;
+    private Instant tieredAt;
+}
@@ -17,5 +17,6 @@ public class ColumnDto {
     private int position;
     private Integer wipLimit;
     private boolean archived;
+    private int cardCount;
     private UUID boardId;
 }
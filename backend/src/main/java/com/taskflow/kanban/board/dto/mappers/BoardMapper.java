@@ -0,0 +1,117 @@
+package com.taskflow.kanban.board.dto.mappers;
+
+import com.taskflow.kanban.board.dto.*;
+import com.taskflow.kanban.board.entity.Board;
+import com.taskflow.kanban.board.entity.BoardColumn;
+import com.taskflow.kanban.board.entity.Card;
+import com.taskflow.kanban.board.entity.Label;
+import com.taskflow.kanban.monitoring.jfr.DtoMappingEvent;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public final class BoardMapper {
+
+    private BoardMapper() {
+        // Utility class
+    }
+
+    /* =======================
+       BOARD
+       ======================= */
+
+    public static BoardDto toBoardDto(Board board) {
+        DtoMappingEvent event = DtoMappingEvent.start("BoardMapper.toBoardDto");
+        Set<BoardMemberDto> memberDtos = (board.getMembers() == null || board.getMembers().isEmpty())
+                ? Set.of()
+                : board.getMembers().stream()
+                        .map(m -> BoardMemberDto.builder()
+                                .id(m.getId())
+                                .userId(m.getUser().getId())
+                                .username(m.getUser().getUsername())
+                                .email(m.getUser().getEmail())
+                                .role(m.getRole())
+                                .build())
+                        .collect(Collectors.toSet());
+        BoardDto dto = BoardDto.builder()
+                .id(board.getId())
+                .name(board.getName())
+                .description(board.getDescription())
+                .archived(board.isArchived())
+                .isPrivate(board.isPrivate())
+                .backgroundColor(board.getBackgroundColor())
+                .workspaceId(board.getWorkspace().getId())
+                .workspaceName(board.getWorkspace() != null ? board.getWorkspace().getName() : null)
+                .position(board.getPosition())
+                .members(memberDtos)
+                .build();
+        event.finish(board.getId(), memberDtos.size());
+        return dto;
+    }
+
+    /* =======================
+       COLUMN
+       ======================= */
+
+    public static ColumnDto toColumnDto(BoardColumn column) {
+        return ColumnDto.builder()
+                .id(column.getId())
+                .name(column.getName())
+                .position(column.getPosition())
+                .wipLimit(column.getWipLimit())
+                .archived(column.isArchived())
+                .cardCount(column.getCardCount())
+                .boardId(column.getBoard().getId())
+                .build();
+    }
+
+    /* =======================
+       CARD
+       ======================= */
+
+    public static CardDto toCardDto(Card card) {
+        DtoMappingEvent event = DtoMappingEvent.start("BoardMapper.toCardDto");
+        CardDto dto = CardDto.builder()
+                .id(card.getId())
+                .title(card.getTitle())
+                .description(card.getDescription())
+                .position(card.getPosition())
+                .archived(card.isArchived())
+                .achieved(card.isAchieved())
+                .dueDate(card.getDueDate())
+                .startDate(card.getStartDate())
+                .priority(card.getPriority())
+                .columnId(card.getColumn().getId())
+                .commentCount(card.getCommentCount())
+                .attachmentCount(card.getAttachmentCount())
+                .members(card.getMembers().stream()
+                        .map(m -> CardMemberDto.builder()
+                                .userId(m.getUser().getId())
+                                .username(m.getUser().getUsername())
+                                .email(m.getUser().getEmail())
+                                .role(m.getRole())
+                                .build())
+                        .collect(Collectors.toSet()))
+                .labels(card.getLabels() == null || card.getLabels().isEmpty()
+                        ? Set.of()
+                        : card.getLabels().stream()
+                                .map(BoardMapper::toLabelDto)
+                                .collect(Collectors.toSet()))
+                .build();
+        event.finish(card.getId(), dto.getMembers().size() + dto.getLabels().size());
+        return dto;
+    }
+
+    /* =======================
+       LABEL
+       ======================= */
+
+    public static LabelDto toLabelDto(Label label) {
+        return LabelDto.builder()
+                .id(label.getId())
+                .name(label.getName())
+                .color(label.getColor())
+                .boardId(label.getBoard() != null ? label.getBoard().getId() : null)
+                .build();
+    }
+}
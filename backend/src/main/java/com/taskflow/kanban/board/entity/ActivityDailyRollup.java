@@ -0,0 +1,52 @@
+package com.taskflow.kanban.board.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Per-board, per-day activity counts. Written ahead of dropping an activity_logs partition so long-range
+ * history survives retention and is read from a few rows per day instead of the raw log.
+ */
+@Entity
+@Table(name = "activity_daily_rollups")
+@IdClass(ActivityDailyRollup.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ActivityDailyRollup {
+
+    @Id
+    private UUID boardId;
+
+    @Id
+    @Column(name = "activity_date")
+    private LocalDate day;
+
+    @Id
+    private String entityType;
+
+    @Id
+    private String action;
+
+    @Column(nullable = false)
+    private long eventCount;
+
+    @Column(nullable = false)
+    private long userCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID boardId;
+        private LocalDate day;
+        private String entityType;
+        private String action;
+    }
+}
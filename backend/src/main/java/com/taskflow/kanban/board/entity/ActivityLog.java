@@ -1,5 +1,6 @@
 package com.taskflow.kanban.board.entity;
 
+import com.taskflow.kanban.entity.AssignableUuid;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -16,7 +17,7 @@ import java.util.UUID;
 public class ActivityLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @AssignableUuid
     private UUID id;
 
     @Column(nullable = false)
@@ -36,4 +37,7 @@ public class ActivityLog {
 
     @Column(nullable = false)
     private UUID performedBy;
+
+    // Owning board for board-scoped activity; null for workspace activity. Drives the daily roll-up.
+    private UUID boardId;
 }
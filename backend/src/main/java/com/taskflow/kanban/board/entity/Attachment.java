@@ -23,6 +23,10 @@ public class Attachment extends AuditableEntity {
 
     private String mimeType;
 
+    /** SHA-256 of the content in the blob store; null for attachments that only link to an external URL. */
+    @Column(length = 64)
+    private String contentHash;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "card_id", nullable = false)
     private Card card;
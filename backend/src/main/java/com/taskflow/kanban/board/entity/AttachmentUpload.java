@@ -0,0 +1,41 @@
+package com.taskflow.kanban.board.entity;
+
+import com.taskflow.kanban.entity.AuditableEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * A resumable upload. The bytes themselves are staged in the blob store under this row's id until the last chunk
+ * arrives and the {@link Attachment} is created; the row then records that attachment until the upload expires, so a
+ * repeated last chunk gets the same answer. The card is referenced by id only, so deleting a card never has to wait
+ * for uploads still in flight.
+ */
+@Entity
+@Table(name = "attachment_uploads")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttachmentUpload extends AuditableEntity {
+
+    @Column(nullable = false)
+    private UUID cardId;
+
+    @Column(nullable = false)
+    private UUID uploaderId;
+
+    @Column(nullable = false)
+    private String fileName;
+
+    private String mimeType;
+
+    private long fileSize;
+
+    /** Set when the upload completed. */
+    private UUID attachmentId;
+}
@@ -3,6 +3,7 @@ package com.taskflow.kanban.board.entity;
 import com.taskflow.kanban.entity.AuditableEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -26,6 +27,11 @@ public class BoardColumn extends AuditableEntity {
 
     private boolean archived = false;
 
+    // Maintained by ColumnRepository.adjustCardCount so concurrent card writes never lose an update
+    @Column(name = "card_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private int cardCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "board_id", nullable = false)
     private Board board;
@@ -0,0 +1,34 @@
+package com.taskflow.kanban.board.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Read model of a whole board (BoardSnapshotDto as JSON), kept in step with card, column and label writes.
+ * Deliberately not a foreign key to boards: it is derived data and can always be rebuilt.
+ */
+@Entity
+@Table(name = "board_views")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BoardView {
+
+    @Id
+    @Column(name = "board_id")
+    private UUID boardId;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(nullable = false)
+    private String document;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+}
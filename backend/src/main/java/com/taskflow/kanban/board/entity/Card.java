@@ -3,6 +3,7 @@ package com.taskflow.kanban.board.entity;
 import com.taskflow.kanban.entity.AuditableEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.Instant;
 import java.util.HashSet;
@@ -37,6 +38,16 @@ public class Card extends AuditableEntity {
 
     private Integer priority; // 1 = highest
 
+    // Badge counters, maintained by CardRepository.adjustCommentCount / adjustAttachmentCount so the board never
+    // initializes the comments and attachments collections just to count them
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private int commentCount;
+
+    @Column(name = "attachment_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private int attachmentCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "column_id", nullable = false)
     private BoardColumn column;
@@ -0,0 +1,57 @@
+package com.taskflow.kanban.board.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A card moved out of the hot cards table by the tiering job, together with its members, comments,
+ * attachments and label ids serialized into one JSON document. Restoring it recreates the rows under their original ids.
+ * The content hashes of its attachments are also kept in an indexed side table, so the orphaned-blob sweep can ask
+ * which blobs the cold tier still needs without reading documents.
+ */
+@Entity
+@Table(name = "cold_cards")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ColdCard {
+
+    @Id
+    @Column(name = "card_id")
+    private UUID cardId;
+
+    @Column(nullable = false)
+    private UUID boardId;
+
+    @Column(nullable = false)
+    private UUID columnId;
+
+    @Column(nullable = false)
+    private String title;
+
+    private boolean archived;
+
+    private boolean achieved;
+
+    @Column(nullable = false)
+    private Instant tieredAt;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(nullable = false)
+    private String document;
+
+    @ElementCollection
+    @CollectionTable(name = "cold_card_attachment_hashes", joinColumns = @JoinColumn(name = "card_id"))
+    @Column(name = "content_hash", nullable = false, length = 64)
+    @Builder.Default
+    private Set<String> attachmentHashes = new HashSet<>();
+}
@@ -0,0 +1,33 @@
+package com.taskflow.kanban.board.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * A stored image whose thumbnails still have to be rendered. Keyed by content hash, so an image attached to many
+ * cards is queued and rendered once. A worker claims the row by setting {@code lockedUntil}; the row is deleted when
+ * the thumbnails are written, and a claim that runs out (a crash, a restart) makes it claimable again. An image that
+ * failed every attempt keeps its row, which is never claimed again and stops it being queued anew on each request.
+ */
+@Entity
+@Table(name = "thumbnail_queue")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PendingThumbnail {
+
+    @Id
+    @Column(length = 64)
+    private String contentHash;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    private Instant lockedUntil;
+
+    private int attempts;
+}
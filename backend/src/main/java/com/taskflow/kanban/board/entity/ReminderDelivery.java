@@ -0,0 +1,47 @@
+package com.taskflow.kanban.board.entity;
+
+import com.taskflow.kanban.board.event.DueRemindersEvent.Kind;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A due-date reminder claimed for delivery. Every node fires the reminders of its own timing wheel; inserting this
+ * row is what lets exactly one of them deliver each reminder. A card moved to a new due date gets new rows.
+ */
+@Entity
+@Table(name = "reminder_deliveries")
+@IdClass(ReminderDelivery.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReminderDelivery {
+
+    @Id
+    private UUID cardId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private Kind kind;
+
+    @Id
+    private Instant dueDate;
+
+    @Column(nullable = false)
+    private Instant deliveredAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID cardId;
+        private Kind kind;
+        private Instant dueDate;
+    }
+}
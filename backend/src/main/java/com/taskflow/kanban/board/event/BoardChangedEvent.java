@@ -0,0 +1,48 @@
+package com.taskflow.kanban.board.event;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Published synchronously, inside the mutating transaction, whenever something shown on a board changes.
+ * Listeners use the scope to patch only what is affected (see BoardViewServiceImpl, BoardSnapshotCache).
+ */
+public record BoardChangedEvent(UUID boardId, Change change, Set<UUID> columnIds, Set<UUID> cardIds) {
+
+    public enum Change {
+        /** Board header or board members */
+        BOARD,
+        /** Column list: created, renamed, reordered, archived or deleted columns */
+        COLUMNS,
+        /** Cards created, updated, moved or deleted within the given columns */
+        CARDS,
+        /** Board labels created, renamed or deleted */
+        LABELS,
+        /** The board itself was deleted */
+        DELETED
+    }
+
+    public static BoardChangedEvent board(UUID boardId) {
+        return new BoardChangedEvent(boardId, Change.BOARD, Set.of(), Set.of());
+    }
+
+    public static BoardChangedEvent columns(UUID boardId) {
+        return new BoardChangedEvent(boardId, Change.COLUMNS, Set.of(), Set.of());
+    }
+
+    public static BoardChangedEvent cards(UUID boardId, Set<UUID> columnIds, UUID cardId) {
+        return new BoardChangedEvent(boardId, Change.CARDS, columnIds, Set.of(cardId));
+    }
+
+    public static BoardChangedEvent cards(UUID boardId, Set<UUID> columnIds, Set<UUID> cardIds) {
+        return new BoardChangedEvent(boardId, Change.CARDS, columnIds, cardIds);
+    }
+
+    public static BoardChangedEvent labels(UUID boardId) {
+        return new BoardChangedEvent(boardId, Change.LABELS, Set.of(), Set.of());
+    }
+
+    public static BoardChangedEvent deleted(UUID boardId) {
+        return new BoardChangedEvent(boardId, Change.DELETED, Set.of(), Set.of());
+    }
+}
@@ -0,0 +1,24 @@
+package com.taskflow.kanban.board.event;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A batch of card due-date reminders that have fired, published by DueReminderServiceImpl outside any request.
+ * Every reminder was checked against the card when the batch was built: the card still exists, is neither archived
+ * nor achieved, sits on a column and board that are not archived, and is still due at the time the reminder was set
+ * for. Each reminder is published by one node only.
+ */
+public record DueRemindersEvent(List<Reminder> reminders) {
+
+    public enum Kind {
+        /** The due date is one lead time away (due-reminders.due-soon-lead) */
+        DUE_SOON,
+        /** The due date has passed */
+        OVERDUE
+    }
+
+    public record Reminder(UUID cardId, UUID boardId, String title, Instant dueDate, Kind kind) {
+    }
+}
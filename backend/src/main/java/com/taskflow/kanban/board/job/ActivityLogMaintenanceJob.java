@@ -0,0 +1,25 @@
+package com.taskflow.kanban.board.job;
+
+import com.taskflow.kanban.board.service.ActivityHistoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "activity-logs", name = "maintenance-enabled", havingValue = "true", matchIfMissing = true)
+public class ActivityLogMaintenanceJob {
+
+    private final ActivityHistoryService activityHistoryService;
+
+    @Scheduled(cron = "${activity-logs.cron:0 15 2 * * *}")
+    public void maintain() {
+        activityHistoryService.ensurePartitions();
+        LocalDate today = LocalDate.now();
+        activityHistoryService.rollUp(today.minusDays(1), today);
+        activityHistoryService.applyRetention();
+    }
+}
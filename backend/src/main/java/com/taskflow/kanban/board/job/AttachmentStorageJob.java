@@ -0,0 +1,21 @@
+package com.taskflow.kanban.board.job;
+
+import com.taskflow.kanban.board.service.AttachmentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "storage", name = "maintenance-enabled", havingValue = "true", matchIfMissing = true)
+public class AttachmentStorageJob {
+
+    private final AttachmentService attachmentService;
+
+    @Scheduled(cron = "${storage.cron:0 45 3 * * *}")
+    public void sweep() {
+        attachmentService.expireAbandonedUploads();
+        attachmentService.deleteOrphanedBlobs();
+    }
+}
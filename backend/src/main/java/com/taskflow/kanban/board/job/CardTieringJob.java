@@ -0,0 +1,20 @@
+package com.taskflow.kanban.board.job;
+
+import com.taskflow.kanban.board.service.CardTieringService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "card-tiering", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CardTieringJob {
+
+    private final CardTieringService cardTieringService;
+
+    @Scheduled(cron = "${card-tiering.cron:0 30 3 * * *}")
+    public void tierCards() {
+        cardTieringService.tierCards();
+    }
+}
@@ -0,0 +1,28 @@
+package com.taskflow.kanban.board.job;
+
+import com.taskflow.kanban.board.service.DueReminderService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "due-reminders", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DueReminderJob {
+
+    private final DueReminderService dueReminderService;
+
+    @Scheduled(fixedRateString = "${due-reminders.tick:PT1S}")
+    public void tick() {
+        dueReminderService.fireDue(Instant.now());
+    }
+
+    /** Runs at startup, then tops the wheel up well before the loaded window runs out. */
+    @Scheduled(fixedDelayString = "${due-reminders.refill-interval:PT5M}")
+    public void refill() {
+        dueReminderService.refill(Instant.now());
+    }
+}
@@ -0,0 +1,20 @@
+package com.taskflow.kanban.board.job;
+
+import com.taskflow.kanban.board.service.ThumbnailService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "thumbnails", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ThumbnailQueueJob {
+
+    private final ThumbnailService thumbnailService;
+
+    @Scheduled(fixedDelayString = "${thumbnails.poll-interval:PT5S}")
+    public void dispatch() {
+        thumbnailService.dispatchQueued();
+    }
+}
@@ -0,0 +1,209 @@
+package com.taskflow.kanban.board.reminder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Hierarchical timing wheel (Varghese and Lauck). Time is counted in ticks. Level 0 has one slot per tick, and each
+ * slot of level n spans a whole rotation of level n - 1. A timer is filed in the lowest level whose rotation still
+ * reaches its deadline; when time enters a higher-level slot, its timers cascade down a level, so every timer moves at
+ * most once per level before it fires.
+ * <p>
+ * Scheduling, moving and cancelling a timer are O(1): slots are doubly-linked lists and timers are found by key.
+ * Advancing costs one step per tick plus the timers that fire or cascade. Deadlines beyond the top level wait in its
+ * furthest slot and are filed again when it cascades.
+ * <p>
+ * Not thread-safe; callers serialise access.
+ *
+ * @param <K> identifies a timer; scheduling a key that is already pending moves that timer
+ * @param <V> handed back when the timer fires
+ */
+public class HierarchicalTimingWheel<K, V> {
+
+    private final int wheelSize;
+    /** Ticks covered by one slot of each level. */
+    private final long[] spans;
+    private final Slot<K, V>[][] levels;
+    private final Map<K, Timer<K, V>> timers = new HashMap<>();
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(int wheelSize, int levelCount, long startTick) {
+        if (wheelSize < 2 || levelCount < 1) {
+            throw new IllegalArgumentException("A timing wheel needs at least 2 slots and 1 level");
+        }
+        this.wheelSize = wheelSize;
+        this.spans = new long[levelCount];
+        this.levels = new Slot[levelCount][wheelSize];
+        long span = 1;
+        for (int level = 0; level < levelCount; level++) {
+            spans[level] = span;
+            span = Math.multiplyExact(span, wheelSize);
+            for (int slot = 0; slot < wheelSize; slot++) {
+                levels[level][slot] = new Slot<>();
+            }
+        }
+        this.currentTick = startTick;
+    }
+
+    /** The smallest number of levels whose top rotation spans {@code ticks}. */
+    public static int levelsFor(int wheelSize, long ticks) {
+        int levels = 1;
+        for (long span = wheelSize; span < ticks; span = Math.multiplyExact(span, wheelSize)) {
+            levels++;
+        }
+        return levels;
+    }
+
+    public long currentTick() {
+        return currentTick;
+    }
+
+    public int size() {
+        return timers.size();
+    }
+
+    /** Schedules the key's timer, replacing any pending one. A deadline that has already passed fires on the next tick. */
+    public void schedule(K key, long deadlineTick, V value) {
+        cancel(key);
+        add(key, deadlineTick, value);
+    }
+
+    /** Schedules the key's timer unless one is already pending; returns whether it did. */
+    public boolean scheduleIfAbsent(K key, long deadlineTick, V value) {
+        if (timers.containsKey(key)) {
+            return false;
+        }
+        add(key, deadlineTick, value);
+        return true;
+    }
+
+    /** Cancels the key's pending timer; returns its value, or null when none was pending. */
+    public V cancel(K key) {
+        Timer<K, V> timer = timers.remove(key);
+        if (timer == null) {
+            return null;
+        }
+        timer.unlink();
+        return timer.value;
+    }
+
+    /** Moves time forward to {@code tick}, handing each timer that falls due to {@code expired}, earliest first. */
+    public void advanceTo(long tick, BiConsumer<K, V> expired) {
+        if (timers.isEmpty()) {
+            currentTick = Math.max(currentTick, tick);
+            return;
+        }
+        while (currentTick < tick) {
+            currentTick++;
+            // Top down, so timers cascading out of a higher level are re-filed before the level below is visited
+            for (int level = spans.length - 1; level > 0; level--) {
+                if (currentTick % spans[level] == 0) {
+                    Timer<K, V> timer = slot(level, currentTick).detach();
+                    while (timer != null) {
+                        Timer<K, V> next = timer.next;
+                        file(timer);
+                        timer = next;
+                    }
+                }
+            }
+            Timer<K, V> timer = slot(0, currentTick).detach();
+            while (timer != null) {
+                Timer<K, V> next = timer.next;
+                timers.remove(timer.key);
+                expired.accept(timer.key, timer.value);
+                timer = next;
+            }
+        }
+    }
+
+    private void add(K key, long deadlineTick, V value) {
+        Timer<K, V> timer = new Timer<>(key, Math.max(deadlineTick, currentTick + 1), value);
+        timers.put(key, timer);
+        file(timer);
+    }
+
+    /** Files the timer in the lowest level whose current rotation reaches its deadline. */
+    private void file(Timer<K, V> timer) {
+        int top = spans.length - 1;
+        for (int level = 0; level <= top; level++) {
+            long slotNumber = timer.deadline / spans[level];
+            long currentSlot = currentTick / spans[level];
+            if (slotNumber - currentSlot < wheelSize || level == top) {
+                slotNumber = Math.min(slotNumber, currentSlot + wheelSize - 1);
+                levels[level][(int) (slotNumber % wheelSize)].append(timer);
+                return;
+            }
+        }
+    }
+
+    private Slot<K, V> slot(int level, long tick) {
+        return levels[level][(int) ((tick / spans[level]) % wheelSize)];
+    }
+
+    private static final class Timer<K, V> {
+        private final K key;
+        private final long deadline;
+        private final V value;
+        private Slot<K, V> slot;
+        private Timer<K, V> prev;
+        private Timer<K, V> next;
+
+        private Timer(K key, long deadline, V value) {
+            this.key = key;
+            this.deadline = deadline;
+            this.value = value;
+        }
+
+        private void unlink() {
+            if (slot != null) {
+                slot.remove(this);
+            }
+        }
+    }
+
+    private static final class Slot<K, V> {
+        private Timer<K, V> head;
+        private Timer<K, V> tail;
+
+        private void append(Timer<K, V> timer) {
+            timer.slot = this;
+            timer.prev = tail;
+            timer.next = null;
+            if (tail == null) {
+                head = timer;
+            } else {
+                tail.next = timer;
+            }
+            tail = timer;
+        }
+
+        private void remove(Timer<K, V> timer) {
+            if (timer.prev == null) {
+                head = timer.next;
+            } else {
+                timer.prev.next = timer.next;
+            }
+            if (timer.next == null) {
+                tail = timer.prev;
+            } else {
+                timer.next.prev = timer.prev;
+            }
+            timer.slot = null;
+            timer.prev = null;
+            timer.next = null;
+        }
+
+        /** Empties the slot and returns its first timer; the rest follow through {@code next}. */
+        private Timer<K, V> detach() {
+            Timer<K, V> first = head;
+            for (Timer<K, V> timer = first; timer != null; timer = timer.next) {
+                timer.slot = null;
+            }
+            head = null;
+            tail = null;
+            return first;
+        }
+    }
+}
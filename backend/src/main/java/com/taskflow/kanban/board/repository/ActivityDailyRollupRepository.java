@@ -0,0 +1,31 @@
+package com.taskflow.kanban.board.repository;
+
+import com.taskflow.kanban.board.entity.ActivityDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface ActivityDailyRollupRepository extends JpaRepository<ActivityDailyRollup, ActivityDailyRollup.Key> {
+    List<ActivityDailyRollup> findByBoardIdAndDayBetweenOrderByDayAsc(UUID boardId, LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query("DELETE FROM ActivityDailyRollup r WHERE r.day >= :fromDay AND r.day < :toDay")
+    void deleteByDayRange(@Param("fromDay") LocalDate fromDay, @Param("toDay") LocalDate toDay);
+
+    /**
+     * Aggregates raw logs in [from, to) into daily rows; the range must cover whole days (see deleteByDayRange).
+     * Native because Hibernate aliases the target table of an HQL insert, which H2 rejects.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO activity_daily_rollups (board_id, activity_date, entity_type, action, event_count, user_count) "
+            + "SELECT board_id, CAST(timestamp AS DATE), entity_type, action, COUNT(*), COUNT(DISTINCT performed_by) "
+            + "FROM activity_logs WHERE board_id IS NOT NULL AND timestamp >= :from AND timestamp < :to "
+            + "GROUP BY board_id, CAST(timestamp AS DATE), entity_type, action", nativeQuery = true)
+    int rollUp(@Param("from") Instant from, @Param("to") Instant to);
+}
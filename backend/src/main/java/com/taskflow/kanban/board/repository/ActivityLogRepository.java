@@ -1,13 +1,33 @@
 package com.taskflow.kanban.board.repository;
 
 import com.taskflow.kanban.board.entity.ActivityLog;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
-public interface ActivityLogRepository extends JpaRepository<ActivityLog, UUID> {
+public interface ActivityLogRepository extends JpaRepository<ActivityLog, UUID>, ActivityLogRepositoryCustom {
     List<ActivityLog> findByEntityIdOrderByTimestampDesc(UUID entityId);
-    List<ActivityLog> findByEntityIdInOrderByTimestampDesc(List<UUID> entityIds);
     List<ActivityLog> findByPerformedByOrderByTimestampDesc(UUID performedBy);
+
+    /** Keyset page, newest first: the entity's entries before (timestamp, id), served by the entity index. */
+    @Query("SELECT l FROM ActivityLog l WHERE l.entityId = :entityId AND (l.timestamp, l.id) < (:timestamp, :id) "
+            + "ORDER BY l.timestamp DESC, l.id DESC")
+    List<ActivityLog> findPageByEntityId(@Param("entityId") UUID entityId, @Param("timestamp") Instant timestamp,
+                                         @Param("id") UUID id, Limit limit);
+
+    long countByEntityId(UUID entityId);
+
+    @Query("SELECT MIN(l.timestamp) FROM ActivityLog l")
+    Instant findOldestTimestamp();
+
+    /** Retention fallback for databases where activity_logs is not partitioned. */
+    @Modifying
+    @Query("DELETE FROM ActivityLog l WHERE l.timestamp < :cutoff")
+    int deleteOlderThan(@Param("cutoff") Instant cutoff);
 }
@@ -0,0 +1,12 @@
+package com.taskflow.kanban.board.repository;
+
+import com.taskflow.kanban.board.entity.ActivityLog;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ActivityLogRepositoryCustom {
+    /** Same as an IN query on entity_id, but stable for any number of ids (see IdSetQueries). */
+    List<ActivityLog> findByEntityIdSetOrderByTimestampDesc(Collection<UUID> entityIds);
+}
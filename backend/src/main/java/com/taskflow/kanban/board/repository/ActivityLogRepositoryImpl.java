@@ -0,0 +1,21 @@
+package com.taskflow.kanban.board.repository;
+
+import com.taskflow.kanban.board.entity.ActivityLog;
+import com.taskflow.kanban.repository.IdSetQueries;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class ActivityLogRepositoryImpl implements ActivityLogRepositoryCustom {
+
+    private final IdSetQueries idSetQueries;
+
+    @Override
+    public List<ActivityLog> findByEntityIdSetOrderByTimestampDesc(Collection<UUID> entityIds) {
+        return idSetQueries.findAll("SELECT * FROM activity_logs WHERE entity_id " + IdSetQueries.PREDICATE
+                + " ORDER BY timestamp DESC", ActivityLog.class, entityIds);
+    }
+}
@@ -2,10 +2,19 @@ package com.taskflow.kanban.board.repository;
 
 import com.taskflow.kanban.board.entity.Attachment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface AttachmentRepository extends JpaRepository<Attachment, UUID> {
     List<Attachment> findByCardId(UUID cardId);
+
+    @Query("SELECT COUNT(a) AS rowCount, MAX(a.updatedAt) AS lastModified FROM Attachment a WHERE a.card.id = :cardId")
+    RowVersion findVersionByCardId(@Param("cardId") UUID cardId);
+
+    @Query("SELECT DISTINCT a.contentHash FROM Attachment a WHERE a.contentHash IN :hashes")
+    List<String> findReferencedContentHashes(@Param("hashes") Collection<String> hashes);
 }
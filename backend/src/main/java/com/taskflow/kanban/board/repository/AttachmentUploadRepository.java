@@ -0,0 +1,21 @@
+package com.taskflow.kanban.board.repository;
+
+import com.taskflow.kanban.board.entity.AttachmentUpload;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface AttachmentUploadRepository extends JpaRepository<AttachmentUpload, UUID> {
+    long countByUploaderIdAndAttachmentIdIsNull(UUID uploaderId);
+
+    /** Row lock so that of two requests delivering the last bytes only one completes the upload. */
+    @Query(value = "SELECT * FROM attachment_uploads WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<AttachmentUpload> findByIdForUpdate(@Param("id") UUID id);
+
+    List<AttachmentUpload> findByCreatedAtBefore(Instant cutoff);
+}
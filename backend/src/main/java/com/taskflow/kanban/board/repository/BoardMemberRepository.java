@@ -2,6 +2,8 @@ package com.taskflow.kanban.board.repository;
 
 import com.taskflow.kanban.board.entity.BoardMember;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,4 +12,14 @@ import java.util.UUID;
 public interface BoardMemberRepository extends JpaRepository<BoardMember, UUID> {
     Optional<BoardMember> findByBoardIdAndUserId(UUID boardId, UUID userId);
     List<BoardMember> findByBoardId(UUID boardId);
+
+    @Query("SELECT m.board.id FROM BoardMember m WHERE m.user.id = :userId")
+    List<UUID> findBoardIdsByUserId(@Param("userId") UUID userId);
+
+    @Query("SELECT COUNT(m) AS rowCount, MAX(m.updatedAt) AS lastModified FROM BoardMember m WHERE m.board.id = :boardId")
+    RowVersion findVersionByBoardId(@Param("boardId") UUID boardId);
+
+    /** Members are shown with their username and email, which change on the user row, not the membership. */
+    @Query("SELECT COUNT(u) AS rowCount, MAX(u.updatedAt) AS lastModified FROM BoardMember m JOIN m.user u WHERE m.board.id = :boardId")
+    RowVersion findUserVersionByBoardId(@Param("boardId") UUID boardId);
 }
@@ -20,4 +20,28 @@ public interface BoardRepository extends JpaRepository<Board, UUID> {
 
     @Query("SELECT DISTINCT c.column.board FROM Card c JOIN c.members m WHERE m.user.id = :userId")
     List<Board> findBoardsByCardMemberUserId(@Param("userId") UUID userId);
+
+    /**
+     * The live boards a user can open through any membership (workspace, board or card, as BoardServiceImpl checks
+     * one board), as ids alone: each branch reads one membership table's user index.
+     */
+    @Query("SELECT b.id FROM Board b WHERE b.archived = false AND b.workspace.id IN "
+            + "(SELECT wm.workspace.id FROM WorkspaceMember wm WHERE wm.user.id = :userId) "
+            + "UNION SELECT m.board.id FROM BoardMember m WHERE m.user.id = :userId AND m.board.archived = false "
+            + "UNION SELECT col.board.id FROM CardMember cm JOIN cm.card c JOIN c.column col "
+            + "WHERE cm.user.id = :userId AND col.board.archived = false")
+    List<UUID> findLiveIdsAccessibleTo(@Param("userId") UUID userId);
+
+    @Query("SELECT b.id FROM Board b")
+    List<UUID> findAllIds();
+
+    @Query("SELECT b.id FROM Board b WHERE b.workspace.id = :workspaceId")
+    List<UUID> findIdsByWorkspaceId(@Param("workspaceId") UUID workspaceId);
+
+    @Query("SELECT COUNT(b) AS rowCount, MAX(b.updatedAt) AS lastModified FROM Board b WHERE b.id = :boardId")
+    RowVersion findVersionById(@Param("boardId") UUID boardId);
+
+    /** The board DTO carries the workspace name, so a workspace rename must move the board's ETag. */
+    @Query("SELECT COUNT(w) AS rowCount, MAX(w.updatedAt) AS lastModified FROM Board b JOIN b.workspace w WHERE b.id = :boardId")
+    RowVersion findWorkspaceVersionById(@Param("boardId") UUID boardId);
 }
@@ -0,0 +1,21 @@
+package com.taskflow.kanban.board.repository;
+
+import com.taskflow.kanban.board.entity.BoardView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface BoardViewRepository extends JpaRepository<BoardView, UUID>, BoardViewRepositoryCustom {
+
+    /** Row lock so concurrent writers on one board apply their patches one after another. */
+    @Query(value = "SELECT * FROM board_views WHERE board_id = :boardId FOR UPDATE", nativeQuery = true)
+    Optional<BoardView> findByIdForUpdate(@Param("boardId") UUID boardId);
+
+    @Modifying
+    @Query("DELETE FROM BoardView v WHERE v.boardId = :boardId")
+    void deleteByBoardId(@Param("boardId") UUID boardId);
+}
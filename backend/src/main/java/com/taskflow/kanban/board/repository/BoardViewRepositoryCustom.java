@@ -0,0 +1,12 @@
+package com.taskflow.kanban.board.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface BoardViewRepositoryCustom {
+    /**
+     * Inserts the board's view, or moves updated_at on the existing row. Atomic on PostgreSQL: an upsert racing with
+     * another for the same board waits for it and then updates, and the row stays locked to the end of the transaction.
+     */
+    void upsert(UUID boardId, String document, Instant now);
+}
@@ -0,0 +1,27 @@
+package com.taskflow.kanban.board.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Hibernate renders the ON CONFLICT clause for each dialect, but Spring Data's @Query parser drops it, so the statement
+ * is issued here.
+ */
+public class BoardViewRepositoryImpl implements BoardViewRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void upsert(UUID boardId, String document, Instant now) {
+        entityManager.createQuery("INSERT INTO BoardView (boardId, document, updatedAt) VALUES (:boardId, :document, :now) "
+                        + "ON CONFLICT (boardId) DO UPDATE SET updatedAt = excluded.updatedAt")
+                .setParameter("boardId", boardId)
+                .setParameter("document", document)
+                .setParameter("now", now)
+                .executeUpdate();
+    }
+}
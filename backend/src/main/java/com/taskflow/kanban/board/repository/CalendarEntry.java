@@ -0,0 +1,14 @@
+package com.taskflow.kanban.board.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/** A card's place on the calendar, read as a row so paging through a wide range never fills the persistence context. */
+public record CalendarEntry(UUID id, String title, Instant startDate, Instant dueDate, Integer priority,
+                            boolean achieved, UUID columnId, UUID boardId, String boardName) {
+
+    /** The calendar's sort key: the due date, or the start date for a card without one. */
+    public Instant date() {
+        return dueDate != null ? dueDate : startDate;
+    }
+}
@@ -0,0 +1,12 @@
+package com.taskflow.kanban.board.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/** What a due-date reminder needs of a card, without loading it. */
+public interface CardDue {
+    UUID getId();
+    String getTitle();
+    Instant getDueDate();
+    UUID getBoardId();
+}
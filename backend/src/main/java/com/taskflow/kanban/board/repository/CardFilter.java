@@ -0,0 +1,17 @@
+package com.taskflow.kanban.board.repository;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Criteria for {@link CardRepositoryCustom#findByBoard}; every criterion left null or empty matches all cards. Sets
+ * match any of their values: a card with any of the labels, any of the assignees or any of the priorities.
+ * The due window is half-open, [dueFrom, dueTo).
+ */
+public record CardFilter(Set<UUID> labelIds, Set<UUID> assigneeIds, Instant dueFrom, Instant dueTo,
+                         Set<Integer> priorities, Boolean achieved, boolean archived) {
+
+    /** Card properties the results may be sorted by. */
+    public static final Set<String> SORT_KEYS = Set.of("priority", "dueDate", "updatedAt");
+}
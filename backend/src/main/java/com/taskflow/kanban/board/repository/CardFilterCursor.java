@@ -0,0 +1,80 @@
+package com.taskflow.kanban.board.repository;
+
+import com.taskflow.kanban.board.entity.Card;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Position in a filtered card listing ({@link CardRepositoryCustom#findByBoard}): the last card's values for the
+ * request's sort keys, in order, then its board order (column position, card position, id). Sent to clients as those
+ * values joined by "_", and only meaningful with the sort it was issued for. A missing sort value is stored as the
+ * sentinel the query sorts it by, as the "my cards" feed does, so every key compares with plain operators.
+ */
+public record CardFilterCursor(List<Object> sortValues, int columnPosition, int position, UUID id) {
+
+    private static final Instant EARLIEST = Instant.parse("0001-01-01T00:00:00Z");
+    private static final Instant LATEST = Instant.parse("9999-12-31T23:59:59Z");
+
+    /** What a card without a value for the sort key sorts as: after every real value, in either direction. */
+    public static Object missing(Sort.Order order) {
+        boolean priority = order.getProperty().equals("priority");
+        if (order.isAscending()) {
+            return priority ? Integer.MAX_VALUE : LATEST;
+        }
+        return priority ? Integer.MIN_VALUE : EARLIEST;
+    }
+
+    /** The key of a card under the given sort. */
+    public static CardFilterCursor of(Card card, Sort sort) {
+        List<Object> values = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            Object value = switch (order.getProperty()) {
+                case "priority" -> card.getPriority();
+                case "dueDate" -> card.getDueDate();
+                case "updatedAt" -> card.getUpdatedAt();
+                default -> throw new IllegalArgumentException("Not a card sort key: " + order.getProperty());
+            };
+            values.add(value != null ? value : missing(order));
+        }
+        return new CardFilterCursor(values, card.getColumn().getPosition(), card.getPosition(), card.getId());
+    }
+
+    /** The parsed cursor for the given sort, or null when the client sent none and the listing starts at the top. */
+    public static CardFilterCursor parse(String cursor, Sort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        List<Sort.Order> orders = sort.toList();
+        String[] parts = cursor.split("_");
+        if (parts.length != orders.size() + 3) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        try {
+            List<Object> values = new ArrayList<>();
+            for (int i = 0; i < orders.size(); i++) {
+                values.add(orders.get(i).getProperty().equals("priority")
+                        ? Integer.parseInt(parts[i])
+                        : Instant.parse(parts[i]));
+            }
+            int n = orders.size();
+            return new CardFilterCursor(values, Integer.parseInt(parts[n]), Integer.parseInt(parts[n + 1]),
+                    UUID.fromString(parts[n + 2]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder cursor = new StringBuilder();
+        for (Object value : sortValues) {
+            cursor.append(value).append('_');
+        }
+        return cursor.append(columnPosition).append('_').append(position).append('_').append(id).toString();
+    }
+}
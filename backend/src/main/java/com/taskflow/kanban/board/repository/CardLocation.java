@@ -0,0 +1,10 @@
+package com.taskflow.kanban.board.repository;
+
+import java.util.UUID;
+
+/** Where a card sits, for scoping board change events, without loading it. */
+public interface CardLocation {
+    UUID getId();
+    UUID getColumnId();
+    UUID getBoardId();
+}
@@ -0,0 +1,9 @@
+package com.taskflow.kanban.board.repository;
+
+import java.util.UUID;
+
+/** Id and position only, for re-ordering cards without loading them. */
+public interface CardPosition {
+    UUID getId();
+    int getPosition();
+}
@@ -1,22 +1,120 @@
 package com.taskflow.kanban.board.repository;
 
 import com.taskflow.kanban.board.entity.Card;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
-public interface CardRepository extends JpaRepository<Card, UUID> {
+public interface CardRepository extends JpaRepository<Card, UUID>, CardRepositoryCustom {
     List<Card> findByColumnIdOrderByPositionAsc(UUID columnId);
     List<Card> findByColumnIdAndPositionGreaterThan(UUID columnId, int position);
 
+    /** Keyset page: the cards after (position, id), a range of the (column_id, position, id) index (V22). */
+    @Query("SELECT c FROM Card c WHERE c.column.id = :columnId AND (c.position, c.id) > (:position, :id) "
+            + "ORDER BY c.position, c.id")
+    List<Card> findPageAfter(@Param("columnId") UUID columnId, @Param("position") int position, @Param("id") UUID id,
+                             Limit limit);
+
+    @Query("SELECT c.id AS id, c.position AS position FROM Card c WHERE c.column.id = :columnId")
+    List<CardPosition> findPositionsByColumnId(@Param("columnId") UUID columnId);
+
     List<Card> findByColumn_Board_IdAndArchivedTrue(UUID boardId);
 
+    /** The card's board, for access checks, without loading the card, column and board. */
+    @Query("SELECT c.column.board.id FROM Card c WHERE c.id = :id")
+    Optional<UUID> findBoardIdById(@Param("id") UUID id);
+
+    /** The comment badge counter, kept by {@link #adjustCommentCount}; read instead of counting the comments. */
+    @Query("SELECT c.commentCount FROM Card c WHERE c.id = :id")
+    Optional<Integer> findCommentCountById(@Param("id") UUID id);
+
+    /** Atomic badge counter update; also bumps updatedAt so card ETags follow the count. */
+    @Modifying
+    @Query("UPDATE Card c SET c.commentCount = c.commentCount + :delta, c.updatedAt = :now WHERE c.id = :cardId")
+    void adjustCommentCount(@Param("cardId") UUID cardId, @Param("delta") int delta, @Param("now") Instant now);
+
+    @Modifying
+    @Query("UPDATE Card c SET c.attachmentCount = c.attachmentCount + :delta, c.updatedAt = :now WHERE c.id = :cardId")
+    void adjustAttachmentCount(@Param("cardId") UUID cardId, @Param("delta") int delta, @Param("now") Instant now);
+
+    @Query("SELECT COALESCE(MAX(c.position) + 1, 0) FROM Card c WHERE c.column.id = :columnId")
+    int findNextPosition(@Param("columnId") UUID columnId);
+
+    @Modifying
+    @Query("UPDATE Card c SET c.position = c.position - 1 WHERE c.column.id = :columnId AND c.position > :position")
+    void shiftPositionsAfter(@Param("columnId") UUID columnId, @Param("position") int position);
+
+    /** Cold-tiering candidates, oldest first; served by the partial index on updated_at. */
+    @Query("SELECT c.id FROM Card c WHERE (c.archived = true OR c.achieved = true) AND c.updatedAt < :cutoff ORDER BY c.updatedAt")
+    List<UUID> findTieringCandidates(@Param("cutoff") Instant cutoff, Limit limit);
+
     @Query("SELECT c FROM Card c JOIN c.column col JOIN col.board b WHERE b.workspace.id IN :workspaceIds AND c.archived = false AND (LOWER(c.title) LIKE LOWER(CONCAT('%', :q, '%')) OR (c.description IS NOT NULL AND LOWER(c.description) LIKE LOWER(CONCAT('%', :q, '%'))))")
     List<Card> searchByUserWorkspaces(@Param("q") String q, @Param("workspaceIds") List<UUID> workspaceIds);
 
+    @Query("SELECT c.id AS id, col.id AS columnId, col.board.id AS boardId FROM CardMember m JOIN m.card c JOIN c.column col "
+            + "WHERE m.user.id = :userId")
+    List<CardLocation> findLocationsByMemberUserId(@Param("userId") UUID userId);
+
     @Query("SELECT COUNT(c) FROM Card c JOIN c.members m WHERE c.column.board.id = :boardId AND m.user.id = :userId")
     long countCardMembersOnBoard(@Param("boardId") UUID boardId, @Param("userId") UUID userId);
+
+    /**
+     * Keyset page of the user's live cards on live boards, by (due date, priority, id) with missing values replaced by
+     * the sentinels. The card_members(user_id, card_id) index yields the user's cards, each is probed by primary key
+     * and the page is the top of that set sorted, so the cost follows the user's assignments, not the table. Only ids
+     * are returned; {@link #findWithBoardByIdIn} loads the cards for the page alone.
+     */
+    @Query("SELECT c.id FROM CardMember m JOIN m.card c JOIN c.column col JOIN col.board b "
+            + "WHERE m.user.id = :userId AND c.archived = false AND b.archived = false "
+            + "AND (COALESCE(c.dueDate, :noDueDate), COALESCE(c.priority, :noPriority), c.id) > (:dueDate, :priority, :id) "
+            + "ORDER BY COALESCE(c.dueDate, :noDueDate), COALESCE(c.priority, :noPriority), c.id")
+    List<UUID> findAssignedIdsAfter(@Param("userId") UUID userId,
+                                    @Param("noDueDate") Instant noDueDate, @Param("noPriority") int noPriority,
+                                    @Param("dueDate") Instant dueDate, @Param("priority") int priority,
+                                    @Param("id") UUID id, Limit limit);
+
+    @Query("SELECT COUNT(m) FROM CardMember m JOIN m.card c JOIN c.column col JOIN col.board b "
+            + "WHERE m.user.id = :userId AND c.archived = false AND b.archived = false")
+    long countAssigned(@Param("userId") UUID userId);
+
+    /** The cards with their column and board, for pages that span boards. */
+    @Query("SELECT c FROM Card c JOIN FETCH c.column col JOIN FETCH col.board WHERE c.id IN :ids")
+    List<Card> findWithBoardByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Reminder refill: live, unfinished cards due in [from, to), a range of the due_date index (V21), on columns and
+     * boards that are not archived either.
+     */
+    @Query("SELECT c.id AS id, c.title AS title, c.dueDate AS dueDate, b.id AS boardId "
+            + "FROM Card c JOIN c.column col JOIN col.board b "
+            + "WHERE c.dueDate >= :from AND c.dueDate < :to AND c.archived = false AND c.achieved = false "
+            + "AND col.archived = false AND b.archived = false")
+    List<CardDue> findDueBetween(@Param("from") Instant from, @Param("to") Instant to);
+
+    /** The cards of fired reminders that should still be delivered, by the same rules as {@link #findDueBetween}. */
+    @Query("SELECT c.id AS id, c.title AS title, c.dueDate AS dueDate, b.id AS boardId "
+            + "FROM Card c JOIN c.column col JOIN col.board b "
+            + "WHERE c.id IN :ids AND c.archived = false AND c.achieved = false "
+            + "AND col.archived = false AND b.archived = false")
+    List<CardDue> findDueByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT COUNT(c) AS rowCount, MAX(c.updatedAt) AS lastModified FROM Card c WHERE c.column.id = :columnId")
+    RowVersion findVersionByColumnId(@Param("columnId") UUID columnId);
+
+    @Query("SELECT COUNT(m) AS rowCount, MAX(m.updatedAt) AS lastModified FROM CardMember m WHERE m.card.column.id = :columnId")
+    RowVersion findMemberVersionByColumnId(@Param("columnId") UUID columnId);
+
+    @Query("SELECT COUNT(u) AS rowCount, MAX(u.updatedAt) AS lastModified FROM CardMember m JOIN m.user u WHERE m.card.column.id = :columnId")
+    RowVersion findMemberUserVersionByColumnId(@Param("columnId") UUID columnId);
+
+    @Query("SELECT COUNT(l) AS rowCount, MAX(l.updatedAt) AS lastModified FROM Card c JOIN c.labels l WHERE c.column.id = :columnId")
+    RowVersion findLabelVersionByColumnId(@Param("columnId") UUID columnId);
 }
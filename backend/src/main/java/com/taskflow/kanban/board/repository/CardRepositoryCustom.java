@@ -0,0 +1,28 @@
+package com.taskflow.kanban.board.repository;
+
+import com.taskflow.kanban.board.entity.Card;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface CardRepositoryCustom {
+    /**
+     * Up to {@code limit} of the board's cards matching the filter, ordered by the given sort keys (priority, dueDate,
+     * updatedAt; nulls last) and then in board order: column position, then card position, then id. Starts after
+     * the {@code after} card, or at the top when it is null.
+     */
+    List<Card> findByBoard(UUID boardId, CardFilter filter, Sort sort, CardFilterCursor after, int limit);
+
+    /** The number of the board's cards matching the filter. */
+    long countByBoard(UUID boardId, CardFilter filter);
+
+    /**
+     * Up to {@code limit} live cards on the given boards whose start-to-due span meets [from, to), ordered by
+     * {@link CalendarEntry#date()} and id and starting after ({@code afterDate}, {@code afterId}).
+     */
+    List<CalendarEntry> findCalendarPage(Collection<UUID> boardIds, Instant from, Instant to,
+                                         Instant afterDate, UUID afterId, int limit);
+}
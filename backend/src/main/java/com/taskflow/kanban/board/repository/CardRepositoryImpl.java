@@ -0,0 +1,208 @@
+package com.taskflow.kanban.board.repository;
+
+import com.taskflow.kanban.board.entity.Card;
+import com.taskflow.kanban.repository.IdSetQueries;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.data.domain.Sort;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Builds the filter query from only the criteria that are set, so each combination is its own plain JPQL statement
+ * the planner can match to an index: the column list of the board drives the scan, and the label and assignee
+ * criteria are EXISTS probes into card_labels and card_members rather than joins that would multiply rows.
+ * <p>
+ * The calendar page is native SQL: on PostgreSQL the window is a range overlap ({@code &&}) against the GiST index
+ * on each card's span, probed once per column of the requested boards (V25). The board ids go through
+ * {@link IdSetQueries}, so any number of boards is one statement.
+ */
+@RequiredArgsConstructor
+public class CardRepositoryImpl implements CardRepositoryCustom {
+
+    /** {@link CardFilter#SORT_KEYS}, mapped to their JPQL paths. */
+    private static final Map<String, String> SORT_PATHS = Map.of(
+            "priority", "c.priority",
+            "dueDate", "c.dueDate",
+            "updatedAt", "c.updatedAt");
+
+    /** The span expression idx_cards_column_id_span is built on; the query must repeat it verbatim. */
+    private static final String CARD_SPAN =
+            "tstzrange(LEAST(c.start_date, c.due_date), GREATEST(c.start_date, c.due_date), '[]')";
+
+    private static final String CALENDAR_SQL = "SELECT c.id, c.title, c.start_date, c.due_date, c.priority, "
+            + "c.achieved, col.id AS column_id, b.id AS board_id, b.name AS board_name "
+            + "FROM boards b JOIN board_columns col ON col.board_id = b.id JOIN cards c ON c.column_id = col.id "
+            + "WHERE b.id " + IdSetQueries.PREDICATE + " AND c.archived = FALSE "
+            + "AND (c.start_date IS NOT NULL OR c.due_date IS NOT NULL) AND %s "
+            + "AND (COALESCE(c.due_date, c.start_date), c.id) > (:afterDate, :afterId) "
+            + "ORDER BY COALESCE(c.due_date, c.start_date), c.id LIMIT :limit";
+
+    private static final String SPAN_OVERLAP =
+            CARD_SPAN + " && tstzrange(CAST(:from AS timestamptz), CAST(:to AS timestamptz), '[)')";
+
+    /** The same overlap without range types, for databases that have none. */
+    private static final String PORTABLE_OVERLAP =
+            "COALESCE(c.start_date, c.due_date) < :to AND COALESCE(c.due_date, c.start_date) >= :from";
+
+    private final IdSetQueries idSetQueries;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Card> findByBoard(UUID boardId, CardFilter filter, Sort sort, CardFilterCursor after, int limit) {
+        StringBuilder jpql = new StringBuilder("SELECT c");
+        Map<String, Object> parameters = new HashMap<>();
+        appendCriteria(jpql, parameters, boardId, filter);
+
+        // Each sort key with its missing values replaced by the sentinel they sort as, so keys compare plainly
+        List<String> keys = new ArrayList<>();
+        List<Sort.Order> orders = sort.toList();
+        for (int i = 0; i < orders.size(); i++) {
+            Sort.Order order = orders.get(i);
+            String path = SORT_PATHS.get(order.getProperty());
+            if (path == null) {
+                throw new IllegalArgumentException("Not a card sort key: " + order.getProperty());
+            }
+            keys.add("COALESCE(" + path + ", :missing" + i + ")");
+            parameters.put("missing" + i, CardFilterCursor.missing(order));
+        }
+        if (after != null) {
+            appendKeyset(jpql, parameters, keys, orders, after);
+        }
+
+        jpql.append(" ORDER BY ");
+        for (int i = 0; i < keys.size(); i++) {
+            jpql.append(keys.get(i)).append(orders.get(i).isAscending() ? " ASC, " : " DESC, ");
+        }
+        // The id makes the order total, so consecutive pages neither repeat nor skip cards sharing a position
+        jpql.append("col.position, c.position, c.id");
+
+        TypedQuery<Card> query = entityManager.createQuery(jpql.toString(), Card.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    /**
+     * The rows after the cursor in the listing's order. Sort directions may differ, so this is the expanded form of
+     * the tuple comparison: ahead on the first key, or tied on it and ahead on the next, down to the board order.
+     */
+    private static void appendKeyset(StringBuilder jpql, Map<String, Object> parameters, List<String> keys,
+                                     List<Sort.Order> orders, CardFilterCursor after) {
+        if (after.sortValues().size() != keys.size()) {
+            throw new IllegalArgumentException("Cursor does not match the sort");
+        }
+        StringBuilder tied = new StringBuilder();
+        jpql.append(" AND (");
+        for (int i = 0; i < keys.size(); i++) {
+            parameters.put("after" + i, after.sortValues().get(i));
+            jpql.append(tied).append(keys.get(i)).append(orders.get(i).isAscending() ? " > " : " < ")
+                    .append(":after").append(i).append(" OR ");
+            tied.append(keys.get(i)).append(" = :after").append(i).append(" AND ");
+        }
+        jpql.append(tied).append("(col.position, c.position, c.id) > (:afterColumnPosition, :afterPosition, :afterId))");
+        parameters.put("afterColumnPosition", after.columnPosition());
+        parameters.put("afterPosition", after.position());
+        parameters.put("afterId", after.id());
+    }
+
+    @Override
+    public long countByBoard(UUID boardId, CardFilter filter) {
+        StringBuilder jpql = new StringBuilder("SELECT COUNT(c)");
+        Map<String, Object> parameters = new HashMap<>();
+        appendCriteria(jpql, parameters, boardId, filter);
+
+        TypedQuery<Long> query = entityManager.createQuery(jpql.toString(), Long.class);
+        parameters.forEach(query::setParameter);
+        return query.getSingleResult();
+    }
+
+    @Override
+    public List<CalendarEntry> findCalendarPage(Collection<UUID> boardIds, Instant from, Instant to,
+                                                Instant afterDate, UUID afterId, int limit) {
+        boolean postgres = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+        String sql = CALENDAR_SQL.formatted(postgres ? SPAN_OVERLAP : PORTABLE_OVERLAP);
+        List<Tuple> rows = idSetQueries.findAll(sql, Tuple.class, boardIds, Map.of(
+                "from", from, "to", to, "afterDate", afterDate, "afterId", afterId, "limit", limit));
+        return rows.stream()
+                .map(row -> new CalendarEntry(
+                        toUuid(row.get(0)),
+                        row.get(1, String.class),
+                        toInstant(row.get(2)),
+                        toInstant(row.get(3)),
+                        row.get(4) == null ? null : ((Number) row.get(4)).intValue(),
+                        Boolean.TRUE.equals(row.get(5)),
+                        toUuid(row.get(6)),
+                        toUuid(row.get(7)),
+                        row.get(8, String.class)))
+                .toList();
+    }
+
+    /** Without a declared type, a native query hands a uuid column back as the driver reports it. */
+    private static UUID toUuid(Object value) {
+        if (value instanceof byte[] bytes) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            return new UUID(buffer.getLong(), buffer.getLong());
+        }
+        return (UUID) value;
+    }
+
+    /** Drivers disagree on how a timestamptz column comes back from a native query. */
+    private static Instant toInstant(Object value) {
+        return switch (value) {
+            case null -> null;
+            case Instant instant -> instant;
+            case OffsetDateTime offsetDateTime -> offsetDateTime.toInstant();
+            case Timestamp timestamp -> timestamp.toInstant();
+            default -> throw new IllegalStateException("Unexpected timestamp type: " + value.getClass());
+        };
+    }
+
+    private static void appendCriteria(StringBuilder jpql, Map<String, Object> parameters, UUID boardId,
+                                       CardFilter filter) {
+        jpql.append(" FROM Card c JOIN c.column col WHERE col.board.id = :boardId AND c.archived = :archived");
+        parameters.put("boardId", boardId);
+        parameters.put("archived", filter.archived());
+
+        if (filter.labelIds() != null && !filter.labelIds().isEmpty()) {
+            jpql.append(" AND EXISTS (SELECT 1 FROM c.labels l WHERE l.id IN :labelIds)");
+            parameters.put("labelIds", filter.labelIds());
+        }
+        if (filter.assigneeIds() != null && !filter.assigneeIds().isEmpty()) {
+            jpql.append(" AND EXISTS (SELECT 1 FROM CardMember m WHERE m.card = c AND m.user.id IN :assigneeIds)");
+            parameters.put("assigneeIds", filter.assigneeIds());
+        }
+        if (filter.dueFrom() != null) {
+            jpql.append(" AND c.dueDate >= :dueFrom");
+            parameters.put("dueFrom", filter.dueFrom());
+        }
+        if (filter.dueTo() != null) {
+            jpql.append(" AND c.dueDate < :dueTo");
+            parameters.put("dueTo", filter.dueTo());
+        }
+        if (filter.priorities() != null && !filter.priorities().isEmpty()) {
+            jpql.append(" AND c.priority IN :priorities");
+            parameters.put("priorities", filter.priorities());
+        }
+        if (filter.achieved() != null) {
+            jpql.append(" AND c.achieved = :achieved");
+            parameters.put("achieved", filter.achieved());
+        }
+    }
+}
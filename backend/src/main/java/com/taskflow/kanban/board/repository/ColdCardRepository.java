@@ -0,0 +1,39 @@
+package com.taskflow.kanban.board.repository;
+
+import com.taskflow.kanban.board.entity.ColdCard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ColdCardRepository extends JpaRepository<ColdCard, UUID> {
+    List<ColdCard> findByBoardIdOrderByTieredAtDesc(UUID boardId);
+
+    /** Bulk deletes skip the attachment hash collection; call before {@link #deleteByColumnId}. */
+    @Modifying
+    @Query(value = "DELETE FROM cold_card_attachment_hashes "
+            + "WHERE card_id IN (SELECT card_id FROM cold_cards WHERE column_id = :columnId)", nativeQuery = true)
+    void deleteAttachmentHashesByColumnId(@Param("columnId") UUID columnId);
+
+    @Modifying
+    @Query("DELETE FROM ColdCard c WHERE c.columnId = :columnId")
+    void deleteByColumnId(@Param("columnId") UUID columnId);
+
+    /** Bulk deletes skip the attachment hash collection; call before {@link #deleteByBoardId}. */
+    @Modifying
+    @Query(value = "DELETE FROM cold_card_attachment_hashes "
+            + "WHERE card_id IN (SELECT card_id FROM cold_cards WHERE board_id = :boardId)", nativeQuery = true)
+    void deleteAttachmentHashesByBoardId(@Param("boardId") UUID boardId);
+
+    @Modifying
+    @Query("DELETE FROM ColdCard c WHERE c.boardId = :boardId")
+    void deleteByBoardId(@Param("boardId") UUID boardId);
+
+    /** The given content hashes that attachments on tiered cards still use; one statement for any batch size. */
+    @Query(value = "SELECT DISTINCT content_hash FROM cold_card_attachment_hashes WHERE content_hash = ANY(:hashes)",
+            nativeQuery = true)
+    List<String> findReferencedContentHashes(@Param("hashes") String[] hashes);
+}
@@ -2,15 +2,30 @@ package com.taskflow.kanban.board.repository;
 
 import com.taskflow.kanban.board.entity.BoardColumn;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface ColumnRepository extends JpaRepository<BoardColumn, UUID> {
     List<BoardColumn> findByBoardIdOrderByPositionAsc(UUID boardId);
 
+    /** The column's board, for access checks, without loading the column and board. */
+    @Query("SELECT c.board.id FROM BoardColumn c WHERE c.id = :id")
+    Optional<UUID> findBoardIdById(@Param("id") UUID id);
+
+    /** Atomic counter update; also bumps updatedAt so column ETags follow the count. */
+    @Modifying
+    @Query("UPDATE BoardColumn c SET c.cardCount = c.cardCount + :delta, c.updatedAt = :now WHERE c.id = :columnId")
+    void adjustCardCount(@Param("columnId") UUID columnId, @Param("delta") int delta, @Param("now") Instant now);
+
     @Query("SELECT c FROM BoardColumn c JOIN c.board b WHERE b.workspace.id IN :workspaceIds AND c.archived = false AND LOWER(c.name) LIKE LOWER(CONCAT('%', :q, '%'))")
     List<BoardColumn> searchByUserWorkspaces(@Param("q") String q, @Param("workspaceIds") List<UUID> workspaceIds);
+
+    @Query("SELECT COUNT(c) AS rowCount, MAX(c.updatedAt) AS lastModified FROM BoardColumn c WHERE c.board.id = :boardId")
+    RowVersion findVersionByBoardId(@Param("boardId") UUID boardId);
 }
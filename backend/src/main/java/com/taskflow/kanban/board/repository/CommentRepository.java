@@ -1,11 +1,35 @@
 package com.taskflow.kanban.board.repository;
 
 import com.taskflow.kanban.board.entity.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
 public interface CommentRepository extends JpaRepository<Comment, UUID> {
+    String VIEW = "SELECT c.id AS id, c.content AS content, c.edited AS edited, c.card.id AS cardId, "
+            + "a.id AS authorId, a.username AS authorUsername, c.createdAt AS createdAt, c.updatedAt AS updatedAt "
+            + "FROM Comment c JOIN c.author a WHERE c.card.id = :cardId";
+
     List<Comment> findByCardIdOrderByCreatedAtAsc(UUID cardId);
+
+    @Query(VIEW + " ORDER BY c.createdAt, c.id")
+    List<CommentView> findViewsByCardId(@Param("cardId") UUID cardId);
+
+    /** Keyset page, oldest first: the comments after (createdAt, id), served by the (card_id, created_at, id) index. */
+    @Query(VIEW + " AND (c.createdAt, c.id) > (:createdAt, :id) ORDER BY c.createdAt, c.id")
+    List<CommentView> findViewsAfter(@Param("cardId") UUID cardId, @Param("createdAt") Instant createdAt,
+                                     @Param("id") UUID id, Limit limit);
+
+    /** Keyset page, newest first: the comments before (createdAt, id), reading the same index backwards. */
+    @Query(VIEW + " AND (c.createdAt, c.id) < (:createdAt, :id) ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentView> findViewsBefore(@Param("cardId") UUID cardId, @Param("createdAt") Instant createdAt,
+                                      @Param("id") UUID id, Limit limit);
+
+    @Query("SELECT COUNT(c) AS rowCount, MAX(c.updatedAt) AS lastModified FROM Comment c WHERE c.card.id = :cardId")
+    RowVersion findVersionByCardId(@Param("cardId") UUID cardId);
 }
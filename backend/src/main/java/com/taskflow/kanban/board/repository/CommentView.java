@@ -0,0 +1,16 @@
+package com.taskflow.kanban.board.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/** A comment with its author's name, read in one query instead of loading the author per comment. */
+public interface CommentView {
+    UUID getId();
+    String getContent();
+    boolean isEdited();
+    UUID getCardId();
+    UUID getAuthorId();
+    String getAuthorUsername();
+    Instant getCreatedAt();
+    Instant getUpdatedAt();
+}
@@ -2,10 +2,15 @@ package com.taskflow.kanban.board.repository;
 
 import com.taskflow.kanban.board.entity.Label;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.UUID;
 
 public interface LabelRepository extends JpaRepository<Label, UUID> {
     List<Label> findByBoardId(UUID boardId);
+
+    @Query("SELECT COUNT(l) AS rowCount, MAX(l.updatedAt) AS lastModified FROM Label l WHERE l.board.id = :boardId")
+    RowVersion findVersionByBoardId(@Param("boardId") UUID boardId);
 }
@@ -0,0 +1,40 @@
+package com.taskflow.kanban.board.repository;
+
+import com.taskflow.kanban.board.entity.PendingThumbnail;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface PendingThumbnailRepository extends JpaRepository<PendingThumbnail, String> {
+
+    /**
+     * Queues an image unless it is queued already, atomically, so concurrent uploads of the same content do not fail
+     * on the key. A row already there keeps its attempts, including one that has used them all up.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO thumbnail_queue (content_hash, created_at, attempts) VALUES (:hash, :now, 0) "
+            + "ON CONFLICT DO NOTHING", nativeQuery = true)
+    void enqueue(@Param("hash") String contentHash, @Param("now") Instant now);
+
+    @Query("SELECT p FROM PendingThumbnail p WHERE (p.lockedUntil IS NULL OR p.lockedUntil < :now) "
+            + "AND p.attempts < :maxAttempts ORDER BY p.createdAt")
+    List<PendingThumbnail> findClaimable(@Param("now") Instant now, @Param("maxAttempts") int maxAttempts, Limit limit);
+
+    /** Reserves the image for one worker; returns 0 when another poller got there first. */
+    @Transactional
+    @Modifying
+    @Query("UPDATE PendingThumbnail p SET p.lockedUntil = :until, p.attempts = p.attempts + 1 "
+            + "WHERE p.contentHash = :hash AND (p.lockedUntil IS NULL OR p.lockedUntil < :now)")
+    int claim(@Param("hash") String contentHash, @Param("now") Instant now, @Param("until") Instant until);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE PendingThumbnail p SET p.lockedUntil = :retryAt WHERE p.contentHash = :hash")
+    void release(@Param("hash") String contentHash, @Param("retryAt") Instant retryAt);
+}
@@ -0,0 +1,19 @@
+package com.taskflow.kanban.board.repository;
+
+import com.taskflow.kanban.board.entity.ReminderDelivery;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+public interface ReminderDeliveryRepository extends JpaRepository<ReminderDelivery, ReminderDelivery.Key>,
+        ReminderDeliveryRepositoryCustom {
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ReminderDelivery d WHERE d.dueDate < :cutoff")
+    int deleteByDueDateBefore(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,14 @@
+package com.taskflow.kanban.board.repository;
+
+import com.taskflow.kanban.board.entity.ReminderDelivery;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface ReminderDeliveryRepositoryCustom {
+    /**
+     * Claims a batch of reminders for this node and returns the keys whose claim landed; the ones another node has
+     * already claimed are left out. One statement for the whole batch on PostgreSQL.
+     */
+    List<ReminderDelivery.Key> claimAll(List<ReminderDelivery.Key> keys, Instant now);
+}
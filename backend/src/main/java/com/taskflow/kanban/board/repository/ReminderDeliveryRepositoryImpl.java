@@ -0,0 +1,82 @@
+package com.taskflow.kanban.board.repository;
+
+import com.taskflow.kanban.board.entity.ReminderDelivery;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * On PostgreSQL the batch is one INSERT of the unnested key arrays, and RETURNING reports which rows landed; the
+ * statement text is the same for any batch size. Other databases claim row by row.
+ */
+public class ReminderDeliveryRepositoryImpl implements ReminderDeliveryRepositoryCustom {
+
+    private static final String CLAIM_ALL_SQL = "WITH claimed AS ("
+            + "INSERT INTO reminder_deliveries (card_id, kind, due_date, delivered_at) "
+            + "SELECT r.card_id, r.kind, r.due_date, CAST(:now AS timestamptz) "
+            + "FROM unnest(CAST(:cardIds AS uuid[]), CAST(:kinds AS varchar[]), CAST(:dueDates AS timestamptz[])) "
+            + "AS r(card_id, kind, due_date) "
+            + "ON CONFLICT DO NOTHING RETURNING card_id, kind) "
+            + "SELECT card_id, kind FROM claimed";
+
+    private static final String CLAIM_SQL = "INSERT INTO reminder_deliveries (card_id, kind, due_date, delivered_at) "
+            + "VALUES (:cardId, :kind, :dueDate, :now) ON CONFLICT DO NOTHING";
+
+    /** A card's reminder of one kind, as the claim reports it back. */
+    private record Claimed(UUID cardId, String kind) {
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ReminderDelivery.Key> claimAll(List<ReminderDelivery.Key> keys, Instant now) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        boolean postgres = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+        if (!postgres) {
+            return keys.stream()
+                    .filter(key -> entityManager.createNativeQuery(CLAIM_SQL)
+                            .setParameter("cardId", key.getCardId())
+                            .setParameter("kind", key.getKind().name())
+                            .setParameter("dueDate", key.getDueDate())
+                            .setParameter("now", now)
+                            .executeUpdate() > 0)
+                    .toList();
+        }
+        List<Tuple> rows = entityManager.createNativeQuery(CLAIM_ALL_SQL, Tuple.class)
+                .setParameter("cardIds", keys.stream().map(ReminderDelivery.Key::getCardId).toArray(UUID[]::new))
+                .setParameter("kinds", keys.stream().map(key -> key.getKind().name()).toArray(String[]::new))
+                .setParameter("dueDates", keys.stream().map(ReminderDelivery.Key::getDueDate).toArray(Instant[]::new))
+                .setParameter("now", now)
+                .getResultList();
+        // A batch holds at most one reminder per card and kind, so those two identify the row
+        Set<Claimed> claimed = new HashSet<>();
+        for (Tuple row : rows) {
+            claimed.add(new Claimed(toUuid(row.get(0)), row.get(1, String.class)));
+        }
+        return keys.stream()
+                .filter(key -> claimed.contains(new Claimed(key.getCardId(), key.getKind().name())))
+                .toList();
+    }
+
+    /** Without a declared type, a native query hands a uuid column back as the driver reports it. */
+    private static UUID toUuid(Object value) {
+        if (value instanceof byte[] bytes) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            return new UUID(buffer.getLong(), buffer.getLong());
+        }
+        return (UUID) value;
+    }
+}
@@ -0,0 +1,12 @@
+package com.taskflow.kanban.board.repository;
+
+import java.time.Instant;
+
+/**
+ * Aggregate "version" of a set of rows: how many there are and when the most recent one changed.
+ * Cheap to compute with COUNT/MAX and enough to detect inserts, updates and deletes for ETags.
+ */
+public interface RowVersion {
+    long getRowCount();
+    Instant getLastModified();
+}
@@ -0,0 +1,14 @@
+package com.taskflow.kanban.board.service;
+
+import com.taskflow.kanban.board.dto.ActivityDailyRollupDto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface ActivityHistoryService {
+    List<ActivityDailyRollupDto> getDailyActivityByBoard(UUID boardId, LocalDate from, LocalDate to);
+    int rollUp(LocalDate fromDay, LocalDate toDay);
+    int ensurePartitions();
+    int applyRetention();
+}
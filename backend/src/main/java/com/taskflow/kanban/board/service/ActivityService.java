@@ -1,13 +1,16 @@
 package com.taskflow.kanban.board.service;
 
 import com.taskflow.kanban.board.dto.ActivityLogDto;
+import com.taskflow.kanban.dto.CursorPageResponse;
 
 import java.util.List;
 import java.util.UUID;
 
 public interface ActivityService {
     void logActivity(UUID entityId, String entityType, String action, String details, UUID performedBy);
+    void logBoardActivity(UUID boardId, UUID entityId, String entityType, String action, String details, UUID performedBy);
     List<ActivityLogDto> getActivitiesByEntity(UUID entityId);
+    CursorPageResponse<ActivityLogDto> getActivityPage(UUID entityId, String cursor, int limit);
     List<ActivityLogDto> getActivitiesByEntityIds(List<UUID> entityIds);
     List<ActivityLogDto> getActivitiesByWorkspace(UUID workspaceId);
     List<ActivityLogDto> getActivitiesByUser(UUID userId);
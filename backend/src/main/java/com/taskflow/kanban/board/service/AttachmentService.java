@@ -1,8 +1,12 @@
 package com.taskflow.kanban.board.service;
 
 import com.taskflow.kanban.board.dto.AttachmentDto;
+import com.taskflow.kanban.board.dto.AttachmentUploadCreateDto;
+import com.taskflow.kanban.board.dto.AttachmentUploadDto;
+import com.taskflow.kanban.board.dto.ChunkRange;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 
@@ -14,4 +18,30 @@ public interface AttachmentService {
     List<AttachmentDto> getAttachmentsByCard(UUID cardId);
     
     void deleteAttachment(UUID id);
+
+    /** An attachment whose content is held in the blob store, after checking the caller may see its board. */
+    AttachmentDto getStoredAttachment(UUID id);
+
+    /** Opens a resumable upload of a file onto the card; its content is then sent with {@link #appendChunk}. */
+    AttachmentUploadDto startUpload(UUID cardId, AttachmentUploadCreateDto request);
+
+    AttachmentUploadDto getUpload(UUID uploadId);
+
+    /**
+     * Streams one chunk of the upload to storage: the bytes in {@code range}, or the body from offset 0 when it is
+     * null. The chunk that completes the file creates the attachment, returned in the result; a chunk sent again after
+     * that gets the same result.
+     */
+    AttachmentUploadDto appendChunk(UUID uploadId, ChunkRange range, InputStream content);
+
+    void cancelUpload(UUID uploadId);
+
+    /**
+     * Discards uploads older than the configured expiry: unfinished ones with their staged bytes, completed ones
+     * with the record that answers a repeated last chunk. Returns the number discarded.
+     */
+    int expireAbandonedUploads();
+
+    /** Deletes stored blobs no attachment, hot or tiered, refers to any more. Returns the number deleted. */
+    int deleteOrphanedBlobs();
 }
@@ -14,6 +14,9 @@ public interface BoardService {
     void requireBoardAccess(UUID boardId);
     List<BoardDto> getBoardsByWorkspace(UUID workspaceId);
     List<BoardDto> getAllBoardsForCurrentUser();
+
+    /** Ids of the unarchived boards the current user can open, without loading the boards. */
+    List<UUID> getLiveBoardIdsForCurrentUser();
     BoardDto updateBoard(UUID id, BoardUpdateDto updateDto);
     void deleteBoard(UUID id);
     void addMember(UUID boardId, UUID userId, BoardRole role);
@@ -0,0 +1,9 @@
+package com.taskflow.kanban.board.service;
+
+import com.taskflow.kanban.board.cache.BoardSnapshotCache;
+
+import java.util.UUID;
+
+public interface BoardSnapshotService {
+    BoardSnapshotCache.Snapshot getSnapshot(UUID boardId);
+}
@@ -0,0 +1,13 @@
+package com.taskflow.kanban.board.service;
+
+import java.util.UUID;
+
+/**
+ * Persisted board read model (board_views): one JSON document per board, patched by board change events.
+ */
+public interface BoardViewService {
+    /** The board document by primary key; built and stored on first access. */
+    String getDocument(UUID boardId);
+    String rebuild(UUID boardId);
+    int rebuildAll();
+}
@@ -0,0 +1,12 @@
+package com.taskflow.kanban.board.service;
+
+import com.taskflow.kanban.board.dto.ActivityLogDto;
+import com.taskflow.kanban.board.dto.CardDetailDto;
+import com.taskflow.kanban.dto.CursorPageResponse;
+
+import java.util.UUID;
+
+public interface CardDetailService {
+    CardDetailDto getCardDetail(UUID cardId, int commentLimit, int activityLimit);
+    CursorPageResponse<ActivityLogDto> getCardActivity(UUID cardId, String cursor, int limit);
+}
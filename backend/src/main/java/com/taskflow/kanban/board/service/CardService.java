@@ -1,19 +1,27 @@
 package com.taskflow.kanban.board.service;
 
+import com.taskflow.kanban.board.dto.AssignedCardDto;
 import com.taskflow.kanban.board.dto.CardCreateDto;
 import com.taskflow.kanban.board.dto.CardDto;
+import com.taskflow.kanban.board.dto.CardFilterDto;
 import com.taskflow.kanban.board.dto.CardMoveDto;
 import com.taskflow.kanban.board.dto.CardUpdateDto;
 import com.taskflow.kanban.board.entity.CardRole;
+import com.taskflow.kanban.dto.CursorPageResponse;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface CardService {
     CardDto createCard(CardCreateDto createDto);
     CardDto getCardById(UUID id);
     List<CardDto> getCardsByColumn(UUID columnId);
+    CursorPageResponse<CardDto> getCardPage(UUID columnId, String cursor, int limit);
+    Map<UUID, CursorPageResponse<CardDto>> getFirstCardsByBoard(UUID boardId, int limitPerColumn);
     List<CardDto> getArchivedCardsByBoard(UUID boardId);
+    CursorPageResponse<CardDto> filterCardsByBoard(UUID boardId, CardFilterDto filter);
+    CursorPageResponse<AssignedCardDto> getMyCards(String cursor, int limit);
     CardDto updateCard(UUID id, CardUpdateDto updateDto);
     void deleteCard(UUID id);
     void moveCard(UUID cardId, CardMoveDto moveDto);
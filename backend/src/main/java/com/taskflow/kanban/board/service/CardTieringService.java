@@ -0,0 +1,13 @@
+package com.taskflow.kanban.board.service;
+
+import com.taskflow.kanban.board.dto.CardDto;
+import com.taskflow.kanban.board.dto.ColdCardDto;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface CardTieringService {
+    int tierCards();
+    List<ColdCardDto> getColdCardsByBoard(UUID boardId);
+    CardDto restoreCard(UUID cardId);
+}
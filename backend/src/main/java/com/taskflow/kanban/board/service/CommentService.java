@@ -2,6 +2,8 @@ package com.taskflow.kanban.board.service;
 
 import com.taskflow.kanban.board.dto.CommentCreateDto;
 import com.taskflow.kanban.board.dto.CommentDto;
+import com.taskflow.kanban.dto.CursorPageResponse;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 import java.util.UUID;
@@ -9,6 +11,8 @@ import java.util.UUID;
 public interface CommentService {
     CommentDto createComment(CommentCreateDto createDto);
     List<CommentDto> getCommentsByCard(UUID cardId);
+    CursorPageResponse<CommentDto> getCommentPage(UUID cardId, String cursor, int limit, Sort.Direction order);
+    long countCommentsByCard(UUID cardId);
     CommentDto updateComment(UUID commentId, String content);
     void deleteComment(UUID commentId);
 }
@@ -0,0 +1,22 @@
+package com.taskflow.kanban.board.service;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface DueReminderService {
+
+    /**
+     * Replaces the card's pending reminders to match its due date, once the current transaction commits. Pass null
+     * for a card that should have none: deleted, archived, achieved or without a due date.
+     */
+    void reschedule(UUID cardId, Instant dueDate);
+
+    /** Loads the reminders that fall due before {@code now} plus the look-ahead and are not loaded yet. */
+    void refill(Instant now);
+
+    /** Fires every reminder due by {@code now} and delivers them in batches; returns how many were delivered. */
+    int fireDue(Instant now);
+
+    /** Reminders held in memory, waiting to fire. */
+    int pending();
+}
@@ -0,0 +1,16 @@
+package com.taskflow.kanban.board.service;
+
+import java.util.UUID;
+
+/**
+ * Computes strong ETags for board read endpoints from aggregate row versions,
+ * so unchanged resources can be answered with 304 without loading or mapping entities.
+ */
+public interface ResourceVersionService {
+    String getBoardVersion(UUID boardId);
+    String getColumnsVersion(UUID boardId);
+    String getCardsVersion(UUID columnId);
+    String getLabelsVersion(UUID boardId);
+    String getCommentsVersion(UUID cardId);
+    String getAttachmentsVersion(UUID cardId);
+}
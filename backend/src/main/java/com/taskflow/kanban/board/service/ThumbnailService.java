@@ -0,0 +1,23 @@
+package com.taskflow.kanban.board.service;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.UUID;
+
+public interface ThumbnailService {
+
+    /**
+     * Queues thumbnail rendering for stored content, in the caller's transaction so the queue entry commits with the
+     * attachment. Content that is not a decodable image is ignored.
+     */
+    void enqueue(String contentHash, String mimeType);
+
+    /** Thumbnail URLs of an attachment by size name, or null when it gets no thumbnails. */
+    Map<String, String> thumbnailUrls(UUID attachmentId, String contentHash, String mimeType);
+
+    /** The rendered thumbnail. One that is missing, never rendered or evicted, is queued and reported as not found. */
+    Path getThumbnail(String contentHash, String mimeType, String size);
+
+    /** Claims queued images and hands them to the worker pool, as many as it has room for. Returns the number handed over. */
+    int dispatchQueued();
+}
@@ -0,0 +1,280 @@
+package com.taskflow.kanban.board.service.impl;
+
+import com.taskflow.kanban.board.dto.ActivityDailyRollupDto;
+import com.taskflow.kanban.board.entity.ActivityDailyRollup;
+import com.taskflow.kanban.board.repository.ActivityDailyRollupRepository;
+import com.taskflow.kanban.board.repository.ActivityLogRepository;
+import com.taskflow.kanban.board.service.ActivityHistoryService;
+import com.taskflow.kanban.board.service.BoardService;
+import com.taskflow.kanban.config.ActivityLogProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Maintains the activity log's lifecycle: monthly range partitions on PostgreSQL (created ahead of time by the
+ * maintenance job), a per-board daily roll-up that outlives the raw rows, and retention that detaches and drops
+ * whole partitions instead of deleting row by row. Databases without a partitioned activity_logs table fall back
+ * to a bulk delete.
+ * <p>
+ * Rows written while their month had no partition (the job stopped, or ran late) land in the default partition.
+ * Partition maintenance moves them into their month's partition as it creates it, and retention purges whatever is
+ * left there from before the cutoff, so nothing in the default partition outlives the retention period.
+ */
+@Service
+@Transactional
+public class ActivityHistoryServiceImpl implements ActivityHistoryService {
+
+    private static final Logger log = LoggerFactory.getLogger(ActivityHistoryServiceImpl.class);
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("activity_logs_p(\\d{6})");
+    private static final String DEFAULT_PARTITION = "activity_logs_default";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final int MAX_RANGE_DAYS = 366;
+
+    private final ActivityLogRepository activityLogRepository;
+    private final ActivityDailyRollupRepository rollupRepository;
+    private final BoardService boardService;
+    private final ActivityLogProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ActivityHistoryServiceImpl(ActivityLogRepository activityLogRepository,
+                                      ActivityDailyRollupRepository rollupRepository,
+                                      BoardService boardService,
+                                      ActivityLogProperties properties,
+                                      JdbcTemplate jdbcTemplate,
+                                      PlatformTransactionManager transactionManager) {
+        this.activityLogRepository = activityLogRepository;
+        this.rollupRepository = rollupRepository;
+        this.boardService = boardService;
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ActivityDailyRollupDto> getDailyActivityByBoard(UUID boardId, LocalDate from, LocalDate to) {
+        boardService.requireBoardAccess(boardId);
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        if (from.plusDays(MAX_RANGE_DAYS).isBefore(to)) {
+            throw new IllegalArgumentException("Range must not exceed " + MAX_RANGE_DAYS + " days");
+        }
+        return rollupRepository.findByBoardIdAndDayBetweenOrderByDayAsc(boardId, from, to).stream()
+                .map(this::toDto)
+                .toList();
+    }
+
+    @Override
+    public int rollUp(LocalDate fromDay, LocalDate toDay) {
+        // Days are closed by the JVM zone, which the JDBC driver also uses for the session, so the bounds here agree
+        // with the database-side CAST to a date
+        if (!fromDay.isBefore(toDay)) {
+            return 0;
+        }
+        ZoneId zone = ZoneId.systemDefault();
+        rollupRepository.deleteByDayRange(fromDay, toDay);
+        return rollupRepository.rollUp(fromDay.atStartOfDay(zone).toInstant(), toDay.atStartOfDay(zone).toInstant());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public int ensurePartitions() {
+        if (!isPartitioned()) {
+            return 0;
+        }
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        // The months ahead, and any month still within retention whose rows fell into the default partition
+        SortedSet<YearMonth> months = new TreeSet<>();
+        for (int i = 0; i <= properties.getPartitionsAhead(); i++) {
+            months.add(current.plusMonths(i));
+        }
+        months.addAll(defaultPartitionMonths().tailSet(current.minusMonths(properties.getRetentionMonths())));
+        List<String> existing = listPartitions();
+        int created = 0;
+        for (YearMonth month : months) {
+            String name = partitionName(month);
+            if (existing.contains(name)) {
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> createPartition(month, name));
+                created++;
+            } catch (RuntimeException e) {
+                log.warn("Could not create activity log partition {}: {}", name, e.getMessage());
+            }
+        }
+        if (created > 0) {
+            log.info("Created {} activity log partitions", created);
+        }
+        return created;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public int applyRetention() {
+        YearMonth cutoffMonth = YearMonth.now(ZoneOffset.UTC).minusMonths(properties.getRetentionMonths());
+        if (isPartitioned()) {
+            return dropPartitionsBefore(cutoffMonth);
+        }
+        // Without partitions rows are trimmed on a day boundary, so the oldest remaining day is always complete and
+        // safe to summarise again
+        LocalDate cutoffDay = firstDayStartingAt(monthStart(cutoffMonth));
+        Instant rowCutoff = cutoffDay.atStartOfDay(ZoneId.systemDefault()).toInstant();
+        Integer deleted = transactionTemplate.execute(status -> {
+            Instant oldest = activityLogRepository.findOldestTimestamp();
+            if (oldest == null || !oldest.isBefore(rowCutoff)) {
+                return 0;
+            }
+            rollUp(LocalDate.ofInstant(oldest, ZoneId.systemDefault()), cutoffDay);
+            return activityLogRepository.deleteOlderThan(rowCutoff);
+        });
+        if (deleted != null && deleted > 0) {
+            log.info("Deleted {} activity log rows older than {}", deleted, rowCutoff);
+        }
+        return deleted == null ? 0 : deleted;
+    }
+
+    /**
+     * Creates the month's partition. PostgreSQL refuses while the default partition holds rows in the new range, so
+     * those are moved across with the default partition detached. Must run in a transaction: writers to activity_logs
+     * wait on its lock instead of finding the month without a partition.
+     */
+    private void createPartition(YearMonth month, String name) {
+        Timestamp from = Timestamp.from(monthStart(month));
+        Timestamp to = Timestamp.from(monthStart(month.plusMonths(1)));
+        String bounds = " FOR VALUES FROM ('" + from.toInstant() + "') TO ('" + to.toInstant() + "')";
+        Integer stranded = listPartitions().contains(DEFAULT_PARTITION)
+                ? jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + DEFAULT_PARTITION
+                        + " WHERE timestamp >= ? AND timestamp < ?", Integer.class, from, to)
+                : null;
+        if (stranded == null || stranded == 0) {
+            jdbcTemplate.execute("CREATE TABLE " + name + " PARTITION OF activity_logs" + bounds);
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE activity_logs DETACH PARTITION " + DEFAULT_PARTITION);
+        jdbcTemplate.execute("CREATE TABLE " + name + " PARTITION OF activity_logs" + bounds);
+        jdbcTemplate.update("INSERT INTO " + name + " SELECT * FROM " + DEFAULT_PARTITION
+                + " WHERE timestamp >= ? AND timestamp < ?", from, to);
+        jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION + " WHERE timestamp >= ? AND timestamp < ?", from, to);
+        jdbcTemplate.execute("ALTER TABLE activity_logs ATTACH PARTITION " + DEFAULT_PARTITION + " DEFAULT");
+        log.warn("Moved {} activity log rows for {} out of the default partition into {}", stranded, month, name);
+    }
+
+    /** Drops whole months before the cutoff; the count includes months purged from the default partition. */
+    private int dropPartitionsBefore(YearMonth cutoffMonth) {
+        int dropped = 0;
+        for (String name : listPartitions()) {
+            Matcher matcher = PARTITION_NAME.matcher(name);
+            if (!matcher.matches()) {
+                continue;
+            }
+            YearMonth month = YearMonth.parse(matcher.group(1), PARTITION_SUFFIX);
+            if (!month.isBefore(cutoffMonth)) {
+                continue;
+            }
+            // Roll the month up and drop it in one transaction so a failure never loses unsummarised rows
+            transactionTemplate.executeWithoutResult(status -> {
+                rollUp(firstDayStartingAt(monthStart(month)), firstDayStartingAt(monthStart(month.plusMonths(1))));
+                jdbcTemplate.execute("ALTER TABLE activity_logs DETACH PARTITION " + name);
+                jdbcTemplate.execute("DROP TABLE " + name);
+            });
+            dropped++;
+            log.info("Dropped activity log partition {}", name);
+        }
+        // A month with rows in the default partition has no partition of its own, so those rows are the whole month
+        for (YearMonth month : defaultPartitionMonths().headSet(cutoffMonth)) {
+            Timestamp from = Timestamp.from(monthStart(month));
+            Timestamp to = Timestamp.from(monthStart(month.plusMonths(1)));
+            Integer purged = transactionTemplate.execute(status -> {
+                rollUp(firstDayStartingAt(from.toInstant()), firstDayStartingAt(to.toInstant()));
+                return jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION
+                        + " WHERE timestamp >= ? AND timestamp < ?", from, to);
+            });
+            dropped++;
+            log.warn("Purged {} activity log rows for {} from the default partition", purged, month);
+        }
+        return dropped;
+    }
+
+    /** The months that have rows in the default partition; empty if there is no default partition. */
+    private SortedSet<YearMonth> defaultPartitionMonths() {
+        SortedSet<YearMonth> months = new TreeSet<>();
+        if (!listPartitions().contains(DEFAULT_PARTITION)) {
+            return months;
+        }
+        for (String month : jdbcTemplate.queryForList("SELECT DISTINCT to_char(timestamp AT TIME ZONE 'UTC', 'YYYYMM') "
+                + "FROM " + DEFAULT_PARTITION, String.class)) {
+            months.add(YearMonth.parse(month, PARTITION_SUFFIX));
+        }
+        return months;
+    }
+
+    /**
+     * A day belongs to whichever storage unit holds its first instant, so a day that straddles a partition bound is
+     * summarised once, while all of its rows still exist, and never recomputed from the half that survives.
+     */
+    private static LocalDate firstDayStartingAt(Instant instant) {
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate day = LocalDate.ofInstant(instant, zone);
+        return day.atStartOfDay(zone).toInstant().isBefore(instant) ? day.plusDays(1) : day;
+    }
+
+    private boolean isPartitioned() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equalsIgnoreCase(product)) {
+            return false;
+        }
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pg_partitioned_table pt "
+                + "JOIN pg_class c ON c.oid = pt.partrelid WHERE c.relname = 'activity_logs'", Integer.class);
+        return count != null && count > 0;
+    }
+
+    private List<String> listPartitions() {
+        return jdbcTemplate.queryForList("SELECT c.relname FROM pg_inherits i "
+                + "JOIN pg_class c ON c.oid = i.inhrelid JOIN pg_class p ON p.oid = i.inhparent "
+                + "WHERE p.relname = 'activity_logs' ORDER BY c.relname", String.class);
+    }
+
+    private static String partitionName(YearMonth month) {
+        return "activity_logs_p" + month.format(PARTITION_SUFFIX);
+    }
+
+    private static Instant monthStart(YearMonth month) {
+        return month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    private ActivityDailyRollupDto toDto(ActivityDailyRollup rollup) {
+        return ActivityDailyRollupDto.builder()
+                .day(rollup.getDay())
+                .entityType(rollup.getEntityType())
+                .action(rollup.getAction())
+                .eventCount(rollup.getEventCount())
+                .userCount(rollup.getUserCount())
+                .build();
+    }
+}
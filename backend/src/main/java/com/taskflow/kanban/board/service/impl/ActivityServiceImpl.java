@@ -7,9 +7,14 @@ import com.taskflow.kanban.board.repository.BoardRepository;
 import com.taskflow.kanban.board.repository.CardRepository;
 import com.taskflow.kanban.board.repository.ColumnRepository;
 import com.taskflow.kanban.board.service.ActivityService;
+import com.taskflow.kanban.dto.CursorPageResponse;
+import com.taskflow.kanban.dto.KeysetCursor;
 import com.taskflow.kanban.user.entity.User;
 import com.taskflow.kanban.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,19 +30,34 @@ import java.util.stream.Collectors;
 @Transactional
 public class ActivityServiceImpl implements ActivityService {
 
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final ActivityLogRepository activityLogRepository;
     private final UserRepository userRepository;
     private final BoardRepository boardRepository;
     private final ColumnRepository columnRepository;
     private final CardRepository cardRepository;
+    private final MeterRegistry meterRegistry;
 
     @Async
     @Override
     public void logActivity(UUID entityId, String entityType, String action, String details, UUID performedBy) {
+        save(null, entityId, entityType, action, details, performedBy);
+    }
+
+    @Async
+    @Override
+    public void logBoardActivity(UUID boardId, UUID entityId, String entityType, String action, String details, UUID performedBy) {
+        save(boardId, entityId, entityType, action, details, performedBy);
+    }
+
+    private void save(UUID boardId, UUID entityId, String entityType, String action, String details, UUID performedBy) {
         if (performedBy == null) {
             return; // Skip logging when no user context (e.g. system operations)
         }
+        Timer.Sample sample = Timer.start(meterRegistry);
         ActivityLog log = ActivityLog.builder()
+                .boardId(boardId)
                 .entityId(entityId)
                 .entityType(entityType)
                 .action(action)
@@ -46,6 +66,7 @@ public class ActivityServiceImpl implements ActivityService {
                 .timestamp(Instant.now())
                 .build();
         activityLogRepository.save(log);
+        sample.stop(meterRegistry.timer("taskflow.activity.log", "entity_type", entityType));
     }
 
     @Override
@@ -58,13 +79,35 @@ public class ActivityServiceImpl implements ActivityService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ActivityLogDto> getActivityPage(UUID entityId, String cursor, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        KeysetCursor before = KeysetCursor.parse(cursor, KeysetCursor.LAST);
+        // Fetch one extra row to learn whether another page exists
+        List<ActivityLog> logs = activityLogRepository.findPageByEntityId(entityId, before.timestamp(), before.id(),
+                Limit.of(size + 1));
+        boolean hasMore = logs.size() > size;
+        if (hasMore) {
+            logs = logs.subList(0, size);
+        }
+        ActivityLog last = hasMore ? logs.get(logs.size() - 1) : null;
+        Map<UUID, String> usernameMap = resolveUsernames(logs);
+        return CursorPageResponse.<ActivityLogDto>builder()
+                .content(logs.stream().map(log -> toDto(log, usernameMap)).collect(Collectors.toList()))
+                .nextCursor(last != null ? new KeysetCursor(last.getTimestamp(), last.getId()).toString() : null)
+                .hasMore(hasMore)
+                .totalElements(activityLogRepository.countByEntityId(entityId))
+                .build();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<ActivityLogDto> getActivitiesByEntityIds(List<UUID> entityIds) {
         if (entityIds == null || entityIds.isEmpty()) {
             return List.of();
         }
-        List<ActivityLog> logs = activityLogRepository.findByEntityIdInOrderByTimestampDesc(entityIds);
+        List<ActivityLog> logs = activityLogRepository.findByEntityIdSetOrderByTimestampDesc(entityIds);
         Map<UUID, String> usernameMap = resolveUsernames(logs);
         return logs.stream()
                 .map(log -> toDto(log, usernameMap))
@@ -103,7 +146,7 @@ public class ActivityServiceImpl implements ActivityService {
                 .distinct()
                 .toList();
         if (userIds.isEmpty()) return Map.of();
-        return userRepository.findAllById(userIds).stream()
+        return userRepository.findAllByIdSet(userIds).stream()
                 .collect(Collectors.toMap(User::getId, User::getUsername, (a, b) -> a));
     }
 
@@ -1,27 +1,98 @@
 package com.taskflow.kanban.board.service.impl;
 
 import com.taskflow.kanban.board.dto.AttachmentDto;
+import com.taskflow.kanban.board.dto.AttachmentUploadCreateDto;
+import com.taskflow.kanban.board.dto.AttachmentUploadDto;
+import com.taskflow.kanban.board.dto.ChunkRange;
 import com.taskflow.kanban.board.entity.Attachment;
+import com.taskflow.kanban.board.entity.AttachmentUpload;
 import com.taskflow.kanban.board.entity.Card;
+import com.taskflow.kanban.board.event.BoardChangedEvent;
 import com.taskflow.kanban.board.repository.AttachmentRepository;
+import com.taskflow.kanban.board.repository.AttachmentUploadRepository;
 import com.taskflow.kanban.board.repository.CardRepository;
+import com.taskflow.kanban.board.repository.ColdCardRepository;
 import com.taskflow.kanban.board.service.AttachmentService;
+import com.taskflow.kanban.board.service.BoardService;
+import com.taskflow.kanban.board.service.ThumbnailService;
+import com.taskflow.kanban.config.StorageProperties;
+import com.taskflow.kanban.exception.BadRequestException;
+import com.taskflow.kanban.exception.ConflictException;
+import com.taskflow.kanban.exception.RangeNotSatisfiableException;
+import com.taskflow.kanban.exception.TooManyRequestsException;
+import com.taskflow.kanban.security.CustomUserDetails;
+import com.taskflow.kanban.storage.BlobStore;
+import com.taskflow.kanban.storage.StoredBlob;
+import com.taskflow.kanban.storage.UploadLimiter;
 import jakarta.persistence.EntityNotFoundException;
-import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.NoSuchFileException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
-@RequiredArgsConstructor
 @Transactional
 public class AttachmentServiceImpl implements AttachmentService {
 
+    private static final Logger log = LoggerFactory.getLogger(AttachmentServiceImpl.class);
+
+    /** Blobs checked against the attachments table per query in the orphan sweep. */
+    private static final int SWEEP_BATCH_SIZE = 500;
+
     private final AttachmentRepository attachmentRepository;
+    private final AttachmentUploadRepository uploadRepository;
     private final CardRepository cardRepository;
+    private final ColdCardRepository coldCardRepository;
+    private final BoardService boardService;
+    private final ThumbnailService thumbnailService;
+    private final BlobStore blobStore;
+    private final UploadLimiter uploadLimiter;
+    private final StorageProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public AttachmentServiceImpl(AttachmentRepository attachmentRepository,
+                                 AttachmentUploadRepository uploadRepository,
+                                 CardRepository cardRepository,
+                                 ColdCardRepository coldCardRepository,
+                                 BoardService boardService,
+                                 ThumbnailService thumbnailService,
+                                 BlobStore blobStore,
+                                 UploadLimiter uploadLimiter,
+                                 StorageProperties properties,
+                                 ApplicationEventPublisher eventPublisher,
+                                 PlatformTransactionManager transactionManager) {
+        this.attachmentRepository = attachmentRepository;
+        this.uploadRepository = uploadRepository;
+        this.cardRepository = cardRepository;
+        this.coldCardRepository = coldCardRepository;
+        this.boardService = boardService;
+        this.thumbnailService = thumbnailService;
+        this.blobStore = blobStore;
+        this.uploadLimiter = uploadLimiter;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     @Override
     public AttachmentDto createAttachment(UUID cardId, String fileName, String fileUrl, long fileSize, String mimeType) {
@@ -36,7 +107,9 @@ public class AttachmentServiceImpl implements AttachmentService {
                 .mimeType(mimeType)
                 .build();
 
-        return toDto(attachmentRepository.save(attachment));
+        Attachment savedAttachment = attachmentRepository.save(attachment);
+        adjustAttachmentCount(card, 1);
+        return toDto(savedAttachment);
     }
 
     @Override
@@ -49,10 +122,239 @@ public class AttachmentServiceImpl implements AttachmentService {
 
     @Override
     public void deleteAttachment(UUID id) {
-        if (!attachmentRepository.existsById(id)) {
-            throw new EntityNotFoundException("Attachment not found");
+        Attachment attachment = attachmentRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Attachment not found"));
+        // A stored blob is left in place: other attachments may share it, and the orphan sweep collects it otherwise
+        attachmentRepository.delete(attachment);
+        adjustAttachmentCount(attachment.getCard(), -1);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AttachmentDto getStoredAttachment(UUID id) {
+        Attachment attachment = attachmentRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Attachment not found"));
+        boardService.requireBoardAccess(attachment.getCard().getColumn().getBoard().getId());
+        if (attachment.getContentHash() == null) {
+            throw new EntityNotFoundException("Attachment has no stored content");
+        }
+        return toDto(attachment);
+    }
+
+    @Override
+    public AttachmentUploadDto startUpload(UUID cardId, AttachmentUploadCreateDto request) {
+        Card card = cardRepository.findById(cardId)
+                .orElseThrow(() -> new EntityNotFoundException("Card not found"));
+        boardService.requireBoardAccess(card.getColumn().getBoard().getId());
+
+        long maxFileSize = properties.getMaxFileSize().toBytes();
+        if (request.getFileSize() > maxFileSize) {
+            throw new BadRequestException("File is larger than the " + maxFileSize + " bytes allowed");
+        }
+        UUID uploaderId = getCurrentUserId();
+        if (uploadRepository.countByUploaderIdAndAttachmentIdIsNull(uploaderId) >= properties.getMaxOpenUploadsPerUser()) {
+            throw new TooManyRequestsException("Too many unfinished uploads; complete or cancel one first");
+        }
+
+        AttachmentUpload upload = uploadRepository.save(AttachmentUpload.builder()
+                .cardId(cardId)
+                .uploaderId(uploaderId)
+                .fileName(request.getFileName())
+                .mimeType(request.getMimeType())
+                .fileSize(request.getFileSize())
+                .build());
+        return toUploadDto(upload, 0, null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AttachmentUploadDto getUpload(UUID uploadId) {
+        AttachmentUpload upload = findOwnUpload(uploadId);
+        if (upload.getAttachmentId() != null) {
+            return completed(upload);
+        }
+        try {
+            return toUploadDto(upload, blobStore.stagedSize(uploadId), null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AttachmentUploadDto appendChunk(UUID uploadId, ChunkRange range, InputStream content) {
+        // No transaction here: a chunk can take minutes to arrive, and must not hold a pooled connection meanwhile
+        AttachmentUpload upload = findOwnUpload(uploadId);
+        if (upload.getAttachmentId() != null) {
+            // Usually the last chunk again, from a client that lost the first response
+            return transactionTemplate.execute(status -> completed(upload));
+        }
+        long offset = range != null ? range.first() : 0;
+        long maxBytes = upload.getFileSize() - offset;
+        if (range != null) {
+            if (range.size() != null && range.size() != upload.getFileSize()) {
+                throw new BadRequestException("Content-Range is for " + range.size() + " bytes; the upload has "
+                        + upload.getFileSize());
+            }
+            if (range.last() >= upload.getFileSize()) {
+                throw new RangeNotSatisfiableException("Content-Range ends past the upload's " + upload.getFileSize()
+                        + " bytes");
+            }
+            maxBytes = range.length();
+        }
+        long received;
+        try (UploadLimiter.Permit permit = uploadLimiter.acquire(upload.getUploaderId())) {
+            received = blobStore.append(uploadId, offset, content,
+                    Math.min(maxBytes, properties.getMaxChunkSize().toBytes()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (range != null && received - offset != range.length()) {
+            // The bytes that did arrive are kept, as for an interrupted chunk
+            throw new BadRequestException("Chunk carried " + (received - offset) + " of the " + range.length()
+                    + " bytes in its Content-Range; resume from offset " + received);
         }
-        attachmentRepository.deleteById(id);
+        if (received < upload.getFileSize()) {
+            return toUploadDto(upload, received, null);
+        }
+        return complete(upload);
+    }
+
+    @Override
+    public void cancelUpload(UUID uploadId) {
+        AttachmentUpload upload = findOwnUpload(uploadId);
+        discard(upload);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int expireAbandonedUploads() {
+        List<AttachmentUpload> expired = uploadRepository.findByCreatedAtBefore(
+                Instant.now().minus(properties.getUploadExpiry()));
+        expired.forEach(this::discard);
+        if (!expired.isEmpty()) {
+            log.info("Discarded {} abandoned attachment uploads", expired.size());
+        }
+        return expired.size();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int deleteOrphanedBlobs() {
+        // Only blobs untouched for the whole grace period are candidates; an upload committed during the sweep has
+        // either just written or just touched its blob, so it is never among them
+        Instant touchedBefore = Instant.now().minus(properties.getOrphanGracePeriod());
+        int deleted = 0;
+        try (Stream<StoredBlob> blobs = blobStore.list()) {
+            Iterator<StoredBlob> candidates = blobs.filter(blob -> blob.lastModified().isBefore(touchedBefore)).iterator();
+            while (candidates.hasNext()) {
+                List<String> batch = new ArrayList<>(SWEEP_BATCH_SIZE);
+                while (candidates.hasNext() && batch.size() < SWEEP_BATCH_SIZE) {
+                    batch.add(candidates.next().hash());
+                }
+                Set<String> referenced = new HashSet<>(attachmentRepository.findReferencedContentHashes(batch));
+                referenced.addAll(coldCardRepository.findReferencedContentHashes(batch.toArray(String[]::new)));
+                for (String hash : batch) {
+                    if (referenced.contains(hash)) {
+                        continue;
+                    }
+                    if (blobStore.delete(hash, touchedBefore)) {
+                        deleted++;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (deleted > 0) {
+            log.info("Deleted {} orphaned attachment blobs", deleted);
+        }
+        return deleted;
+    }
+
+    /**
+     * Moves the finished upload into content-addressed storage and records its attachment on the upload. Of two
+     * requests delivering the last bytes, one completes the upload and the other waits on the row lock and answers
+     * with the same attachment. Should the card have gone meanwhile, the staged bytes are left for the expiry sweep.
+     */
+    private AttachmentUploadDto complete(AttachmentUpload upload) {
+        return transactionTemplate.execute(status -> {
+            AttachmentUpload locked = uploadRepository.findByIdForUpdate(upload.getId())
+                    .orElseThrow(() -> new EntityNotFoundException("Upload not found"));
+            if (locked.getAttachmentId() != null) {
+                return completed(locked);
+            }
+            Card card = cardRepository.findById(upload.getCardId())
+                    .orElseThrow(() -> new EntityNotFoundException("Card not found"));
+            StoredBlob blob;
+            try {
+                blob = blobStore.commit(upload.getId());
+            } catch (NoSuchFileException e) {
+                // Committed by an attempt that then rolled back; the stored blob is left for the orphan sweep
+                throw new ConflictException("Upload has 0 bytes; the next chunk must start at offset 0");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            Attachment attachment = attachmentRepository.save(Attachment.builder()
+                    .card(card)
+                    .fileName(upload.getFileName())
+                    .fileUrl("")
+                    .fileSize(blob.size())
+                    .mimeType(upload.getMimeType())
+                    .contentHash(blob.hash())
+                    .build());
+            // The download URL embeds the generated id, so it is filled in once the row has one
+            attachment.setFileUrl("/attachments/" + attachment.getId() + "/content");
+            locked.setAttachmentId(attachment.getId());
+            adjustAttachmentCount(card, 1);
+            thumbnailService.enqueue(blob.hash(), upload.getMimeType());
+            return toUploadDto(locked, blob.size(), toDto(attachment));
+        });
+    }
+
+    /** The state of an upload that has already completed. */
+    private AttachmentUploadDto completed(AttachmentUpload upload) {
+        Attachment attachment = attachmentRepository.findById(upload.getAttachmentId())
+                .orElseThrow(() -> new EntityNotFoundException("Attachment not found"));
+        return toUploadDto(upload, attachment.getFileSize(), toDto(attachment));
+    }
+
+    private void adjustAttachmentCount(Card card, int delta) {
+        cardRepository.adjustAttachmentCount(card.getId(), delta, Instant.now());
+        // The bulk update bypasses the managed card; mirror it so the board views patched below see the new count
+        card.setAttachmentCount(card.getAttachmentCount() + delta);
+        eventPublisher.publishEvent(BoardChangedEvent.cards(card.getColumn().getBoard().getId(),
+                Set.of(card.getColumn().getId()), card.getId()));
+    }
+
+    private void discard(AttachmentUpload upload) {
+        try {
+            blobStore.discard(upload.getId());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        uploadRepository.deleteById(upload.getId());
+    }
+
+    /** Uploads are private to the user who started them; anyone else gets the same 404 as for a missing one. */
+    private AttachmentUpload findOwnUpload(UUID uploadId) {
+        UUID userId = getCurrentUserId();
+        return uploadRepository.findById(uploadId)
+                .filter(upload -> upload.getUploaderId().equals(userId))
+                .orElseThrow(() -> new EntityNotFoundException("Upload not found"));
+    }
+
+    private AttachmentUploadDto toUploadDto(AttachmentUpload upload, long receivedBytes, AttachmentDto attachment) {
+        return AttachmentUploadDto.builder()
+                .id(upload.getId())
+                .cardId(upload.getCardId())
+                .fileName(upload.getFileName())
+                .mimeType(upload.getMimeType())
+                .fileSize(upload.getFileSize())
+                .receivedBytes(receivedBytes)
+                .complete(attachment != null)
+                .attachment(attachment)
+                .build();
     }
 
     private AttachmentDto toDto(Attachment attachment) {
@@ -62,7 +364,18 @@ public class AttachmentServiceImpl implements AttachmentService {
                 .fileUrl(attachment.getFileUrl())
                 .fileSize(attachment.getFileSize())
                 .mimeType(attachment.getMimeType())
+                .contentHash(attachment.getContentHash())
                 .cardId(attachment.getCard().getId())
+                .thumbnails(thumbnailService.thumbnailUrls(attachment.getId(), attachment.getContentHash(),
+                        attachment.getMimeType()))
                 .build();
     }
+
+    private UUID getCurrentUserId() {
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        if (principal instanceof CustomUserDetails) {
+            return ((CustomUserDetails) principal).getId();
+        }
+        return null;
+    }
 }
@@ -2,30 +2,36 @@ package com.taskflow.kanban.board.service.impl;
 
 import com.taskflow.kanban.board.dto.BoardCreateDto;
 import com.taskflow.kanban.board.dto.BoardDto;
-import com.taskflow.kanban.board.dto.BoardMemberDto;
 import com.taskflow.kanban.board.dto.BoardUpdateDto;
+import com.taskflow.kanban.board.dto.mappers.BoardMapper;
 import com.taskflow.kanban.board.entity.Board;
 import com.taskflow.kanban.board.entity.BoardColumn;
 import com.taskflow.kanban.board.entity.BoardMember;
 import com.taskflow.kanban.board.entity.BoardRole;
 import com.taskflow.kanban.board.entity.Card;
+import com.taskflow.kanban.board.event.BoardChangedEvent;
 import com.taskflow.kanban.board.repository.AttachmentRepository;
 import com.taskflow.kanban.board.repository.BoardMemberRepository;
 import com.taskflow.kanban.board.repository.BoardRepository;
 import com.taskflow.kanban.board.repository.CardRepository;
+import com.taskflow.kanban.board.repository.ColdCardRepository;
 import com.taskflow.kanban.board.repository.ColumnRepository;
 import com.taskflow.kanban.board.repository.CommentRepository;
 import com.taskflow.kanban.board.repository.LabelRepository;
 import com.taskflow.kanban.board.service.ActivityService;
 import com.taskflow.kanban.board.service.BoardService;
+import com.taskflow.kanban.monitoring.OperationTimer;
+import com.taskflow.kanban.monitoring.jfr.BoardAccessEvent;
 import com.taskflow.kanban.security.CustomUserDetails;
 import com.taskflow.kanban.user.entity.User;
 import com.taskflow.kanban.user.repository.UserRepository;
 import com.taskflow.kanban.workspace.repository.WorkspaceMemberRepository;
 import com.taskflow.kanban.workspace.entity.Workspace;
 import com.taskflow.kanban.workspace.repository.WorkspaceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -47,6 +53,7 @@ public class BoardServiceImpl implements BoardService {
     private final BoardMemberRepository boardMemberRepository;
     private final ColumnRepository columnRepository;
     private final CardRepository cardRepository;
+    private final ColdCardRepository coldCardRepository;
     private final LabelRepository labelRepository;
     private final AttachmentRepository attachmentRepository;
     private final CommentRepository commentRepository;
@@ -54,6 +61,8 @@ public class BoardServiceImpl implements BoardService {
     private final WorkspaceMemberRepository workspaceMemberRepository;
     private final UserRepository userRepository;
     private final ActivityService activityService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public BoardDto createBoard(BoardCreateDto createDto) {
@@ -81,7 +90,7 @@ public class BoardServiceImpl implements BoardService {
 
         Board savedBoard = boardRepository.save(board);
         
-        activityService.logActivity(savedBoard.getId(), "Board", "CREATE", 
+        activityService.logBoardActivity(savedBoard.getId(), savedBoard.getId(), "Board", "CREATE", 
             "Board '" + savedBoard.getName() + "' was created in workspace '" + workspace.getName() + "'",
             getCurrentUserId());
 
@@ -103,8 +112,9 @@ public class BoardServiceImpl implements BoardService {
         
         board.getMembers().add(newMember);
         boardRepository.save(board);
+        eventPublisher.publishEvent(BoardChangedEvent.board(boardId));
         
-        activityService.logActivity(boardId, "Board", "MEMBER_ADD", 
+        activityService.logBoardActivity(boardId, boardId, "Board", "MEMBER_ADD", 
             "User '" + user.getUsername() + "' was added to board '" + board.getName() + "' as " + role,
             getCurrentUserId());
     }
@@ -117,8 +127,9 @@ public class BoardServiceImpl implements BoardService {
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
         board.getMembers().removeIf(member -> member.getUser().getId().equals(userId));
         boardRepository.save(board);
+        eventPublisher.publishEvent(BoardChangedEvent.board(boardId));
         
-        activityService.logActivity(boardId, "Board", "MEMBER_REMOVE", 
+        activityService.logBoardActivity(boardId, boardId, "Board", "MEMBER_REMOVE", 
             "User '" + removedUser.getUsername() + "' was removed from board '" + board.getName() + "'",
             getCurrentUserId());
     }
@@ -132,8 +143,9 @@ public class BoardServiceImpl implements BoardService {
         BoardRole oldRole = member.getRole();
         member.setRole(role);
         boardMemberRepository.save(member);
+        eventPublisher.publishEvent(BoardChangedEvent.board(boardId));
         
-        activityService.logActivity(boardId, "Board", "MEMBER_ROLE_UPDATE", 
+        activityService.logBoardActivity(boardId, boardId, "Board", "MEMBER_ROLE_UPDATE", 
             "User '" + member.getUser().getUsername() + "' role changed from " + oldRole + " to " + role + " on board '" + board.getName() + "'",
             getCurrentUserId());
     }
@@ -154,13 +166,28 @@ public class BoardServiceImpl implements BoardService {
     }
 
     private void requireBoardAccess(Board board) {
+        BoardAccessEvent event = new BoardAccessEvent();
+        event.begin();
+        String grantedThrough = grantedThrough(board);
+        event.end();
+        if (event.shouldCommit()) {
+            event.boardId = board.getId().toString();
+            event.granted = grantedThrough != null;
+            event.grantedThrough = grantedThrough;
+            event.commit();
+        }
+        if (grantedThrough == null) throw new AccessDeniedException("You do not have access to this board");
+    }
+
+    /** Which membership lets the current user see the board, cheapest check first; null when none does. */
+    private String grantedThrough(Board board) {
         UUID uid = getCurrentUserId();
         if (uid == null) throw new AccessDeniedException("Not authenticated");
         UUID workspaceId = board.getWorkspace().getId();
-        if (workspaceMemberRepository.findByWorkspaceIdAndUserId(workspaceId, uid).isPresent()) return;
-        if (boardMemberRepository.findByBoardIdAndUserId(board.getId(), uid).isPresent()) return;
-        if (cardRepository.countCardMembersOnBoard(board.getId(), uid) > 0) return;
-        throw new AccessDeniedException("You do not have access to this board");
+        if (workspaceMemberRepository.findByWorkspaceIdAndUserId(workspaceId, uid).isPresent()) return "workspace";
+        if (boardMemberRepository.findByBoardIdAndUserId(board.getId(), uid).isPresent()) return "board";
+        if (cardRepository.countCardMembersOnBoard(board.getId(), uid) > 0) return "card";
+        return null;
     }
 
     @Override
@@ -178,6 +205,18 @@ public class BoardServiceImpl implements BoardService {
     @Override
     @Transactional(readOnly = true)
     public List<BoardDto> getAllBoardsForCurrentUser() {
+        return OperationTimer.record(meterRegistry, "taskflow.boards.list", this::loadBoardsForCurrentUser);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UUID> getLiveBoardIdsForCurrentUser() {
+        UUID uid = getCurrentUserId();
+        if (uid == null) return List.of();
+        return boardRepository.findLiveIdsAccessibleTo(uid);
+    }
+
+    private List<BoardDto> loadBoardsForCurrentUser() {
         UUID uid = getCurrentUserId();
         if (uid == null) return List.of();
         List<UUID> workspaceIds = workspaceMemberRepository.findWorkspaceIdsByUserId(uid);
@@ -203,8 +242,9 @@ public class BoardServiceImpl implements BoardService {
         if (updateDto.getBackgroundColor() != null) board.setBackgroundColor(updateDto.getBackgroundColor());
         
         Board updatedBoard = boardRepository.save(board);
+        eventPublisher.publishEvent(BoardChangedEvent.board(id));
         
-        activityService.logActivity(id, "Board", "UPDATE", 
+        activityService.logBoardActivity(id, id, "Board", "UPDATE", 
             "Board '" + updatedBoard.getName() + "' was updated",
             getCurrentUserId());
         
@@ -228,11 +268,14 @@ public class BoardServiceImpl implements BoardService {
             }
             columnRepository.delete(col);
         }
+        coldCardRepository.deleteAttachmentHashesByBoardId(id);
+        coldCardRepository.deleteByBoardId(id);
         labelRepository.deleteAll(labelRepository.findByBoardId(id));
         boardMemberRepository.deleteAll(boardMemberRepository.findByBoardId(id));
         boardRepository.delete(board);
+        eventPublisher.publishEvent(BoardChangedEvent.deleted(id));
         
-        activityService.logActivity(id, "Board", "DELETE", 
+        activityService.logBoardActivity(id, id, "Board", "DELETE", 
             "Board '" + boardName + "' was deleted",
             getCurrentUserId());
     }
@@ -243,29 +286,7 @@ public class BoardServiceImpl implements BoardService {
     }
 
     private BoardDto toDto(Board board) {
-        Set<BoardMemberDto> memberDtos = (board.getMembers() == null || board.getMembers().isEmpty())
-                ? Set.of()
-                : board.getMembers().stream()
-                        .map(m -> BoardMemberDto.builder()
-                                .id(m.getId())
-                                .userId(m.getUser().getId())
-                                .username(m.getUser().getUsername())
-                                .email(m.getUser().getEmail())
-                                .role(m.getRole())
-                                .build())
-                        .collect(Collectors.toSet());
-        return BoardDto.builder()
-                .id(board.getId())
-                .name(board.getName())
-                .description(board.getDescription())
-                .archived(board.isArchived())
-                .isPrivate(board.isPrivate())
-                .backgroundColor(board.getBackgroundColor())
-                .workspaceId(board.getWorkspace().getId())
-                .workspaceName(board.getWorkspace() != null ? board.getWorkspace().getName() : null)
-                .position(board.getPosition())
-                .members(memberDtos)
-                .build();
+        return BoardMapper.toBoardDto(board);
     }
     
     private UUID getCurrentUserId() {
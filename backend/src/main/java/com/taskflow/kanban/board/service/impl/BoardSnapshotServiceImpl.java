@@ -0,0 +1,32 @@
+package com.taskflow.kanban.board.service.impl;
+
+import com.taskflow.kanban.board.cache.BoardSnapshotCache;
+import com.taskflow.kanban.board.service.BoardService;
+import com.taskflow.kanban.board.service.BoardSnapshotService;
+import com.taskflow.kanban.board.service.BoardViewService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Serves whole-board snapshots from {@link BoardSnapshotCache}.
+ * Access is checked on every request; cache misses read the persisted board view by primary key.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardSnapshotServiceImpl implements BoardSnapshotService {
+
+    private final BoardSnapshotCache boardSnapshotCache;
+    private final BoardService boardService;
+    private final BoardViewService boardViewService;
+
+    @Override
+    public BoardSnapshotCache.Snapshot getSnapshot(UUID boardId) {
+        boardService.requireBoardAccess(boardId);
+        // Not transactional here: callers waiting on another thread's load hold no pooled connection
+        return boardSnapshotCache.get(boardId,
+                () -> boardViewService.getDocument(boardId).getBytes(StandardCharsets.UTF_8));
+    }
+}
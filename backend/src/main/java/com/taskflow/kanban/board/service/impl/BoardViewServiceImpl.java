@@ -0,0 +1,279 @@
+package com.taskflow.kanban.board.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.taskflow.kanban.board.cache.BoardSnapshotCache;
+import com.taskflow.kanban.board.dto.BoardSnapshotDto;
+import com.taskflow.kanban.board.dto.CardDto;
+import com.taskflow.kanban.board.dto.ColumnDto;
+import com.taskflow.kanban.board.dto.ColumnSnapshotDto;
+import com.taskflow.kanban.board.dto.LabelDto;
+import com.taskflow.kanban.board.dto.mappers.BoardMapper;
+import com.taskflow.kanban.board.entity.BoardColumn;
+import com.taskflow.kanban.board.entity.BoardView;
+import com.taskflow.kanban.board.event.BoardChangedEvent;
+import com.taskflow.kanban.board.repository.BoardRepository;
+import com.taskflow.kanban.board.repository.BoardViewRepository;
+import com.taskflow.kanban.board.repository.CardPosition;
+import com.taskflow.kanban.board.repository.CardRepository;
+import com.taskflow.kanban.board.repository.ColumnRepository;
+import com.taskflow.kanban.board.repository.LabelRepository;
+import com.taskflow.kanban.board.service.BoardViewService;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the board_views read model.
+ * Board change events are applied once the writer has committed, each in its own short transaction that takes the
+ * row lock on the view, by patching only the affected part of the document; anything the patch cannot reconcile falls
+ * back to a full rebuild. The writer therefore never waits on the view row or pays for re-serializing the board, and
+ * a patch that fails cannot touch the committed write: the view is dropped instead and the next read rebuilds it.
+ * <p>
+ * Listeners run on the committing thread, so the writer's next request already sees the patched view. Other readers
+ * may see the previous document until the patch commits; the snapshot cache is evicted again at that point so the
+ * previous document is not kept.
+ */
+@Service
+@Transactional
+public class BoardViewServiceImpl implements BoardViewService {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardViewServiceImpl.class);
+
+    private final BoardViewRepository boardViewRepository;
+    private final BoardRepository boardRepository;
+    private final ColumnRepository columnRepository;
+    private final CardRepository cardRepository;
+    private final LabelRepository labelRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader snapshotReader;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate patchTemplate;
+    private final BoardSnapshotCache boardSnapshotCache;
+
+    public BoardViewServiceImpl(BoardViewRepository boardViewRepository,
+                                BoardRepository boardRepository,
+                                ColumnRepository columnRepository,
+                                CardRepository cardRepository,
+                                LabelRepository labelRepository,
+                                ObjectMapper objectMapper,
+                                PlatformTransactionManager transactionManager,
+                                BoardSnapshotCache boardSnapshotCache) {
+        this.boardViewRepository = boardViewRepository;
+        this.boardRepository = boardRepository;
+        this.columnRepository = columnRepository;
+        this.cardRepository = cardRepository;
+        this.labelRepository = labelRepository;
+        this.objectMapper = objectMapper;
+        this.snapshotReader = objectMapper.readerFor(BoardSnapshotDto.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // After commit the writer's resources are still bound to the thread; REQUIRES_NEW keeps clear of them
+        this.patchTemplate = new TransactionTemplate(transactionManager);
+        this.patchTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.boardSnapshotCache = boardSnapshotCache;
+    }
+
+    @Override
+    public String getDocument(UUID boardId) {
+        return boardViewRepository.findById(boardId)
+                .map(BoardView::getDocument)
+                .orElseGet(() -> rebuild(boardId));
+    }
+
+    @Override
+    public String rebuild(UUID boardId) {
+        String document = write(build(boardId));
+        Instant now = Instant.now();
+        // Upsert, so concurrent first reads of a board queue behind one another instead of colliding on the primary
+        // key; the document is then written through the entity, which binds JSON correctly on every database
+        boardViewRepository.upsert(boardId, document, now);
+        BoardView view = boardViewRepository.findByIdForUpdate(boardId)
+                .orElseThrow(() -> new IllegalStateException("Board view " + boardId + " vanished while rebuilding"));
+        view.setDocument(document);
+        view.setUpdatedAt(now);
+        return document;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuildAll() {
+        // One short transaction per board rather than one that spans the whole table
+        List<UUID> boardIds = boardRepository.findAllIds();
+        for (UUID boardId : boardIds) {
+            transactionTemplate.executeWithoutResult(status -> rebuild(boardId));
+        }
+        log.info("Rebuilt {} board views", boardIds.size());
+        return boardIds.size();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onBoardChanged(BoardChangedEvent event) {
+        UUID boardId = event.boardId();
+        try {
+            patchTemplate.executeWithoutResult(status -> apply(event));
+        } catch (RuntimeException e) {
+            // The failed transaction is gone; without the row, the next read rebuilds it
+            log.warn("Could not patch board view {} for {} change, dropping it for a rebuild", boardId, event.change(), e);
+            try {
+                patchTemplate.executeWithoutResult(status -> boardViewRepository.deleteByBoardId(boardId));
+            } catch (RuntimeException deleteFailure) {
+                // Thrown from here it would reach the writer as a failure of a write that has already committed
+                log.error("Could not drop stale board view {}", boardId, deleteFailure);
+            }
+        }
+        boardSnapshotCache.invalidate(boardId);
+    }
+
+    private void apply(BoardChangedEvent event) {
+        UUID boardId = event.boardId();
+        if (event.change() == BoardChangedEvent.Change.DELETED) {
+            boardViewRepository.deleteByBoardId(boardId);
+            return;
+        }
+        // Not materialized yet means the first read builds it from current state
+        boardViewRepository.findByIdForUpdate(boardId).ifPresent(view -> patch(view, event));
+    }
+
+    private void patch(BoardView view, BoardChangedEvent event) {
+        UUID boardId = event.boardId();
+        BoardSnapshotDto snapshot = read(view.getDocument());
+        boolean patched = switch (event.change()) {
+            case BOARD -> {
+                snapshot.setBoard(BoardMapper.toBoardDto(boardRepository.findById(boardId)
+                        .orElseThrow(() -> new EntityNotFoundException("Board not found"))));
+                yield true;
+            }
+            case COLUMNS -> patchColumns(snapshot, boardId);
+            case CARDS -> patchCards(snapshot, event);
+            case LABELS -> patchLabels(snapshot, boardId);
+            case DELETED -> true;
+        };
+        if (!patched) {
+            log.debug("Board view {} drifted from {} change, rebuilding", boardId, event.change());
+            snapshot = build(boardId);
+        }
+        view.setDocument(write(snapshot));
+        view.setUpdatedAt(Instant.now());
+    }
+
+    private boolean patchColumns(BoardSnapshotDto snapshot, UUID boardId) {
+        Map<UUID, List<CardDto>> cardsByColumn = snapshot.getColumns().stream()
+                .collect(Collectors.toMap(c -> c.getColumn().getId(), ColumnSnapshotDto::getCards));
+        snapshot.setColumns(columnRepository.findByBoardIdOrderByPositionAsc(boardId).stream()
+                .map(column -> columnSnapshot(column, cardsByColumn.containsKey(column.getId())
+                        ? cardsByColumn.get(column.getId())
+                        : loadCards(column.getId())))
+                .collect(Collectors.toList()));
+        return true;
+    }
+
+    private boolean patchCards(BoardSnapshotDto snapshot, BoardChangedEvent event) {
+        Map<UUID, ColumnSnapshotDto> columns = snapshot.getColumns().stream()
+                .collect(Collectors.toMap(c -> c.getColumn().getId(), Function.identity()));
+        if (!columns.keySet().containsAll(event.columnIds())) {
+            return false;
+        }
+        for (UUID cardId : event.cardIds()) {
+            columns.values().forEach(column -> column.getCards().removeIf(card -> card.getId().equals(cardId)));
+            cardRepository.findById(cardId).ifPresent(card -> {
+                ColumnSnapshotDto column = columns.get(card.getColumn().getId());
+                if (column != null) column.getCards().add(BoardMapper.toCardDto(card));
+            });
+        }
+        // Moves and deletes shift the positions of neighbouring cards; refresh them without loading the cards
+        for (UUID columnId : event.columnIds()) {
+            List<CardDto> cards = columns.get(columnId).getCards();
+            Map<UUID, Integer> positions = cardRepository.findPositionsByColumnId(columnId).stream()
+                    .collect(Collectors.toMap(CardPosition::getId, CardPosition::getPosition));
+            cards.removeIf(card -> !positions.containsKey(card.getId()));
+            if (cards.size() != positions.size()) {
+                return false;
+            }
+            cards.forEach(card -> card.setPosition(positions.get(card.getId())));
+            cards.sort(Comparator.comparingInt(CardDto::getPosition));
+            columns.get(columnId).getColumn().setCardCount(cards.size());
+        }
+        return true;
+    }
+
+    private boolean patchLabels(BoardSnapshotDto snapshot, UUID boardId) {
+        Map<UUID, LabelDto> labels = labelRepository.findByBoardId(boardId).stream()
+                .map(BoardMapper::toLabelDto)
+                .collect(Collectors.toMap(LabelDto::getId, Function.identity(), (a, b) -> a, LinkedHashMap::new));
+        snapshot.setLabels(new ArrayList<>(labels.values()));
+        for (ColumnSnapshotDto column : snapshot.getColumns()) {
+            for (CardDto card : column.getCards()) {
+                if (card.getLabels() == null || card.getLabels().isEmpty()) continue;
+                card.setLabels(card.getLabels().stream()
+                        .filter(l -> !boardId.equals(l.getBoardId()) || labels.containsKey(l.getId()))
+                        .map(l -> boardId.equals(l.getBoardId()) ? labels.get(l.getId()) : l)
+                        .collect(Collectors.toSet()));
+            }
+        }
+        return true;
+    }
+
+    private BoardSnapshotDto build(UUID boardId) {
+        return BoardSnapshotDto.builder()
+                .board(BoardMapper.toBoardDto(boardRepository.findById(boardId)
+                        .orElseThrow(() -> new EntityNotFoundException("Board not found"))))
+                .columns(columnRepository.findByBoardIdOrderByPositionAsc(boardId).stream()
+                        .map(column -> columnSnapshot(column, loadCards(column.getId())))
+                        .collect(Collectors.toList()))
+                .labels(labelRepository.findByBoardId(boardId).stream()
+                        .map(BoardMapper::toLabelDto)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private ColumnSnapshotDto columnSnapshot(BoardColumn column, List<CardDto> cards) {
+        // The counter on a managed column can lag an atomic increment made in this transaction; the cards cannot
+        ColumnDto columnDto = BoardMapper.toColumnDto(column);
+        columnDto.setCardCount(cards.size());
+        return ColumnSnapshotDto.builder().column(columnDto).cards(cards).build();
+    }
+
+    private List<CardDto> loadCards(UUID columnId) {
+        return cardRepository.findByColumnIdOrderByPositionAsc(columnId).stream()
+                .map(BoardMapper::toCardDto)
+                .collect(Collectors.toList());
+    }
+
+    private BoardSnapshotDto read(String document) {
+        try {
+            return snapshotReader.readValue(document);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read board view", e);
+        }
+    }
+
+    private String write(BoardSnapshotDto snapshot) {
+        try {
+            return objectMapper.writeValueAsString(snapshot);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not write board view", e);
+        }
+    }
+}
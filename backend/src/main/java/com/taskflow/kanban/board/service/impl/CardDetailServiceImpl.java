@@ -0,0 +1,57 @@
+package com.taskflow.kanban.board.service.impl;
+
+import com.taskflow.kanban.board.dto.ActivityLogDto;
+import com.taskflow.kanban.board.dto.CardDetailDto;
+import com.taskflow.kanban.board.dto.mappers.BoardMapper;
+import com.taskflow.kanban.board.entity.Card;
+import com.taskflow.kanban.board.repository.CardRepository;
+import com.taskflow.kanban.board.service.ActivityService;
+import com.taskflow.kanban.board.service.AttachmentService;
+import com.taskflow.kanban.board.service.BoardService;
+import com.taskflow.kanban.board.service.CardDetailService;
+import com.taskflow.kanban.dto.CursorPageResponse;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Builds the card modal in one read-only transaction, so the card, its attachments, comments and activity are read
+ * from one connection and one authenticated request. The sub-loads run one after another: a transaction's
+ * connection serves one statement at a time, and each of them is a single indexed query. The board access check is
+ * made once, here; the sub-loads do not repeat it.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CardDetailServiceImpl implements CardDetailService {
+
+    private final CardRepository cardRepository;
+    private final BoardService boardService;
+    private final CommentServiceImpl commentService;
+    private final AttachmentService attachmentService;
+    private final ActivityService activityService;
+
+    @Override
+    public CardDetailDto getCardDetail(UUID cardId, int commentLimit, int activityLimit) {
+        Card card = cardRepository.findById(cardId)
+                .orElseThrow(() -> new EntityNotFoundException("Card not found"));
+        boardService.requireBoardAccess(card.getColumn().getBoard().getId());
+        return CardDetailDto.builder()
+                .card(BoardMapper.toCardDto(card))
+                .attachments(attachmentService.getAttachmentsByCard(cardId))
+                .comments(commentService.loadCommentPage(cardId, null, commentLimit, Sort.Direction.DESC))
+                .activity(activityService.getActivityPage(cardId, null, activityLimit))
+                .build();
+    }
+
+    @Override
+    public CursorPageResponse<ActivityLogDto> getCardActivity(UUID cardId, String cursor, int limit) {
+        boardService.requireBoardAccess(cardRepository.findBoardIdById(cardId)
+                .orElseThrow(() -> new EntityNotFoundException("Card not found")));
+        return activityService.getActivityPage(cardId, cursor, limit);
+    }
+}
@@ -1,27 +1,47 @@
 package com.taskflow.kanban.board.service.impl;
 
 import com.taskflow.kanban.board.dto.*;
+import com.taskflow.kanban.board.dto.mappers.BoardMapper;
 import com.taskflow.kanban.board.entity.BoardColumn;
 import com.taskflow.kanban.board.entity.Card;
 import com.taskflow.kanban.board.entity.CardMember;
 import com.taskflow.kanban.board.entity.CardRole;
+import com.taskflow.kanban.board.event.BoardChangedEvent;
 import com.taskflow.kanban.board.repository.BoardMemberRepository;
+import com.taskflow.kanban.board.repository.CardFilter;
+import com.taskflow.kanban.board.repository.CardFilterCursor;
 import com.taskflow.kanban.board.repository.CardRepository;
 import com.taskflow.kanban.board.repository.ColumnRepository;
 import com.taskflow.kanban.board.service.ActivityService;
+import com.taskflow.kanban.board.service.BoardService;
 import com.taskflow.kanban.board.service.CardService;
+import com.taskflow.kanban.board.service.DueReminderService;
+import com.taskflow.kanban.dto.CursorPageResponse;
+import com.taskflow.kanban.monitoring.OperationTimer;
+import com.taskflow.kanban.monitoring.jfr.CardMoveEvent;
 import com.taskflow.kanban.security.CustomUserDetails;
 import com.taskflow.kanban.user.entity.User;
 import com.taskflow.kanban.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -30,20 +50,27 @@ import java.util.stream.Collectors;
 @Transactional
 public class CardServiceImpl implements CardService {
 
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_FILTER_PAGE_SIZE = 1000;
+
     private final CardRepository cardRepository;
     private final ColumnRepository columnRepository;
     private final BoardMemberRepository boardMemberRepository;
     private final UserRepository userRepository;
+    private final BoardService boardService;
     private final ActivityService activityService;
+    private final DueReminderService dueReminderService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public CardDto createCard(CardCreateDto createDto) {
         BoardColumn column = columnRepository.findById(createDto.getColumnId())
                 .orElseThrow(() -> new EntityNotFoundException("Column not found"));
 
-        // Use provided position or calculate from existing cards
-        int position = createDto.getPosition() != null ? createDto.getPosition() : 
-                cardRepository.findByColumnIdOrderByPositionAsc(column.getId()).size();
+        // Use provided position or append after the last card
+        int position = createDto.getPosition() != null ? createDto.getPosition() :
+                cardRepository.findNextPosition(column.getId());
 
         Card card = Card.builder()
                 .title(createDto.getTitle())
@@ -56,8 +83,11 @@ public class CardServiceImpl implements CardService {
                 .build();
         
         Card savedCard = cardRepository.save(card);
+        columnRepository.adjustCardCount(column.getId(), 1, Instant.now());
+        eventPublisher.publishEvent(BoardChangedEvent.cards(column.getBoard().getId(), Set.of(column.getId()), savedCard.getId()));
+        rescheduleReminders(savedCard);
 
-        activityService.logActivity(savedCard.getId(), "Card", "CREATE", 
+        activityService.logBoardActivity(column.getBoard().getId(), savedCard.getId(), "Card", "CREATE", 
             "Card '" + savedCard.getTitle() + "' was created in column '" + column.getName() + "'",
                 getCurrentUserId());
 
@@ -71,19 +101,28 @@ public class CardServiceImpl implements CardService {
         int oldPosition = cardToDelete.getPosition();
 
         cardRepository.delete(cardToDelete);
+        columnRepository.adjustCardCount(columnId, -1, Instant.now());
 
         List<Card> cardsToShift = cardRepository.findByColumnIdAndPositionGreaterThan(columnId, oldPosition);
         for (Card card : cardsToShift) {
             card.setPosition(card.getPosition() - 1);
         }
         cardRepository.saveAll(cardsToShift);
+        eventPublisher.publishEvent(BoardChangedEvent.cards(cardToDelete.getColumn().getBoard().getId(), Set.of(columnId), id));
+        dueReminderService.reschedule(id, null);
         
-        activityService.logActivity(id, "Card", "DELETE", 
+        activityService.logBoardActivity(cardToDelete.getColumn().getBoard().getId(), id, "Card", "DELETE", 
             "Card '" + cardToDelete.getTitle() + "' was deleted", getCurrentUserId());
     }
 
     @Override
     public void moveCard(UUID cardId, CardMoveDto moveDto) {
+        OperationTimer.record(meterRegistry, "taskflow.cards.move", () -> doMoveCard(cardId, moveDto));
+    }
+
+    private void doMoveCard(UUID cardId, CardMoveDto moveDto) {
+        CardMoveEvent event = new CardMoveEvent();
+        event.begin();
         Card cardToMove = findCard(cardId);
         BoardColumn sourceColumn = cardToMove.getColumn();
         BoardColumn targetColumn = columnRepository.findById(moveDto.getTargetColumnId())
@@ -96,38 +135,62 @@ public class CardServiceImpl implements CardService {
             // --- Move within the same column ---
             List<Card> cards = cardRepository.findByColumnIdOrderByPositionAsc(sourceColumn.getId());
             cards.remove(cardToMove);
-            cards.add(newPosition, cardToMove);
-            
-            for (int i = 0; i < cards.size(); i++) {
-                cards.get(i).setPosition(i);
-            }
+            insertAt(cards, cardToMove, newPosition);
             cardRepository.saveAll(cards);
+            event.cardsRenumbered = cards.size();
 
         } else {
             // --- Move to a different column ---
             // 1. Remove from source column and shift remaining cards
             List<Card> sourceCards = cardRepository.findByColumnIdOrderByPositionAsc(sourceColumn.getId());
             sourceCards.remove(cardToMove);
-            for (int i = 0; i < sourceCards.size(); i++) {
-                sourceCards.get(i).setPosition(i);
-            }
+            renumber(sourceCards);
             cardRepository.saveAll(sourceCards);
 
             // 2. Add to target column and shift subsequent cards
             List<Card> targetCards = cardRepository.findByColumnIdOrderByPositionAsc(targetColumn.getId());
-            targetCards.add(newPosition, cardToMove);
+            insertAt(targetCards, cardToMove, newPosition);
             cardToMove.setColumn(targetColumn);
-
-            for (int i = 0; i < targetCards.size(); i++) {
-                targetCards.get(i).setPosition(i);
-            }
             cardRepository.saveAll(targetCards);
+            event.cardsRenumbered = sourceCards.size() + targetCards.size();
+            event.crossColumn = true;
+
+            Instant now = Instant.now();
+            columnRepository.adjustCardCount(sourceColumn.getId(), -1, now);
+            columnRepository.adjustCardCount(targetColumn.getId(), 1, now);
+        }
+        UUID sourceBoardId = sourceColumn.getBoard().getId();
+        UUID targetBoardId = targetColumn.getBoard().getId();
+        if (sourceBoardId.equals(targetBoardId)) {
+            eventPublisher.publishEvent(BoardChangedEvent.cards(sourceBoardId, new HashSet<>(List.of(sourceColumn.getId(), targetColumn.getId())), cardId));
+        } else {
+            eventPublisher.publishEvent(BoardChangedEvent.cards(sourceBoardId, Set.of(sourceColumn.getId()), cardId));
+            eventPublisher.publishEvent(BoardChangedEvent.cards(targetBoardId, Set.of(targetColumn.getId()), cardId));
         }
         
-        activityService.logActivity(cardId, "Card", "MOVE", 
+        activityService.logBoardActivity(targetBoardId, cardId, "Card", "MOVE", 
             "Card '" + cardToMove.getTitle() + "' moved from '" + sourceColumn.getName() + "' to '" + targetColumn.getName() + "'", getCurrentUserId());
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.cardId = cardId.toString();
+            event.boardId = targetBoardId.toString();
+            event.commit();
+        }
     }
     
+    /** Inserts the card at newPosition and renumbers the column 0..n-1; the in-memory half of a move. */
+    static void insertAt(List<Card> cards, Card card, int newPosition) {
+        cards.add(newPosition, card);
+        renumber(cards);
+    }
+
+    static void renumber(List<Card> cards) {
+        for (int i = 0; i < cards.size(); i++) {
+            cards.get(i).setPosition(i);
+        }
+    }
+
     // --- Other methods ---
 
     @Override
@@ -144,6 +207,47 @@ public class CardServiceImpl implements CardService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CardDto> getCardPage(UUID columnId, String cursor, int limit) {
+        BoardColumn column = columnRepository.findById(columnId)
+                .orElseThrow(() -> new EntityNotFoundException("Column not found"));
+        boardService.requireBoardAccess(column.getBoard().getId());
+        return page(column, CardPageCursor.parse(cursor), limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, CursorPageResponse<CardDto>> getFirstCardsByBoard(UUID boardId, int limitPerColumn) {
+        boardService.requireBoardAccess(boardId);
+        // One index range scan per column; columns per board are few, cards per column are not
+        Map<UUID, CursorPageResponse<CardDto>> pages = new LinkedHashMap<>();
+        for (BoardColumn column : columnRepository.findByBoardIdOrderByPositionAsc(boardId)) {
+            pages.put(column.getId(), page(column, CardPageCursor.FIRST, limitPerColumn));
+        }
+        return pages;
+    }
+
+    private CursorPageResponse<CardDto> page(BoardColumn column, CardPageCursor after, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        // Fetch one extra row to learn whether another page exists without counting
+        List<Card> cards = cardRepository.findPageAfter(column.getId(), after.position(), after.id(), Limit.of(size + 1));
+        boolean hasMore = cards.size() > size;
+        if (hasMore) {
+            cards = cards.subList(0, size);
+        }
+        return CursorPageResponse.<CardDto>builder()
+                .content(cards.stream().map(this::toDto).collect(Collectors.toList()))
+                .nextCursor(hasMore ? cursorOf(cards.get(cards.size() - 1)) : null)
+                .hasMore(hasMore)
+                .totalElements((long) column.getCardCount())
+                .build();
+    }
+
+    private static String cursorOf(Card card) {
+        return new CardPageCursor(card.getPosition(), card.getId()).toString();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<CardDto> getArchivedCardsByBoard(UUID boardId) {
@@ -158,6 +262,85 @@ public class CardServiceImpl implements CardService {
         }).map(this::toDto).collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CardDto> filterCardsByBoard(UUID boardId, CardFilterDto filterDto) {
+        boardService.requireBoardAccess(boardId);
+        CardFilter filter = new CardFilter(toSet(filterDto.getLabelIds()), toSet(filterDto.getAssigneeIds()),
+                filterDto.getDueFrom(), filterDto.getDueTo(), toSet(filterDto.getPriorities()),
+                filterDto.getAchieved(), filterDto.isArchived());
+        List<Sort.Order> orders = new ArrayList<>();
+        if (filterDto.getSort() != null) {
+            for (String key : filterDto.getSort()) {
+                Sort.Order order = key.startsWith("-") ? Sort.Order.desc(key.substring(1)) : Sort.Order.asc(key);
+                if (!CardFilter.SORT_KEYS.contains(order.getProperty())) {
+                    throw new IllegalArgumentException("Unknown sort key: " + order.getProperty());
+                }
+                orders.add(order);
+            }
+        }
+        int size = Math.max(1, Math.min(filterDto.getLimit(), MAX_FILTER_PAGE_SIZE));
+        Sort sort = Sort.by(orders);
+        // The cursor is the last card's sort-key values and board order on the previous page
+        CardFilterCursor after = CardFilterCursor.parse(filterDto.getCursor(), sort);
+        // Fetch one extra row to learn whether another page exists
+        List<Card> cards = cardRepository.findByBoard(boardId, filter, sort, after, size + 1);
+        boolean hasMore = cards.size() > size;
+        if (hasMore) {
+            cards = cards.subList(0, size);
+        }
+        return CursorPageResponse.<CardDto>builder()
+                .content(cards.stream().map(this::toDto).collect(Collectors.toList()))
+                .nextCursor(hasMore ? CardFilterCursor.of(cards.get(cards.size() - 1), sort).toString() : null)
+                .hasMore(hasMore)
+                // Counted once, for the first page; later pages would only repeat it
+                .totalElements(after == null ? cardRepository.countByBoard(boardId, filter) : null)
+                .build();
+    }
+
+    /**
+     * Needs no per-board access check: being a member of a card grants access to its board (see
+     * BoardServiceImpl.grantedThrough), so every card in the feed is on a board the user can open.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<AssignedCardDto> getMyCards(String cursor, int limit) {
+        UUID userId = getCurrentUserId();
+        if (userId == null) throw new AccessDeniedException("Not authenticated");
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        AssignedCardCursor after = AssignedCardCursor.parse(cursor);
+        // Fetch one extra id to learn whether another page exists
+        List<UUID> ids = cardRepository.findAssignedIdsAfter(userId, AssignedCardCursor.NO_DUE_DATE,
+                AssignedCardCursor.NO_PRIORITY, after.dueDate(), after.priority(), after.id(), Limit.of(size + 1));
+        boolean hasMore = ids.size() > size;
+        if (hasMore) {
+            ids = ids.subList(0, size);
+        }
+        Map<UUID, Card> byId = cardRepository.findWithBoardByIdIn(ids).stream()
+                .collect(Collectors.toMap(Card::getId, card -> card));
+        // Back into feed order; a card deleted between the two queries is skipped
+        List<Card> cards = ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+        List<AssignedCardDto> content = cards.stream()
+                .map(card -> AssignedCardDto.builder()
+                        .card(toDto(card))
+                        .boardId(card.getColumn().getBoard().getId())
+                        .boardName(card.getColumn().getBoard().getName())
+                        .build())
+                .collect(Collectors.toList());
+        Card last = hasMore && !cards.isEmpty() ? cards.get(cards.size() - 1) : null;
+        return CursorPageResponse.<AssignedCardDto>builder()
+                .content(content)
+                .nextCursor(last != null
+                        ? AssignedCardCursor.of(last.getDueDate(), last.getPriority(), last.getId()).toString() : null)
+                .hasMore(hasMore)
+                .totalElements(cardRepository.countAssigned(userId))
+                .build();
+    }
+
+    private static <T> Set<T> toSet(List<T> values) {
+        return values == null ? Set.of() : new HashSet<>(values);
+    }
+
     @Override
     public CardDto updateCard(UUID id, CardUpdateDto updateDto) {
         Card card = findCard(id);
@@ -172,8 +355,10 @@ public class CardServiceImpl implements CardService {
         if (updateDto.getPriority() != null) card.setPriority(updateDto.getPriority());
         
         Card updatedCard = cardRepository.save(card);
+        publishCardChanged(updatedCard);
+        rescheduleReminders(updatedCard);
         
-        activityService.logActivity(id, "Card", "UPDATE", 
+        activityService.logBoardActivity(updatedCard.getColumn().getBoard().getId(), id, "Card", "UPDATE", 
             "Card '" + updatedCard.getTitle() + "' was updated", getCurrentUserId());
             
         return toDto(updatedCard);
@@ -200,8 +385,9 @@ public class CardServiceImpl implements CardService {
             card.getMembers().add(member);
         }
         cardRepository.save(card);
+        publishCardChanged(card);
         
-        activityService.logActivity(cardId, "Card", "UPDATE", 
+        activityService.logBoardActivity(card.getColumn().getBoard().getId(), cardId, "Card", "UPDATE", 
             "User '" + user.getUsername() + "' was assigned to card '" + card.getTitle() + "' as " + role, getCurrentUserId());
     }
 
@@ -213,47 +399,30 @@ public class CardServiceImpl implements CardService {
         
         card.getMembers().removeIf(m -> m.getUser().getId().equals(userId));
         cardRepository.save(card);
+        publishCardChanged(card);
         
-        activityService.logActivity(cardId, "Card", "UPDATE", 
+        activityService.logBoardActivity(card.getColumn().getBoard().getId(), cardId, "Card", "UPDATE", 
             "User '" + user.getUsername() + "' was unassigned from card '" + card.getTitle() + "'", getCurrentUserId());
     }
 
+    private void publishCardChanged(Card card) {
+        BoardColumn column = card.getColumn();
+        eventPublisher.publishEvent(BoardChangedEvent.cards(column.getBoard().getId(), Set.of(column.getId()), card.getId()));
+    }
+
+    /** Archived and achieved cards get no due-date reminders. */
+    private void rescheduleReminders(Card card) {
+        dueReminderService.reschedule(card.getId(),
+                card.isArchived() || card.isAchieved() ? null : card.getDueDate());
+    }
+
     private Card findCard(UUID id) {
         return cardRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Card not found"));
     }
 
     private CardDto toDto(Card card) {
-        return CardDto.builder()
-                .id(card.getId())
-                .title(card.getTitle())
-                .description(card.getDescription())
-                .position(card.getPosition())
-                .archived(card.isArchived())
-                .achieved(card.isAchieved())
-                .dueDate(card.getDueDate())
-                .startDate(card.getStartDate())
-                .priority(card.getPriority())
-                .columnId(card.getColumn().getId())
-                .members(card.getMembers().stream()
-                        .map(m -> CardMemberDto.builder()
-                                .userId(m.getUser().getId())
-                                .username(m.getUser().getUsername())
-                                .email(m.getUser().getEmail())
-                                .role(m.getRole())
-                                .build())
-                        .collect(Collectors.toSet()))
-                .labels(card.getLabels() == null || card.getLabels().isEmpty()
-                        ? java.util.Set.of()
-                        : card.getLabels().stream()
-                                .map(l -> LabelDto.builder()
-                                        .id(l.getId())
-                                        .name(l.getName())
-                                        .color(l.getColor())
-                                        .boardId(l.getBoard() != null ? l.getBoard().getId() : null)
-                                        .build())
-                                .collect(Collectors.toSet()))
-                .build();
+        return BoardMapper.toCardDto(card);
     }
     
     private UUID getCurrentUserId() {
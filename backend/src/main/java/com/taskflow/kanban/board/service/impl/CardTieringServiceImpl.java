@@ -0,0 +1,327 @@
+package com.taskflow.kanban.board.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.kanban.board.dto.CardDto;
+import com.taskflow.kanban.board.dto.ColdCardDto;
+import com.taskflow.kanban.board.dto.mappers.BoardMapper;
+import com.taskflow.kanban.board.entity.Attachment;
+import com.taskflow.kanban.board.entity.BoardColumn;
+import com.taskflow.kanban.board.entity.Card;
+import com.taskflow.kanban.board.entity.CardMember;
+import com.taskflow.kanban.board.entity.CardRole;
+import com.taskflow.kanban.board.entity.ColdCard;
+import com.taskflow.kanban.board.entity.Comment;
+import com.taskflow.kanban.board.entity.Label;
+import com.taskflow.kanban.board.event.BoardChangedEvent;
+import com.taskflow.kanban.board.repository.CardRepository;
+import com.taskflow.kanban.board.repository.ColdCardRepository;
+import com.taskflow.kanban.board.repository.ColumnRepository;
+import com.taskflow.kanban.board.repository.LabelRepository;
+import com.taskflow.kanban.board.service.ActivityService;
+import com.taskflow.kanban.board.service.BoardService;
+import com.taskflow.kanban.board.service.CardTieringService;
+import com.taskflow.kanban.config.CardTieringProperties;
+import com.taskflow.kanban.entity.AuditableEntity;
+import com.taskflow.kanban.security.CustomUserDetails;
+import com.taskflow.kanban.user.entity.User;
+import com.taskflow.kanban.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Moves archived and long-finished cards out of the hot cards table so board loads, searches and their indexes
+ * only cover live work. Each batch runs in its own transaction and leaves positions, column counters and the
+ * board read model exactly as a delete would.
+ */
+@Service
+@Transactional
+public class CardTieringServiceImpl implements CardTieringService {
+
+    private static final Logger log = LoggerFactory.getLogger(CardTieringServiceImpl.class);
+
+    private final CardRepository cardRepository;
+    private final ColdCardRepository coldCardRepository;
+    private final ColumnRepository columnRepository;
+    private final LabelRepository labelRepository;
+    private final UserRepository userRepository;
+    private final BoardService boardService;
+    private final ActivityService activityService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CardTieringProperties properties;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public CardTieringServiceImpl(CardRepository cardRepository,
+                                  ColdCardRepository coldCardRepository,
+                                  ColumnRepository columnRepository,
+                                  LabelRepository labelRepository,
+                                  UserRepository userRepository,
+                                  BoardService boardService,
+                                  ActivityService activityService,
+                                  ApplicationEventPublisher eventPublisher,
+                                  CardTieringProperties properties,
+                                  ObjectMapper objectMapper,
+                                  PlatformTransactionManager transactionManager) {
+        this.cardRepository = cardRepository;
+        this.coldCardRepository = coldCardRepository;
+        this.columnRepository = columnRepository;
+        this.labelRepository = labelRepository;
+        this.userRepository = userRepository;
+        this.boardService = boardService;
+        this.activityService = activityService;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /** Serialized form of a cold card; field names are the stored JSON contract. */
+    record ColdCardDocument(UUID id, String title, String description, boolean archived, boolean achieved,
+                            Instant dueDate, Instant startDate, Integer priority, Instant createdAt, UUID createdBy,
+                            List<ColdMember> members, List<ColdComment> comments, List<ColdAttachment> attachments,
+                            List<UUID> labelIds) {
+    }
+
+    record ColdMember(UUID id, UUID userId, CardRole role, Instant createdAt) {
+    }
+
+    record ColdComment(UUID id, UUID authorId, String content, boolean edited, Instant createdAt) {
+    }
+
+    record ColdAttachment(UUID id, String fileName, String fileUrl, long fileSize, String mimeType, String contentHash,
+                          Instant createdAt) {
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public int tierCards() {
+        // Called from the scheduler there is no surrounding transaction, so every batch commits on its own
+        Instant cutoff = Instant.now().minus(Duration.ofDays(properties.getUntouchedDays()));
+        int batchSize = Math.max(1, properties.getBatchSize());
+        int total = 0;
+        int moved;
+        do {
+            moved = transactionTemplate.execute(status -> tierBatch(cutoff, batchSize));
+            total += moved;
+        } while (moved == batchSize);
+        log.info("Moved {} cards to cold storage", total);
+        return total;
+    }
+
+    private int tierBatch(Instant cutoff, int batchSize) {
+        List<Card> cards = cardRepository.findAllById(
+                cardRepository.findTieringCandidates(cutoff, Limit.of(batchSize)));
+        if (cards.isEmpty()) {
+            return 0;
+        }
+        Instant now = Instant.now();
+        Map<UUID, BoardColumn> columns = new HashMap<>();
+        Map<UUID, List<Card>> cardsByColumn = new HashMap<>();
+        for (Card card : cards) {
+            BoardColumn column = card.getColumn();
+            columns.put(column.getId(), column);
+            cardsByColumn.computeIfAbsent(column.getId(), id -> new ArrayList<>()).add(card);
+            coldCardRepository.save(ColdCard.builder()
+                    .cardId(card.getId())
+                    .boardId(column.getBoard().getId())
+                    .columnId(column.getId())
+                    .title(card.getTitle())
+                    .archived(card.isArchived())
+                    .achieved(card.isAchieved())
+                    .tieredAt(now)
+                    .document(write(toDocument(card)))
+                    .attachmentHashes(card.getAttachments().stream()
+                            .map(Attachment::getContentHash)
+                            .filter(Objects::nonNull)
+                            .collect(Collectors.toSet()))
+                    .build());
+            cardRepository.delete(card);
+        }
+        cardRepository.flush();
+
+        Map<UUID, Set<UUID>> columnIdsByBoard = new HashMap<>();
+        Map<UUID, Set<UUID>> cardIdsByBoard = new HashMap<>();
+        cardsByColumn.forEach((columnId, removed) -> {
+            // Close the gaps from the highest position down so earlier shifts do not move later ones
+            removed.stream()
+                    .sorted(Comparator.comparingInt(Card::getPosition).reversed())
+                    .forEach(card -> cardRepository.shiftPositionsAfter(columnId, card.getPosition()));
+            columnRepository.adjustCardCount(columnId, -removed.size(), now);
+            UUID boardId = columns.get(columnId).getBoard().getId();
+            columnIdsByBoard.computeIfAbsent(boardId, id -> new HashSet<>()).add(columnId);
+            removed.forEach(card -> cardIdsByBoard.computeIfAbsent(boardId, id -> new HashSet<>()).add(card.getId()));
+        });
+        columnIdsByBoard.forEach((boardId, columnIds) ->
+                eventPublisher.publishEvent(BoardChangedEvent.cards(boardId, columnIds, cardIdsByBoard.get(boardId))));
+        return cards.size();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ColdCardDto> getColdCardsByBoard(UUID boardId) {
+        boardService.requireBoardAccess(boardId);
+        return coldCardRepository.findByBoardIdOrderByTieredAtDesc(boardId).stream()
+                .map(this::toDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public CardDto restoreCard(UUID cardId) {
+        ColdCard coldCard = coldCardRepository.findById(cardId)
+                .orElseThrow(() -> new EntityNotFoundException("Archived card not found"));
+        boardService.requireBoardAccess(coldCard.getBoardId());
+        BoardColumn column = columnRepository.findById(coldCard.getColumnId())
+                .orElseThrow(() -> new EntityNotFoundException("Column no longer exists"));
+        ColdCardDocument document = read(coldCard.getDocument());
+
+        Card card = Card.builder()
+                .title(document.title())
+                .description(document.description())
+                .archived(document.archived())
+                .achieved(document.achieved())
+                .dueDate(document.dueDate())
+                .startDate(document.startDate())
+                .priority(document.priority())
+                .column(column)
+                .position(cardRepository.findNextPosition(column.getId()))
+                .labels(new HashSet<>(labelRepository.findAllById(document.labelIds())))
+                .build();
+        card.setId(document.id());
+
+        // Members and comment authors whose accounts are gone cannot be restored
+        Set<UUID> userIds = new HashSet<>();
+        document.members().forEach(m -> userIds.add(m.userId()));
+        document.comments().forEach(c -> userIds.add(c.authorId()));
+        Map<UUID, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        Map<AuditableEntity, Instant> createdAt = new HashMap<>();
+        createdAt.put(card, document.createdAt());
+        for (ColdMember m : document.members()) {
+            if (!users.containsKey(m.userId())) continue;
+            CardMember member = CardMember.builder().card(card).user(users.get(m.userId())).role(m.role()).build();
+            member.setId(m.id());
+            card.getMembers().add(member);
+            createdAt.put(member, m.createdAt());
+        }
+        for (ColdComment c : document.comments()) {
+            if (!users.containsKey(c.authorId())) continue;
+            Comment comment = Comment.builder().card(card).author(users.get(c.authorId()))
+                    .content(c.content()).edited(c.edited()).build();
+            comment.setId(c.id());
+            card.getComments().add(comment);
+            createdAt.put(comment, c.createdAt());
+        }
+        for (ColdAttachment a : document.attachments()) {
+            Attachment attachment = Attachment.builder().card(card).fileName(a.fileName()).fileUrl(a.fileUrl())
+                    .fileSize(a.fileSize()).mimeType(a.mimeType()).contentHash(a.contentHash()).build();
+            attachment.setId(a.id());
+            card.getAttachments().add(attachment);
+            createdAt.put(attachment, a.createdAt());
+        }
+
+        // persist, not save: the id is already set, and the rows must be inserted rather than merged
+        entityManager.persist(card);
+        entityManager.flush();
+        // Auditing stamps creation time on insert; put the original back so comment order survives the round trip
+        createdAt.forEach(AuditableEntity::setCreatedAt);
+        card.setCreatedBy(document.createdBy());
+
+        coldCardRepository.delete(coldCard);
+        Instant now = Instant.now();
+        columnRepository.adjustCardCount(column.getId(), 1, now);
+        cardRepository.adjustCommentCount(card.getId(), card.getComments().size(), now);
+        cardRepository.adjustAttachmentCount(card.getId(), card.getAttachments().size(), now);
+        card.setCommentCount(card.getComments().size());
+        card.setAttachmentCount(card.getAttachments().size());
+        eventPublisher.publishEvent(BoardChangedEvent.cards(column.getBoard().getId(), Set.of(column.getId()), card.getId()));
+
+        activityService.logBoardActivity(column.getBoard().getId(), card.getId(), "Card", "RESTORE",
+                "Card '" + card.getTitle() + "' was restored from the archive", getCurrentUserId());
+
+        return BoardMapper.toCardDto(card);
+    }
+
+    private ColdCardDocument toDocument(Card card) {
+        return new ColdCardDocument(
+                card.getId(), card.getTitle(), card.getDescription(), card.isArchived(), card.isAchieved(),
+                card.getDueDate(), card.getStartDate(), card.getPriority(), card.getCreatedAt(), card.getCreatedBy(),
+                card.getMembers().stream()
+                        .map(m -> new ColdMember(m.getId(), m.getUser().getId(), m.getRole(), m.getCreatedAt()))
+                        .collect(Collectors.toList()),
+                card.getComments().stream()
+                        .sorted(Comparator.comparing(Comment::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder())))
+                        .map(c -> new ColdComment(c.getId(), c.getAuthor().getId(), c.getContent(), c.isEdited(), c.getCreatedAt()))
+                        .collect(Collectors.toList()),
+                card.getAttachments().stream()
+                        .map(a -> new ColdAttachment(a.getId(), a.getFileName(), a.getFileUrl(), a.getFileSize(),
+                                a.getMimeType(), a.getContentHash(), a.getCreatedAt()))
+                        .collect(Collectors.toList()),
+                card.getLabels().stream().map(Label::getId).collect(Collectors.toList()));
+    }
+
+    private ColdCardDto toDto(ColdCard coldCard) {
+        return ColdCardDto.builder()
+                .id(coldCard.getCardId())
+                .title(coldCard.getTitle())
+                .archived(coldCard.isArchived())
+                .achieved(coldCard.isAchieved())
+                .columnId(coldCard.getColumnId())
+                .boardId(coldCard.getBoardId())
+                .tieredAt(coldCard.getTieredAt())
+                .build();
+    }
+
+    private ColdCardDocument read(String document) {
+        try {
+            return objectMapper.readValue(document, ColdCardDocument.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read cold card", e);
+        }
+    }
+
+    private String write(ColdCardDocument document) {
+        try {
+            return objectMapper.writeValueAsString(document);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not write cold card", e);
+        }
+    }
+
+    private UUID getCurrentUserId() {
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        if (principal instanceof CustomUserDetails) {
+            return ((CustomUserDetails) principal).getId();
+        }
+        return null;
+    }
+}
@@ -3,12 +3,15 @@ package com.taskflow.kanban.board.service.impl;
 import com.taskflow.kanban.board.dto.ColumnCreateDto;
 import com.taskflow.kanban.board.dto.ColumnDto;
 import com.taskflow.kanban.board.dto.ColumnUpdateDto;
+import com.taskflow.kanban.board.dto.mappers.BoardMapper;
 import com.taskflow.kanban.board.entity.Board;
 import com.taskflow.kanban.board.entity.BoardColumn;
 import com.taskflow.kanban.board.entity.Card;
+import com.taskflow.kanban.board.event.BoardChangedEvent;
 import com.taskflow.kanban.board.repository.AttachmentRepository;
 import com.taskflow.kanban.board.repository.BoardRepository;
 import com.taskflow.kanban.board.repository.CardRepository;
+import com.taskflow.kanban.board.repository.ColdCardRepository;
 import com.taskflow.kanban.board.repository.ColumnRepository;
 import com.taskflow.kanban.board.repository.CommentRepository;
 import com.taskflow.kanban.board.service.ActivityService;
@@ -17,6 +20,7 @@ import com.taskflow.kanban.board.service.ColumnService;
 import com.taskflow.kanban.security.CustomUserDetails;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,9 +38,11 @@ public class ColumnServiceImpl implements ColumnService {
     private final BoardRepository boardRepository;
     private final BoardService boardService;
     private final CardRepository cardRepository;
+    private final ColdCardRepository coldCardRepository;
     private final AttachmentRepository attachmentRepository;
     private final CommentRepository commentRepository;
     private final ActivityService activityService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public ColumnDto createColumn(ColumnCreateDto createDto) {
@@ -56,7 +62,8 @@ public class ColumnServiceImpl implements ColumnService {
                 .build();
 
         BoardColumn savedColumn = columnRepository.save(column);
-        activityService.logActivity(savedColumn.getId(), "Column", "CREATE",
+        eventPublisher.publishEvent(BoardChangedEvent.columns(board.getId()));
+        activityService.logBoardActivity(board.getId(), savedColumn.getId(), "Column", "CREATE",
                 "Column '" + savedColumn.getName() + "' was created in board '" + board.getName() + "'",
                 getCurrentUserId());
         return toDto(savedColumn);
@@ -87,7 +94,8 @@ public class ColumnServiceImpl implements ColumnService {
         if (updateDto.getArchived() != null) column.setArchived(updateDto.getArchived());
 
         BoardColumn updatedColumn = columnRepository.save(column);
-        activityService.logActivity(id, "Column", "UPDATE",
+        eventPublisher.publishEvent(BoardChangedEvent.columns(updatedColumn.getBoard().getId()));
+        activityService.logBoardActivity(updatedColumn.getBoard().getId(), id, "Column", "UPDATE",
                 "Column '" + updatedColumn.getName() + "' was updated",
                 getCurrentUserId());
         return toDto(updatedColumn);
@@ -108,8 +116,10 @@ public class ColumnServiceImpl implements ColumnService {
             commentRepository.deleteAll(commentRepository.findByCardIdOrderByCreatedAtAsc(card.getId()));
             cardRepository.delete(card);
         }
+        coldCardRepository.deleteAttachmentHashesByColumnId(id);
+        coldCardRepository.deleteByColumnId(id);
         columnRepository.delete(columnToDelete);
-        activityService.logActivity(id, "Column", "DELETE",
+        activityService.logBoardActivity(boardId, id, "Column", "DELETE",
                 "Column '" + columnName + "' was deleted",
                 getCurrentUserId());
 
@@ -120,6 +130,7 @@ public class ColumnServiceImpl implements ColumnService {
             }
         }
         columnRepository.saveAll(columnsToUpdate);
+        eventPublisher.publishEvent(BoardChangedEvent.columns(boardId));
     }
 
     private BoardColumn findColumn(UUID id) {
@@ -128,14 +139,7 @@ public class ColumnServiceImpl implements ColumnService {
     }
 
     private ColumnDto toDto(BoardColumn column) {
-        return ColumnDto.builder()
-                .id(column.getId())
-                .name(column.getName())
-                .position(column.getPosition())
-                .wipLimit(column.getWipLimit())
-                .archived(column.isArchived())
-                .boardId(column.getBoard().getId())
-                .build();
+        return BoardMapper.toColumnDto(column);
     }
 
     private UUID getCurrentUserId() {
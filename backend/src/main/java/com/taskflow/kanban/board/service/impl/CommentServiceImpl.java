@@ -4,20 +4,30 @@ import com.taskflow.kanban.board.dto.CommentCreateDto;
 import com.taskflow.kanban.board.dto.CommentDto;
 import com.taskflow.kanban.board.entity.Card;
 import com.taskflow.kanban.board.entity.Comment;
+import com.taskflow.kanban.board.event.BoardChangedEvent;
 import com.taskflow.kanban.board.repository.CardRepository;
 import com.taskflow.kanban.board.repository.CommentRepository;
+import com.taskflow.kanban.board.repository.CommentView;
 import com.taskflow.kanban.board.service.ActivityService;
+import com.taskflow.kanban.board.service.BoardService;
 import com.taskflow.kanban.board.service.CommentService;
+import com.taskflow.kanban.dto.CursorPageResponse;
+import com.taskflow.kanban.dto.KeysetCursor;
 import com.taskflow.kanban.security.CustomUserDetails;
 import com.taskflow.kanban.user.entity.User;
 import com.taskflow.kanban.user.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -26,10 +36,14 @@ import java.util.stream.Collectors;
 @Transactional
 public class CommentServiceImpl implements CommentService {
 
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final CommentRepository commentRepository;
     private final CardRepository cardRepository;
     private final UserRepository userRepository;
     private final ActivityService activityService;
+    private final BoardService boardService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public CommentDto createComment(CommentCreateDto createDto) {
@@ -46,8 +60,9 @@ public class CommentServiceImpl implements CommentService {
                 .build();
         
         Comment savedComment = commentRepository.save(comment);
+        adjustCommentCount(card, 1);
 
-        activityService.logActivity(card.getId(), "Card", "COMMENT", 
+        activityService.logBoardActivity(card.getColumn().getBoard().getId(), card.getId(), "Card", "COMMENT", 
             "User '" + author.getUsername() + "' commented: '" + savedComment.getContent() + "'", author.getId());
 
         return toDto(savedComment);
@@ -56,11 +71,53 @@ public class CommentServiceImpl implements CommentService {
     @Override
     @Transactional(readOnly = true)
     public List<CommentDto> getCommentsByCard(UUID cardId) {
-        return commentRepository.findByCardIdOrderByCreatedAtAsc(cardId).stream()
+        requireCardAccess(cardId);
+        return commentRepository.findViewsByCardId(cardId).stream()
                 .map(this::toDto)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CommentDto> getCommentPage(UUID cardId, String cursor, int limit, Sort.Direction order) {
+        requireCardAccess(cardId);
+        return loadCommentPage(cardId, cursor, limit, order);
+    }
+
+    /**
+     * {@link #getCommentPage} without the access check, for the card detail read, which has already made it. Package
+     * private so nothing outside this package can skip the check.
+     */
+    @Transactional(readOnly = true)
+    CursorPageResponse<CommentDto> loadCommentPage(UUID cardId, String cursor, int limit, Sort.Direction order) {
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        boolean newestFirst = order == Sort.Direction.DESC;
+        // The cursor is the (createdAt, id) of the last comment on the previous page
+        KeysetCursor after = KeysetCursor.parse(cursor, newestFirst ? KeysetCursor.LAST : KeysetCursor.FIRST);
+        // Fetch one extra row to learn whether another page exists
+        List<CommentView> comments = newestFirst
+                ? commentRepository.findViewsBefore(cardId, after.timestamp(), after.id(), Limit.of(size + 1))
+                : commentRepository.findViewsAfter(cardId, after.timestamp(), after.id(), Limit.of(size + 1));
+        boolean hasMore = comments.size() > size;
+        if (hasMore) {
+            comments = comments.subList(0, size);
+        }
+        CommentView last = hasMore ? comments.get(comments.size() - 1) : null;
+        return CursorPageResponse.<CommentDto>builder()
+                .content(comments.stream().map(this::toDto).collect(Collectors.toList()))
+                .nextCursor(last != null ? new KeysetCursor(last.getCreatedAt(), last.getId()).toString() : null)
+                .hasMore(hasMore)
+                .totalElements(commentCount(cardId))
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countCommentsByCard(UUID cardId) {
+        requireCardAccess(cardId);
+        return commentCount(cardId);
+    }
+
     @Override
     public CommentDto updateComment(UUID commentId, String content) {
         Comment comment = findComment(commentId);
@@ -70,7 +127,7 @@ public class CommentServiceImpl implements CommentService {
         
         Comment updatedComment = commentRepository.save(comment);
         
-        activityService.logActivity(comment.getCard().getId(), "Card", "COMMENT_EDIT", 
+        activityService.logBoardActivity(comment.getCard().getColumn().getBoard().getId(), comment.getCard().getId(), "Card", "COMMENT_EDIT", 
             "A comment was edited", getCurrentUserId());
             
         return toDto(updatedComment);
@@ -81,8 +138,9 @@ public class CommentServiceImpl implements CommentService {
         Comment comment = findComment(commentId);
         // TODO: Add security check to ensure only author or admin can delete
         commentRepository.delete(comment);
+        adjustCommentCount(comment.getCard(), -1);
         
-        activityService.logActivity(comment.getCard().getId(), "Card", "COMMENT_DELETE", 
+        activityService.logBoardActivity(comment.getCard().getColumn().getBoard().getId(), comment.getCard().getId(), "Card", "COMMENT_DELETE", 
             "A comment was deleted", getCurrentUserId());
     }
 
@@ -91,6 +149,38 @@ public class CommentServiceImpl implements CommentService {
                 .orElseThrow(() -> new EntityNotFoundException("Comment not found"));
     }
 
+    private void adjustCommentCount(Card card, int delta) {
+        cardRepository.adjustCommentCount(card.getId(), delta, Instant.now());
+        // The bulk update bypasses the managed card; mirror it so the board views patched below see the new count
+        card.setCommentCount(card.getCommentCount() + delta);
+        eventPublisher.publishEvent(BoardChangedEvent.cards(card.getColumn().getBoard().getId(),
+                Set.of(card.getColumn().getId()), card.getId()));
+    }
+
+    /** The card's comment counter rather than a count of its comments; comments only change through this service. */
+    private long commentCount(UUID cardId) {
+        return cardRepository.findCommentCountById(cardId)
+                .orElseThrow(() -> new EntityNotFoundException("Card not found"));
+    }
+
+    private void requireCardAccess(UUID cardId) {
+        boardService.requireBoardAccess(cardRepository.findBoardIdById(cardId)
+                .orElseThrow(() -> new EntityNotFoundException("Card not found")));
+    }
+
+    private CommentDto toDto(CommentView comment) {
+        return CommentDto.builder()
+                .id(comment.getId())
+                .content(comment.getContent())
+                .edited(comment.isEdited())
+                .cardId(comment.getCardId())
+                .authorId(comment.getAuthorId())
+                .authorUsername(comment.getAuthorUsername())
+                .createdAt(comment.getCreatedAt())
+                .updatedAt(comment.getUpdatedAt())
+                .build();
+    }
+
     private CommentDto toDto(Comment comment) {
         return CommentDto.builder()
                 .id(comment.getId())
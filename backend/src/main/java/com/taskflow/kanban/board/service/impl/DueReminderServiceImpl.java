@@ -0,0 +1,249 @@
+package com.taskflow.kanban.board.service.impl;
+
+import com.taskflow.kanban.board.entity.ReminderDelivery;
+import com.taskflow.kanban.board.event.DueRemindersEvent;
+import com.taskflow.kanban.board.event.DueRemindersEvent.Kind;
+import com.taskflow.kanban.board.event.DueRemindersEvent.Reminder;
+import com.taskflow.kanban.board.reminder.HierarchicalTimingWheel;
+import com.taskflow.kanban.board.repository.CardDue;
+import com.taskflow.kanban.board.repository.CardRepository;
+import com.taskflow.kanban.board.repository.ReminderDeliveryRepository;
+import com.taskflow.kanban.board.service.DueReminderService;
+import com.taskflow.kanban.config.DueReminderProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Due-date reminders from an in-memory {@link HierarchicalTimingWheel} instead of scanning the cards table every
+ * tick. The wheel holds only the reminders that fire within the look-ahead window; a periodic refill reads the next
+ * stretch of the window from the due_date index, and card writes move or cancel their own reminders in O(1).
+ * <p>
+ * Nothing is persisted: after a restart the first refill reloads the window, and reminders that would have fired
+ * while the application was down are not sent. Fired reminders are checked against the cards in one query per batch,
+ * so a reminder left behind by a write the wheel missed (a rolled-back transaction, another node) is dropped rather
+ * than delivered; a batch whose check fails goes back into the wheel and fires again on the next tick.
+ * <p>
+ * Every node runs its own wheel and fires the same reminders. Each batch is claimed in reminder_deliveries and
+ * published in the same transaction, and only the node whose claim lands sends a reminder; a listener failure rolls
+ * the claims back with it, so the reminder is retried rather than lost.
+ */
+@Slf4j
+@Service
+public class DueReminderServiceImpl implements DueReminderService {
+
+    /** A card's reminder of one kind; there is at most one of each per card. */
+    private record Key(UUID cardId, Kind kind) {
+    }
+
+    private final CardRepository cardRepository;
+    private final ReminderDeliveryRepository reminderDeliveryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final long tickMillis;
+    private final Duration lookAhead;
+    private final Map<Kind, Duration> leads;
+    private final int batchSize;
+
+    /** Values are the due date each reminder was set for. Guarded by this. */
+    private final HierarchicalTimingWheel<Key, Instant> wheel;
+    /** Reminders firing before this instant are in the wheel; null until the first refill. Guarded by this. */
+    private Instant loadedUntil;
+
+    public DueReminderServiceImpl(CardRepository cardRepository, ReminderDeliveryRepository reminderDeliveryRepository,
+                                  PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher,
+                                  MeterRegistry meterRegistry, DueReminderProperties properties) {
+        this.cardRepository = cardRepository;
+        this.reminderDeliveryRepository = reminderDeliveryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.tickMillis = properties.getTick().toMillis();
+        this.lookAhead = properties.getLookAhead();
+        this.leads = Map.of(Kind.DUE_SOON, properties.getDueSoonLead(), Kind.OVERDUE, Duration.ZERO);
+        this.batchSize = properties.getBatchSize();
+        int levels = HierarchicalTimingWheel.levelsFor(properties.getWheelSize(), lookAhead.toMillis() / tickMillis + 1);
+        this.wheel = new HierarchicalTimingWheel<>(properties.getWheelSize(), levels, tick(Instant.now()));
+    }
+
+    @Override
+    public void reschedule(UUID cardId, Instant dueDate) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(cardId, dueDate);
+                }
+            });
+        } else {
+            apply(cardId, dueDate);
+        }
+    }
+
+    private synchronized void apply(UUID cardId, Instant dueDate) {
+        for (Kind kind : Kind.values()) {
+            Key key = new Key(cardId, kind);
+            wheel.cancel(key);
+            if (dueDate == null || loadedUntil == null) {
+                continue;
+            }
+            // Reminders whose moment has passed are not sent late; ones past the loaded window wait for a refill
+            Instant fireAt = dueDate.minus(leads.get(kind));
+            long fireTick = tick(fireAt);
+            if (fireTick > wheel.currentTick() && fireAt.isBefore(loadedUntil)) {
+                wheel.schedule(key, fireTick, dueDate);
+            }
+        }
+    }
+
+    /** Not transactional: the purge writes, and each read takes a connection only for its own query. */
+    @Override
+    public void refill(Instant now) {
+        Instant previous;
+        Instant from;
+        // Whole milliseconds, so the database compares consecutive windows' shared bound the same way on both sides
+        Instant until = now.plus(lookAhead).truncatedTo(ChronoUnit.MILLIS);
+        synchronized (this) {
+            previous = loadedUntil;
+            from = loadedUntil != null ? loadedUntil : now.truncatedTo(ChronoUnit.MILLIS);
+            if (!from.isBefore(until)) {
+                return;
+            }
+            // Claimed before reading, so card writes from here on schedule into the new stretch themselves
+            loadedUntil = until;
+        }
+        int loaded = 0;
+        try {
+            for (Kind kind : Kind.values()) {
+                Duration lead = leads.get(kind);
+                List<CardDue> cards = cardRepository.findDueBetween(from.plus(lead), until.plus(lead));
+                synchronized (this) {
+                    for (CardDue card : cards) {
+                        long fireTick = tick(card.getDueDate().minus(lead));
+                        // A write since the read has already scheduled the card with its newer due date
+                        if (fireTick > wheel.currentTick()
+                                && wheel.scheduleIfAbsent(new Key(card.getId(), kind), fireTick, card.getDueDate())) {
+                            loaded++;
+                        }
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                // Hand the stretch back for the next refill to read again; what was scheduled from it stays, and
+                // scheduleIfAbsent keeps the second read from adding it twice
+                if (until.equals(loadedUntil)) {
+                    loadedUntil = previous;
+                }
+            }
+            throw e;
+        }
+        log.debug("Loaded {} due-date reminders firing before {}", loaded, until);
+        // Claims only matter while the nodes may still fire the reminder; a retried one fires within a tick or two
+        reminderDeliveryRepository.deleteByDueDateBefore(now.minus(lookAhead));
+    }
+
+    /** Not transactional: most ticks fire nothing and should not take a connection. */
+    @Override
+    public int fireDue(Instant now) {
+        List<Key> keys = new ArrayList<>();
+        List<Instant> dueDates = new ArrayList<>();
+        synchronized (this) {
+            wheel.advanceTo(tick(now), (key, dueDate) -> {
+                keys.add(key);
+                dueDates.add(dueDate);
+            });
+        }
+        int delivered = 0;
+        for (int start = 0; start < keys.size(); start += batchSize) {
+            int end = Math.min(start + batchSize, keys.size());
+            List<Key> batch = keys.subList(start, end);
+            try {
+                delivered += deliver(batch, dueDates.subList(start, end), now);
+            } catch (RuntimeException e) {
+                log.warn("Could not deliver {} due-date reminders; retrying next tick", batch.size(), e);
+                retry(batch, dueDates.subList(start, end));
+            }
+        }
+        return delivered;
+    }
+
+    /**
+     * Puts a batch back to fire on the next tick. A reminder a card write has replaced meanwhile keeps the newer one,
+     * and one already claimed before the failure is not delivered twice.
+     */
+    private synchronized void retry(List<Key> keys, List<Instant> dueDates) {
+        for (int i = 0; i < keys.size(); i++) {
+            wheel.scheduleIfAbsent(keys.get(i), wheel.currentTick() + 1, dueDates.get(i));
+        }
+    }
+
+    private int deliver(List<Key> keys, List<Instant> dueDates, Instant now) {
+        Map<UUID, CardDue> cards = cardRepository.findDueByIdIn(keys.stream().map(Key::cardId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(CardDue::getId, Function.identity()));
+        List<Reminder> due = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            Key key = keys.get(i);
+            CardDue card = cards.get(key.cardId());
+            // Compared at millisecond precision; the database may keep less than the instant was scheduled with
+            if (card != null && card.getDueDate() != null
+                    && card.getDueDate().toEpochMilli() == dueDates.get(i).toEpochMilli()) {
+                due.add(new Reminder(card.getId(), card.getBoardId(), card.getTitle(), card.getDueDate(), key.kind()));
+            }
+        }
+        if (due.isEmpty()) {
+            return 0;
+        }
+        // Claimed with the card's stored due date, so every node writes the same key. Published before the claims
+        // commit: a listener that throws rolls them back, and the batch goes back into the wheel to fire again
+        List<ReminderDelivery.Key> claims = due.stream()
+                .map(reminder -> new ReminderDelivery.Key(reminder.cardId(), reminder.kind(), reminder.dueDate()))
+                .toList();
+        List<Reminder> reminders = transactionTemplate.execute(status -> {
+            Set<ReminderDelivery.Key> claimed = new HashSet<>(reminderDeliveryRepository.claimAll(claims, now));
+            List<Reminder> mine = new ArrayList<>();
+            for (int i = 0; i < due.size(); i++) {
+                if (claimed.contains(claims.get(i))) {
+                    mine.add(due.get(i));
+                }
+            }
+            if (!mine.isEmpty()) {
+                eventPublisher.publishEvent(new DueRemindersEvent(mine));
+            }
+            return mine;
+        });
+        for (Reminder reminder : reminders) {
+            meterRegistry.counter("taskflow.reminders.delivered", "kind", reminder.kind().name()).increment();
+        }
+        return reminders.size();
+    }
+
+    @Override
+    public synchronized int pending() {
+        return wheel.size();
+    }
+
+    /** The wheel tick an instant falls in, rounded up so reminders never fire early. */
+    private long tick(Instant instant) {
+        return Math.ceilDiv(instant.toEpochMilli(), tickMillis);
+    }
+}
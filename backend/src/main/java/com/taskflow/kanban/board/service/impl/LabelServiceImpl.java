@@ -3,19 +3,25 @@ package com.taskflow.kanban.board.service.impl;
 import com.taskflow.kanban.board.dto.LabelCreateDto;
 import com.taskflow.kanban.board.dto.LabelDto;
 import com.taskflow.kanban.board.dto.LabelUpdateDto;
+import com.taskflow.kanban.board.dto.mappers.BoardMapper;
 import com.taskflow.kanban.board.entity.Board;
+import com.taskflow.kanban.board.entity.BoardColumn;
 import com.taskflow.kanban.board.entity.Card;
 import com.taskflow.kanban.board.entity.Label;
+import com.taskflow.kanban.board.event.BoardChangedEvent;
 import com.taskflow.kanban.board.repository.BoardRepository;
 import com.taskflow.kanban.board.repository.CardRepository;
 import com.taskflow.kanban.board.repository.LabelRepository;
 import com.taskflow.kanban.board.service.LabelService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -27,6 +33,7 @@ public class LabelServiceImpl implements LabelService {
     private final LabelRepository labelRepository;
     private final BoardRepository boardRepository;
     private final CardRepository cardRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public LabelDto createLabel(LabelCreateDto createDto) {
@@ -39,7 +46,9 @@ public class LabelServiceImpl implements LabelService {
                 .board(board)
                 .build();
 
-        return toDto(labelRepository.save(label));
+        Label savedLabel = labelRepository.save(label);
+        eventPublisher.publishEvent(BoardChangedEvent.labels(board.getId()));
+        return toDto(savedLabel);
     }
 
     @Override
@@ -61,12 +70,16 @@ public class LabelServiceImpl implements LabelService {
         Label label = findLabel(id);
         if (updateDto.getName() != null) label.setName(updateDto.getName());
         if (updateDto.getColor() != null) label.setColor(updateDto.getColor());
-        return toDto(labelRepository.save(label));
+        Label updatedLabel = labelRepository.save(label);
+        eventPublisher.publishEvent(BoardChangedEvent.labels(updatedLabel.getBoard().getId()));
+        return toDto(updatedLabel);
     }
 
     @Override
     public void deleteLabel(UUID id) {
-        labelRepository.delete(findLabel(id));
+        Label label = findLabel(id);
+        labelRepository.delete(label);
+        eventPublisher.publishEvent(BoardChangedEvent.labels(label.getBoard().getId()));
     }
 
     @Override
@@ -74,16 +87,35 @@ public class LabelServiceImpl implements LabelService {
         Card card = cardRepository.findById(cardId)
                 .orElseThrow(() -> new EntityNotFoundException("Card not found"));
         Label label = findLabel(labelId);
-        card.getLabels().add(label);
+        if (card.getLabels().add(label)) {
+            touch(card);
+        }
         cardRepository.save(card);
+        publishCardChanged(card);
     }
 
     @Override
     public void removeLabelFromCard(UUID cardId, UUID labelId) {
         Card card = cardRepository.findById(cardId)
                 .orElseThrow(() -> new EntityNotFoundException("Card not found"));
-        card.getLabels().removeIf(label -> label.getId().equals(labelId));
+        if (card.getLabels().removeIf(label -> label.getId().equals(labelId))) {
+            touch(card);
+        }
         cardRepository.save(card);
+        publishCardChanged(card);
+    }
+
+    /**
+     * A link change alone leaves the card row untouched, and swapping one label for another keeps the label count and
+     * newest label timestamp the same; bumping the card is what moves the cards ETag.
+     */
+    private void touch(Card card) {
+        card.setUpdatedAt(Instant.now());
+    }
+
+    private void publishCardChanged(Card card) {
+        BoardColumn column = card.getColumn();
+        eventPublisher.publishEvent(BoardChangedEvent.cards(column.getBoard().getId(), Set.of(column.getId()), card.getId()));
     }
 
     private Label findLabel(UUID id) {
@@ -92,11 +124,6 @@ public class LabelServiceImpl implements LabelService {
     }
 
     private LabelDto toDto(Label label) {
-        return LabelDto.builder()
-                .id(label.getId())
-                .name(label.getName())
-                .color(label.getColor())
-                .boardId(label.getBoard().getId())
-                .build();
+        return BoardMapper.toLabelDto(label);
     }
 }
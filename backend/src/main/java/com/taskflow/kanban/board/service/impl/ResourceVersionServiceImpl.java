@@ -0,0 +1,97 @@
+package com.taskflow.kanban.board.service.impl;
+
+import com.taskflow.kanban.board.repository.AttachmentRepository;
+import com.taskflow.kanban.board.repository.BoardMemberRepository;
+import com.taskflow.kanban.board.repository.BoardRepository;
+import com.taskflow.kanban.board.repository.CardRepository;
+import com.taskflow.kanban.board.repository.ColumnRepository;
+import com.taskflow.kanban.board.repository.CommentRepository;
+import com.taskflow.kanban.board.repository.LabelRepository;
+import com.taskflow.kanban.board.repository.RowVersion;
+import com.taskflow.kanban.board.service.BoardService;
+import com.taskflow.kanban.board.service.ResourceVersionService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ResourceVersionServiceImpl implements ResourceVersionService {
+
+    private final BoardService boardService;
+    private final BoardRepository boardRepository;
+    private final BoardMemberRepository boardMemberRepository;
+    private final ColumnRepository columnRepository;
+    private final CardRepository cardRepository;
+    private final LabelRepository labelRepository;
+    private final CommentRepository commentRepository;
+    private final AttachmentRepository attachmentRepository;
+
+    @Override
+    public String getBoardVersion(UUID boardId) {
+        // Access is checked before answering so a 304 never confirms a board the caller cannot see
+        boardService.requireBoardAccess(boardId);
+        // The board DTO embeds the workspace name and member usernames, so their rows are part of the tag too
+        return etag("board", boardId,
+                boardRepository.findVersionById(boardId),
+                boardRepository.findWorkspaceVersionById(boardId),
+                boardMemberRepository.findVersionByBoardId(boardId),
+                boardMemberRepository.findUserVersionByBoardId(boardId));
+    }
+
+    @Override
+    public String getColumnsVersion(UUID boardId) {
+        boardService.requireBoardAccess(boardId);
+        return etag("columns", boardId, columnRepository.findVersionByBoardId(boardId));
+    }
+
+    @Override
+    public String getCardsVersion(UUID columnId) {
+        boardService.requireBoardAccess(columnRepository.findBoardIdById(columnId)
+                .orElseThrow(() -> new EntityNotFoundException("Column not found")));
+        // Card DTOs embed members and labels, so their versions are part of the tag too
+        return etag("cards", columnId,
+                cardRepository.findVersionByColumnId(columnId),
+                cardRepository.findMemberVersionByColumnId(columnId),
+                cardRepository.findMemberUserVersionByColumnId(columnId),
+                cardRepository.findLabelVersionByColumnId(columnId));
+    }
+
+    @Override
+    public String getLabelsVersion(UUID boardId) {
+        boardService.requireBoardAccess(boardId);
+        return etag("labels", boardId, labelRepository.findVersionByBoardId(boardId));
+    }
+
+    @Override
+    public String getCommentsVersion(UUID cardId) {
+        requireCardAccess(cardId);
+        return etag("comments", cardId, commentRepository.findVersionByCardId(cardId));
+    }
+
+    @Override
+    public String getAttachmentsVersion(UUID cardId) {
+        requireCardAccess(cardId);
+        return etag("attachments", cardId, attachmentRepository.findVersionByCardId(cardId));
+    }
+
+    private void requireCardAccess(UUID cardId) {
+        boardService.requireBoardAccess(cardRepository.findBoardIdById(cardId)
+                .orElseThrow(() -> new EntityNotFoundException("Card not found")));
+    }
+
+    private String etag(String resource, UUID scopeId, RowVersion... versions) {
+        StringBuilder sb = new StringBuilder(resource).append(':').append(scopeId);
+        for (RowVersion version : versions) {
+            sb.append('|').append(version.getRowCount())
+              .append('@').append(version.getLastModified());
+        }
+        return DigestUtils.md5DigestAsHex(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
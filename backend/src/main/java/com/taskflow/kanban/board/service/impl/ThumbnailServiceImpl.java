@@ -0,0 +1,167 @@
+package com.taskflow.kanban.board.service.impl;
+
+import com.taskflow.kanban.board.entity.PendingThumbnail;
+import com.taskflow.kanban.board.repository.PendingThumbnailRepository;
+import com.taskflow.kanban.board.service.ThumbnailService;
+import com.taskflow.kanban.config.ThumbnailProperties;
+import com.taskflow.kanban.exception.ResourceNotFoundException;
+import com.taskflow.kanban.storage.BlobStore;
+import com.taskflow.kanban.storage.ThumbnailCache;
+import com.taskflow.kanban.storage.ThumbnailRenderer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.awt.image.BufferedImage;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders thumbnails of stored images in the background. The queue is the thumbnail_queue table, written in the same
+ * transaction as the attachment, so no image is lost to a restart; a fixed pool of workers renders what the poller
+ * (ThumbnailQueueJob) claims, and the poller claims no more than the pool's queue has room for.
+ */
+@Service
+@Transactional
+public class ThumbnailServiceImpl implements ThumbnailService {
+
+    private static final Logger log = LoggerFactory.getLogger(ThumbnailServiceImpl.class);
+
+    private final PendingThumbnailRepository pendingThumbnailRepository;
+    private final BlobStore blobStore;
+    private final ThumbnailCache thumbnailCache;
+    private final ThumbnailRenderer thumbnailRenderer;
+    private final ThumbnailProperties properties;
+    private final ThreadPoolExecutor workers;
+
+    public ThumbnailServiceImpl(PendingThumbnailRepository pendingThumbnailRepository,
+                                BlobStore blobStore,
+                                ThumbnailCache thumbnailCache,
+                                ThumbnailRenderer thumbnailRenderer,
+                                ThumbnailProperties properties) {
+        this.pendingThumbnailRepository = pendingThumbnailRepository;
+        this.blobStore = blobStore;
+        this.thumbnailCache = thumbnailCache;
+        this.thumbnailRenderer = thumbnailRenderer;
+        this.properties = properties;
+        this.workers = new ThreadPoolExecutor(properties.getWorkerThreads(), properties.getWorkerThreads(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new CustomizableThreadFactory("thumbnail-"));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // Images claimed but not rendered are picked up again once their lease runs out
+        workers.shutdownNow();
+    }
+
+    @Override
+    public void enqueue(String contentHash, String mimeType) {
+        if (contentHash != null && thumbnailRenderer.supports(mimeType)) {
+            pendingThumbnailRepository.enqueue(contentHash, Instant.now());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, String> thumbnailUrls(UUID attachmentId, String contentHash, String mimeType) {
+        if (contentHash == null || !thumbnailRenderer.supports(mimeType)) {
+            return null;
+        }
+        Map<String, String> urls = new LinkedHashMap<>();
+        for (String size : properties.getSizes().keySet()) {
+            urls.put(size, "/attachments/" + attachmentId + "/thumbnails/" + size);
+        }
+        return urls;
+    }
+
+    @Override
+    @Transactional(noRollbackFor = ResourceNotFoundException.class)
+    public Path getThumbnail(String contentHash, String mimeType, String size) {
+        Integer edge = properties.getSizes().get(size);
+        if (edge == null || contentHash == null || !thumbnailRenderer.supports(mimeType)) {
+            throw new ResourceNotFoundException("No such thumbnail");
+        }
+        Optional<Path> thumbnail = thumbnailCache.get(cacheKey(contentHash, edge));
+        if (thumbnail.isEmpty()) {
+            pendingThumbnailRepository.enqueue(contentHash, Instant.now());
+            throw new ResourceNotFoundException("Thumbnail is not ready yet");
+        }
+        return thumbnail.get();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int dispatchQueued() {
+        int room = workers.getQueue().remainingCapacity();
+        if (room == 0) {
+            return 0;
+        }
+        Instant now = Instant.now();
+        int dispatched = 0;
+        for (PendingThumbnail pending : pendingThumbnailRepository.findClaimable(now, properties.getMaxAttempts(),
+                Limit.of(room))) {
+            String contentHash = pending.getContentHash();
+            if (pendingThumbnailRepository.claim(contentHash, now, now.plus(properties.getLease())) == 0) {
+                continue;
+            }
+            int attempt = pending.getAttempts() + 1;
+            try {
+                workers.execute(() -> render(contentHash, attempt));
+                dispatched++;
+            } catch (RejectedExecutionException e) {
+                pendingThumbnailRepository.release(contentHash, null);
+            }
+        }
+        return dispatched;
+    }
+
+    /** Renders every missing size of one image, largest first, each scaled from the one before. Runs on a worker. */
+    private void render(String contentHash, int attempt) {
+        try {
+            Optional<Path> source = blobStore.file(contentHash);
+            List<Integer> missing = properties.getSizes().values().stream()
+                    .distinct()
+                    .filter(edge -> !thumbnailCache.contains(cacheKey(contentHash, edge)))
+                    .sorted(Comparator.reverseOrder())
+                    .toList();
+            if (source.isPresent() && !missing.isEmpty()) {
+                BufferedImage image = thumbnailRenderer.decode(source.get(), missing.get(0));
+                for (int edge : missing) {
+                    image = thumbnailRenderer.scale(image, edge);
+                    thumbnailCache.put(cacheKey(contentHash, edge), thumbnailRenderer.encode(image));
+                }
+            }
+            pendingThumbnailRepository.deleteById(contentHash);
+        } catch (Exception e) {
+            if (attempt >= properties.getMaxAttempts()) {
+                // The row stays behind, unclaimable, so requests for these thumbnails do not queue the image again
+                log.warn("Giving up on thumbnails for {} after {} attempts", contentHash, attempt, e);
+                return;
+            }
+            Duration backoff = Duration.ofMinutes(1L << Math.min(attempt, 10));
+            log.warn("Rendering thumbnails for {} failed (attempt {}), retrying in {}", contentHash, attempt, backoff, e);
+            pendingThumbnailRepository.release(contentHash, Instant.now().plus(backoff));
+        }
+    }
+
+    private static String cacheKey(String contentHash, int edge) {
+        return contentHash + "-" + edge + ".jpg";
+    }
+}
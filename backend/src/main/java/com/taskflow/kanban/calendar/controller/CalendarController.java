@@ -0,0 +1,78 @@
+package com.taskflow.kanban.calendar.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.kanban.calendar.dto.CalendarEntryDto;
+import com.taskflow.kanban.calendar.service.CalendarService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Calendar and timeline views: the cards whose start-to-due span meets [from, to), as a JSON array. Entries are
+ * serialized straight into the response as the service reads them page by page, so neither side holds the window in
+ * memory and a wide window is simply a longer (chunked) response.
+ * <p>
+ * The trade-off is error handling. A failure while the response is still in the servlet buffer discards the partial
+ * array and gets the normal error status and body. Once the buffer has been flushed the 200 is on the wire and cannot
+ * be taken back; the array is then deliberately left unterminated and the exception propagates, so the container
+ * aborts the response and the client sees a broken body, never a well-formed but silently truncated calendar.
+ */
+@RestController
+@RequestMapping("/calendar")
+@RequiredArgsConstructor
+public class CalendarController {
+
+    private final CalendarService calendarService;
+    private final ObjectMapper objectMapper;
+
+    /** Every board the user can open. */
+    @GetMapping
+    @PreAuthorize("isAuthenticated()")
+    public void getCalendar(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+                            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+                            HttpServletResponse response) throws IOException {
+        writeArray(response, sink -> calendarService.streamCalendar(from, to, sink));
+    }
+
+    @GetMapping("/boards/{boardId}")
+    @PreAuthorize("isAuthenticated()")
+    public void getBoardCalendar(@PathVariable UUID boardId,
+                                 @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+                                 @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+                                 HttpServletResponse response) throws IOException {
+        writeArray(response, sink -> calendarService.streamBoardCalendar(boardId, from, to, sink));
+    }
+
+    private void writeArray(HttpServletResponse response, Consumer<Consumer<CalendarEntryDto>> query) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        JsonGenerator json = objectMapper.getFactory().createGenerator(response.getOutputStream());
+        try {
+            json.writeStartArray();
+            query.accept(entry -> {
+                try {
+                    json.writeObject(entry);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            json.writeEndArray();
+        } catch (RuntimeException | IOException e) {
+            // Not closing the generator: that would write the closing bracket and make a partial array look whole
+            if (!response.isCommitted()) {
+                response.resetBuffer();
+            }
+            throw e;
+        }
+        json.close();
+    }
+}
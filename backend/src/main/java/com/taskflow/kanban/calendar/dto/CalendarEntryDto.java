@@ -0,0 +1,28 @@
+package com.taskflow.kanban.calendar.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A card on the calendar. It spans startDate to dueDate; a card with only one of the two is a single point in time.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarEntryDto {
+    private UUID cardId;
+    private String title;
+    private Instant startDate;
+    private Instant dueDate;
+    private Integer priority;
+    private boolean achieved;
+    private UUID columnId;
+    private UUID boardId;
+    private String boardName;
+}
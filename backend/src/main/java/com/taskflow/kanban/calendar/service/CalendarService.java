@@ -0,0 +1,18 @@
+package com.taskflow.kanban.calendar.service;
+
+import com.taskflow.kanban.calendar.dto.CalendarEntryDto;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Cards whose start-to-due span meets [from, to), ordered by due date (start date for cards without one). Entries are
+ * read in keyset pages of {@link com.taskflow.kanban.config.CalendarProperties#getPageSize()} and handed to
+ * {@code sink} one at a time, so memory is bounded by a page however wide the window. Access is checked before the
+ * first entry is produced.
+ */
+public interface CalendarService {
+    void streamCalendar(Instant from, Instant to, Consumer<CalendarEntryDto> sink);
+    void streamBoardCalendar(UUID boardId, Instant from, Instant to, Consumer<CalendarEntryDto> sink);
+}
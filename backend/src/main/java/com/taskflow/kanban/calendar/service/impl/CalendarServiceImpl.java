@@ -0,0 +1,89 @@
+package com.taskflow.kanban.calendar.service.impl;
+
+import com.taskflow.kanban.board.repository.CalendarEntry;
+import com.taskflow.kanban.board.repository.CardRepository;
+import com.taskflow.kanban.board.service.BoardService;
+import com.taskflow.kanban.calendar.dto.CalendarEntryDto;
+import com.taskflow.kanban.calendar.service.CalendarService;
+import com.taskflow.kanban.config.CalendarProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Not transactional as a whole: each page is its own read, so the connection goes back to the pool between pages
+ * while the caller writes the previous one to a client of any speed.
+ */
+@Service
+@RequiredArgsConstructor
+public class CalendarServiceImpl implements CalendarService {
+
+    /** The nil UUID sorts before every card id, so the first page starts at the window's opening instant. */
+    private static final UUID FIRST_ID = new UUID(0, 0);
+
+    private final CardRepository cardRepository;
+    private final BoardService boardService;
+    private final CalendarProperties calendarProperties;
+
+    @Override
+    public void streamCalendar(Instant from, Instant to, Consumer<CalendarEntryDto> sink) {
+        requireWindow(from, to);
+        List<UUID> boardIds = boardService.getLiveBoardIdsForCurrentUser();
+        if (!boardIds.isEmpty()) {
+            stream(boardIds, from, to, sink);
+        }
+    }
+
+    @Override
+    public void streamBoardCalendar(UUID boardId, Instant from, Instant to, Consumer<CalendarEntryDto> sink) {
+        requireWindow(from, to);
+        boardService.requireBoardAccess(boardId);
+        stream(Set.of(boardId), from, to, sink);
+    }
+
+    private void stream(Collection<UUID> boardIds, Instant from, Instant to, Consumer<CalendarEntryDto> sink) {
+        int pageSize = calendarProperties.getPageSize();
+        Instant afterDate = from;
+        UUID afterId = FIRST_ID;
+        List<CalendarEntry> page;
+        do {
+            // A card past the cursor ends at or after afterDate, so the window can start there: later pages probe
+            // an ever narrower range of the span index
+            page = cardRepository.findCalendarPage(boardIds, afterDate, to, afterDate, afterId, pageSize);
+            for (CalendarEntry entry : page) {
+                sink.accept(toDto(entry));
+            }
+            if (!page.isEmpty()) {
+                CalendarEntry last = page.get(page.size() - 1);
+                afterDate = last.date();
+                afterId = last.id();
+            }
+        } while (page.size() == pageSize);
+    }
+
+    private static void requireWindow(Instant from, Instant to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+    }
+
+    private static CalendarEntryDto toDto(CalendarEntry entry) {
+        return CalendarEntryDto.builder()
+                .cardId(entry.id())
+                .title(entry.title())
+                .startDate(entry.startDate())
+                .dueDate(entry.dueDate())
+                .priority(entry.priority())
+                .achieved(entry.achieved())
+                .columnId(entry.columnId())
+                .boardId(entry.boardId())
+                .boardName(entry.boardName())
+                .build();
+    }
+}
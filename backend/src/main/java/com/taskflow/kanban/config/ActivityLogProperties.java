@@ -0,0 +1,17 @@
+package com.taskflow.kanban.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "activity-logs")
+public class ActivityLogProperties {
+    /** Whether the nightly partition / roll-up / retention job runs. */
+    private boolean maintenanceEnabled = true;
+    /** Raw activity older than this many whole months is rolled up and dropped. */
+    private int retentionMonths = 12;
+    /** Monthly partitions kept created ahead of the current month. */
+    private int partitionsAhead = 3;
+}
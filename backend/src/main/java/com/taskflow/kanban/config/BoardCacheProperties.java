@@ -0,0 +1,13 @@
+package com.taskflow.kanban.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "board-cache")
+public class BoardCacheProperties {
+    /** Upper bound on the serialized bytes held by the board snapshot cache (default 64 MB). */
+    private long maxBytes = 64L * 1024 * 1024;
+}
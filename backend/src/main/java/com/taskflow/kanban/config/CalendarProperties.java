@@ -0,0 +1,16 @@
+package com.taskflow.kanban.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "calendar")
+public class CalendarProperties {
+    /**
+     * Cards read per query while streaming a calendar window; each page is its own short transaction, so a wide window
+     * never holds a connection for the length of the response.
+     */
+    private int pageSize = 500;
+}
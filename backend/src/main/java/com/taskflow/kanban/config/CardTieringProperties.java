@@ -0,0 +1,17 @@
+package com.taskflow.kanban.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "card-tiering")
+public class CardTieringProperties {
+    /** Whether the scheduled tiering job runs at all. */
+    private boolean enabled = true;
+    /** Archived or achieved cards not updated for this many days move to cold storage. */
+    private int untouchedDays = 30;
+    /** Cards moved per transaction. */
+    private int batchSize = 500;
+}
@@ -0,0 +1,25 @@
+package com.taskflow.kanban.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "due-reminders")
+public class DueReminderProperties {
+    /** Whether the scheduled tick and refill run at all. */
+    private boolean enabled = true;
+    /** Resolution of the timing wheel; reminders fire up to one tick late. */
+    private Duration tick = Duration.ofSeconds(1);
+    /** Slots per level of the timing wheel. */
+    private int wheelSize = 64;
+    /** How far ahead reminders are loaded into memory; cards due later are read by a later refill. */
+    private Duration lookAhead = Duration.ofHours(2);
+    /** How long before the due date the "due soon" reminder fires. */
+    private Duration dueSoonLead = Duration.ofHours(1);
+    /** Reminders per delivered batch, and per query checking them against the cards. */
+    private int batchSize = 500;
+}
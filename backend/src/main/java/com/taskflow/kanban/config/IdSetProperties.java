@@ -0,0 +1,16 @@
+package com.taskflow.kanban.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "id-set")
+public class IdSetProperties {
+    /**
+     * Sets larger than this are staged in the per-connection id_set_staging temp table instead of being bound as one
+     * array parameter. 0 disables staging; the table must then not be relied on (see the datasource init SQL).
+     */
+    private int tempTableThreshold = 0;
+}
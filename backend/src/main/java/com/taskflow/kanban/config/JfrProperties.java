@@ -0,0 +1,25 @@
+package com.taskflow.kanban.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "jfr")
+public class JfrProperties {
+    /** Run the continuous flight recording; the jfr profile switches it on. */
+    private boolean enabled = false;
+    /** JDK settings profile the recording starts from: "default" (low overhead) or "profile" (more detail, ~2%). */
+    private String settings = "default";
+    /** How much history the recording keeps. */
+    private Duration maxAge = Duration.ofMinutes(30);
+    private DataSize maxSize = DataSize.ofMegabytes(100);
+    /** Minimum duration per TaskFlow event name; events not listed are recorded at any duration. */
+    private Map<String, Duration> thresholds = new HashMap<>();
+}
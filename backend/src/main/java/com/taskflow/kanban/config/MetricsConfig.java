@@ -0,0 +1,37 @@
+package com.taskflow.kanban.config;
+
+import com.taskflow.kanban.board.cache.BoardSnapshotCache;
+import com.taskflow.kanban.board.service.DueReminderService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Gauges for in-process state that Spring Boot does not instrument on its own. The Hikari pool
+ * ({@code hikaricp.connections.*}) and the async executor ({@code executor.*}, name=taskExecutor) are bound by
+ * the actuator auto-configuration.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder boardSnapshotCacheMetrics(BoardSnapshotCache cache) {
+        return registry -> {
+            Gauge.builder("taskflow.board.snapshot.cache.entries", cache, BoardSnapshotCache::size)
+                    .description("Board snapshots held in memory")
+                    .register(registry);
+            Gauge.builder("taskflow.board.snapshot.cache.size", cache, BoardSnapshotCache::totalBytes)
+                    .description("Serialized size of cached board snapshots")
+                    .baseUnit("bytes")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder dueReminderMetrics(DueReminderService dueReminderService) {
+        return registry -> Gauge.builder("taskflow.reminders.pending", dueReminderService, DueReminderService::pending)
+                .description("Due-date reminders loaded into the timing wheel")
+                .register(registry);
+    }
+}
@@ -0,0 +1,46 @@
+package com.taskflow.kanban.config;
+
+import com.taskflow.kanban.monitoring.SqlBudgetFilter;
+import com.taskflow.kanban.monitoring.SqlEndpointTaggingInterceptor;
+import com.taskflow.kanban.monitoring.SqlStatementCounter;
+import com.taskflow.kanban.monitoring.SqlTimingSessionListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Wires the per-request SQL statement budget: Hibernate hooks that count statements and JDBC time, a filter that
+ * owns the per-request counters and an interceptor that tags them with the controller method.
+ */
+@Configuration
+public class SqlBudgetConfig implements WebMvcConfigurer {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlBudgetHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlTimingSessionListener.class.getName());
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlBudgetFilter> sqlBudgetFilter(SqlBudgetProperties properties,
+                                                                   MeterRegistry meterRegistry) {
+        FilterRegistrationBean<SqlBudgetFilter> registration =
+                new FilterRegistrationBean<>(new SqlBudgetFilter(properties, meterRegistry));
+        // Ahead of Spring Security so the JWT user lookup and access checks count against the request
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SqlEndpointTaggingInterceptor());
+    }
+}
@@ -0,0 +1,28 @@
+package com.taskflow.kanban.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "sql-budget")
+public class SqlBudgetProperties {
+    /** Whether statements are counted per request at all. */
+    private boolean enabled = true;
+    /** Statement budget for endpoints without their own entry. */
+    private int defaultMaxStatements = 50;
+    /** Per-endpoint budgets keyed by {@code ControllerSimpleName.method}. */
+    private Map<String, Integer> endpoints = new HashMap<>();
+    /** The same SQL string run this many times in one request is reported as a likely N+1. */
+    private int repeatedStatementThreshold = 10;
+    /** Fail the request with SqlBudgetExceededException instead of logging; meant for tests. */
+    private boolean strict = false;
+
+    public int budgetFor(String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultMaxStatements);
+    }
+}
@@ -0,0 +1,30 @@
+package com.taskflow.kanban.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "storage")
+public class StorageProperties {
+    /** Directory holding staged uploads and content-addressed blobs. */
+    private String root = "data/storage";
+    /** Largest attachment accepted. */
+    private DataSize maxFileSize = DataSize.ofMegabytes(100);
+    /** Largest single chunk of a resumable upload; bigger files are sent in several PUTs. */
+    private DataSize maxChunkSize = DataSize.ofMegabytes(16);
+    /** Chunks one user may be streaming at the same time. */
+    private int maxConcurrentUploadsPerUser = 2;
+    /** Unfinished upload sessions one user may hold open. */
+    private int maxOpenUploadsPerUser = 10;
+    /** Upload sessions not completed within this long of being started are discarded by the maintenance job. */
+    private Duration uploadExpiry = Duration.ofHours(24);
+    /** Unreferenced blobs younger than this are kept, so an upload finishing during the sweep is never lost. */
+    private Duration orphanGracePeriod = Duration.ofHours(1);
+    /** Whether the scheduled upload expiry and orphan sweep runs at all. */
+    private boolean maintenanceEnabled = true;
+}
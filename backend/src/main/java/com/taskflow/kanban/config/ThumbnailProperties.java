@@ -0,0 +1,30 @@
+package com.taskflow.kanban.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "thumbnails")
+public class ThumbnailProperties {
+    /** Whether the queue poller runs; queued work is kept either way. */
+    private boolean enabled = true;
+    /** Thumbnail names and the longest edge each is scaled to, in pixels. */
+    private Map<String, Integer> sizes = new LinkedHashMap<>(Map.of("small", 160, "medium", 480));
+    /** Threads rendering thumbnails. */
+    private int workerThreads = 2;
+    /** Claimed images waiting for a worker; the poller never claims more than fit. */
+    private int queueCapacity = 32;
+    /** How long a claimed image stays reserved for one worker; after that it is picked up again. */
+    private Duration lease = Duration.ofMinutes(10);
+    /** Rendering attempts per image before it is given up on; it stays queued, unclaimed, so it is not retried. */
+    private int maxAttempts = 3;
+    /** Upper bound of the on-disk thumbnail cache; least recently served thumbnails are evicted first. */
+    private DataSize cacheMaxSize = DataSize.ofMegabytes(512);
+}
@@ -36,7 +36,8 @@ public class WebConfig {
                 "Authorization",
                 "Content-Type",
                 "Accept",
-                "X-Requested-With"
+                "X-Requested-With",
+                "If-None-Match"
         ));
         
         // Allow credentials (cookies, authorization headers)
@@ -45,7 +46,8 @@ public class WebConfig {
         // Expose headers to the client
         configuration.setExposedHeaders(Arrays.asList(
                 "Authorization",
-                "Content-Disposition"
+                "Content-Disposition",
+                "ETag"
         ));
         
         // Cache preflight requests for 1 hour
@@ -0,0 +1,27 @@
+package com.taskflow.kanban.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Keyset (cursor) paginated response wrapper
+ * Pass nextCursor back as the cursor parameter to fetch the following page
+ *
+ * @param <T> The type of data in the list
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasMore;
+    /** Null where the endpoint counts only for the first page. */
+    private Long totalElements;
+}
@@ -0,0 +1,39 @@
+package com.taskflow.kanban.dto;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+
+/**
+ * Position in a list ordered by (timestamp, id), sent to clients as "&lt;timestamp&gt;_&lt;id&gt;" in
+ * {@link CursorPageResponse#getNextCursor()}. The id breaks ties between rows written in the same instant.
+ */
+public record KeysetCursor(Instant timestamp, UUID id) {
+
+    // Keys before and after every real row, so a first page runs the same index range scan as the rest
+
+    /** Start of an ascending walk. */
+    public static final KeysetCursor FIRST = new KeysetCursor(Instant.EPOCH, new UUID(0, 0));
+
+    /** Start of a descending walk. */
+    public static final KeysetCursor LAST = new KeysetCursor(Instant.parse("9999-12-31T23:59:59Z"), new UUID(-1, -1));
+
+    /** The parsed cursor, or {@code start} when the client sent none. */
+    public static KeysetCursor parse(String cursor, KeysetCursor start) {
+        if (cursor == null || cursor.isBlank()) {
+            return start;
+        }
+        int separator = cursor.lastIndexOf('_');
+        try {
+            return new KeysetCursor(Instant.parse(cursor.substring(0, Math.max(separator, 0))),
+                    UUID.fromString(cursor.substring(separator + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return timestamp + "_" + id;
+    }
+}
@@ -1,7 +1,6 @@
 package com.taskflow.kanban.entity;
 
 import jakarta.persistence.EntityListeners;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
 import lombok.Getter;
@@ -22,7 +21,7 @@ import java.util.UUID;
 public abstract class AuditableEntity {
 
     @Id
-    @GeneratedValue
+    @AssignableUuid
     protected UUID id;
 
     @CreatedDate
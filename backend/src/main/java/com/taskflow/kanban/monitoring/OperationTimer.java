@@ -0,0 +1,37 @@
+package com.taskflow.kanban.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.function.Supplier;
+
+/**
+ * Times a service operation under a {@code taskflow.*} timer tagged with {@code exception} ("none" on success),
+ * the same convention Spring uses for {@code http.server.requests}. Percentile histograms for these timers are
+ * switched on in application.yml (management.metrics.distribution).
+ */
+public final class OperationTimer {
+
+    private OperationTimer() {
+    }
+
+    public static <T> T record(MeterRegistry registry, String name, Supplier<T> operation) {
+        Timer.Sample sample = Timer.start(registry);
+        String exception = "none";
+        try {
+            return operation.get();
+        } catch (RuntimeException e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(registry.timer(name, "exception", exception));
+        }
+    }
+
+    public static void record(MeterRegistry registry, String name, Runnable operation) {
+        record(registry, name, () -> {
+            operation.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,11 @@
+package com.taskflow.kanban.monitoring;
+
+/**
+ * Thrown after a request in strict mode (sql-budget.strict) when its endpoint ran more statements than its budget.
+ */
+public class SqlBudgetExceededException extends IllegalStateException {
+
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,89 @@
+package com.taskflow.kanban.monitoring;
+
+import com.taskflow.kanban.config.SqlBudgetProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements and JDBC time of each request, including the authentication lookups that run before
+ * the controller. Results go to per-endpoint histograms ({@code http.server.requests.sql.statements} and
+ * {@code http.server.requests.sql.time}, tagged with the controller method). Requests over their statement budget,
+ * or repeating one statement past the N+1 threshold, are logged. In strict mode a budget violation fails the request.
+ */
+@RequiredArgsConstructor
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlBudgetFilter.class);
+    private static final int MAX_LOGGED_SQL_LENGTH = 300;
+
+    private final SqlBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlRequestContext context = SqlRequestContext.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlRequestContext.end();
+        }
+        record(context);
+        check(context, request);
+    }
+
+    private void record(SqlRequestContext context) {
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("SQL statements per request")
+                .tag("endpoint", context.getEndpoint())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(context.getStatements());
+        Timer.builder("http.server.requests.sql.time")
+                .description("JDBC execution time per request")
+                .tag("endpoint", context.getEndpoint())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.ofNanos(context.getJdbcNanos()));
+    }
+
+    private void check(SqlRequestContext context, HttpServletRequest request) {
+        Map.Entry<String, Integer> repeated = context.mostRepeatedStatement();
+        if (repeated != null && repeated.getValue() >= properties.getRepeatedStatementThreshold()) {
+            log.warn("Possible N+1 in {} ({} {}): statement ran {} times: {}", context.getEndpoint(),
+                    request.getMethod(), request.getRequestURI(), repeated.getValue(), abbreviate(repeated.getKey()));
+        }
+        int budget = properties.budgetFor(context.getEndpoint());
+        if (context.getStatements() <= budget) {
+            return;
+        }
+        String message = String.format("%s (%s %s) ran %d SQL statements, budget is %d",
+                context.getEndpoint(), request.getMethod(), request.getRequestURI(), context.getStatements(), budget);
+        if (properties.isStrict()) {
+            throw new SqlBudgetExceededException(message);
+        }
+        log.warn(message);
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= MAX_LOGGED_SQL_LENGTH ? sql : sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+}
@@ -0,0 +1,21 @@
+package com.taskflow.kanban.monitoring;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Names the current request's SQL statistics after the controller method that handles it.
+ */
+public class SqlEndpointTaggingInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        SqlRequestContext context = SqlRequestContext.current();
+        if (context != null && handler instanceof HandlerMethod method) {
+            context.setEndpoint(method.getBeanType().getSimpleName() + "." + method.getMethod().getName());
+        }
+        return true;
+    }
+}
@@ -0,0 +1,71 @@
+package com.taskflow.kanban.monitoring;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SQL statistics for the HTTP request running on the current thread. Opened and closed by SqlBudgetFilter; the
+ * Hibernate hooks only write to it while one is open, so scheduled jobs and @Async work are never counted.
+ */
+public final class SqlRequestContext {
+
+    private static final ThreadLocal<SqlRequestContext> CURRENT = new ThreadLocal<>();
+
+    private String endpoint = "unmatched";
+    private int statements;
+    private long jdbcNanos;
+    private final Map<String, Integer> statementCounts = new HashMap<>();
+
+    private SqlRequestContext() {
+    }
+
+    static SqlRequestContext begin() {
+        SqlRequestContext context = new SqlRequestContext();
+        CURRENT.set(context);
+        return context;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static SqlRequestContext current() {
+        return CURRENT.get();
+    }
+
+    void recordStatement(String sql) {
+        statements++;
+        statementCounts.merge(sql, 1, Integer::sum);
+    }
+
+    void recordJdbcTime(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    /** Every distinct SQL string this request ran, as Hibernate rendered it. */
+    Set<String> statements() {
+        return Set.copyOf(statementCounts.keySet());
+    }
+
+    /** The most repeated SQL string in this request, or null when nothing ran. */
+    Map.Entry<String, Integer> mostRepeatedStatement() {
+        return statementCounts.entrySet().stream().max(Map.Entry.comparingByValue()).orElse(null);
+    }
+}
@@ -0,0 +1,19 @@
+package com.taskflow.kanban.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every SQL statement Hibernate prepares against the current request. Hibernate renders bind parameters as
+ * placeholders, so a statement repeated with different ids is the same string, which is what the N+1 check keys on.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlRequestContext context = SqlRequestContext.current();
+        if (context != null) {
+            context.recordStatement(sql);
+        }
+        return sql;
+    }
+}
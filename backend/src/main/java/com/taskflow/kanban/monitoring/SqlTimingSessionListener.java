@@ -0,0 +1,39 @@
+package com.taskflow.kanban.monitoring;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Accumulates JDBC execution time into the current request. Hibernate creates one instance per session, so the
+ * start timestamp needs no synchronisation.
+ */
+public class SqlTimingSessionListener extends BaseSessionEventListener {
+
+    private long startedAt;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record();
+    }
+
+    private void record() {
+        SqlRequestContext context = SqlRequestContext.current();
+        if (context != null) {
+            context.recordJdbcTime(System.nanoTime() - startedAt);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.taskflow.kanban.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** A board access check, which costs up to three membership queries. */
+@Name("taskflow.BoardAccess")
+@Label("Board Access Check")
+@Category({"TaskFlow", "Security"})
+@StackTrace(false)
+public class BoardAccessEvent extends jdk.jfr.Event {
+
+    @Label("Board Id")
+    public String boardId;
+
+    @Label("Granted")
+    public boolean granted;
+
+    @Label("Granted Through")
+    @Description("workspace, board or card membership; empty when denied")
+    public String grantedThrough;
+}
@@ -0,0 +1,29 @@
+package com.taskflow.kanban.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** A card move, including renumbering the affected columns and patching the board view. */
+@Name("taskflow.CardMove")
+@Label("Card Move")
+@Category({"TaskFlow", "Board"})
+@StackTrace(false)
+public class CardMoveEvent extends jdk.jfr.Event {
+
+    @Label("Card Id")
+    public String cardId;
+
+    @Label("Board Id")
+    @Description("Board of the target column")
+    public String boardId;
+
+    @Label("Cross Column")
+    public boolean crossColumn;
+
+    @Label("Cards Renumbered")
+    @Description("Cards loaded and saved to renumber the source and target columns")
+    public int cardsRenumbered;
+}
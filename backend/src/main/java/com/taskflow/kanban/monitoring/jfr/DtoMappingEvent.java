@@ -0,0 +1,46 @@
+package com.taskflow.kanban.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.UUID;
+
+/**
+ * Entity to DTO mapping. Nested collections are lazy, so a slow mapping usually means it loaded them; the item count
+ * says how many there were. Emitted per DTO, so recordings give it a threshold (jfr.thresholds).
+ */
+@Name("taskflow.DtoMapping")
+@Label("DTO Mapping")
+@Category({"TaskFlow", "Mapping"})
+@StackTrace(false)
+public class DtoMappingEvent extends jdk.jfr.Event {
+
+    @Label("Mapper")
+    public String mapper;
+
+    @Label("Entity Id")
+    public String entityId;
+
+    @Label("Items")
+    @Description("Nested members, labels or roles mapped along with the entity")
+    public int itemCount;
+
+    public static DtoMappingEvent start(String mapper) {
+        DtoMappingEvent event = new DtoMappingEvent();
+        event.mapper = mapper;
+        event.begin();
+        return event;
+    }
+
+    public void finish(UUID entityId, int itemCount) {
+        end();
+        if (shouldCommit()) {
+            this.entityId = String.valueOf(entityId);
+            this.itemCount = itemCount;
+            commit();
+        }
+    }
+}
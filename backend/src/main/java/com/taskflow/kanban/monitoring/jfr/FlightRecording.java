@@ -0,0 +1,66 @@
+package com.taskflow.kanban.monitoring.jfr;
+
+import com.taskflow.kanban.config.JfrProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The continuous in-process recording: a JDK settings profile ("default" is the low-overhead one, about 1%) plus the
+ * TaskFlow events, kept on disk up to jfr.max-age / jfr.max-size and dumped on demand by {@link FlightRecordingEndpoint}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "jfr", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class FlightRecording {
+
+    private static final Logger log = LoggerFactory.getLogger(FlightRecording.class);
+
+    static final List<Class<? extends Event>> EVENTS = List.of(JwtAuthenticationEvent.class, BoardAccessEvent.class,
+            CardMoveEvent.class, DtoMappingEvent.class, SearchEvent.class);
+
+    private final JfrProperties properties;
+    private Recording recording;
+
+    @PostConstruct
+    void start() throws IOException, ParseException {
+        recording = new Recording(Configuration.getConfiguration(properties.getSettings()));
+        recording.setName("taskflow-continuous");
+        recording.setToDisk(true);
+        recording.setMaxAge(properties.getMaxAge());
+        recording.setMaxSize(properties.getMaxSize().toBytes());
+        for (Class<? extends Event> event : EVENTS) {
+            String name = event.getAnnotation(Name.class).value();
+            recording.enable(event).withThreshold(properties.getThresholds().getOrDefault(name, Duration.ZERO));
+        }
+        recording.start();
+        log.info("Continuous flight recording started with the {} settings", properties.getSettings());
+    }
+
+    /** Copies everything recorded so far to a new file; the recording keeps running. */
+    public Path dump() throws IOException {
+        Path file = Files.createTempFile("taskflow-", ".jfr");
+        recording.dump(file);
+        return file;
+    }
+
+    @PreDestroy
+    void stop() {
+        recording.close();
+    }
+}
@@ -0,0 +1,32 @@
+package com.taskflow.kanban.monitoring.jfr;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@code GET /actuator/jfr} downloads a snapshot of the continuous recording, for JDK Mission Control or
+ * {@code jfr print}. Restricted to admins in SecurityConfig.
+ */
+@Component
+@ConditionalOnProperty(prefix = "jfr", name = "enabled", havingValue = "true")
+@Endpoint(id = "jfr")
+@RequiredArgsConstructor
+public class FlightRecordingEndpoint {
+
+    private final FlightRecording flightRecording;
+
+    @ReadOperation(produces = "application/octet-stream")
+    public Resource dump() throws IOException {
+        // The temporary copy goes away once the response has been streamed
+        return new InputStreamResource(Files.newInputStream(flightRecording.dump(), StandardOpenOption.DELETE_ON_CLOSE));
+    }
+}
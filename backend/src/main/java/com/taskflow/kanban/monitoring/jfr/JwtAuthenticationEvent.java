@@ -0,0 +1,19 @@
+package com.taskflow.kanban.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** Bearer token handling in JwtAuthenticationFilter: parsing, the user lookup and validation. */
+@Name("taskflow.JwtAuthentication")
+@Label("JWT Authentication")
+@Category({"TaskFlow", "Security"})
+@StackTrace(false)
+public class JwtAuthenticationEvent extends jdk.jfr.Event {
+
+    @Label("Outcome")
+    @Description("authenticated, invalid or unknown_user")
+    public String outcome;
+}
@@ -0,0 +1,26 @@
+package com.taskflow.kanban.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** A global search. The query text is left out of recordings; its length is enough to spot pathological input. */
+@Name("taskflow.Search")
+@Label("Search")
+@Category({"TaskFlow", "Search"})
+@StackTrace(false)
+public class SearchEvent extends jdk.jfr.Event {
+
+    @Label("Query Length")
+    public int queryLength;
+
+    @Label("Boards")
+    public int boards;
+
+    @Label("Cards")
+    public int cards;
+
+    @Label("Results")
+    public int results;
+}
@@ -0,0 +1,91 @@
+package com.taskflow.kanban.repository;
+
+import com.taskflow.kanban.config.IdSetProperties;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Runs native queries filtered by an arbitrarily large set of UUIDs without expanding it into an IN list. A derived
+ * {@code findByXIn(list)} renders one placeholder per element, so every distinct list size is a new SQL string, a new
+ * Hibernate plan and a new server-side prepared statement, and large sets hit the driver's bind limit.
+ * <p>
+ * Here the set is bound as a single array parameter ({@code = ANY(?)}), giving one SQL string for every size. Above
+ * {@link IdSetProperties#getTempTableThreshold()} ids are instead batch-inserted into the {@value #STAGING_TABLE}
+ * temp table and joined, which also gives the planner real row estimates. That table is created per connection by
+ * the pool's init SQL and clears itself on commit.
+ * <p>
+ * Queries are written with an {@value #PREDICATE} token after the filtered column, e.g.
+ * {@code SELECT * FROM users WHERE id {ids}}. Any other parameters are named and passed alongside the set; the result
+ * type is an entity, or {@link jakarta.persistence.Tuple} for a projection.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdSetQueries {
+
+    public static final String PREDICATE = "{ids}";
+    static final String STAGING_TABLE = "id_set_staging";
+
+    private static final int STAGING_BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdSetProperties properties;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public <T> List<T> findAll(String sql, Class<T> resultType, Collection<UUID> ids) {
+        return findAll(sql, resultType, ids, Map.of());
+    }
+
+    @Transactional(readOnly = true)
+    public <T> List<T> findAll(String sql, Class<T> resultType, Collection<UUID> ids, Map<String, ?> parameters) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        Collection<UUID> distinct = new LinkedHashSet<>(ids);
+        int threshold = properties.getTempTableThreshold();
+        Query query = threshold > 0 && distinct.size() > threshold
+                ? stagedQuery(sql, resultType, distinct)
+                : arrayQuery(sql, resultType, distinct);
+        parameters.forEach(query::setParameter);
+        @SuppressWarnings("unchecked")
+        List<T> result = query.getResultList();
+        return result;
+    }
+
+    private Query arrayQuery(String sql, Class<?> resultType, Collection<UUID> ids) {
+        return entityManager.createNativeQuery(sql.replace(PREDICATE, "= ANY(:ids)"), resultType)
+                .setParameter("ids", ids.toArray(UUID[]::new));
+    }
+
+    private Query stagedQuery(String sql, Class<?> resultType, Collection<UUID> ids) {
+        // An earlier staged query in the same transaction may have left rows behind
+        jdbcTemplate.update("DELETE FROM " + STAGING_TABLE);
+        List<Object[]> batch = new ArrayList<>(STAGING_BATCH_SIZE);
+        for (UUID id : ids) {
+            batch.add(new Object[]{id});
+            if (batch.size() == STAGING_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate("INSERT INTO " + STAGING_TABLE + " (id) VALUES (?)", batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO " + STAGING_TABLE + " (id) VALUES (?)", batch);
+        }
+        return entityManager.createNativeQuery(
+                sql.replace(PREDICATE, "IN (SELECT id FROM " + STAGING_TABLE + ")"), resultType);
+    }
+}
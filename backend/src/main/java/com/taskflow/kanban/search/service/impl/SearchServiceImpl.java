@@ -6,6 +6,8 @@ import com.taskflow.kanban.board.entity.Card;
 import com.taskflow.kanban.board.repository.BoardRepository;
 import com.taskflow.kanban.board.repository.CardRepository;
 import com.taskflow.kanban.board.repository.ColumnRepository;
+import com.taskflow.kanban.monitoring.OperationTimer;
+import com.taskflow.kanban.monitoring.jfr.SearchEvent;
 import com.taskflow.kanban.search.dto.SearchBoardItemDto;
 import com.taskflow.kanban.search.dto.SearchCardItemDto;
 import com.taskflow.kanban.search.dto.SearchColumnItemDto;
@@ -16,6 +18,7 @@ import com.taskflow.kanban.workspace.dto.WorkspaceDto;
 import com.taskflow.kanban.workspace.entity.Workspace;
 import com.taskflow.kanban.workspace.repository.WorkspaceMemberRepository;
 import com.taskflow.kanban.workspace.repository.WorkspaceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -34,10 +37,29 @@ public class SearchServiceImpl implements SearchService {
     private final BoardRepository boardRepository;
     private final ColumnRepository columnRepository;
     private final CardRepository cardRepository;
+    private final MeterRegistry meterRegistry;
 
     @Override
     @Transactional(readOnly = true)
     public SearchResultDto search(String q) {
+        SearchEvent event = new SearchEvent();
+        event.begin();
+        SearchResultDto result = OperationTimer.record(meterRegistry, "taskflow.search", () -> doSearch(q));
+        int results = result.getWorkspaces().size() + result.getBoards().size()
+                + result.getColumns().size() + result.getCards().size();
+        meterRegistry.summary("taskflow.search.results").record(results);
+        event.end();
+        if (event.shouldCommit()) {
+            event.queryLength = q != null ? q.length() : 0;
+            event.boards = result.getBoards().size();
+            event.cards = result.getCards().size();
+            event.results = results;
+            event.commit();
+        }
+        return result;
+    }
+
+    private SearchResultDto doSearch(String q) {
         String trimmed = q != null ? q.trim() : "";
         if (trimmed.isEmpty()) {
             return SearchResultDto.builder().build();
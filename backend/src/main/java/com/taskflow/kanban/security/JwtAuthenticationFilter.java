@@ -1,9 +1,12 @@
 package com.taskflow.kanban.security;
 
+import com.taskflow.kanban.monitoring.jfr.JwtAuthenticationEvent;
 import com.taskflow.kanban.user.entity.User;
 import com.taskflow.kanban.user.repository.UserRepository;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -31,11 +34,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
 
     public JwtAuthenticationFilter(JwtService jwtService,
-                                   @Lazy UserRepository userRepository) {
+                                   @Lazy UserRepository userRepository,
+                                   MeterRegistry meterRegistry) {
         this.jwtService = jwtService;
         this.userRepository = userRepository;
+        this.meterRegistry = meterRegistry;
     }
 
     private List<SimpleGrantedAuthority> getAuthoritiesFromToken(String token) {
@@ -79,6 +85,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         String jwt = authHeader.substring(7);
+        // Covers token parsing, the user lookup and validation; the rest of the chain is not included
+        Timer.Sample sample = Timer.start(meterRegistry);
+        JwtAuthenticationEvent event = new JwtAuthenticationEvent();
+        event.begin();
+        String outcome = "authenticated";
 
         try {
             UUID userIdStr = jwtService.extractUserId(jwt);
@@ -91,6 +102,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 CustomUserDetails userDetails = new CustomUserDetails(user);
 
                 if (!jwtService.isTokenValid(jwt, userDetails)) {
+                    outcome = "invalid";
                     response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                     return;
                 }
@@ -103,8 +115,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         } catch (JwtException e) {
             // Expired, malformed, or otherwise invalid JWT: treat as 401 so client can refresh or re-login
             logger.debug("Invalid or expired JWT: {}", e.getMessage());
+            outcome = "invalid";
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             return;
+        } catch (UsernameNotFoundException e) {
+            outcome = "unknown_user";
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("taskflow.auth.jwt", "outcome", outcome));
+            event.end();
+            if (event.shouldCommit()) {
+                event.outcome = outcome;
+                event.commit();
+            }
         }
 
         filterChain.doFilter(request, response);
@@ -51,6 +51,7 @@ public class SecurityConfig {
                 )
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/auth/**", "/api/auth/**").permitAll()
+                        .requestMatchers("/actuator/jfr", "/api/actuator/jfr").hasRole("ADMIN") // Recordings expose internals
                         .requestMatchers("/actuator/**", "/api/actuator/**").permitAll()
                         .requestMatchers("/error", "/api/error").permitAll() // So error responses are not blocked with 403
                         .requestMatchers("/openapi.yaml", "/api/openapi.yaml").permitAll() // Allow access to OpenAPI definition
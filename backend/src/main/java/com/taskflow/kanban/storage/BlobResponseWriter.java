@@ -0,0 +1,149 @@
+package com.taskflow.kanban.storage;
+
+import com.taskflow.kanban.exception.ResourceNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Serves stored blobs, and files derived from them, over HTTP without copying them through the heap. On Tomcat's NIO
+ * connector the file region is handed to the container's sendfile, which transfers it from the page cache straight to
+ * the socket once the request thread has returned; elsewhere (MockMvc, other containers) {@link FileChannel#transferTo}
+ * writes it into the response stream.
+ * <p>
+ * Blobs never change once stored, so the SHA-256 is a strong ETag and responses may be cached for a year. They are
+ * cached privately only: every download is authorised against the attachment's board.
+ */
+@Component
+@RequiredArgsConstructor
+public class BlobResponseWriter {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable()
+            .getHeaderValue();
+
+    /** Raster images, audio and video are shown in the browser; anything that could carry script is downloaded. */
+    private static final Set<String> INLINE_IMAGES = Set.of("image/png", "image/jpeg", "image/gif", "image/webp");
+
+    private final BlobStore blobStore;
+
+    /**
+     * Writes the blob, or the single byte range the request asks for, honouring {@code If-None-Match}/{@code If-Match}
+     * and {@code If-Range}. Multi-range requests are answered with the whole blob, which HTTP allows.
+     */
+    public void write(HttpServletRequest request, HttpServletResponse response, String hash, String contentType,
+                      String fileName) throws IOException {
+        Path file = blobStore.file(hash)
+                .orElseThrow(() -> new ResourceNotFoundException("Attachment content not found"));
+        write(request, response, file, hash, contentType, fileName);
+    }
+
+    /**
+     * Writes any immutable file the same way, such as a rendered thumbnail. {@code version} must change whenever the
+     * file's content could; it becomes the ETag.
+     */
+    public void write(HttpServletRequest request, HttpServletResponse response, Path file, String version,
+                      String contentType, String fileName) throws IOException {
+        String etag = "\"" + version + "\"";
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return;
+        }
+
+        long size = Files.size(file);
+        response.setContentType(contentType != null ? contentType : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, disposition(contentType, fileName).toString());
+
+        long start = 0;
+        long end = size - 1;
+        HttpRange range = requestedRange(request, etag);
+        if (range != null) {
+            try {
+                start = range.getRangeStart(size);
+                end = range.getRangeEnd(size);
+            } catch (IllegalArgumentException e) {
+                start = size;
+            }
+            if (start > end) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                return;
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+        }
+
+        long length = end - start + 1;
+        response.setContentLengthLong(length);
+        if (length == 0 || "HEAD".equals(request.getMethod())) {
+            return;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            for (long position = start; position <= end; ) {
+                position += channel.transferTo(position, end + 1 - position, target);
+            }
+        }
+    }
+
+    /** The one range to serve, or null for the whole blob. */
+    private static HttpRange requestedRange(HttpServletRequest request, String etag) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null) {
+            return null;
+        }
+        // If-Range holding anything but the current ETag means the client's partial copy is stale
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            // A malformed Range header is ignored, not rejected
+            return null;
+        }
+    }
+
+    private static ContentDisposition disposition(String contentType, String fileName) {
+        boolean inline = contentType != null && (INLINE_IMAGES.contains(contentType)
+                || contentType.startsWith("audio/") || contentType.startsWith("video/"));
+        ContentDisposition.Builder builder = inline ? ContentDisposition.inline() : ContentDisposition.attachment();
+        // Plain ASCII names go out as-is; others are encoded as filename* (RFC 6266)
+        return (StandardCharsets.US_ASCII.newEncoder().canEncode(fileName)
+                ? builder.filename(fileName)
+                : builder.filename(fileName, StandardCharsets.UTF_8)).build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.taskflow.kanban.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Attachment content storage. Uploads are staged under their upload id and appended to chunk by chunk, hashing as
+ * the bytes stream through; a complete upload is committed into content-addressed storage keyed by its SHA-256, so
+ * identical files are stored once however many attachments point at them.
+ */
+public interface BlobStore {
+
+    /** Bytes staged so far for the upload, which is the offset its next chunk must start at. */
+    long stagedSize(UUID uploadId) throws IOException;
+
+    /**
+     * Streams {@code content} onto the end of the staged upload. Fails with a conflict when {@code offset} is not the
+     * staged size or another chunk of the same upload is being written, and rejects chunks longer than
+     * {@code maxBytes} without keeping any of their bytes.
+     *
+     * @return the staged size after the chunk
+     */
+    long append(UUID uploadId, long offset, InputStream content, long maxBytes) throws IOException;
+
+    /** Moves the staged upload into content-addressed storage, reusing an identical blob when one is already stored. */
+    StoredBlob commit(UUID uploadId) throws IOException;
+
+    /** The file holding a stored blob, for serving it with zero-copy transfers; empty when no such blob is stored. */
+    Optional<Path> file(String hash);
+
+    /** Drops a staged upload and everything written for it. */
+    void discard(UUID uploadId) throws IOException;
+
+    /** All stored blobs. The stream holds directory handles open and must be closed. */
+    Stream<StoredBlob> list() throws IOException;
+
+    /**
+     * Deletes a blob unless it was touched after {@code touchedBefore}, which is how a concurrent upload deduping
+     * onto it keeps it alive.
+     *
+     * @return whether the blob was deleted
+     */
+    boolean delete(String hash, Instant touchedBefore) throws IOException;
+}
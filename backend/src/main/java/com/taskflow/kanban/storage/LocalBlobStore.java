@@ -0,0 +1,228 @@
+package com.taskflow.kanban.storage;
+
+import com.taskflow.kanban.config.StorageProperties;
+import com.taskflow.kanban.exception.ConflictException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * {@link BlobStore} on the local file system. Staged uploads live in {@code <root>/uploads/<uploadId>.part} and
+ * committed blobs in {@code <root>/blobs/ab/cd/<sha256>}, fanned out so no directory grows past a few thousand
+ * entries. Chunks are copied through one fixed buffer straight from the request stream to the file, so memory use
+ * does not depend on the file size.
+ * <p>
+ * The running SHA-256 of each staged upload is kept in memory and advanced as chunks are written. After a restart,
+ * or when a chunk failed part way, the digest no longer matches the file; it is then caught up by re-reading the
+ * bytes it has not seen, which costs one sequential read of the file at worst.
+ */
+@Component
+public class LocalBlobStore implements BlobStore {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path uploads;
+    private final Path blobs;
+    private final Map<UUID, StagedUpload> staged = new ConcurrentHashMap<>();
+
+    public LocalBlobStore(StorageProperties properties) throws IOException {
+        Path root = Path.of(properties.getRoot()).toAbsolutePath();
+        this.uploads = Files.createDirectories(root.resolve("uploads"));
+        this.blobs = Files.createDirectories(root.resolve("blobs"));
+    }
+
+    @Override
+    public long stagedSize(UUID uploadId) throws IOException {
+        try {
+            return Files.size(partFile(uploadId));
+        } catch (NoSuchFileException e) {
+            return 0;
+        }
+    }
+
+    @Override
+    public long append(UUID uploadId, long offset, InputStream content, long maxBytes) throws IOException {
+        StagedUpload upload = lock(uploadId);
+        // Only a first chunk creates the file, so a late chunk for a committed upload leaves nothing behind
+        Set<StandardOpenOption> options = offset == 0
+                ? EnumSet.of(StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : EnumSet.of(StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try (FileChannel channel = FileChannel.open(partFile(uploadId), options)) {
+            long start = channel.size();
+            if (offset != start) {
+                throw new ConflictException("Upload has " + start + " bytes; the next chunk must start at offset " + start);
+            }
+            catchUp(upload, channel, start);
+
+            // The request stream is the servlet's; it is read to the end but not closed here
+            ReadableByteChannel source = Channels.newChannel(content);
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            long position = start;
+            while (source.read(buffer.clear()) >= 0) {
+                buffer.flip();
+                if (position - start + buffer.remaining() > maxBytes) {
+                    // Drop the whole chunk so the client can resend it from the same offset; the digest is now ahead
+                    // of the file and is rebuilt by the next catchUp
+                    channel.truncate(start);
+                    throw new IllegalArgumentException("Chunk is larger than the " + maxBytes + " bytes allowed");
+                }
+                ByteBuffer written = buffer.duplicate();
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+                upload.digest.update(written);
+                upload.hashedBytes = position;
+            }
+            channel.force(false);
+            return position;
+        } catch (NoSuchFileException e) {
+            throw new ConflictException("Upload has 0 bytes; the next chunk must start at offset 0");
+        } finally {
+            upload.lock.unlock();
+        }
+    }
+
+    @Override
+    public StoredBlob commit(UUID uploadId) throws IOException {
+        StagedUpload upload = lock(uploadId);
+        try {
+            Path part = partFile(uploadId);
+            long size;
+            try (FileChannel channel = FileChannel.open(part, StandardOpenOption.READ)) {
+                size = channel.size();
+                catchUp(upload, channel, size);
+            }
+            String hash = HexFormat.of().formatHex(upload.digest.digest());
+            Path target = blobFile(hash);
+            if (Files.exists(target)) {
+                // Identical content is already stored. Touching it restarts the orphan sweep's grace period, so it
+                // cannot be collected before the new attachment row referencing it is committed
+                Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                Files.delete(part);
+            } else {
+                Files.createDirectories(target.getParent());
+                Files.move(part, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+            staged.remove(uploadId);
+            return new StoredBlob(hash, size, Instant.now());
+        } finally {
+            upload.lock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Path> file(String hash) {
+        Path blob = blobFile(hash);
+        return Files.isRegularFile(blob) ? Optional.of(blob) : Optional.empty();
+    }
+
+    @Override
+    public void discard(UUID uploadId) throws IOException {
+        staged.remove(uploadId);
+        Files.deleteIfExists(partFile(uploadId));
+    }
+
+    @Override
+    public Stream<StoredBlob> list() throws IOException {
+        return Files.walk(blobs, 3)
+                .filter(path -> HASH.matcher(path.getFileName().toString()).matches())
+                .map(path -> {
+                    try {
+                        return new StoredBlob(path.getFileName().toString(), Files.size(path),
+                                Files.getLastModifiedTime(path).toInstant());
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    @Override
+    public boolean delete(String hash, Instant touchedBefore) throws IOException {
+        Path blob = blobFile(hash);
+        try {
+            if (Files.getLastModifiedTime(blob).toInstant().isAfter(touchedBefore)) {
+                return false;
+            }
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+        return Files.deleteIfExists(blob);
+    }
+
+    private StagedUpload lock(UUID uploadId) {
+        StagedUpload upload = staged.computeIfAbsent(uploadId, id -> new StagedUpload());
+        if (!upload.lock.tryLock()) {
+            throw new ConflictException("Another chunk of this upload is still being written");
+        }
+        return upload;
+    }
+
+    /** Brings the digest level with the first {@code size} bytes of the file. */
+    private static void catchUp(StagedUpload upload, FileChannel channel, long size) throws IOException {
+        if (upload.hashedBytes > size) {
+            upload.digest.reset();
+            upload.hashedBytes = 0;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        while (upload.hashedBytes < size) {
+            int read = channel.read(buffer.clear(), upload.hashedBytes);
+            if (read < 0) {
+                throw new IOException("Staged upload shrank while it was being hashed");
+            }
+            upload.digest.update(buffer.flip());
+            upload.hashedBytes += read;
+        }
+    }
+
+    private Path partFile(UUID uploadId) {
+        return uploads.resolve(uploadId + ".part");
+    }
+
+    private Path blobFile(String hash) {
+        if (!HASH.matcher(hash).matches()) {
+            throw new IllegalArgumentException("Not a SHA-256 content hash: " + hash);
+        }
+        return blobs.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    /** Digest state of one staged upload; the lock serialises its chunks. */
+    private static final class StagedUpload {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final MessageDigest digest = sha256();
+        private long hashedBytes;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.taskflow.kanban.storage;
+
+import java.time.Instant;
+
+/**
+ * One immutable blob in the content-addressed store. {@code hash} is the lowercase hex SHA-256 of the content and
+ * doubles as its key; {@code lastModified} is refreshed whenever an upload dedupes onto the blob.
+ */
+public record StoredBlob(String hash, long size, Instant lastModified) {
+}
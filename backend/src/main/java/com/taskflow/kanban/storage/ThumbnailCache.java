@@ -0,0 +1,124 @@
+package com.taskflow.kanban.storage;
+
+import com.taskflow.kanban.config.StorageProperties;
+import com.taskflow.kanban.config.ThumbnailProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Rendered thumbnails under {@code <root>/thumbnails}, bounded in total size. Entries are kept in least recently
+ * served order in memory; writing past the bound deletes the oldest files until it fits again. The order is rebuilt
+ * from file modification times at startup, so recency from before a restart is approximated by age.
+ * Thumbnails are derived data: an evicted one is simply rendered again.
+ */
+@Component
+public class ThumbnailCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ThumbnailCache.class);
+
+    private final Path directory;
+    private final long maxBytes;
+    /** Key to file size, in access order; guarded by {@code this}. */
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    public ThumbnailCache(StorageProperties storageProperties, ThumbnailProperties properties) throws IOException {
+        this.directory = Files.createDirectories(Path.of(storageProperties.getRoot()).toAbsolutePath().resolve("thumbnails"));
+        this.maxBytes = properties.getCacheMaxSize().toBytes();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(Files::isRegularFile)
+                    .map(path -> Map.entry(path, lastModified(path)))
+                    .sorted(Map.Entry.comparingByValue(Comparator.naturalOrder()))
+                    .forEach(entry -> {
+                        Path path = entry.getKey();
+                        if (path.getFileName().toString().contains(".tmp-")) {
+                            deleteQuietly(path);
+                        } else {
+                            add(path.getFileName().toString(), size(path));
+                        }
+                    });
+        }
+        synchronized (this) {
+            evict();
+        }
+    }
+
+    /** The cached thumbnail, counted as a use for eviction order. */
+    public synchronized Optional<Path> get(String key) {
+        return entries.get(key) == null ? Optional.empty() : Optional.of(directory.resolve(key));
+    }
+
+    public synchronized boolean contains(String key) {
+        return entries.containsKey(key);
+    }
+
+    /** Stores a thumbnail, replacing any previous one under the key, then evicts down to the size bound. */
+    public void put(String key, byte[] content) throws IOException {
+        Path temp = directory.resolve(key + ".tmp-" + UUID.randomUUID());
+        Files.write(temp, content);
+        Files.move(temp, directory.resolve(key), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        synchronized (this) {
+            add(key, content.length);
+            evict();
+        }
+    }
+
+    public synchronized long size() {
+        return totalBytes;
+    }
+
+    private synchronized void add(String key, long size) {
+        Long previous = entries.put(key, size);
+        totalBytes += size - (previous == null ? 0 : previous);
+    }
+
+    /** Drops least recently used entries until the cache fits; the newest entry always stays. */
+    private void evict() {
+        Iterator<Map.Entry<String, Long>> eldest = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && entries.size() > 1 && eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            eldest.remove();
+            totalBytes -= entry.getValue();
+            deleteQuietly(directory.resolve(entry.getKey()));
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete cached thumbnail {}", path, e);
+        }
+    }
+
+    private static long size(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static FileTime lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
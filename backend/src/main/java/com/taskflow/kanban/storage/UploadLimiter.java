@@ -0,0 +1,39 @@
+package com.taskflow.kanban.storage;
+
+import com.taskflow.kanban.config.StorageProperties;
+import com.taskflow.kanban.exception.TooManyRequestsException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Caps the chunks one user can stream at once, so a single client cannot tie up every request thread and disk
+ * write with parallel uploads. Never blocks: a user at the cap gets a 429 and retries the chunk.
+ */
+@Component
+@RequiredArgsConstructor
+public class UploadLimiter {
+
+    private final StorageProperties properties;
+    private final Map<UUID, Semaphore> inFlight = new ConcurrentHashMap<>();
+
+    public Permit acquire(UUID userId) {
+        Semaphore semaphore = inFlight.computeIfAbsent(userId,
+                id -> new Semaphore(properties.getMaxConcurrentUploadsPerUser()));
+        if (!semaphore.tryAcquire()) {
+            throw new TooManyRequestsException("Too many uploads in progress; retry when one of them finishes");
+        }
+        return semaphore::release;
+    }
+
+    /** A held upload slot, released on close. */
+    @FunctionalInterface
+    public interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
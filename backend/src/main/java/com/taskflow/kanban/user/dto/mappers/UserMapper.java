@@ -1,5 +1,6 @@
 package com.taskflow.kanban.user.dto.mappers;
 
+import com.taskflow.kanban.monitoring.jfr.DtoMappingEvent;
 import com.taskflow.kanban.user.dto.*;
 import com.taskflow.kanban.user.entity.Role;
 import com.taskflow.kanban.user.entity.User;
@@ -20,7 +21,8 @@ public final class UserMapper {
     public static UserResponseDto toResponseDto(User user) {
         if (user == null) return null;
 
-        return UserResponseDto.builder()
+        DtoMappingEvent event = DtoMappingEvent.start("UserMapper.toResponseDto");
+        UserResponseDto dto = UserResponseDto.builder()
                 .id(user.getId())
                 .username(user.getUsername())
                 .email(user.getEmail())
@@ -29,6 +31,8 @@ public final class UserMapper {
                 .emailVerified(user.isEmailVerified())
                 .roles(toRoleNames(user.getRoles()))
                 .build();
+        event.finish(user.getId(), dto.getRoles().size());
+        return dto;
     }
 
     /* =======================
@@ -0,0 +1,12 @@
+package com.taskflow.kanban.user.repository;
+
+import com.taskflow.kanban.user.entity.User;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface UserRepositoryCustom {
+    /** Same as findAllById, but stable for any number of ids (see IdSetQueries). */
+    List<User> findAllByIdSet(Collection<UUID> ids);
+}
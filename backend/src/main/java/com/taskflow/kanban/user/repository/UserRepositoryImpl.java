@@ -0,0 +1,20 @@
+package com.taskflow.kanban.user.repository;
+
+import com.taskflow.kanban.repository.IdSetQueries;
+import com.taskflow.kanban.user.entity.User;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    private final IdSetQueries idSetQueries;
+
+    @Override
+    public List<User> findAllByIdSet(Collection<UUID> ids) {
+        return idSetQueries.findAll("SELECT * FROM users WHERE id " + IdSetQueries.PREDICATE, User.class, ids);
+    }
+}
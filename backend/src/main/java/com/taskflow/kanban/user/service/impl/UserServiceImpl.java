@@ -1,5 +1,9 @@
 package com.taskflow.kanban.user.service.impl;
 
+import com.taskflow.kanban.board.event.BoardChangedEvent;
+import com.taskflow.kanban.board.repository.BoardMemberRepository;
+import com.taskflow.kanban.board.repository.CardLocation;
+import com.taskflow.kanban.board.repository.CardRepository;
 import com.taskflow.kanban.exception.BadRequestException;
 import com.taskflow.kanban.security.CustomUserDetails;
 import com.taskflow.kanban.user.dto.ChangePasswordDto;
@@ -13,6 +17,7 @@ import com.taskflow.kanban.user.repository.UserRepository;
 import com.taskflow.kanban.user.service.UserService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
@@ -22,6 +27,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -34,6 +40,9 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final BoardMemberRepository boardMemberRepository;
+    private final CardRepository cardRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /* =======================
        CREATE
@@ -105,6 +114,8 @@ public class UserServiceImpl implements UserService {
     @Override
     public UserProfileDto updateCurrentUserProfile(UserProfileUpdateDto dto) {
         User user = getAuthenticatedUser();
+        String username = user.getUsername();
+        String email = user.getEmail();
         if (dto.getUsername() != null && !dto.getUsername().isBlank()) {
             userRepository.findByUsername(dto.getUsername().trim()).ifPresent(other -> {
                 if (!other.getId().equals(user.getId())) {
@@ -121,6 +132,7 @@ public class UserServiceImpl implements UserService {
             });
             user.setEmail(dto.getEmail().trim());
         }
+        publishIfRenamed(user, username, email);
         return UserMapper.toProfileDto(userRepository.save(user));
     }
 
@@ -172,10 +184,13 @@ public class UserServiceImpl implements UserService {
     @Override
     public UserResponseDto updateUser(UUID id, UserUpdateDto dto) {
         User user = findUser(id);
+        String username = user.getUsername();
+        String email = user.getEmail();
 
         if (dto.getUsername() != null) user.setUsername(dto.getUsername());
         if (dto.getEmail() != null) user.setEmail(dto.getEmail());
         if (dto.getRoles() != null) user.setRoles(fetchRoles(dto.getRoles()));
+        publishIfRenamed(user, username, email);
 
         return UserMapper.toResponseDto(user);
     }
@@ -336,6 +351,23 @@ public class UserServiceImpl implements UserService {
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * Boards and cards show their members' usernames and emails, so every board the user appears on has changed. The
+     * views are patched after this update commits, one board per transaction, so the update itself locks none of them.
+     */
+    private void publishIfRenamed(User user, String username, String email) {
+        if (Objects.equals(username, user.getUsername()) && Objects.equals(email, user.getEmail())) {
+            return;
+        }
+        boardMemberRepository.findBoardIdsByUserId(user.getId())
+                .forEach(boardId -> eventPublisher.publishEvent(BoardChangedEvent.board(boardId)));
+        cardRepository.findLocationsByMemberUserId(user.getId()).stream()
+                .collect(Collectors.groupingBy(CardLocation::getBoardId))
+                .forEach((boardId, cards) -> eventPublisher.publishEvent(BoardChangedEvent.cards(boardId,
+                        cards.stream().map(CardLocation::getColumnId).collect(Collectors.toSet()),
+                        cards.stream().map(CardLocation::getId).collect(Collectors.toSet()))));
+    }
+
     private User getAuthenticatedUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails) {
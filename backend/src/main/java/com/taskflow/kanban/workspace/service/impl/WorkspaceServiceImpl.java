@@ -1,5 +1,7 @@
 package com.taskflow.kanban.workspace.service.impl;
 
+import com.taskflow.kanban.board.event.BoardChangedEvent;
+import com.taskflow.kanban.board.repository.BoardRepository;
 import com.taskflow.kanban.board.service.ActivityService;
 import com.taskflow.kanban.security.CustomUserDetails;
 import com.taskflow.kanban.user.entity.User;
@@ -16,6 +18,7 @@ import com.taskflow.kanban.workspace.repository.WorkspaceRepository;
 import com.taskflow.kanban.workspace.service.WorkspaceService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -34,6 +37,8 @@ public class WorkspaceServiceImpl implements WorkspaceService {
     private final UserRepository userRepository;
     private final WorkspaceMemberRepository workspaceMemberRepository;
     private final ActivityService activityService;
+    private final BoardRepository boardRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public WorkspaceDto createWorkspace(WorkspaceCreateDto createDto) {
@@ -97,11 +102,17 @@ public class WorkspaceServiceImpl implements WorkspaceService {
     public WorkspaceDto updateWorkspace(UUID id, WorkspaceUpdateDto updateDto) {
         checkPermission(id, WorkspaceRole.ADMIN);
         Workspace workspace = findWorkspace(id);
+        boolean renamed = updateDto.getName() != null && !updateDto.getName().equals(workspace.getName());
         if (updateDto.getName() != null) workspace.setName(updateDto.getName());
         if (updateDto.getDescription() != null) workspace.setDescription(updateDto.getDescription());
         if (updateDto.getIsPrivate() != null) workspace.setPrivate(updateDto.getIsPrivate());
         
         Workspace updatedWorkspace = workspaceRepository.save(workspace);
+        if (renamed) {
+            // Boards show their workspace's name
+            boardRepository.findIdsByWorkspaceId(id)
+                    .forEach(boardId -> eventPublisher.publishEvent(BoardChangedEvent.board(boardId)));
+        }
         
         activityService.logActivity(id, "Workspace", "UPDATE", 
             "Workspace '" + updatedWorkspace.getName() + "' was updated",
@@ -0,0 +1,9 @@
+-- V10__add_column_card_count.sql
+-- Per-column card counter for paginated columns, and the index that serves keyset pages ordered by position.
+
+ALTER TABLE board_columns ADD COLUMN IF NOT EXISTS card_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE board_columns bc
+SET card_count = (SELECT COUNT(*) FROM cards c WHERE c.column_id = bc.id);
+
+CREATE INDEX IF NOT EXISTS idx_cards_column_id_position ON cards(column_id, position);
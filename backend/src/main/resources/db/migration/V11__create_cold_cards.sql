@@ -0,0 +1,20 @@
+-- V11__create_cold_cards.sql
+-- Cold tier for archived and long-finished cards. Each row holds the card with its members, comments,
+-- attachments and label ids as one JSON document; restoring recreates the hot rows under the original ids.
+
+CREATE TABLE IF NOT EXISTS cold_cards (
+    card_id UUID PRIMARY KEY,
+    board_id UUID NOT NULL,
+    column_id UUID NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    archived BOOLEAN NOT NULL DEFAULT FALSE,
+    achieved BOOLEAN NOT NULL DEFAULT FALSE,
+    tiered_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    document JSONB NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_cold_cards_board_id ON cold_cards(board_id, tiered_at DESC);
+CREATE INDEX IF NOT EXISTS idx_cold_cards_column_id ON cold_cards(column_id);
+
+-- Keeps the tiering scan proportional to the cards it can move, not to the whole table
+CREATE INDEX IF NOT EXISTS idx_cards_tiering_candidates ON cards(updated_at) WHERE archived = TRUE OR achieved = TRUE;
@@ -0,0 +1,21 @@
+-- V12__add_query_shape_indexes.sql
+-- Composite and partial indexes matching the hot repository queries. V4 only covers single foreign-key
+-- columns; these also serve the ORDER BY / extra predicate, so the planner never has to sort or filter a scan.
+-- cards(column_id, position) for findByColumnIdOrderByPositionAsc already exists (V10).
+
+-- CardRepository.findByColumn_Board_IdAndArchivedTrue: archived cards are a small slice of the table
+CREATE INDEX IF NOT EXISTS idx_cards_archived_column_id ON cards(column_id, position) WHERE archived = TRUE;
+
+-- ActivityLogRepository.findByPerformedByOrderByTimestampDesc
+CREATE INDEX IF NOT EXISTS idx_activity_logs_performed_by_timestamp ON activity_logs(performed_by, timestamp DESC);
+
+-- CardRepository.countCardMembersOnBoard: resolves the user's cards without touching card_members rows
+CREATE INDEX IF NOT EXISTS idx_card_members_user_id_card_id ON card_members(user_id, card_id);
+DROP INDEX IF EXISTS idx_card_members_user_id;
+
+-- CommentRepository.findByCardIdOrderByCreatedAtAsc
+CREATE INDEX IF NOT EXISTS idx_comments_card_id_created_at ON comments(card_id, created_at);
+DROP INDEX IF EXISTS idx_comments_card_id;
+
+-- The composite from V10 has column_id as its leading column
+DROP INDEX IF EXISTS idx_cards_column_id;
@@ -0,0 +1,64 @@
+-- V13__partition_activity_logs.sql
+-- Range-partitions activity_logs by month so retention can detach and drop whole partitions instead of deleting
+-- rows, records the owning board on each entry, and adds the per-board daily roll-up that outlives the raw log.
+-- Future partitions are created by the activity log maintenance job; the default partition catches anything
+-- written before its month exists.
+
+ALTER TABLE activity_logs RENAME TO activity_logs_unpartitioned;
+
+CREATE TABLE activity_logs (
+    id UUID NOT NULL,
+    entity_type VARCHAR(255) NOT NULL,
+    entity_id UUID NOT NULL,
+    action VARCHAR(255) NOT NULL,
+    details TEXT,
+    timestamp TIMESTAMP WITH TIME ZONE NOT NULL,
+    performed_by UUID NOT NULL,
+    board_id UUID,
+    PRIMARY KEY (id, timestamp)
+) PARTITION BY RANGE (timestamp);
+
+CREATE TABLE activity_logs_default PARTITION OF activity_logs DEFAULT;
+
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', COALESCE(
+            (SELECT MIN(timestamp) FROM activity_logs_unpartitioned), now()) AT TIME ZONE 'UTC')::DATE;
+    last_month DATE := (date_trunc('month', now() AT TIME ZONE 'UTC') + INTERVAL '3 months')::DATE;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE activity_logs_p%s PARTITION OF activity_logs FOR VALUES FROM (%L) TO (%L)',
+                to_char(month_start, 'YYYYMM'),
+                month_start::TIMESTAMP AT TIME ZONE 'UTC',
+                (month_start + INTERVAL '1 month')::TIMESTAMP AT TIME ZONE 'UTC');
+        month_start := (month_start + INTERVAL '1 month')::DATE;
+    END LOOP;
+END $$;
+
+INSERT INTO activity_logs (id, entity_type, entity_id, action, details, timestamp, performed_by, board_id)
+SELECT l.id, l.entity_type, l.entity_id, l.action, l.details, l.timestamp, l.performed_by,
+       CASE l.entity_type
+           WHEN 'Board' THEN l.entity_id
+           WHEN 'Column' THEN col.board_id
+           WHEN 'Card' THEN card_col.board_id
+       END
+FROM activity_logs_unpartitioned l
+LEFT JOIN board_columns col ON l.entity_type = 'Column' AND col.id = l.entity_id
+LEFT JOIN cards c ON l.entity_type = 'Card' AND c.id = l.entity_id
+LEFT JOIN board_columns card_col ON card_col.id = c.column_id;
+
+DROP TABLE activity_logs_unpartitioned;
+
+CREATE INDEX IF NOT EXISTS idx_activity_logs_entity_id ON activity_logs(entity_id);
+CREATE INDEX IF NOT EXISTS idx_activity_logs_performed_by_timestamp ON activity_logs(performed_by, timestamp DESC);
+CREATE INDEX IF NOT EXISTS idx_activity_logs_board_id_timestamp ON activity_logs(board_id, timestamp);
+
+CREATE TABLE IF NOT EXISTS activity_daily_rollups (
+    board_id UUID NOT NULL,
+    activity_date DATE NOT NULL,
+    entity_type VARCHAR(255) NOT NULL,
+    action VARCHAR(255) NOT NULL,
+    event_count BIGINT NOT NULL,
+    user_count BIGINT NOT NULL,
+    PRIMARY KEY (board_id, activity_date, entity_type, action)
+);
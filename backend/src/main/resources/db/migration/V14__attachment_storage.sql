@@ -0,0 +1,27 @@
+-- V14__attachment_storage.sql
+-- Built-in attachment storage. Stored attachments carry the SHA-256 of their content, which is also their key in the
+-- content-addressed blob store; resumable uploads are tracked here until their last chunk arrives.
+-- attachment_uploads has no foreign key to cards on purpose: deleting a card must not wait on uploads in flight,
+-- and an upload whose card is gone is dropped when it completes or expires.
+
+ALTER TABLE attachments ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+
+-- Orphan sweep: which of a batch of blobs are still referenced
+CREATE INDEX IF NOT EXISTS idx_attachments_content_hash ON attachments(content_hash) WHERE content_hash IS NOT NULL;
+
+CREATE TABLE IF NOT EXISTS attachment_uploads (
+    id UUID PRIMARY KEY,
+    created_at TIMESTAMP WITH TIME ZONE,
+    updated_at TIMESTAMP WITH TIME ZONE,
+    created_by UUID,
+    updated_by UUID,
+    deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    card_id UUID NOT NULL,
+    uploader_id UUID NOT NULL,
+    file_name VARCHAR(255) NOT NULL,
+    mime_type VARCHAR(100),
+    file_size BIGINT NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_attachment_uploads_uploader_id ON attachment_uploads(uploader_id);
+CREATE INDEX IF NOT EXISTS idx_attachment_uploads_created_at ON attachment_uploads(created_at);
@@ -0,0 +1,12 @@
+-- V15__create_thumbnail_queue.sql
+-- Images waiting for thumbnails, one row per content hash. Rows are inserted in the transaction that stores the
+-- attachment and deleted once the thumbnails are rendered; locked_until is the lease of the worker rendering them.
+
+CREATE TABLE IF NOT EXISTS thumbnail_queue (
+    content_hash VARCHAR(64) PRIMARY KEY,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    locked_until TIMESTAMP WITH TIME ZONE,
+    attempts INTEGER NOT NULL DEFAULT 0
+);
+
+CREATE INDEX IF NOT EXISTS idx_thumbnail_queue_created_at ON thumbnail_queue(created_at);
@@ -0,0 +1,5 @@
+-- V16__add_comment_keyset_index.sql
+-- Comment threads are paged by the (created_at, id) keyset, oldest or newest first. With id as the last key column
+-- both directions are one index range scan, ties on created_at included, and COUNT per card can be answered from the index.
+CREATE INDEX IF NOT EXISTS idx_comments_card_id_created_at_id ON comments(card_id, created_at, id);
+DROP INDEX IF EXISTS idx_comments_card_id_created_at;
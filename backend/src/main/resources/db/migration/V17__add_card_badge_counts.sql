@@ -0,0 +1,19 @@
+-- V17__add_card_badge_counts.sql
+-- Per-card comment and attachment counters for the badges on board cards, so a board load never counts or
+-- initializes those collections card by card. Maintained by CardRepository.adjustCommentCount/adjustAttachmentCount.
+
+ALTER TABLE cards ADD COLUMN IF NOT EXISTS comment_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE cards ADD COLUMN IF NOT EXISTS attachment_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE cards c
+SET comment_count = counts.n
+FROM (SELECT card_id, COUNT(*) AS n FROM comments GROUP BY card_id) counts
+WHERE counts.card_id = c.id;
+
+UPDATE cards c
+SET attachment_count = counts.n
+FROM (SELECT card_id, COUNT(*) AS n FROM attachments GROUP BY card_id) counts
+WHERE counts.card_id = c.id;
+
+-- Materialized board views predate the counters; dropping them makes the next read rebuild each one
+DELETE FROM board_views;
@@ -0,0 +1,5 @@
+-- V18__add_activity_entity_keyset_index.sql
+-- A card's activity is paged newest first by the (timestamp, id) keyset. The composite serves those pages as one
+-- backward range scan per partition, and every entity_id lookup the single-column index served before.
+CREATE INDEX IF NOT EXISTS idx_activity_logs_entity_id_timestamp ON activity_logs(entity_id, timestamp, id);
+DROP INDEX IF EXISTS idx_activity_logs_entity_id;
@@ -0,0 +1,15 @@
+-- V19__add_card_filter_indexes.sql
+-- Indexes for the board card filter (CardRepositoryImpl.findByBoard). The board's columns drive the scan, so the
+-- card indexes lead with column_id; the label and assignee criteria are EXISTS probes keyed by card_id, or, when
+-- they are the most selective criterion, scans of the matching label or user's rows.
+
+-- Priority and due-window filters over live cards; archived cards are served by idx_cards_archived_column_id
+CREATE INDEX IF NOT EXISTS idx_cards_column_id_priority ON cards(column_id, priority) WHERE archived = FALSE;
+CREATE INDEX IF NOT EXISTS idx_cards_column_id_due_date ON cards(column_id, due_date) WHERE archived = FALSE;
+
+-- Assignee probe for one card; card_members(user_id, card_id) from V12 serves the reverse direction
+CREATE INDEX IF NOT EXISTS idx_card_members_card_id_user_id ON card_members(card_id, user_id);
+DROP INDEX IF EXISTS idx_card_members_card_id;
+
+-- The primary key (card_id, label_id) serves the label probe; this serves "cards with label X"
+CREATE INDEX IF NOT EXISTS idx_card_labels_label_id_card_id ON card_labels(label_id, card_id);
@@ -0,0 +1,5 @@
+-- V20__add_assigned_card_feed_index.sql
+-- Covering index for the cross-board "my cards" feed (CardRepository.findAssignedIdsAfter). card_members(user_id,
+-- card_id) from V12 yields the user's card ids; this index answers the per-card probe with the sort keys and the
+-- column to reach the board, so the keyset and sort run on index entries and only the returned page reads card rows.
+CREATE INDEX IF NOT EXISTS idx_cards_id_due_date_priority ON cards(id, due_date, priority, column_id) WHERE archived = FALSE;
@@ -0,0 +1,10 @@
+-- V21__add_card_calendar_indexes.sql
+-- Indexes for the calendar (CardRepository.streamCalendar), which finds live cards whose start-to-due span meets a
+-- date window. The two halves of its OR are separate index ranges the planner combines with a BitmapOr.
+
+-- Cards due inside the window
+CREATE INDEX IF NOT EXISTS idx_cards_due_date ON cards(due_date) WHERE archived = FALSE AND due_date IS NOT NULL;
+
+-- Spans that start before the window ends; due_date rides along so the end of the span is checked on the index entry
+CREATE INDEX IF NOT EXISTS idx_cards_start_date_due_date ON cards(start_date, due_date)
+    WHERE archived = FALSE AND start_date IS NOT NULL;
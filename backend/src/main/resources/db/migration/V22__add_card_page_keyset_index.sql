@@ -0,0 +1,8 @@
+-- V22__add_card_page_keyset_index.sql
+-- Card pages (CardRepository.findPageAfter) walk a column by (position, id): positions repeat, so the id breaks ties
+-- and has to be in the index for the keyset to be one range scan. The wider index also serves every lookup the V10
+-- (column_id, position) index did, which it replaces.
+
+CREATE INDEX IF NOT EXISTS idx_cards_column_id_position_id ON cards(column_id, position, id);
+
+DROP INDEX IF EXISTS idx_cards_column_id_position;
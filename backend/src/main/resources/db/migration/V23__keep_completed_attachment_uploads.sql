@@ -0,0 +1,6 @@
+-- V23__keep_completed_attachment_uploads.sql
+-- A completed upload keeps its row, pointing at the attachment it created, until the expiry sweep removes it. A
+-- retried last chunk, sent again because the client never saw the first response, is then answered with the same
+-- attachment instead of a 404.
+
+ALTER TABLE attachment_uploads ADD COLUMN IF NOT EXISTS attachment_id UUID;
@@ -0,0 +1,14 @@
+-- V24__create_reminder_deliveries.sql
+-- Due-date reminders claimed for delivery, one row per card, kind and due date. Every node runs its own timing wheel
+-- and fires the same reminders; the node whose insert lands delivers the reminder, and the others skip it. Rows are
+-- purged by the reminder refill once their due date is well past.
+
+CREATE TABLE IF NOT EXISTS reminder_deliveries (
+    card_id UUID NOT NULL,
+    kind VARCHAR(16) NOT NULL,
+    due_date TIMESTAMP WITH TIME ZONE NOT NULL,
+    delivered_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (card_id, kind, due_date)
+);
+
+CREATE INDEX IF NOT EXISTS idx_reminder_deliveries_due_date ON reminder_deliveries(due_date);
@@ -0,0 +1,17 @@
+-- V25__add_card_span_gist_index.sql
+-- The calendar (CardRepositoryImpl.findCalendarPage) asks which live cards' start-to-due span overlaps a window. Two
+-- btree ranges combined with a BitmapOr still read every card starting before the window's end; a GiST index on
+-- the span as a range answers the overlap (&&) directly. Leading with column_id (btree_gist) makes each lookup one
+-- column of one of the user's boards rather than every card in the table.
+-- LEAST/GREATEST skip NULLs, so a card with only a due or only a start date is a single-instant range, and a start
+-- after the due date cannot fail the range constructor.
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+CREATE INDEX IF NOT EXISTS idx_cards_column_id_span ON cards USING gist (
+    column_id,
+    tstzrange(LEAST(start_date, due_date), GREATEST(start_date, due_date), '[]')
+) WHERE archived = FALSE AND (start_date IS NOT NULL OR due_date IS NOT NULL);
+
+-- Replaced by the span index; idx_cards_due_date stays for the due reminders
+DROP INDEX IF EXISTS idx_cards_start_date_due_date;
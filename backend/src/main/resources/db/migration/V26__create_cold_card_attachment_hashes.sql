@@ -0,0 +1,20 @@
+-- V26__create_cold_card_attachment_hashes.sql
+-- Content hashes of the attachments inside each cold card's document. The orphaned-blob sweep
+-- (AttachmentServiceImpl.deleteOrphanedBlobs) checks a whole batch of blob hashes against this table with one
+-- indexed lookup instead of a substring scan of every document per blob. Written by the tiering job with the cold
+-- card and removed with it (ColdCardRepository deletes them ahead of its bulk deletes).
+
+CREATE TABLE IF NOT EXISTS cold_card_attachment_hashes (
+    card_id UUID NOT NULL REFERENCES cold_cards(card_id),
+    content_hash VARCHAR(64) NOT NULL,
+    PRIMARY KEY (card_id, content_hash)
+);
+
+CREATE INDEX IF NOT EXISTS idx_cold_card_attachment_hashes_content_hash ON cold_card_attachment_hashes(content_hash);
+
+-- Cards tiered before this table existed
+INSERT INTO cold_card_attachment_hashes (card_id, content_hash)
+SELECT DISTINCT c.card_id, a.value ->> 'contentHash'
+FROM cold_cards c, jsonb_array_elements(c.document -> 'attachments') a
+WHERE a.value ->> 'contentHash' IS NOT NULL
+ON CONFLICT DO NOTHING;
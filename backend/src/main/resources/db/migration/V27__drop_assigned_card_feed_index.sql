@@ -0,0 +1,7 @@
+-- V27__drop_assigned_card_feed_index.sql
+-- The V20 index led with cards.id, so it only repeated the primary key with a few columns attached: it could not
+-- serve the "my cards" feed in order, because the sort keys live on cards while the user lives on card_members.
+-- The feed reads the user's card ids from card_members(user_id, card_id) (V12), probes each card by primary key and
+-- sorts that set, so its cost follows the user's assignments rather than the table.
+
+DROP INDEX IF EXISTS idx_cards_id_due_date_priority;
@@ -0,0 +1,11 @@
+-- V9__create_board_views.sql
+-- Persisted board read model: one JSONB document per board (board, columns with cards, labels).
+-- Patched by the application in the same transaction as card, column and label writes.
+-- No foreign key to boards on purpose: the rows are derived data and can be rebuilt at any time
+-- (POST /boards/views/rebuild).
+
+CREATE TABLE IF NOT EXISTS board_views (
+    board_id UUID PRIMARY KEY,
+    document JSONB NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
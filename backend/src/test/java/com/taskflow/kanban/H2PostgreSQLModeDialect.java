@@ -0,0 +1,17 @@
+package com.taskflow.kanban;
+
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.NullOrdering;
+
+/**
+ * H2 dialect for the test database, which runs in PostgreSQL mode with DEFAULT_NULL_ORDERING=HIGH. The stock H2Dialect
+ * assumes nulls sort first and drops an explicit NULLS LAST on descending sorts, which that database then ignores.
+ * Under the PostgreSQL dialect instead, H2 stores JSON columns as JSON strings and never reads a document back as written.
+ */
+public class H2PostgreSQLModeDialect extends H2Dialect {
+
+    @Override
+    public NullOrdering getNullOrdering() {
+        return NullOrdering.GREATEST;
+    }
+}
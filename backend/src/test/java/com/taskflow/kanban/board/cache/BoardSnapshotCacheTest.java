@@ -0,0 +1,90 @@
+package com.taskflow.kanban.board.cache;
+
+import com.taskflow.kanban.config.BoardCacheProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardSnapshotCacheTest {
+
+    private BoardSnapshotCache cache(long maxBytes) {
+        BoardCacheProperties properties = new BoardCacheProperties();
+        properties.setMaxBytes(maxBytes);
+        return new BoardSnapshotCache(properties);
+    }
+
+    @Test
+    void get_returnsCachedSnapshotUntilInvalidated() {
+        BoardSnapshotCache cache = cache(1024);
+        UUID boardId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(boardId, () -> new byte[]{(byte) loads.incrementAndGet()});
+        BoardSnapshotCache.Snapshot second = cache.get(boardId, () -> new byte[]{(byte) loads.incrementAndGet()});
+        assertEquals(1, loads.get());
+        assertEquals(1, second.body()[0]);
+
+        cache.invalidate(boardId);
+        BoardSnapshotCache.Snapshot reloaded = cache.get(boardId, () -> new byte[]{(byte) loads.incrementAndGet()});
+        assertEquals(2, reloaded.body()[0]);
+        assertNotEquals(second.etag(), reloaded.etag());
+    }
+
+    @Test
+    void get_evictsLeastRecentlyUsedWhenOverByteBudget() {
+        BoardSnapshotCache cache = cache(20);
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+
+        cache.get(a, () -> new byte[8]);
+        cache.get(b, () -> new byte[8]);
+        cache.get(a, () -> fail("a should still be cached"));
+        cache.get(c, () -> new byte[8]);
+
+        assertEquals(2, cache.size());
+        assertEquals(16, cache.totalBytes());
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(b, () -> { loads.incrementAndGet(); return new byte[8]; });
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_coalescesConcurrentMisses() throws Exception {
+        BoardSnapshotCache cache = cache(1024);
+        UUID boardId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            Future<?>[] callers = new Future<?>[8];
+            for (int i = 0; i < callers.length; i++) {
+                callers[i] = pool.submit(() -> cache.get(boardId, () -> {
+                    loads.incrementAndGet();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return new byte[4];
+                }));
+            }
+            Thread.sleep(200);
+            release.countDown();
+            for (Future<?> caller : callers) {
+                caller.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+    }
+}
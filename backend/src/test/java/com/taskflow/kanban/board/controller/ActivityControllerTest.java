@@ -0,0 +1,146 @@
+package com.taskflow.kanban.board.controller;
+
+import com.taskflow.kanban.board.entity.ActivityLog;
+import com.taskflow.kanban.board.entity.Board;
+import com.taskflow.kanban.board.entity.BoardMember;
+import com.taskflow.kanban.board.entity.BoardRole;
+import com.taskflow.kanban.board.repository.ActivityLogRepository;
+import com.taskflow.kanban.board.repository.BoardMemberRepository;
+import com.taskflow.kanban.board.repository.BoardRepository;
+import com.taskflow.kanban.board.service.ActivityHistoryService;
+import com.taskflow.kanban.security.CustomUserDetails;
+import com.taskflow.kanban.security.JwtService;
+import com.taskflow.kanban.user.entity.Role;
+import com.taskflow.kanban.user.entity.User;
+import com.taskflow.kanban.user.repository.RoleRepository;
+import com.taskflow.kanban.user.repository.UserRepository;
+import com.taskflow.kanban.workspace.entity.Workspace;
+import com.taskflow.kanban.workspace.entity.WorkspaceMember;
+import com.taskflow.kanban.workspace.entity.WorkspaceRole;
+import com.taskflow.kanban.workspace.repository.WorkspaceMemberRepository;
+import com.taskflow.kanban.workspace.repository.WorkspaceRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Daily activity roll-ups per board and activity log retention.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class ActivityControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private WorkspaceMemberRepository workspaceMemberRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardMemberRepository boardMemberRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ActivityLogRepository activityLogRepository;
+
+    @Autowired
+    private ActivityHistoryService activityHistoryService;
+
+    private String userToken;
+    private User user;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        Role userRole = roleRepository.findByName("USER").orElseGet(() -> roleRepository.save(new Role("USER")));
+        user = userRepository.save(User.builder().username("activity_user").email("activity@example.com")
+                .password("password").active(true).roles(Set.of(userRole)).build());
+        userToken = "Bearer " + jwtService.generateToken(new CustomUserDetails(user));
+
+        Workspace workspace = workspaceRepository.save(Workspace.builder().name("Test Workspace").isPrivate(false).build());
+        workspaceMemberRepository.save(WorkspaceMember.builder().workspace(workspace).user(user).role(WorkspaceRole.OWNER).build());
+        board = boardRepository.save(Board.builder().name("Test Board").workspace(workspace).build());
+        boardMemberRepository.save(BoardMember.builder().board(board).user(user).role(BoardRole.OWNER).build());
+    }
+
+    @Test
+    void activityRollUp_countsDailyBoardActivityAndSurvivesRetention() throws Exception {
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate today = LocalDate.now(zone);
+        LocalDate yesterday = today.minusDays(1);
+        LocalDate expired = today.minusMonths(14);
+        UUID otherUser = UUID.randomUUID();
+        UUID cardId = UUID.randomUUID();
+        activityLogRepository.saveAll(List.of(
+                boardLog(cardId, "CREATE", user.getId(), yesterday, zone),
+                boardLog(cardId, "UPDATE", user.getId(), yesterday, zone),
+                boardLog(cardId, "UPDATE", otherUser, yesterday, zone),
+                boardLog(cardId, "CREATE", user.getId(), expired, zone)));
+        entityManager.flush();
+
+        assertEquals(2, activityHistoryService.rollUp(yesterday, today));
+        mockMvc.perform(get("/activities/boards/" + board.getId() + "/daily")
+                        .param("from", yesterday.toString()).param("to", today.toString())
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[?(@.action == 'UPDATE')].eventCount").value(2))
+                .andExpect(jsonPath("$[?(@.action == 'UPDATE')].userCount").value(2));
+
+        activityHistoryService.applyRetention();
+        entityManager.clear();
+        assertEquals(3, activityLogRepository.countByEntityId(cardId));
+        mockMvc.perform(get("/activities/boards/" + board.getId() + "/daily")
+                        .param("from", expired.toString()).param("to", expired.toString())
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].eventCount").value(1));
+    }
+
+    private ActivityLog boardLog(UUID cardId, String action, UUID performedBy, LocalDate day, ZoneId zone) {
+        return ActivityLog.builder()
+                .boardId(board.getId())
+                .entityType("Card")
+                .entityId(cardId)
+                .action(action)
+                .performedBy(performedBy)
+                .timestamp(day.atTime(12, 0).atZone(zone).toInstant())
+                .build();
+    }
+}
@@ -0,0 +1,517 @@
+package com.taskflow.kanban.board.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.kanban.board.dto.AttachmentUploadCreateDto;
+import com.taskflow.kanban.board.entity.Board;
+import com.taskflow.kanban.board.entity.BoardColumn;
+import com.taskflow.kanban.board.entity.BoardMember;
+import com.taskflow.kanban.board.entity.BoardRole;
+import com.taskflow.kanban.board.entity.Card;
+import com.taskflow.kanban.board.repository.BoardMemberRepository;
+import com.taskflow.kanban.board.repository.BoardRepository;
+import com.taskflow.kanban.board.repository.CardRepository;
+import com.taskflow.kanban.board.repository.ColdCardRepository;
+import com.taskflow.kanban.board.repository.ColumnRepository;
+import com.taskflow.kanban.board.service.AttachmentService;
+import com.taskflow.kanban.board.service.CardTieringService;
+import com.taskflow.kanban.board.service.ThumbnailService;
+import com.taskflow.kanban.config.CardTieringProperties;
+import com.taskflow.kanban.config.StorageProperties;
+import com.taskflow.kanban.config.ThumbnailProperties;
+import com.taskflow.kanban.exception.ResourceNotFoundException;
+import com.taskflow.kanban.security.CustomUserDetails;
+import com.taskflow.kanban.security.JwtService;
+import com.taskflow.kanban.storage.UploadLimiter;
+import com.taskflow.kanban.user.entity.User;
+import com.taskflow.kanban.user.repository.UserRepository;
+import com.taskflow.kanban.workspace.entity.Workspace;
+import com.taskflow.kanban.workspace.repository.WorkspaceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Chunked uploads through AttachmentController into the local blob store, and downloads back out. Not
+ * transactional: chunks are appended outside any transaction, so the upload rows they look up have to be committed.
+ * Everything seeded is removed again in {@link #tearDown()}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AttachmentStorageTest {
+
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.US_ASCII);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardMemberRepository boardMemberRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private AttachmentService attachmentService;
+
+    @Autowired
+    private CardTieringService cardTieringService;
+
+    @Autowired
+    private ColdCardRepository coldCardRepository;
+
+    @Autowired
+    private CardTieringProperties cardTieringProperties;
+
+    @Autowired
+    private ThumbnailService thumbnailService;
+
+    @Autowired
+    private ThumbnailProperties thumbnailProperties;
+
+    @Autowired
+    private UploadLimiter uploadLimiter;
+
+    @Autowired
+    private StorageProperties storageProperties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private User stranger;
+    private String userToken;
+    private String strangerToken;
+    private Workspace workspace;
+    private Board board;
+    private Card card;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        user = userRepository.save(User.builder().username("uploader_" + suffix).email("uploader_" + suffix + "@example.com")
+                .password("password").active(true).roles(Set.of()).build());
+        stranger = userRepository.save(User.builder().username("stranger_" + suffix).email("stranger_" + suffix + "@example.com")
+                .password("password").active(true).roles(Set.of()).build());
+        userToken = "Bearer " + jwtService.generateToken(new CustomUserDetails(user));
+        strangerToken = "Bearer " + jwtService.generateToken(new CustomUserDetails(stranger));
+
+        workspace = workspaceRepository.save(Workspace.builder().name("Upload Workspace").isPrivate(true).build());
+        board = boardRepository.save(Board.builder().name("Upload Board").workspace(workspace).build());
+        boardMemberRepository.save(BoardMember.builder().board(board).user(user).role(BoardRole.OWNER).build());
+        BoardColumn column = columnRepository.save(BoardColumn.builder().name("To Do").board(board).position(0).build());
+        card = cardRepository.save(Card.builder().title("Upload Card").column(column).position(0).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM attachment_uploads WHERE card_id = ?", card.getId());
+        jdbcTemplate.update("DELETE FROM attachments WHERE card_id = ?", card.getId());
+        jdbcTemplate.update("DELETE FROM thumbnail_queue");
+        jdbcTemplate.update("DELETE FROM cold_card_attachment_hashes WHERE card_id = ?", card.getId());
+        jdbcTemplate.update("DELETE FROM cold_cards WHERE card_id = ?", card.getId());
+        jdbcTemplate.update("DELETE FROM cards WHERE id = ?", card.getId());
+        jdbcTemplate.update("DELETE FROM board_columns WHERE board_id = ?", board.getId());
+        jdbcTemplate.update("DELETE FROM board_members WHERE board_id = ?", board.getId());
+        jdbcTemplate.update("DELETE FROM boards WHERE id = ?", board.getId());
+        jdbcTemplate.update("DELETE FROM workspaces WHERE id = ?", workspace.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE id IN (?, ?)", user.getId(), stranger.getId());
+    }
+
+    @Test
+    void chunkedUpload_resumesFromReceivedOffset() throws Exception {
+        UUID uploadId = startUpload(CONTENT.length);
+
+        putChunk(uploadId, 0, 3)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.receivedBytes").value(4))
+                .andExpect(jsonPath("$.complete").value(false));
+
+        // A retried or out-of-order chunk is refused with the offset the client should resume from
+        putChunk(uploadId, 2, 5)
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value(containsString("offset 4")));
+
+        mockMvc.perform(get("/attachments/uploads/" + uploadId).header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.receivedBytes").value(4));
+
+        String body = putChunk(uploadId, 4, 9)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.complete").value(true))
+                .andExpect(jsonPath("$.attachment.fileSize").value(CONTENT.length))
+                .andExpect(jsonPath("$.attachment.contentHash").value(sha256(CONTENT)))
+                .andReturn().getResponse().getContentAsString();
+        String attachmentId = objectMapper.readTree(body).at("/attachment/id").asText();
+
+        // The finished upload reports its attachment, and a retried last chunk gets it again instead of a second one
+        mockMvc.perform(get("/attachments/uploads/" + uploadId).header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.complete").value(true))
+                .andExpect(jsonPath("$.attachment.id").value(attachmentId));
+        putChunk(uploadId, 4, 9)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.receivedBytes").value(CONTENT.length))
+                .andExpect(jsonPath("$.attachment.id").value(attachmentId));
+        mockMvc.perform(get("/attachments/cards/" + card.getId()).header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].contentHash").value(sha256(CONTENT)));
+    }
+
+    @Test
+    void chunkRange_mustFitUploadAndBody() throws Exception {
+        UUID uploadId = startUpload(CONTENT.length);
+
+        // Declares a different file size
+        mockMvc.perform(put("/attachments/uploads/" + uploadId)
+                        .header("Authorization", userToken)
+                        .header("Content-Range", "bytes 0-3/12")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(Arrays.copyOfRange(CONTENT, 0, 4)))
+                .andExpect(status().isBadRequest());
+        // Ends past the file
+        mockMvc.perform(put("/attachments/uploads/" + uploadId)
+                        .header("Authorization", userToken)
+                        .header("Content-Range", "bytes 0-11/*")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(new byte[12]))
+                .andExpect(status().isRequestedRangeNotSatisfiable());
+        // Body shorter than the range
+        mockMvc.perform(put("/attachments/uploads/" + uploadId)
+                        .header("Authorization", userToken)
+                        .header("Content-Range", "bytes 0-3/" + CONTENT.length)
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(Arrays.copyOfRange(CONTENT, 0, 2)))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/attachments/uploads/" + uploadId).header("Authorization", userToken))
+                .andExpect(jsonPath("$.receivedBytes").value(0));
+    }
+
+    @Test
+    void identicalContent_isStoredOnce() throws Exception {
+        String hash = sha256(CONTENT);
+        for (int i = 0; i < 2; i++) {
+            putChunk(startUpload(CONTENT.length), 0, CONTENT.length - 1)
+                    .andExpect(jsonPath("$.attachment.contentHash").value(hash));
+        }
+
+        mockMvc.perform(get("/attachments/cards/" + card.getId()).header("Authorization", userToken))
+                .andExpect(jsonPath("$.length()").value(2));
+        try (Stream<Path> files = Files.walk(Path.of(storageProperties.getRoot(), "blobs"))) {
+            assertEquals(1, files.filter(path -> path.getFileName().toString().equals(hash)).count());
+        }
+    }
+
+    @Test
+    void oversizedChunk_isRejectedWithoutKeepingBytes() throws Exception {
+        UUID uploadId = startUpload(4);
+
+        mockMvc.perform(put("/attachments/uploads/" + uploadId)
+                        .header("Authorization", userToken)
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(CONTENT))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/attachments/uploads/" + uploadId).header("Authorization", userToken))
+                .andExpect(jsonPath("$.receivedBytes").value(0));
+    }
+
+    @Test
+    void upload_isPrivateToUploader() throws Exception {
+        UUID uploadId = startUpload(CONTENT.length);
+
+        mockMvc.perform(put("/attachments/uploads/" + uploadId)
+                        .header("Authorization", strangerToken)
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(CONTENT))
+                .andExpect(status().isNotFound());
+
+        // Starting one needs access to the card's board
+        mockMvc.perform(post("/attachments/cards/" + card.getId() + "/uploads")
+                        .header("Authorization", strangerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createDto(CONTENT.length))))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void concurrentChunks_areLimitedPerUser() throws Exception {
+        UUID uploadId = startUpload(CONTENT.length);
+        UploadLimiter.Permit[] held = new UploadLimiter.Permit[storageProperties.getMaxConcurrentUploadsPerUser()];
+        Arrays.setAll(held, i -> uploadLimiter.acquire(user.getId()));
+        try {
+            putChunk(uploadId, 0, 3).andExpect(status().isTooManyRequests());
+        } finally {
+            Arrays.stream(held).forEach(UploadLimiter.Permit::close);
+        }
+        putChunk(uploadId, 0, 3).andExpect(status().isOk());
+    }
+
+    @Test
+    void orphanedBlob_isSweptOnceUnreferenced() throws Exception {
+        String hash = sha256(CONTENT);
+        String attachmentId = uploadWhole();
+
+        Duration gracePeriod = storageProperties.getOrphanGracePeriod();
+        storageProperties.setOrphanGracePeriod(Duration.ofMillis(-1000));
+        try {
+            attachmentService.deleteOrphanedBlobs();
+            assertTrue(blobExists(hash), "Referenced blob was swept");
+
+            mockMvc.perform(delete("/attachments/" + attachmentId).header("Authorization", userToken))
+                    .andExpect(status().isNoContent());
+            attachmentService.deleteOrphanedBlobs();
+            assertFalse(blobExists(hash), "Orphaned blob was kept");
+        } finally {
+            storageProperties.setOrphanGracePeriod(gracePeriod);
+        }
+    }
+
+    @Test
+    void orphanedBlob_isKeptWhileATieredCardUsesIt() throws Exception {
+        String hash = sha256(CONTENT);
+        uploadWhole();
+        jdbcTemplate.update("UPDATE cards SET archived = TRUE WHERE id = ?", card.getId());
+        int untouchedDays = cardTieringProperties.getUntouchedDays();
+        cardTieringProperties.setUntouchedDays(0);
+        try {
+            cardTieringService.tierCards();
+        } finally {
+            cardTieringProperties.setUntouchedDays(untouchedDays);
+        }
+
+        Duration gracePeriod = storageProperties.getOrphanGracePeriod();
+        storageProperties.setOrphanGracePeriod(Duration.ofMillis(-1000));
+        try {
+            attachmentService.deleteOrphanedBlobs();
+            assertTrue(blobExists(hash), "Blob of a tiered attachment was swept");
+
+            // The hash goes with the cold card
+            coldCardRepository.deleteById(card.getId());
+            attachmentService.deleteOrphanedBlobs();
+            assertFalse(blobExists(hash), "Orphaned blob was kept");
+        } finally {
+            storageProperties.setOrphanGracePeriod(gracePeriod);
+        }
+    }
+
+    @Test
+    void download_servesContentWithImmutableCaching() throws Exception {
+        String attachmentId = uploadWhole();
+        String etag = "\"" + sha256(CONTENT) + "\"";
+
+        mockMvc.perform(get("/attachments/" + attachmentId + "/content").header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(CONTENT))
+                .andExpect(header().string("ETag", etag))
+                .andExpect(header().string("Cache-Control", containsString("immutable")))
+                .andExpect(header().string("Accept-Ranges", "bytes"))
+                .andExpect(header().string("Content-Disposition", containsString("attachment")))
+                .andExpect(header().longValue("Content-Length", CONTENT.length));
+
+        mockMvc.perform(get("/attachments/" + attachmentId + "/content")
+                        .header("Authorization", userToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+
+        mockMvc.perform(get("/attachments/" + attachmentId + "/content").header("Authorization", strangerToken))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void download_servesByteRanges() throws Exception {
+        String attachmentId = uploadWhole();
+        String etag = "\"" + sha256(CONTENT) + "\"";
+
+        mockMvc.perform(get("/attachments/" + attachmentId + "/content")
+                        .header("Authorization", userToken)
+                        .header("Range", "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().string("2345"))
+                .andExpect(header().string("Content-Range", "bytes 2-5/10"));
+
+        mockMvc.perform(get("/attachments/" + attachmentId + "/content")
+                        .header("Authorization", userToken)
+                        .header("Range", "bytes=-3")
+                        .header("If-Range", etag))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().string("789"));
+
+        // A stale If-Range gets the whole file instead of a range of something else
+        mockMvc.perform(get("/attachments/" + attachmentId + "/content")
+                        .header("Authorization", userToken)
+                        .header("Range", "bytes=2-5")
+                        .header("If-Range", "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(CONTENT));
+
+        mockMvc.perform(get("/attachments/" + attachmentId + "/content")
+                        .header("Authorization", userToken)
+                        .header("Range", "bytes=20-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string("Content-Range", "bytes */10"));
+    }
+
+    @Test
+    void imageUpload_isThumbnailedInBackground() throws Exception {
+        BufferedImage source = new BufferedImage(1200, 800, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(source, "png", png);
+        UUID uploadId = startUpload(createDto("photo.png", "image/png", png.size()));
+
+        String body = mockMvc.perform(put("/attachments/uploads/" + uploadId)
+                        .header("Authorization", userToken)
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(png.toByteArray()))
+                .andExpect(jsonPath("$.attachment.thumbnails.small").exists())
+                .andExpect(jsonPath("$.attachment.thumbnails.medium").exists())
+                .andReturn().getResponse().getContentAsString();
+        String thumbnailUrl = objectMapper.readTree(body).at("/attachment/thumbnails/small").asText();
+
+        byte[] thumbnail = null;
+        for (int attempt = 0; attempt < 50 && thumbnail == null; attempt++) {
+            thumbnailService.dispatchQueued();
+            MockHttpServletResponse response = mockMvc.perform(get(thumbnailUrl).header("Authorization", userToken))
+                    .andReturn().getResponse();
+            if (response.getStatus() == 200) {
+                assertEquals("image/jpeg", response.getContentType());
+                thumbnail = response.getContentAsByteArray();
+            } else {
+                assertEquals(404, response.getStatus());
+                Thread.sleep(100);
+            }
+        }
+        assertNotNull(thumbnail, "Thumbnail was not rendered");
+        BufferedImage rendered = ImageIO.read(new ByteArrayInputStream(thumbnail));
+        assertEquals(160, rendered.getWidth());
+        assertEquals(107, rendered.getHeight());
+
+        mockMvc.perform(get("/attachments/" + uploadWhole() + "/thumbnails/small").header("Authorization", userToken))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void exhaustedThumbnail_isNotQueuedAgainOnRequest() throws Exception {
+        String hash = sha256("unrenderable".getBytes(StandardCharsets.US_ASCII));
+        int maxAttempts = thumbnailProperties.getMaxAttempts();
+        jdbcTemplate.update("INSERT INTO thumbnail_queue (content_hash, created_at, attempts) VALUES (?, ?, ?)",
+                hash, Timestamp.from(Instant.now()), maxAttempts);
+
+        assertThrows(ResourceNotFoundException.class, () -> thumbnailService.getThumbnail(hash, "image/png", "small"));
+        thumbnailService.dispatchQueued();
+
+        assertEquals(maxAttempts, jdbcTemplate.queryForObject(
+                "SELECT attempts FROM thumbnail_queue WHERE content_hash = ?", Integer.class, hash));
+    }
+
+    private String uploadWhole() throws Exception {
+        String body = mockMvc.perform(put("/attachments/uploads/" + startUpload(CONTENT.length))
+                        .header("Authorization", userToken)
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(CONTENT))
+                .andExpect(jsonPath("$.complete").value(true))
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).at("/attachment/id").asText();
+    }
+
+    private UUID startUpload(long fileSize) throws Exception {
+        return startUpload(createDto(fileSize));
+    }
+
+    private UUID startUpload(AttachmentUploadCreateDto createDto) throws Exception {
+        String body = mockMvc.perform(post("/attachments/cards/" + card.getId() + "/uploads")
+                        .header("Authorization", userToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createDto)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.receivedBytes").value(0))
+                .andReturn().getResponse().getContentAsString();
+        JsonNode upload = objectMapper.readTree(body);
+        return UUID.fromString(upload.get("id").asText());
+    }
+
+    private ResultActions putChunk(UUID uploadId, int first, int last) throws Exception {
+        return mockMvc.perform(put("/attachments/uploads/" + uploadId)
+                .header("Authorization", userToken)
+                .header("Content-Range", "bytes " + first + "-" + last + "/" + CONTENT.length)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .content(Arrays.copyOfRange(CONTENT, first, last + 1)));
+    }
+
+    private static AttachmentUploadCreateDto createDto(long fileSize) {
+        return createDto("notes.txt", "text/plain", fileSize);
+    }
+
+    private static AttachmentUploadCreateDto createDto(String fileName, String mimeType, long fileSize) {
+        AttachmentUploadCreateDto dto = new AttachmentUploadCreateDto();
+        dto.setFileName(fileName);
+        dto.setMimeType(mimeType);
+        dto.setFileSize(fileSize);
+        return dto;
+    }
+
+    private boolean blobExists(String hash) {
+        return Files.exists(Path.of(storageProperties.getRoot(), "blobs", hash.substring(0, 2), hash.substring(2, 4), hash));
+    }
+
+    private static String sha256(byte[] content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+}
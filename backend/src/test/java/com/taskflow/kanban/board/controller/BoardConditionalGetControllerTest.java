@@ -0,0 +1,208 @@
+package com.taskflow.kanban.board.controller;
+
+import com.taskflow.kanban.board.entity.Board;
+import com.taskflow.kanban.board.entity.BoardColumn;
+import com.taskflow.kanban.board.entity.BoardMember;
+import com.taskflow.kanban.board.entity.BoardRole;
+import com.taskflow.kanban.board.entity.Card;
+import com.taskflow.kanban.board.entity.Label;
+import com.taskflow.kanban.board.repository.BoardMemberRepository;
+import com.taskflow.kanban.board.repository.BoardRepository;
+import com.taskflow.kanban.board.repository.CardRepository;
+import com.taskflow.kanban.board.repository.ColumnRepository;
+import com.taskflow.kanban.board.repository.LabelRepository;
+import com.taskflow.kanban.security.CustomUserDetails;
+import com.taskflow.kanban.security.JwtService;
+import com.taskflow.kanban.user.entity.Role;
+import com.taskflow.kanban.user.entity.User;
+import com.taskflow.kanban.user.repository.RoleRepository;
+import com.taskflow.kanban.user.repository.UserRepository;
+import com.taskflow.kanban.workspace.entity.Workspace;
+import com.taskflow.kanban.workspace.entity.WorkspaceMember;
+import com.taskflow.kanban.workspace.entity.WorkspaceRole;
+import com.taskflow.kanban.workspace.repository.WorkspaceMemberRepository;
+import com.taskflow.kanban.workspace.repository.WorkspaceRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Strong ETags on the board read endpoints: a matching If-None-Match is answered 304, but only after the access check,
+ * and the tag moves with every change the response reflects.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class BoardConditionalGetControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private WorkspaceMemberRepository workspaceMemberRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardMemberRepository boardMemberRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private String userToken;
+    private User user;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        Role userRole = roleRepository.findByName("USER").orElseGet(() -> roleRepository.save(new Role("USER")));
+        user = userRepository.save(User.builder().username("etag_user").email("etag@example.com")
+                .password("password").active(true).roles(Set.of(userRole)).build());
+        userToken = "Bearer " + jwtService.generateToken(new CustomUserDetails(user));
+
+        Workspace workspace = workspaceRepository.save(Workspace.builder().name("Test Workspace").isPrivate(false).build());
+        workspaceMemberRepository.save(WorkspaceMember.builder().workspace(workspace).user(user).role(WorkspaceRole.OWNER).build());
+        board = boardRepository.save(Board.builder().name("Test Board").workspace(workspace).build());
+        boardMemberRepository.save(BoardMember.builder().board(board).user(user).role(BoardRole.OWNER).build());
+    }
+
+    @Test
+    void getCardsByColumn_conditionalGet() throws Exception {
+        BoardColumn column = columnRepository.save(BoardColumn.builder().name("Test Column").board(board).position(0).build());
+        Card card = cardRepository.save(Card.builder().title("Card 1").column(column).position(0).build());
+
+        String etag = mockMvc.perform(get("/cards").param("columnId", column.getId().toString())
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Card 1"))
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotNull(etag);
+
+        mockMvc.perform(get("/cards").param("columnId", column.getId().toString())
+                        .header("Authorization", userToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        Label label = labelRepository.save(Label.builder().name("Test Label").board(board).build());
+        mockMvc.perform(post("/labels/cards/" + card.getId() + "/labels/" + label.getId())
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk());
+
+        String newEtag = mockMvc.perform(get("/cards").param("columnId", column.getId().toString())
+                        .header("Authorization", userToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].labels[0].name").value("Test Label"))
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotEquals(etag, newEtag);
+    }
+
+    @Test
+    void getCardsByColumn_conditionalGetFollowsLabelMovedBetweenCards() throws Exception {
+        BoardColumn column = columnRepository.save(BoardColumn.builder().name("Test Column").board(board).position(0).build());
+        Card card1 = cardRepository.save(Card.builder().title("Card 1").column(column).position(0).build());
+        Card card2 = cardRepository.save(Card.builder().title("Card 2").column(column).position(1).build());
+        Label label1 = labelRepository.save(Label.builder().name("Label 1").board(board).build());
+        Label label2 = labelRepository.save(Label.builder().name("Label 2").board(board).build());
+        card1.getLabels().add(label1);
+        card2.getLabels().add(label2);
+        entityManager.flush();
+
+        String etag = mockMvc.perform(get("/cards").param("columnId", column.getId().toString())
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Same number of card-label links and the same newest label afterwards: only the cards themselves changed
+        mockMvc.perform(delete("/labels/cards/" + card2.getId() + "/labels/" + label2.getId())
+                        .header("Authorization", userToken))
+                .andExpect(status().is2xxSuccessful());
+        mockMvc.perform(post("/labels/cards/" + card1.getId() + "/labels/" + label2.getId())
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/cards").param("columnId", column.getId().toString())
+                        .header("Authorization", userToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].labels.length()").value(2));
+    }
+
+    @Test
+    void conditionalGet_checksAccessBeforeAnsweringNotModified() throws Exception {
+        BoardColumn column = columnRepository.save(BoardColumn.builder().name("Test Column").board(board).position(0).build());
+        Card card = cardRepository.save(Card.builder().title("Card 1").column(column).position(0).build());
+        String etag = mockMvc.perform(get("/comments/cards/" + card.getId())
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        User stranger = userRepository.save(User.builder()
+                .username("stranger")
+                .email("stranger@example.com")
+                .password(passwordEncoder.encode("password"))
+                .active(true)
+                .roles(new HashSet<>(user.getRoles()))
+                .build());
+        mockMvc.perform(get("/comments/cards/" + card.getId())
+                        .header("Authorization", "Bearer " + jwtService.generateToken(new CustomUserDetails(stranger)))
+                        .header("If-None-Match", etag))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void getBoardById_conditionalGet() throws Exception {
+        String etag = mockMvc.perform(get("/boards/" + board.getId())
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotNull(etag);
+
+        mockMvc.perform(get("/boards/" + board.getId())
+                        .header("Authorization", userToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+}
@@ -0,0 +1,232 @@
+package com.taskflow.kanban.board.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import com.taskflow.kanban.board.dto.AttachmentDto;
+import com.taskflow.kanban.board.dto.CardCreateDto;
+import com.taskflow.kanban.board.dto.CardMoveDto;
+import com.taskflow.kanban.board.dto.CommentCreateDto;
+import com.taskflow.kanban.board.entity.Board;
+import com.taskflow.kanban.board.entity.BoardColumn;
+import com.taskflow.kanban.board.entity.BoardMember;
+import com.taskflow.kanban.board.entity.BoardRole;
+import com.taskflow.kanban.board.entity.Card;
+import com.taskflow.kanban.board.entity.Label;
+import com.taskflow.kanban.board.repository.BoardMemberRepository;
+import com.taskflow.kanban.board.repository.BoardRepository;
+import com.taskflow.kanban.board.repository.CardRepository;
+import com.taskflow.kanban.board.repository.ColumnRepository;
+import com.taskflow.kanban.board.repository.LabelRepository;
+import com.taskflow.kanban.security.CustomUserDetails;
+import com.taskflow.kanban.security.JwtService;
+import com.taskflow.kanban.user.entity.User;
+import com.taskflow.kanban.user.repository.UserRepository;
+import com.taskflow.kanban.workspace.entity.Workspace;
+import com.taskflow.kanban.workspace.entity.WorkspaceMember;
+import com.taskflow.kanban.workspace.entity.WorkspaceRole;
+import com.taskflow.kanban.workspace.repository.WorkspaceMemberRepository;
+import com.taskflow.kanban.workspace.repository.WorkspaceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * The board snapshot as served from the board_views read model. Not transactional: the view is patched once each
+ * write commits, so every request here has to commit. Everything seeded is removed again in {@link #tearDown()}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BoardSnapshotControllerTest {
+
+    /** Every card on the test board. */
+    private static final String BOARD_CARDS =
+            "SELECT c.id FROM cards c JOIN board_columns col ON c.column_id = col.id WHERE col.board_id = ?";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private WorkspaceMemberRepository workspaceMemberRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardMemberRepository boardMemberRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String userToken;
+    private User user;
+    private Workspace workspace;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        user = userRepository.save(User.builder().username("snapshot_" + suffix).email("snapshot_" + suffix + "@example.com")
+                .password("password").active(true).roles(Set.of()).build());
+        userToken = "Bearer " + jwtService.generateToken(new CustomUserDetails(user));
+        workspace = workspaceRepository.save(Workspace.builder().name("Test Workspace").isPrivate(false).build());
+        workspaceMemberRepository.save(WorkspaceMember.builder().workspace(workspace).user(user).role(WorkspaceRole.OWNER).build());
+        board = boardRepository.save(Board.builder().name("Test Board").workspace(workspace).build());
+        boardMemberRepository.save(BoardMember.builder().board(board).user(user).role(BoardRole.OWNER).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        UUID boardId = board.getId();
+        jdbcTemplate.update("DELETE FROM board_views WHERE board_id = ?", boardId);
+        jdbcTemplate.update("DELETE FROM activity_logs WHERE performed_by = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM comments WHERE card_id IN (" + BOARD_CARDS + ")", boardId);
+        jdbcTemplate.update("DELETE FROM attachments WHERE card_id IN (" + BOARD_CARDS + ")", boardId);
+        jdbcTemplate.update("DELETE FROM card_labels WHERE card_id IN (" + BOARD_CARDS + ")", boardId);
+        jdbcTemplate.update("DELETE FROM cards WHERE id IN (" + BOARD_CARDS + ")", boardId);
+        jdbcTemplate.update("DELETE FROM labels WHERE board_id = ?", boardId);
+        jdbcTemplate.update("DELETE FROM board_columns WHERE board_id = ?", boardId);
+        jdbcTemplate.update("DELETE FROM board_members WHERE board_id = ?", boardId);
+        jdbcTemplate.update("DELETE FROM boards WHERE id = ?", boardId);
+        jdbcTemplate.update("DELETE FROM workspace_members WHERE workspace_id = ?", workspace.getId());
+        jdbcTemplate.update("DELETE FROM workspaces WHERE id = ?", workspace.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", user.getId());
+    }
+
+    @Test
+    void getBoardSnapshot_reflectsCardChanges() throws Exception {
+        BoardColumn column = columnRepository.save(BoardColumn.builder().name("Test Column").board(board).position(0).build());
+        cardRepository.save(Card.builder().title("Card 1").column(column).position(0).build());
+
+        mockMvc.perform(get("/boards/" + board.getId() + "/snapshot")
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.board.name").value("Test Board"))
+                .andExpect(jsonPath("$.columns[0].column.name").value("Test Column"))
+                .andExpect(jsonPath("$.columns[0].cards.length()").value(1));
+
+        CardCreateDto dto = new CardCreateDto();
+        dto.setTitle("Card 2");
+        dto.setColumnId(column.getId());
+        mockMvc.perform(post("/cards")
+                        .header("Authorization", userToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/boards/" + board.getId() + "/snapshot")
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.columns[0].cards.length()").value(2))
+                .andExpect(jsonPath("$.columns[0].cards[1].title").value("Card 2"));
+    }
+
+    @Test
+    void getBoardSnapshot_readModelFollowsMovesAndLabels() throws Exception {
+        BoardColumn col1 = columnRepository.save(BoardColumn.builder().name("Col 1").board(board).position(0).build());
+        BoardColumn col2 = columnRepository.save(BoardColumn.builder().name("Col 2").board(board).position(1).build());
+        Card card1 = cardRepository.save(Card.builder().title("Card 1").column(col1).position(0).build());
+        cardRepository.save(Card.builder().title("Card 2").column(col1).position(1).build());
+        Label label = labelRepository.save(Label.builder().name("Urgent").board(board).build());
+
+        // Materialize the read model, then mutate through the API so it is patched rather than rebuilt
+        mockMvc.perform(get("/boards/" + board.getId() + "/snapshot").header("Authorization", userToken))
+                .andExpect(status().isOk());
+
+        CardMoveDto moveDto = new CardMoveDto();
+        moveDto.setTargetColumnId(col2.getId());
+        moveDto.setNewPosition(0);
+        mockMvc.perform(put("/cards/" + card1.getId() + "/move")
+                        .header("Authorization", userToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(moveDto)))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(post("/labels/cards/" + card1.getId() + "/labels/" + label.getId())
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/boards/" + board.getId() + "/snapshot").header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.columns[0].cards.length()").value(1))
+                .andExpect(jsonPath("$.columns[0].cards[0].title").value("Card 2"))
+                .andExpect(jsonPath("$.columns[0].cards[0].position").value(0))
+                .andExpect(jsonPath("$.columns[1].cards[0].title").value("Card 1"))
+                .andExpect(jsonPath("$.columns[1].cards[0].labels[0].name").value("Urgent"))
+                .andExpect(jsonPath("$.labels[0].name").value("Urgent"));
+    }
+
+    @Test
+    void cardBadges_followCommentsAndAttachmentsIntoReadModel() throws Exception {
+        BoardColumn column = columnRepository.save(BoardColumn.builder().name("Doing").board(board).position(0).build());
+        Card card = cardRepository.save(Card.builder().title("Badged").column(column).position(0).build());
+        mockMvc.perform(get("/boards/" + board.getId() + "/snapshot").header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.columns[0].cards[0].commentCount").value(0));
+
+        CommentCreateDto commentDto = new CommentCreateDto();
+        commentDto.setCardId(card.getId());
+        commentDto.setContent("Looking into it");
+        String commentId = JsonPath.read(mockMvc.perform(post("/comments")
+                        .header("Authorization", userToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(commentDto)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString(), "$.id");
+        AttachmentDto attachmentDto = AttachmentDto.builder()
+                .fileName("log.txt").fileUrl("https://example.com/log.txt").fileSize(10).mimeType("text/plain").build();
+        mockMvc.perform(post("/attachments/cards/" + card.getId())
+                        .header("Authorization", userToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(attachmentDto)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/boards/" + board.getId() + "/snapshot").header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.columns[0].cards[0].commentCount").value(1))
+                .andExpect(jsonPath("$.columns[0].cards[0].attachmentCount").value(1));
+
+        mockMvc.perform(delete("/comments/" + commentId).header("Authorization", userToken))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/cards/" + card.getId()).header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.commentCount").value(0))
+                .andExpect(jsonPath("$.attachmentCount").value(1));
+        mockMvc.perform(get("/boards/" + board.getId() + "/snapshot").header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.columns[0].cards[0].commentCount").value(0));
+    }
+}
@@ -0,0 +1,158 @@
+package com.taskflow.kanban.board.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.taskflow.kanban.board.entity.ActivityLog;
+import com.taskflow.kanban.board.entity.Board;
+import com.taskflow.kanban.board.entity.BoardColumn;
+import com.taskflow.kanban.board.entity.BoardMember;
+import com.taskflow.kanban.board.entity.BoardRole;
+import com.taskflow.kanban.board.entity.Card;
+import com.taskflow.kanban.board.entity.Comment;
+import com.taskflow.kanban.board.repository.ActivityLogRepository;
+import com.taskflow.kanban.board.repository.BoardMemberRepository;
+import com.taskflow.kanban.board.repository.BoardRepository;
+import com.taskflow.kanban.board.repository.CardRepository;
+import com.taskflow.kanban.board.repository.ColumnRepository;
+import com.taskflow.kanban.board.repository.CommentRepository;
+import com.taskflow.kanban.security.CustomUserDetails;
+import com.taskflow.kanban.security.JwtService;
+import com.taskflow.kanban.user.entity.Role;
+import com.taskflow.kanban.user.entity.User;
+import com.taskflow.kanban.user.repository.RoleRepository;
+import com.taskflow.kanban.user.repository.UserRepository;
+import com.taskflow.kanban.workspace.entity.Workspace;
+import com.taskflow.kanban.workspace.entity.WorkspaceMember;
+import com.taskflow.kanban.workspace.entity.WorkspaceRole;
+import com.taskflow.kanban.workspace.repository.WorkspaceMemberRepository;
+import com.taskflow.kanban.workspace.repository.WorkspaceRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * The one-call card detail and its activity pages.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class CardDetailControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private WorkspaceMemberRepository workspaceMemberRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardMemberRepository boardMemberRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ActivityLogRepository activityLogRepository;
+
+    private String userToken;
+    private User user;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        Role userRole = roleRepository.findByName("USER").orElseGet(() -> roleRepository.save(new Role("USER")));
+        user = userRepository.save(User.builder().username("detail_user").email("detail@example.com")
+                .password("password").active(true).roles(Set.of(userRole)).build());
+        userToken = "Bearer " + jwtService.generateToken(new CustomUserDetails(user));
+
+        Workspace workspace = workspaceRepository.save(Workspace.builder().name("Test Workspace").isPrivate(false).build());
+        workspaceMemberRepository.save(WorkspaceMember.builder().workspace(workspace).user(user).role(WorkspaceRole.OWNER).build());
+        board = boardRepository.save(Board.builder().name("Test Board").workspace(workspace).build());
+        boardMemberRepository.save(BoardMember.builder().board(board).user(user).role(BoardRole.OWNER).build());
+    }
+
+    @Test
+    void getCardDetail_returnsCardWithFirstPagesOfCommentsAndActivity() throws Exception {
+        BoardColumn column = columnRepository.save(BoardColumn.builder().name("Review").board(board).position(0).build());
+        Card card = cardRepository.save(Card.builder().title("Detailed").column(column).position(0).build());
+        commentRepository.save(Comment.builder().card(card).author(user).content("First look").build());
+        LocalDate today = LocalDate.now(ZoneId.systemDefault());
+        activityLogRepository.saveAll(List.of(
+                boardLog(card.getId(), "CREATE", user.getId(), today.minusDays(2), ZoneId.systemDefault()),
+                boardLog(card.getId(), "UPDATE", user.getId(), today.minusDays(1), ZoneId.systemDefault()),
+                boardLog(card.getId(), "MOVE", user.getId(), today, ZoneId.systemDefault())));
+        entityManager.flush();
+
+        String cursor = JsonPath.read(mockMvc.perform(get("/cards/" + card.getId() + "/detail")
+                        .param("activityLimit", "2")
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.card.title").value("Detailed"))
+                .andExpect(jsonPath("$.attachments.length()").value(0))
+                .andExpect(jsonPath("$.comments.content[0].content").value("First look"))
+                .andExpect(jsonPath("$.comments.content[0].authorUsername").value(user.getUsername()))
+                .andExpect(jsonPath("$.comments.hasMore").value(false))
+                .andExpect(jsonPath("$.activity.content.length()").value(2))
+                .andExpect(jsonPath("$.activity.content[0].action").value("MOVE"))
+                .andExpect(jsonPath("$.activity.content[0].performedByUsername").value(user.getUsername()))
+                .andExpect(jsonPath("$.activity.hasMore").value(true))
+                .andExpect(jsonPath("$.activity.totalElements").value(3))
+                .andReturn().getResponse().getContentAsString(), "$.activity.nextCursor");
+
+        mockMvc.perform(get("/cards/" + card.getId() + "/activity").param("cursor", cursor)
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].action").value("CREATE"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    private ActivityLog boardLog(UUID cardId, String action, UUID performedBy, LocalDate day, ZoneId zone) {
+        return ActivityLog.builder()
+                .boardId(board.getId())
+                .entityType("Card")
+                .entityId(cardId)
+                .action(action)
+                .performedBy(performedBy)
+                .timestamp(day.atTime(12, 0).atZone(zone).toInstant())
+                .build();
+    }
+}
@@ -0,0 +1,248 @@
+package com.taskflow.kanban.board.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.taskflow.kanban.board.entity.Board;
+import com.taskflow.kanban.board.entity.BoardColumn;
+import com.taskflow.kanban.board.entity.BoardMember;
+import com.taskflow.kanban.board.entity.BoardRole;
+import com.taskflow.kanban.board.entity.Card;
+import com.taskflow.kanban.board.entity.CardMember;
+import com.taskflow.kanban.board.entity.CardRole;
+import com.taskflow.kanban.board.entity.Label;
+import com.taskflow.kanban.board.repository.BoardMemberRepository;
+import com.taskflow.kanban.board.repository.BoardRepository;
+import com.taskflow.kanban.board.repository.CardRepository;
+import com.taskflow.kanban.board.repository.ColumnRepository;
+import com.taskflow.kanban.board.repository.LabelRepository;
+import com.taskflow.kanban.security.CustomUserDetails;
+import com.taskflow.kanban.security.JwtService;
+import com.taskflow.kanban.user.entity.Role;
+import com.taskflow.kanban.user.entity.User;
+import com.taskflow.kanban.user.repository.RoleRepository;
+import com.taskflow.kanban.user.repository.UserRepository;
+import com.taskflow.kanban.workspace.entity.Workspace;
+import com.taskflow.kanban.workspace.entity.WorkspaceMember;
+import com.taskflow.kanban.workspace.entity.WorkspaceRole;
+import com.taskflow.kanban.workspace.repository.WorkspaceMemberRepository;
+import com.taskflow.kanban.workspace.repository.WorkspaceRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class CardFilterControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private WorkspaceMemberRepository workspaceMemberRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardMemberRepository boardMemberRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private String userToken;
+    private User user;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        Role userRole = roleRepository.findByName("USER").orElseGet(() -> roleRepository.save(new Role("USER")));
+        user = userRepository.save(User.builder().username("filter_user").email("filter@example.com")
+                .password("password").active(true).roles(Set.of(userRole)).build());
+        userToken = "Bearer " + jwtService.generateToken(new CustomUserDetails(user));
+
+        Workspace workspace = workspaceRepository.save(Workspace.builder().name("Filter Workspace").isPrivate(false).build());
+        workspaceMemberRepository.save(WorkspaceMember.builder().workspace(workspace).user(user).role(WorkspaceRole.OWNER).build());
+        board = boardRepository.save(Board.builder().name("Filter Board").workspace(workspace).build());
+        boardMemberRepository.save(BoardMember.builder().board(board).user(user).role(BoardRole.OWNER).build());
+    }
+
+    @Test
+    void filterCards_composesCriteriaAndSortsInBoardOrder() throws Exception {
+        BoardColumn todo = columnRepository.save(BoardColumn.builder().name("To Do").board(board).position(0).build());
+        BoardColumn done = columnRepository.save(BoardColumn.builder().name("Done").board(board).position(1).build());
+        Label bug = labelRepository.save(Label.builder().name("Bug").board(board).build());
+        Instant monday = Instant.parse("2026-03-02T09:00:00Z");
+        Card login = cardRepository.save(Card.builder().title("Login fails").column(todo).position(0).priority(2)
+                .dueDate(monday).labels(new HashSet<>(Set.of(bug))).build());
+        Card docs = cardRepository.save(Card.builder().title("Write docs").column(todo).position(1).priority(3)
+                .dueDate(monday.plus(Duration.ofDays(10))).build());
+        Card crash = cardRepository.save(Card.builder().title("Crash on save").column(done).position(0).priority(1)
+                .achieved(true).labels(new HashSet<>(Set.of(bug))).build());
+        cardRepository.save(Card.builder().title("Old idea").column(todo).position(2).archived(true).build());
+        crash.getMembers().add(CardMember.builder().card(crash).user(user).role(CardRole.ASSIGNEE).build());
+        docs.getMembers().add(CardMember.builder().card(docs).user(user).role(CardRole.ASSIGNEE).build());
+        entityManager.flush();
+
+        // No criteria: every live card in board order
+        mockMvc.perform(get("/boards/" + board.getId() + "/cards").header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andExpect(jsonPath("$.content.length()").value(3))
+                .andExpect(jsonPath("$.content[0].title").value("Login fails"))
+                .andExpect(jsonPath("$.content[1].title").value("Write docs"))
+                .andExpect(jsonPath("$.content[2].title").value("Crash on save"));
+        mockMvc.perform(get("/boards/" + board.getId() + "/cards")
+                        .param("labelIds", bug.getId().toString())
+                        .param("sort", "priority")
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].title").value("Crash on save"))
+                .andExpect(jsonPath("$.content[1].title").value("Login fails"));
+        mockMvc.perform(get("/boards/" + board.getId() + "/cards")
+                        .param("assigneeIds", user.getId().toString())
+                        .param("achieved", "false")
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("Write docs"));
+        mockMvc.perform(get("/boards/" + board.getId() + "/cards")
+                        .param("dueFrom", "2026-03-01T00:00:00Z")
+                        .param("dueTo", "2026-03-08T00:00:00Z")
+                        .param("priorities", "1,2")
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(login.getId().toString()));
+        mockMvc.perform(get("/boards/" + board.getId() + "/cards").param("sort", "-dueDate")
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Write docs"))
+                .andExpect(jsonPath("$.content[2].title").value("Crash on save"));
+        mockMvc.perform(get("/boards/" + board.getId() + "/cards").param("sort", "title")
+                        .header("Authorization", userToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void filterCards_pagesPastTheLimitInsteadOfTruncating() throws Exception {
+        BoardColumn todo = columnRepository.save(BoardColumn.builder().name("To Do").board(board).position(0).build());
+        // Two cards share a position, so only the id orders them
+        for (String title : new String[]{"First", "Second", "Third"}) {
+            cardRepository.save(Card.builder().title(title).column(todo).position(title.equals("Third") ? 1 : 0)
+                    .priority(1).build());
+        }
+        entityManager.flush();
+
+        Set<String> seen = new HashSet<>();
+        String page = mockMvc.perform(get("/boards/" + board.getId() + "/cards")
+                        .param("sort", "priority").param("limit", "2")
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[1].position").value(0))
+                .andReturn().getResponse().getContentAsString();
+        seen.addAll(JsonPath.read(page, "$.content[*].title"));
+        mockMvc.perform(get("/boards/" + board.getId() + "/cards")
+                        .param("sort", "priority").param("limit", "2")
+                        .param("cursor", JsonPath.<String>read(page, "$.nextCursor"))
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist())
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("Third"));
+        assertEquals(Set.of("First", "Second"), seen);
+        mockMvc.perform(get("/boards/" + board.getId() + "/cards").param("cursor", "-2")
+                        .header("Authorization", userToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void filterCards_pagesByKeysetThroughMissingValuesAndMixedDirections() throws Exception {
+        BoardColumn todo = columnRepository.save(BoardColumn.builder().name("To Do").board(board).position(0).build());
+        BoardColumn done = columnRepository.save(BoardColumn.builder().name("Done").board(board).position(1).build());
+        Instant monday = Instant.parse("2026-03-02T09:00:00Z");
+        // Latest due date first, undated last; priority ascending with unprioritised last within a date
+        cardRepository.save(Card.builder().title("Undated").column(todo).position(0).priority(1).build());
+        cardRepository.save(Card.builder().title("Monday, no priority").column(todo).position(1).dueDate(monday).build());
+        cardRepository.save(Card.builder().title("Monday P2").column(done).position(0).priority(2).dueDate(monday).build());
+        cardRepository.save(Card.builder().title("Monday P1").column(todo).position(2).priority(1).dueDate(monday).build());
+        cardRepository.save(Card.builder().title("Next week").column(done).position(1).priority(3)
+                .dueDate(monday.plus(Duration.ofDays(7))).build());
+        cardRepository.save(Card.builder().title("Undated, no priority").column(done).position(2).build());
+        entityManager.flush();
+
+        List<String> titles = new ArrayList<>();
+        String cursor = null;
+        do {
+            var request = get("/boards/" + board.getId() + "/cards")
+                    .param("sort", "-dueDate", "priority").param("limit", "2")
+                    .header("Authorization", userToken);
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            String page = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andExpect(cursor == null
+                            ? jsonPath("$.totalElements").value(6)
+                            : jsonPath("$.totalElements").doesNotExist())
+                    .andReturn().getResponse().getContentAsString();
+            titles.addAll(JsonPath.read(page, "$.content[*].title"));
+            cursor = JsonPath.read(page, "$.nextCursor");
+        } while (cursor != null);
+
+        assertEquals(List.of("Next week", "Monday P1", "Monday P2", "Monday, no priority", "Undated",
+                "Undated, no priority"), titles);
+        // A cursor issued for another sort does not line up with this one
+        mockMvc.perform(get("/boards/" + board.getId() + "/cards").param("sort", "priority")
+                        .param("cursor", "0_0_" + UUID.randomUUID())
+                        .header("Authorization", userToken))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,182 @@
+package com.taskflow.kanban.board.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.kanban.board.dto.CardCreateDto;
+import com.taskflow.kanban.board.entity.Board;
+import com.taskflow.kanban.board.entity.BoardColumn;
+import com.taskflow.kanban.board.entity.BoardMember;
+import com.taskflow.kanban.board.entity.BoardRole;
+import com.taskflow.kanban.board.entity.Card;
+import com.taskflow.kanban.board.repository.BoardMemberRepository;
+import com.taskflow.kanban.board.repository.BoardRepository;
+import com.taskflow.kanban.board.repository.CardRepository;
+import com.taskflow.kanban.board.repository.ColumnRepository;
+import com.taskflow.kanban.security.CustomUserDetails;
+import com.taskflow.kanban.security.JwtService;
+import com.taskflow.kanban.user.entity.Role;
+import com.taskflow.kanban.user.entity.User;
+import com.taskflow.kanban.user.repository.RoleRepository;
+import com.taskflow.kanban.user.repository.UserRepository;
+import com.taskflow.kanban.workspace.entity.Workspace;
+import com.taskflow.kanban.workspace.entity.WorkspaceMember;
+import com.taskflow.kanban.workspace.entity.WorkspaceRole;
+import com.taskflow.kanban.workspace.repository.WorkspaceMemberRepository;
+import com.taskflow.kanban.workspace.repository.WorkspaceRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Cursor pages of a column's cards, keyed by (position, id).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class CardPageControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private WorkspaceMemberRepository workspaceMemberRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardMemberRepository boardMemberRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private String userToken;
+    private User user;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        Role userRole = roleRepository.findByName("USER").orElseGet(() -> roleRepository.save(new Role("USER")));
+        user = userRepository.save(User.builder().username("page_user").email("page@example.com")
+                .password("password").active(true).roles(Set.of(userRole)).build());
+        userToken = "Bearer " + jwtService.generateToken(new CustomUserDetails(user));
+
+        Workspace workspace = workspaceRepository.save(Workspace.builder().name("Test Workspace").isPrivate(false).build());
+        workspaceMemberRepository.save(WorkspaceMember.builder().workspace(workspace).user(user).role(WorkspaceRole.OWNER).build());
+        board = boardRepository.save(Board.builder().name("Test Board").workspace(workspace).build());
+        boardMemberRepository.save(BoardMember.builder().board(board).user(user).role(BoardRole.OWNER).build());
+    }
+
+    @Test
+    void getCardPage_walksColumnWithCursor() throws Exception {
+        BoardColumn column = columnRepository.save(BoardColumn.builder().name("Backlog").board(board).position(0).build());
+        for (int i = 1; i <= 5; i++) {
+            CardCreateDto dto = new CardCreateDto();
+            dto.setTitle("Card " + i);
+            dto.setColumnId(column.getId());
+            mockMvc.perform(post("/cards")
+                            .header("Authorization", userToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(dto)))
+                    .andExpect(status().isCreated());
+        }
+        // The counter is written by bulk updates; drop the stale managed column before reading it back
+        entityManager.flush();
+        entityManager.clear();
+        List<Card> cards = cardRepository.findByColumnIdOrderByPositionAsc(column.getId());
+
+        mockMvc.perform(get("/cards/page").param("columnId", column.getId().toString()).param("limit", "2")
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].title").value("Card 1"))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andExpect(jsonPath("$.nextCursor").value("1_" + cards.get(1).getId()))
+                .andExpect(jsonPath("$.totalElements").value(5));
+
+        mockMvc.perform(get("/cards/page").param("columnId", column.getId().toString())
+                        .param("cursor", "3_" + cards.get(3).getId()).param("limit", "2")
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("Card 5"))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        mockMvc.perform(get("/boards/" + board.getId() + "/column-cards").param("limit", "3")
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['" + column.getId() + "'].content.length()").value(3))
+                .andExpect(jsonPath("$['" + column.getId() + "'].nextCursor").value("2_" + cards.get(2).getId()))
+                .andExpect(jsonPath("$['" + column.getId() + "'].totalElements").value(5));
+
+        mockMvc.perform(get("/cards/page").param("columnId", column.getId().toString()).param("cursor", "3")
+                        .header("Authorization", userToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getCardPage_walksCardsSharingAPositionOnce() throws Exception {
+        BoardColumn column = columnRepository.save(BoardColumn.builder().name("Shared").board(board).position(0).build());
+        Set<UUID> created = new HashSet<>();
+        for (int i = 1; i <= 5; i++) {
+            created.add(cardRepository.save(Card.builder().title("Tied " + i).column(column).position(7).build()).getId());
+        }
+        entityManager.flush();
+
+        Set<UUID> seen = new HashSet<>();
+        String cursor = "";
+        do {
+            String body = mockMvc.perform(get("/cards/page").param("columnId", column.getId().toString())
+                            .param("cursor", cursor).param("limit", "2")
+                            .header("Authorization", userToken))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode page = objectMapper.readTree(body);
+            for (JsonNode card : page.get("content")) {
+                assertTrue(seen.add(UUID.fromString(card.get("id").asText())), "Card repeated across pages");
+            }
+            cursor = page.path("nextCursor").isTextual() ? page.get("nextCursor").asText() : null;
+        } while (cursor != null);
+        assertEquals(created, seen);
+    }
+}
@@ -0,0 +1,151 @@
+package com.taskflow.kanban.board.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.taskflow.kanban.board.entity.Board;
+import com.taskflow.kanban.board.entity.BoardColumn;
+import com.taskflow.kanban.board.entity.BoardMember;
+import com.taskflow.kanban.board.entity.BoardRole;
+import com.taskflow.kanban.board.entity.Card;
+import com.taskflow.kanban.board.entity.Comment;
+import com.taskflow.kanban.board.repository.BoardMemberRepository;
+import com.taskflow.kanban.board.repository.BoardRepository;
+import com.taskflow.kanban.board.repository.CardRepository;
+import com.taskflow.kanban.board.repository.ColumnRepository;
+import com.taskflow.kanban.board.repository.CommentRepository;
+import com.taskflow.kanban.security.CustomUserDetails;
+import com.taskflow.kanban.security.JwtService;
+import com.taskflow.kanban.user.entity.Role;
+import com.taskflow.kanban.user.entity.User;
+import com.taskflow.kanban.user.repository.RoleRepository;
+import com.taskflow.kanban.user.repository.UserRepository;
+import com.taskflow.kanban.workspace.entity.Workspace;
+import com.taskflow.kanban.workspace.entity.WorkspaceMember;
+import com.taskflow.kanban.workspace.entity.WorkspaceRole;
+import com.taskflow.kanban.workspace.repository.WorkspaceMemberRepository;
+import com.taskflow.kanban.workspace.repository.WorkspaceRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Set;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Keyset pages of a card's comment thread and its comment count.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class CommentPageControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private WorkspaceMemberRepository workspaceMemberRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardMemberRepository boardMemberRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private String userToken;
+    private User user;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        Role userRole = roleRepository.findByName("USER").orElseGet(() -> roleRepository.save(new Role("USER")));
+        user = userRepository.save(User.builder().username("comments_user").email("comments@example.com")
+                .password("password").active(true).roles(Set.of(userRole)).build());
+        userToken = "Bearer " + jwtService.generateToken(new CustomUserDetails(user));
+
+        Workspace workspace = workspaceRepository.save(Workspace.builder().name("Test Workspace").isPrivate(false).build());
+        workspaceMemberRepository.save(WorkspaceMember.builder().workspace(workspace).user(user).role(WorkspaceRole.OWNER).build());
+        board = boardRepository.save(Board.builder().name("Test Board").workspace(workspace).build());
+        boardMemberRepository.save(BoardMember.builder().board(board).user(user).role(BoardRole.OWNER).build());
+    }
+
+    @Test
+    void getCommentPage_walksThreadWithCursorInBothDirections() throws Exception {
+        BoardColumn column = columnRepository.save(BoardColumn.builder().name("Incidents").board(board).position(0).build());
+        Card card = cardRepository.save(Card.builder().title("Outage").column(column).position(0).build());
+        Instant start = Instant.parse("2026-01-01T00:00:00Z");
+        for (int i = 1; i <= 5; i++) {
+            Comment comment = commentRepository.save(Comment.builder().card(card).author(user).content("Update " + i).build());
+            entityManager.flush();
+            entityManager.createNativeQuery("UPDATE comments SET created_at = ?1 WHERE id = ?2")
+                    .setParameter(1, start.plusSeconds(i))
+                    .setParameter(2, comment.getId())
+                    .executeUpdate();
+        }
+        // Saved past the comment service, so the card's comment counter is kept here
+        cardRepository.adjustCommentCount(card.getId(), 5, Instant.now());
+        entityManager.clear();
+
+        String cursor = JsonPath.read(mockMvc.perform(get("/comments/cards/" + card.getId() + "/page").param("limit", "2")
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].content").value("Update 5"))
+                .andExpect(jsonPath("$.content[0].authorUsername").value(user.getUsername()))
+                .andExpect(jsonPath("$.content[1].content").value("Update 4"))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andExpect(jsonPath("$.totalElements").value(5))
+                .andReturn().getResponse().getContentAsString(), "$.nextCursor");
+        mockMvc.perform(get("/comments/cards/" + card.getId() + "/page").param("limit", "2").param("cursor", cursor)
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].content").value("Update 3"))
+                .andExpect(jsonPath("$.content[1].content").value("Update 2"));
+
+        mockMvc.perform(get("/comments/cards/" + card.getId() + "/page").param("limit", "4").param("order", "asc")
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].content").value("Update 1"))
+                .andExpect(jsonPath("$.content[3].content").value("Update 4"))
+                .andExpect(jsonPath("$.hasMore").value(true));
+        mockMvc.perform(get("/comments/cards/" + card.getId() + "/page").param("cursor", "not-a-cursor")
+                        .header("Authorization", userToken))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/comments/cards/" + card.getId() + "/count")
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(5));
+    }
+}
@@ -0,0 +1,146 @@
+package com.taskflow.kanban.board.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.taskflow.kanban.board.entity.Board;
+import com.taskflow.kanban.board.entity.BoardColumn;
+import com.taskflow.kanban.board.entity.BoardMember;
+import com.taskflow.kanban.board.entity.BoardRole;
+import com.taskflow.kanban.board.entity.Card;
+import com.taskflow.kanban.board.entity.CardMember;
+import com.taskflow.kanban.board.entity.CardRole;
+import com.taskflow.kanban.board.repository.BoardMemberRepository;
+import com.taskflow.kanban.board.repository.BoardRepository;
+import com.taskflow.kanban.board.repository.CardRepository;
+import com.taskflow.kanban.board.repository.ColumnRepository;
+import com.taskflow.kanban.security.CustomUserDetails;
+import com.taskflow.kanban.security.JwtService;
+import com.taskflow.kanban.user.entity.Role;
+import com.taskflow.kanban.user.entity.User;
+import com.taskflow.kanban.user.repository.RoleRepository;
+import com.taskflow.kanban.user.repository.UserRepository;
+import com.taskflow.kanban.workspace.entity.Workspace;
+import com.taskflow.kanban.workspace.entity.WorkspaceMember;
+import com.taskflow.kanban.workspace.entity.WorkspaceRole;
+import com.taskflow.kanban.workspace.repository.WorkspaceMemberRepository;
+import com.taskflow.kanban.workspace.repository.WorkspaceRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * The cross-board "my cards" feed.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class MyCardsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private WorkspaceMemberRepository workspaceMemberRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardMemberRepository boardMemberRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private String userToken;
+    private User user;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        Role userRole = roleRepository.findByName("USER").orElseGet(() -> roleRepository.save(new Role("USER")));
+        user = userRepository.save(User.builder().username("mine_user").email("mine@example.com")
+                .password("password").active(true).roles(Set.of(userRole)).build());
+        userToken = "Bearer " + jwtService.generateToken(new CustomUserDetails(user));
+
+        Workspace workspace = workspaceRepository.save(Workspace.builder().name("Test Workspace").isPrivate(false).build());
+        workspaceMemberRepository.save(WorkspaceMember.builder().workspace(workspace).user(user).role(WorkspaceRole.OWNER).build());
+        board = boardRepository.save(Board.builder().name("Test Board").workspace(workspace).build());
+        boardMemberRepository.save(BoardMember.builder().board(board).user(user).role(BoardRole.OWNER).build());
+    }
+
+    @Test
+    void getMyCards_walksAssignedCardsAcrossBoardsByDueDateAndPriority() throws Exception {
+        // A board in another workspace the user only reaches through card membership
+        Workspace other = workspaceRepository.save(Workspace.builder().name("Other Workspace").isPrivate(true).build());
+        Board ops = boardRepository.save(Board.builder().name("Ops Board").workspace(other).build());
+        BoardColumn todo = columnRepository.save(BoardColumn.builder().name("To Do").board(board).position(0).build());
+        BoardColumn queue = columnRepository.save(BoardColumn.builder().name("Queue").board(ops).position(0).build());
+        Instant monday = Instant.parse("2026-03-02T09:00:00Z");
+        Card release = cardRepository.save(Card.builder().title("Cut release").column(todo).position(0).priority(2)
+                .dueDate(monday).build());
+        Card outage = cardRepository.save(Card.builder().title("Outage review").column(queue).position(0).priority(1)
+                .dueDate(monday).build());
+        Card someday = cardRepository.save(Card.builder().title("Someday").column(queue).position(1).build());
+        Card backlog = cardRepository.save(Card.builder().title("Backlog grooming").column(todo).position(1).priority(3)
+                .build());
+        Card shelved = cardRepository.save(Card.builder().title("Shelved").column(todo).position(2).archived(true).build());
+        cardRepository.save(Card.builder().title("Not mine").column(todo).position(3).dueDate(monday).build());
+        for (Card card : List.of(release, outage, someday, backlog, shelved)) {
+            card.getMembers().add(CardMember.builder().card(card).user(user).role(CardRole.ASSIGNEE).build());
+        }
+        entityManager.flush();
+
+        String cursor = JsonPath.read(mockMvc.perform(get("/cards/mine").param("limit", "2")
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(4))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andExpect(jsonPath("$.content[0].card.title").value("Outage review"))
+                .andExpect(jsonPath("$.content[0].boardId").value(ops.getId().toString()))
+                .andExpect(jsonPath("$.content[0].boardName").value("Ops Board"))
+                .andExpect(jsonPath("$.content[1].card.title").value("Cut release"))
+                .andReturn().getResponse().getContentAsString(), "$.nextCursor");
+        // Undated cards come last, prioritised ones first
+        mockMvc.perform(get("/cards/mine").param("cursor", cursor).param("limit", "2")
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].card.title").value("Backlog grooming"))
+                .andExpect(jsonPath("$.content[1].card.title").value("Someday"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+        mockMvc.perform(get("/cards/mine").param("cursor", "yesterday").header("Authorization", userToken))
+                .andExpect(status().isBadRequest());
+    }
+}
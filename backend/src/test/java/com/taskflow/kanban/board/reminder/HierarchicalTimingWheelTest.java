@@ -0,0 +1,84 @@
+package com.taskflow.kanban.board.reminder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class HierarchicalTimingWheelTest {
+
+    @Test
+    void advanceTo_firesTimersAtTheirDeadlineAcrossLevels() {
+        // 4 slots per level: level 0 covers 4 ticks, level 1 16, level 2 64
+        HierarchicalTimingWheel<String, Long> wheel = new HierarchicalTimingWheel<>(4, 3, 100);
+        for (long deadline : new long[]{163, 101, 117, 104, 140}) {
+            wheel.schedule("t" + deadline, deadline, deadline);
+        }
+
+        List<Long> fired = new ArrayList<>();
+        for (long tick = 101; tick <= 170; tick++) {
+            long now = tick;
+            wheel.advanceTo(tick, (key, deadline) -> {
+                assertEquals(now, deadline);
+                fired.add(deadline);
+            });
+        }
+        assertEquals(List.of(101L, 104L, 117L, 140L, 163L), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void schedule_movesPendingTimerAndCancelRemovesIt() {
+        HierarchicalTimingWheel<String, String> wheel = new HierarchicalTimingWheel<>(8, 2, 0);
+        wheel.schedule("card", 50, "first");
+        wheel.schedule("card", 20, "moved");
+        wheel.schedule("other", 30, "other");
+        assertEquals(2, wheel.size());
+        assertEquals("other", wheel.cancel("other"));
+        assertNull(wheel.cancel("other"));
+
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(100, (key, value) -> fired.add(value));
+        assertEquals(List.of("moved"), fired);
+    }
+
+    @Test
+    void scheduleIfAbsent_keepsPendingTimer() {
+        HierarchicalTimingWheel<String, String> wheel = new HierarchicalTimingWheel<>(8, 2, 0);
+        wheel.schedule("card", 10, "newer");
+        assertFalse(wheel.scheduleIfAbsent("card", 40, "older"));
+
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(10, (key, value) -> fired.add(value));
+        assertEquals(List.of("newer"), fired);
+    }
+
+    @Test
+    void schedule_firesPastDeadlinesNextTickAndHoldsDeadlinesBeyondTheTopLevel() {
+        // Two levels of 4 slots reach 16 ticks ahead
+        HierarchicalTimingWheel<String, Long> wheel = new HierarchicalTimingWheel<>(4, 2, 10);
+        wheel.schedule("late", 3, 3L);
+        wheel.schedule("far", 200, 200L);
+
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(11, (key, value) -> fired.add(key));
+        assertEquals(List.of("late"), fired);
+
+        wheel.advanceTo(199, (key, value) -> fired.add(key));
+        assertEquals(List.of("late"), fired);
+        wheel.advanceTo(200, (key, value) -> fired.add(key));
+        assertEquals(List.of("late", "far"), fired);
+    }
+
+    @Test
+    void levelsFor_coversTheRequestedSpan() {
+        assertEquals(1, HierarchicalTimingWheel.levelsFor(64, 64));
+        assertEquals(2, HierarchicalTimingWheel.levelsFor(64, 65));
+        assertEquals(2, HierarchicalTimingWheel.levelsFor(64, 7201 / 2));
+        assertEquals(3, HierarchicalTimingWheel.levelsFor(64, 7201));
+    }
+}
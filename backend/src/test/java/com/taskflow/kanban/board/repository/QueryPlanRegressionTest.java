@@ -0,0 +1,267 @@
+package com.taskflow.kanban.board.repository;
+
+import com.taskflow.kanban.board.dto.AssignedCardCursor;
+import com.taskflow.kanban.monitoring.SqlCapture;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs EXPLAIN for the hot repository queries and fails when a query stops using its index or falls back to a
+ * sequential scan.
+ * <p>
+ * The statements are the ones Hibernate actually renders, captured through the request-budget statement inspector
+ * while the repository method runs, and they are planned by PostgreSQL with the schema the Flyway migrations build:
+ * partial, expression and GiST indexes included. Each is prepared and explained as a generic plan, so bind
+ * parameters stay parameters, and sequential scans are priced out of the session, so a scan in the plan means no
+ * index can serve the query.
+ * Needs Docker; skipped without it.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanRegressionTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final int BOARDS = 20;
+    private static final int CARDS_PER_COLUMN = 500;
+    private static final Instant FROM = Instant.parse("2020-01-01T00:00:00Z");
+    private static final Instant TO = Instant.parse("2020-02-01T00:00:00Z");
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driverClassName", POSTGRES::getDriverClassName);
+        registry.add("spring.datasource.hikari.connection-init-sql",
+                () -> "CREATE TEMP TABLE IF NOT EXISTS id_set_staging (id UUID PRIMARY KEY) ON COMMIT DELETE ROWS");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        // The schema is the migrated one, as in application.yml
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "update");
+        registry.add("spring.jpa.defer-datasource-initialization", () -> "false");
+        registry.add("spring.sql.init.mode", () -> "never");
+    }
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ActivityLogRepository activityLogRepository;
+
+    @Autowired
+    private ColdCardRepository coldCardRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID userId;
+    private UUID boardId;
+    private UUID columnId;
+    private UUID cardId;
+
+    @BeforeAll
+    void setUp() {
+        seed();
+    }
+
+    @Test
+    void cardsByColumn_useColumnPositionIndex() {
+        assertUsesIndex("idx_cards_column_id_position_id", () -> cardRepository.findByColumnIdOrderByPositionAsc(columnId));
+        assertUsesIndex("idx_cards_column_id_position_id",
+                () -> cardRepository.findPageAfter(columnId, 50, UUID.randomUUID(), Limit.of(51)));
+        assertUsesIndex("idx_cards_column_id_position_id", () -> cardRepository.findNextPosition(columnId));
+    }
+
+    @Test
+    void archivedCardsByBoard_useArchivedIndex() {
+        assertUsesIndex("idx_cards_archived_column_id", () -> cardRepository.findByColumn_Board_IdAndArchivedTrue(boardId));
+    }
+
+    @Test
+    void tieringCandidates_useUpdatedAtIndex() {
+        assertUsesIndex("idx_cards_tiering_candidates", () -> cardRepository.findTieringCandidates(FROM, Limit.of(500)));
+    }
+
+    @Test
+    void cardMembers_startFromUserCardIndex() {
+        assertUsesIndex("idx_card_members_user_id_card_id", () -> cardRepository.countCardMembersOnBoard(boardId, userId));
+        assertUsesIndex("idx_card_members_user_id_card_id", () -> cardRepository.findAssignedIdsAfter(userId,
+                AssignedCardCursor.NO_DUE_DATE, AssignedCardCursor.NO_PRIORITY, FROM, 1, UUID.randomUUID(), Limit.of(51)));
+    }
+
+    @Test
+    void calendarWindow_usesColumnSpanIndex() {
+        assertUsesIndex("idx_cards_column_id_span",
+                () -> cardRepository.findCalendarPage(List.of(boardId), FROM, TO, FROM, new UUID(0, 0), 500));
+    }
+
+    @Test
+    void boardCardFilter_neverScansCards() {
+        Sort byPriority = Sort.by("priority");
+        CardFilterCursor after = new CardFilterCursor(List.of(1), 0, 50, UUID.randomUUID());
+        assertNoSeqScan(() -> cardRepository.findByBoard(boardId,
+                new CardFilter(null, null, null, null, Set.of(1), null, false), byPriority, null, 51));
+        assertNoSeqScan(() -> cardRepository.findByBoard(boardId,
+                new CardFilter(null, null, null, null, Set.of(1), null, false), byPriority, after, 51));
+        assertNoSeqScan(() -> cardRepository.findByBoard(boardId,
+                new CardFilter(null, null, FROM, TO, null, null, false), Sort.by(Sort.Order.desc("dueDate")), null, 51));
+        assertNoSeqScan(() -> cardRepository.findByBoard(boardId,
+                new CardFilter(Set.of(UUID.randomUUID()), Set.of(userId), null, null, null, null, false),
+                Sort.unsorted(), null, 51));
+    }
+
+    @Test
+    void commentsByCard_useCardCreatedAtIndex() {
+        assertUsesIndex("idx_comments_card_id_created_at_id", () -> commentRepository.findByCardIdOrderByCreatedAtAsc(cardId));
+        assertUsesIndex("idx_comments_card_id_created_at_id",
+                () -> commentRepository.findViewsAfter(cardId, FROM, UUID.randomUUID(), Limit.of(51)));
+        assertUsesIndex("idx_comments_card_id_created_at_id",
+                () -> commentRepository.findViewsBefore(cardId, FROM, UUID.randomUUID(), Limit.of(51)));
+    }
+
+    @Test
+    void activityLogs_neverScanPartitions() {
+        // The partitions carry their own copies of the indexes, named after the partition
+        assertNoSeqScan(() -> activityLogRepository.findByPerformedByOrderByTimestampDesc(userId));
+        assertNoSeqScan(() -> activityLogRepository.findByEntityIdOrderByTimestampDesc(cardId));
+        assertNoSeqScan(() -> activityLogRepository.findPageByEntityId(cardId, FROM, UUID.randomUUID(), Limit.of(51)));
+    }
+
+    @Test
+    void coldCards_useBoardAndHashIndexes() {
+        assertUsesIndex("idx_cold_cards_board_id", () -> coldCardRepository.findByBoardIdOrderByTieredAtDesc(boardId));
+        assertUsesIndex("idx_cold_card_attachment_hashes_content_hash",
+                () -> coldCardRepository.findReferencedContentHashes(new String[]{"0".repeat(64)}));
+    }
+
+    /** Some statement the action ran uses the index, and none of them scans a table. */
+    private void assertUsesIndex(String index, Runnable action) {
+        List<String> plans = explainAll(action);
+        assertTrue(plans.stream().anyMatch(plan -> plan.contains(index)),
+                () -> "Expected " + index + " in plans:\n" + String.join("\n\n", plans));
+        assertNoSeqScan(plans);
+    }
+
+    private void assertNoSeqScan(Runnable action) {
+        assertNoSeqScan(explainAll(action));
+    }
+
+    private static void assertNoSeqScan(List<String> plans) {
+        for (String plan : plans) {
+            assertFalse(plan.contains("Seq Scan"), () -> "Sequential scan in plan:\n" + plan);
+        }
+    }
+
+    private List<String> explainAll(Runnable action) {
+        Set<String> statements = SqlCapture.capture(action);
+        assertFalse(statements.isEmpty(), "No SQL captured");
+        return statements.stream().map(this::explain).toList();
+    }
+
+    private String explain(String sql) {
+        String numbered = numberParameters(sql);
+        String arguments = String.join(", ", Collections.nCopies(parameterCount(sql), "NULL"));
+        return transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            jdbcTemplate.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+            jdbcTemplate.execute("PREPARE plan_check AS " + numbered);
+            try {
+                return String.join("\n", jdbcTemplate.queryForList(
+                        "EXPLAIN EXECUTE plan_check" + (arguments.isEmpty() ? "" : "(" + arguments + ")"), String.class));
+            } finally {
+                jdbcTemplate.execute("DEALLOCATE plan_check");
+            }
+        });
+    }
+
+    private static int parameterCount(String sql) {
+        return (int) sql.replaceAll("'[^']*'", "").chars().filter(ch -> ch == '?').count();
+    }
+
+    /** JDBC placeholders to the numbered ones EXPLAIN accepts; a '?' inside a string literal is left alone. */
+    private static String numberParameters(String sql) {
+        StringBuilder numbered = new StringBuilder(sql.length() + 16);
+        boolean quoted = false;
+        int parameter = 0;
+        for (char ch : sql.toCharArray()) {
+            if (ch == '\'') {
+                quoted = !quoted;
+            }
+            if (ch == '?' && !quoted) {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(ch);
+            }
+        }
+        return numbered.toString();
+    }
+
+    private void seed() {
+        userId = UUID.randomUUID();
+        UUID workspaceId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO users (id, username, email, password) VALUES (?, 'planner', 'planner@example.com', 'x')",
+                userId);
+        jdbcTemplate.update("INSERT INTO workspaces (id, name) VALUES (?, 'Plan Workspace')", workspaceId);
+        // One column per board, so the board queries select a slice of the cards as they do in production
+        for (int c = 0; c < BOARDS; c++) {
+            boardId = UUID.randomUUID();
+            columnId = UUID.randomUUID();
+            jdbcTemplate.update("INSERT INTO boards (id, name, workspace_id) VALUES (?, ?, ?)",
+                    boardId, "Plan Board " + c, workspaceId);
+            jdbcTemplate.update("INSERT INTO board_columns (id, name, board_id, position) VALUES (?, 'To Do', ?, 0)",
+                    columnId, boardId);
+            // Every twentieth card archived, every third done, every tenth assigned; dates spread out from FROM
+            jdbcTemplate.update("INSERT INTO cards (id, title, position, archived, achieved, column_id, priority, "
+                    + "start_date, due_date, created_at, updated_at) "
+                    + "SELECT gen_random_uuid(), 'Card ' || p, p, p % 20 = 0, p % 3 = 0, ?, p % 4, "
+                    + "CAST(? AS timestamptz) + p * INTERVAL '1 day', CAST(? AS timestamptz) + (p + 3) * INTERVAL '1 day', "
+                    + "now(), now() FROM generate_series(0, ?) p",
+                    columnId, FROM.toString(), FROM.toString(), CARDS_PER_COLUMN - 1);
+        }
+        cardId = jdbcTemplate.queryForObject("SELECT id FROM cards WHERE column_id = ? LIMIT 1", UUID.class, columnId);
+        jdbcTemplate.update("INSERT INTO card_members (id, card_id, user_id, role) "
+                + "SELECT gen_random_uuid(), id, ?, 'ASSIGNEE' FROM cards WHERE position % 10 = 0", userId);
+        jdbcTemplate.update("INSERT INTO comments (id, card_id, author_id, content, created_at) "
+                + "SELECT gen_random_uuid(), id, ?, 'Comment', now() FROM cards", userId);
+        jdbcTemplate.update("INSERT INTO activity_logs (id, entity_type, entity_id, action, timestamp, performed_by, board_id) "
+                + "SELECT gen_random_uuid(), 'Card', id, 'CREATE', now(), ?, ? FROM cards", userId, boardId);
+        jdbcTemplate.update("INSERT INTO cold_cards (card_id, board_id, column_id, title, tiered_at, document) "
+                + "SELECT gen_random_uuid(), ?, ?, 'Cold ' || p, now(), '{}' FROM generate_series(1, 500) p",
+                boardId, columnId);
+        jdbcTemplate.update("INSERT INTO cold_card_attachment_hashes (card_id, content_hash) "
+                + "SELECT card_id, md5(card_id::text) || md5(title) FROM cold_cards");
+        jdbcTemplate.execute("ANALYZE");
+    }
+}
@@ -0,0 +1,171 @@
+package com.taskflow.kanban.board.service;
+
+import com.taskflow.kanban.board.entity.ActivityDailyRollup;
+import com.taskflow.kanban.board.repository.ActivityDailyRollupRepository;
+import com.taskflow.kanban.config.ActivityLogProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Partition maintenance and retention on the monthly activity_logs partitions the Flyway migrations build, which only
+ * PostgreSQL has: H2 takes the bulk-delete fallback. Each test works in its own months and on its own board, so the
+ * partitions one leaves behind do not disturb the others.
+ * Needs Docker; skipped without it.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class ActivityHistoryPartitionTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driverClassName", POSTGRES::getDriverClassName);
+        registry.add("spring.datasource.hikari.connection-init-sql",
+                () -> "CREATE TEMP TABLE IF NOT EXISTS id_set_staging (id UUID PRIMARY KEY) ON COMMIT DELETE ROWS");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        // The schema is the migrated one, as in application.yml
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "update");
+        registry.add("spring.jpa.defer-datasource-initialization", () -> "false");
+        registry.add("spring.sql.init.mode", () -> "never");
+        registry.add("activity-logs.maintenance-enabled", () -> "false");
+    }
+
+    @Autowired
+    private ActivityHistoryService activityHistoryService;
+
+    @Autowired
+    private ActivityDailyRollupRepository rollupRepository;
+
+    @Autowired
+    private ActivityLogProperties properties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final YearMonth current = YearMonth.now(ZoneOffset.UTC);
+    private UUID boardId;
+
+    @BeforeEach
+    void setUp() {
+        boardId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM activity_logs WHERE board_id = ?", boardId);
+        jdbcTemplate.update("DELETE FROM activity_daily_rollups WHERE board_id = ?", boardId);
+    }
+
+    @Test
+    void ensurePartitions_createsMonthsAheadAndMovesStrandedRowsOutOfTheDefaultPartition() {
+        // Two months back has no partition (the migration starts at the current month), so its rows land in default
+        YearMonth stranded = current.minusMonths(2);
+        log(stranded, "CREATE");
+        log(stranded, "UPDATE");
+        assertEquals(2, rowsIn("activity_logs_default"));
+
+        int partitionsAhead = properties.getPartitionsAhead();
+        properties.setPartitionsAhead(partitionsAhead + 1);
+        try {
+            // The stranded month through DETACH / INSERT / DELETE / ATTACH, the new month ahead by a plain CREATE
+            assertEquals(2, activityHistoryService.ensurePartitions());
+        } finally {
+            properties.setPartitionsAhead(partitionsAhead);
+        }
+
+        assertEquals(2, rowsIn(partition(stranded)));
+        assertEquals(0, rowsIn("activity_logs_default"));
+        assertTrue(partitions().contains(partition(current.plusMonths(partitionsAhead + 1))));
+        assertTrue(partitions().contains("activity_logs_default"), "Default partition not reattached");
+        assertEquals(0, activityHistoryService.ensurePartitions());
+    }
+
+    @Test
+    void applyRetention_rollsUpThenDropsExpiredPartitionsAndPurgesExpiredDefaultRows() {
+        YearMonth cutoff = current.minusMonths(properties.getRetentionMonths());
+        YearMonth expiredPartition = cutoff.minusMonths(1);
+        YearMonth expiredDefault = cutoff.minusMonths(2);
+        jdbcTemplate.execute("CREATE TABLE " + partition(expiredPartition) + " PARTITION OF activity_logs FOR VALUES FROM ('"
+                + monthStart(expiredPartition) + "') TO ('" + monthStart(expiredPartition.plusMonths(1)) + "')");
+        log(expiredPartition, "MOVE");
+        log(expiredPartition, "MOVE");
+        log(expiredDefault, "CREATE");
+        log(cutoff, "UPDATE");
+
+        assertEquals(2, activityHistoryService.applyRetention());
+
+        assertFalse(partitions().contains(partition(expiredPartition)));
+        assertTrue(partitions().contains("activity_logs_default"));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM activity_logs WHERE board_id = ?",
+                Integer.class, boardId));
+        List<ActivityDailyRollup> rollups = rollupRepository.findByBoardIdAndDayBetweenOrderByDayAsc(boardId,
+                midMonth(expiredDefault), midMonth(expiredPartition));
+        assertEquals(2, rollups.size());
+        assertEquals("CREATE", rollups.get(0).getAction());
+        assertEquals(1, rollups.get(0).getEventCount());
+        assertEquals("MOVE", rollups.get(1).getAction());
+        assertEquals(2, rollups.get(1).getEventCount());
+    }
+
+    /** One Card entry on the test board, at noon in the middle of the month. */
+    private void log(YearMonth month, String action) {
+        jdbcTemplate.update("INSERT INTO activity_logs (id, entity_type, entity_id, action, timestamp, performed_by, board_id) "
+                        + "VALUES (?, 'Card', ?, ?, ?, ?, ?)", UUID.randomUUID(), UUID.randomUUID(), action,
+                Timestamp.from(midMonth(month).atTime(12, 0).atZone(ZoneId.systemDefault()).toInstant()),
+                UUID.randomUUID(), boardId);
+    }
+
+    private int rowsIn(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE board_id = ?", Integer.class, boardId);
+    }
+
+    private List<String> partitions() {
+        return jdbcTemplate.queryForList("SELECT c.relname FROM pg_inherits i "
+                + "JOIN pg_class c ON c.oid = i.inhrelid JOIN pg_class p ON p.oid = i.inhparent "
+                + "WHERE p.relname = 'activity_logs'", String.class);
+    }
+
+    private static String partition(YearMonth month) {
+        return "activity_logs_p" + month.format(PARTITION_SUFFIX);
+    }
+
+    private static LocalDate midMonth(YearMonth month) {
+        return month.atDay(15);
+    }
+
+    private static String monthStart(YearMonth month) {
+        return month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant().toString();
+    }
+}
@@ -0,0 +1,191 @@
+package com.taskflow.kanban.board.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.kanban.board.entity.Board;
+import com.taskflow.kanban.board.entity.BoardColumn;
+import com.taskflow.kanban.board.entity.BoardMember;
+import com.taskflow.kanban.board.entity.BoardRole;
+import com.taskflow.kanban.board.entity.Card;
+import com.taskflow.kanban.board.entity.CardMember;
+import com.taskflow.kanban.board.entity.CardRole;
+import com.taskflow.kanban.board.event.BoardChangedEvent;
+import com.taskflow.kanban.board.repository.BoardMemberRepository;
+import com.taskflow.kanban.board.repository.BoardRepository;
+import com.taskflow.kanban.board.repository.BoardViewRepository;
+import com.taskflow.kanban.board.repository.CardRepository;
+import com.taskflow.kanban.board.repository.ColumnRepository;
+import com.taskflow.kanban.security.CustomUserDetails;
+import com.taskflow.kanban.user.dto.UserUpdateDto;
+import com.taskflow.kanban.user.entity.User;
+import com.taskflow.kanban.user.repository.UserRepository;
+import com.taskflow.kanban.user.service.UserService;
+import com.taskflow.kanban.workspace.dto.WorkspaceUpdateDto;
+import com.taskflow.kanban.workspace.entity.Workspace;
+import com.taskflow.kanban.workspace.entity.WorkspaceMember;
+import com.taskflow.kanban.workspace.entity.WorkspaceRole;
+import com.taskflow.kanban.workspace.repository.WorkspaceMemberRepository;
+import com.taskflow.kanban.workspace.repository.WorkspaceRepository;
+import com.taskflow.kanban.workspace.service.WorkspaceService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * The board_views read model as stored, not as held in one transaction's persistence context: every step commits and
+ * the document is read back from the table in a fresh transaction. Everything seeded is removed in {@link #tearDown()}.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BoardViewServiceTest {
+
+    @Autowired
+    private BoardViewService boardViewService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private WorkspaceService workspaceService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private WorkspaceMemberRepository workspaceMemberRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardMemberRepository boardMemberRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private BoardViewRepository boardViewRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User user;
+    private Workspace workspace;
+    private Board board;
+    private BoardColumn column;
+    private Card card;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        user = userRepository.save(User.builder().username("viewer_" + suffix).email("viewer_" + suffix + "@example.com")
+                .password("password").active(true).roles(Set.of()).build());
+        workspace = workspaceRepository.save(Workspace.builder().name("View Workspace").isPrivate(true).build());
+        workspaceMemberRepository.save(WorkspaceMember.builder().workspace(workspace).user(user).role(WorkspaceRole.OWNER).build());
+        board = boardRepository.save(Board.builder().name("View Board").workspace(workspace).build());
+        boardMemberRepository.save(BoardMember.builder().board(board).user(user).role(BoardRole.OWNER).build());
+        column = columnRepository.save(BoardColumn.builder().name("To Do").board(board).position(0).build());
+        transactionTemplate.executeWithoutResult(status -> {
+            Card saved = cardRepository.save(Card.builder().title("Draft").column(column).position(0).build());
+            saved.getMembers().add(CardMember.builder().card(saved).user(user).role(CardRole.ASSIGNEE).build());
+            card = saved;
+        });
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new CustomUserDetails(user), null, Set.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        jdbcTemplate.update("DELETE FROM board_views WHERE board_id = ?", board.getId());
+        jdbcTemplate.update("DELETE FROM activity_logs WHERE entity_id = ?", workspace.getId());
+        jdbcTemplate.update("DELETE FROM card_members WHERE card_id = ?", card.getId());
+        jdbcTemplate.update("DELETE FROM cards WHERE id = ?", card.getId());
+        jdbcTemplate.update("DELETE FROM board_columns WHERE board_id = ?", board.getId());
+        jdbcTemplate.update("DELETE FROM board_members WHERE board_id = ?", board.getId());
+        jdbcTemplate.update("DELETE FROM boards WHERE id = ?", board.getId());
+        jdbcTemplate.update("DELETE FROM workspace_members WHERE workspace_id = ?", workspace.getId());
+        jdbcTemplate.update("DELETE FROM workspaces WHERE id = ?", workspace.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", user.getId());
+    }
+
+    @Test
+    void patches_areCommittedAndReadBackFromTheTable() throws Exception {
+        boardViewService.getDocument(board.getId());
+
+        renameCard("Ready");
+        UserUpdateDto userUpdate = new UserUpdateDto();
+        userUpdate.setUsername("renamed_" + user.getId().toString().substring(0, 8));
+        userService.updateUser(user.getId(), userUpdate);
+        WorkspaceUpdateDto workspaceUpdate = new WorkspaceUpdateDto();
+        workspaceUpdate.setName("Renamed Workspace");
+        workspaceService.updateWorkspace(workspace.getId(), workspaceUpdate);
+
+        JsonNode view = storedView();
+        assertEquals("Renamed Workspace", view.at("/board/workspaceName").asText());
+        assertEquals(userUpdate.getUsername(), view.at("/board/members/0/username").asText());
+        JsonNode stored = view.at("/columns/0/cards/0");
+        assertEquals("Ready", stored.at("/title").asText());
+        assertEquals(userUpdate.getUsername(), stored.at("/members/0/username").asText());
+
+        // Rebuilding over an existing row writes the same document
+        boardViewService.rebuild(board.getId());
+        assertEquals(view, storedView());
+    }
+
+    @Test
+    void failedPatch_dropsTheViewAndKeepsTheWrite() throws Exception {
+        boardViewService.getDocument(board.getId());
+        transactionTemplate.executeWithoutResult(status ->
+                boardViewRepository.findById(board.getId()).orElseThrow().setDocument("[]"));
+
+        renameCard("Ready");
+
+        assertEquals("Ready", transactionTemplate.execute(status -> cardRepository.findById(card.getId()).orElseThrow().getTitle()));
+        assertFalse(boardViewRepository.existsById(board.getId()));
+        boardViewService.getDocument(board.getId());
+        assertEquals("Ready", storedView().at("/columns/0/cards/0/title").asText());
+    }
+
+    private void renameCard(String title) {
+        transactionTemplate.executeWithoutResult(status -> {
+            cardRepository.findById(card.getId()).orElseThrow().setTitle(title);
+            eventPublisher.publishEvent(BoardChangedEvent.cards(board.getId(), Set.of(column.getId()), card.getId()));
+        });
+    }
+
+    private JsonNode storedView() throws Exception {
+        String document = transactionTemplate.execute(status ->
+                boardViewRepository.findById(board.getId()).orElseThrow().getDocument());
+        return objectMapper.readTree(document);
+    }
+}
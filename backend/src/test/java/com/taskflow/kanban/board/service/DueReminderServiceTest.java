@@ -0,0 +1,265 @@
+package com.taskflow.kanban.board.service;
+
+import com.taskflow.kanban.board.entity.Board;
+import com.taskflow.kanban.board.entity.BoardColumn;
+import com.taskflow.kanban.board.entity.Card;
+import com.taskflow.kanban.board.event.DueRemindersEvent;
+import com.taskflow.kanban.board.event.DueRemindersEvent.Kind;
+import com.taskflow.kanban.board.event.DueRemindersEvent.Reminder;
+import com.taskflow.kanban.board.repository.BoardRepository;
+import com.taskflow.kanban.board.repository.CardRepository;
+import com.taskflow.kanban.board.repository.ColumnRepository;
+import com.taskflow.kanban.board.repository.ReminderDeliveryRepository;
+import com.taskflow.kanban.board.service.impl.DueReminderServiceImpl;
+import com.taskflow.kanban.config.DueReminderProperties;
+import com.taskflow.kanban.workspace.entity.Workspace;
+import com.taskflow.kanban.workspace.repository.WorkspaceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@RecordApplicationEvents
+class DueReminderServiceTest {
+
+    @Autowired
+    private DueReminderService dueReminderService;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private ReminderDeliveryRepository reminderDeliveryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DueReminderProperties properties;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void refillAndFire_deliverReminderBatchesForCardsStillDueAsScheduled() {
+        Workspace workspace = workspaceRepository.save(Workspace.builder().name("Reminders").isPrivate(false).build());
+        Board board = boardRepository.save(Board.builder().name("Reminder Board").workspace(workspace).build());
+        BoardColumn column = columnRepository.save(BoardColumn.builder().name("To Do").board(board).position(0).build());
+        Instant now = Instant.now();
+        cardRepository.save(Card.builder().title("Due in 30m").column(column).position(0)
+                .dueDate(now.plus(Duration.ofMinutes(30))).build());
+        Card later = cardRepository.save(Card.builder().title("Due in 90m").column(column).position(1)
+                .dueDate(now.plus(Duration.ofMinutes(90))).build());
+        cardRepository.save(Card.builder().title("Archived").column(column).position(2).archived(true)
+                .dueDate(now.plus(Duration.ofMinutes(30))).build());
+        Card beyond = cardRepository.save(Card.builder().title("Due in 3h").column(column).position(3)
+                .dueDate(now.plus(Duration.ofHours(3))).build());
+        entityManager.flush();
+
+        // The 30m card's "due soon" moment has passed, and the 3h card is past the two-hour look-ahead
+        dueReminderService.refill(now);
+        assertEquals(2, dueReminderService.fireDue(now.plus(Duration.ofMinutes(31))));
+        assertEquals(Set.of("Due in 30m/OVERDUE", "Due in 90m/DUE_SOON"), delivered());
+
+        // Moved while its reminder was pending, without the wheel hearing of it: the stale reminder is dropped
+        later.setDueDate(now.plus(Duration.ofHours(5)));
+        entityManager.flush();
+        events.clear();
+        assertEquals(0, dueReminderService.fireDue(now.plus(Duration.ofMinutes(95))));
+
+        dueReminderService.refill(now.plus(Duration.ofMinutes(61)));
+        assertEquals(2, dueReminderService.fireDue(now.plus(Duration.ofHours(3)).plusSeconds(1)));
+        assertEquals(Set.of("Due in 3h/DUE_SOON", "Due in 3h/OVERDUE"), delivered());
+        Reminder overdue = events.stream(DueRemindersEvent.class)
+                .flatMap(event -> event.reminders().stream())
+                .filter(reminder -> reminder.kind() == Kind.OVERDUE)
+                .findFirst().orElseThrow();
+        assertEquals(beyond.getId(), overdue.cardId());
+        assertEquals(board.getId(), overdue.boardId());
+    }
+
+    @Test
+    void reminders_skipCardsOnArchivedColumnsAndBoards() {
+        Workspace workspace = workspaceRepository.save(Workspace.builder().name("Reminders").isPrivate(false).build());
+        Board board = boardRepository.save(Board.builder().name("Live Board").workspace(workspace).build());
+        BoardColumn column = columnRepository.save(BoardColumn.builder().name("To Do").board(board).position(0).build());
+        BoardColumn shelvedColumn = columnRepository.save(BoardColumn.builder().name("Shelved").board(board).position(1)
+                .archived(true).build());
+        Board shelvedBoard = boardRepository.save(Board.builder().name("Shelved Board").workspace(workspace)
+                .archived(true).build());
+        BoardColumn onShelvedBoard = columnRepository.save(BoardColumn.builder().name("To Do").board(shelvedBoard)
+                .position(0).build());
+        Instant now = Instant.now();
+        cardRepository.save(Card.builder().title("Live").column(column).position(0)
+                .dueDate(now.plus(Duration.ofMinutes(90))).build());
+        cardRepository.save(Card.builder().title("On a shelved column").column(shelvedColumn).position(0)
+                .dueDate(now.plus(Duration.ofMinutes(90))).build());
+        cardRepository.save(Card.builder().title("On a shelved board").column(onShelvedBoard).position(0)
+                .dueDate(now.plus(Duration.ofMinutes(90))).build());
+        Card archivedLater = cardRepository.save(Card.builder().title("Column archived later").column(column).position(1)
+                .dueDate(now.plus(Duration.ofMinutes(90))).build());
+        entityManager.flush();
+
+        DueReminderService node = node(cardRepository);
+        // Both reminders of the two cards on live columns of live boards
+        node.refill(now);
+        assertEquals(4, node.pending());
+        archivedLater.setColumn(shelvedColumn);
+        entityManager.flush();
+        assertEquals(1, node.fireDue(now.plus(Duration.ofMinutes(31))));
+        assertEquals(Set.of("Live/DUE_SOON"), delivered());
+    }
+
+    @Test
+    void fireDue_deliversEachReminderFromOneNodeOnly() {
+        Card card = dueCard(Instant.now().plus(Duration.ofMinutes(90)));
+        Instant now = Instant.now();
+        DueReminderService first = node(cardRepository);
+        DueReminderService second = node(cardRepository);
+        first.refill(now);
+        second.refill(now);
+
+        assertEquals(1, first.fireDue(now.plus(Duration.ofMinutes(31))));
+        assertEquals(0, second.fireDue(now.plus(Duration.ofMinutes(31))));
+        assertEquals(Set.of(card.getTitle() + "/DUE_SOON"), delivered());
+    }
+
+    @Test
+    void failedReads_leaveRemindersToBeLoadedAndFiredAgain() {
+        Instant now = Instant.now();
+        dueCard(now.plus(Duration.ofMinutes(90)));
+        AtomicBoolean down = new AtomicBoolean(true);
+        DueReminderService node = node(failingWhile(down));
+
+        // The stretch the failed refill claimed is read again by the next one
+        assertThrows(QueryTimeoutException.class, () -> node.refill(now));
+        down.set(false);
+        node.refill(now);
+        assertEquals(2, node.pending());
+
+        // The fired batch goes back into the wheel when the cards cannot be checked
+        down.set(true);
+        assertEquals(0, node.fireDue(now.plus(Duration.ofMinutes(31))));
+        assertEquals(2, node.pending());
+        down.set(false);
+        assertEquals(1, node.fireDue(now.plus(Duration.ofMinutes(32))));
+        assertEquals(Set.of("Due in 90m/DUE_SOON"), delivered());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void failedPublish_releasesTheClaimsSoTheReminderFiresAgain() {
+        // Committed for real: the claims and the publish share the delivery's own transaction
+        Workspace workspace = workspaceRepository.save(Workspace.builder().name("Reminders").isPrivate(false).build());
+        Board board = boardRepository.save(Board.builder().name("Reminder Board").workspace(workspace).build());
+        BoardColumn column = columnRepository.save(BoardColumn.builder().name("To Do").board(board).position(0).build());
+        Instant now = Instant.now();
+        Card card = cardRepository.save(Card.builder().title("Due in 90m").column(column).position(0)
+                .dueDate(now.plus(Duration.ofMinutes(90))).build());
+        AtomicBoolean down = new AtomicBoolean(true);
+        DueReminderService node = new DueReminderServiceImpl(cardRepository, reminderDeliveryRepository,
+                transactionManager, event -> {
+                    if (down.get()) {
+                        throw new IllegalStateException("Listener failed");
+                    }
+                    eventPublisher.publishEvent(event);
+                }, meterRegistry, properties);
+        try {
+            node.refill(now);
+            assertEquals(0, node.fireDue(now.plus(Duration.ofMinutes(31))));
+            assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reminder_deliveries WHERE card_id = ?",
+                    Integer.class, card.getId()));
+            down.set(false);
+            assertEquals(1, node.fireDue(now.plus(Duration.ofMinutes(32))));
+            assertEquals(Set.of("Due in 90m/DUE_SOON"), delivered());
+        } finally {
+            jdbcTemplate.update("DELETE FROM reminder_deliveries WHERE card_id = ?", card.getId());
+            jdbcTemplate.update("DELETE FROM cards WHERE id = ?", card.getId());
+            jdbcTemplate.update("DELETE FROM board_columns WHERE id = ?", column.getId());
+            jdbcTemplate.update("DELETE FROM boards WHERE id = ?", board.getId());
+            jdbcTemplate.update("DELETE FROM workspaces WHERE id = ?", workspace.getId());
+        }
+    }
+
+    private Card dueCard(Instant dueDate) {
+        Workspace workspace = workspaceRepository.save(Workspace.builder().name("Reminders").isPrivate(false).build());
+        Board board = boardRepository.save(Board.builder().name("Reminder Board").workspace(workspace).build());
+        BoardColumn column = columnRepository.save(BoardColumn.builder().name("To Do").board(board).position(0).build());
+        Card card = cardRepository.save(Card.builder().title("Due in 90m").column(column).position(0).dueDate(dueDate).build());
+        entityManager.flush();
+        return card;
+    }
+
+    /** Another node's reminder service, with a wheel of its own. */
+    private DueReminderService node(CardRepository cards) {
+        return new DueReminderServiceImpl(cards, reminderDeliveryRepository, transactionManager, eventPublisher,
+                meterRegistry, properties);
+    }
+
+    /** The card repository, failing every call while {@code down} is set. */
+    private CardRepository failingWhile(AtomicBoolean down) {
+        return (CardRepository) Proxy.newProxyInstance(CardRepository.class.getClassLoader(),
+                new Class<?>[]{CardRepository.class}, (proxy, method, args) -> {
+                    if (down.get()) {
+                        throw new QueryTimeoutException("Database unavailable");
+                    }
+                    try {
+                        return method.invoke(cardRepository, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private Set<String> delivered() {
+        return events.stream(DueRemindersEvent.class)
+                .flatMap(event -> event.reminders().stream())
+                .map(reminder -> reminder.title() + "/" + reminder.kind())
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,217 @@
+package com.taskflow.kanban.calendar.controller;
+
+import com.taskflow.kanban.board.entity.Board;
+import com.taskflow.kanban.board.entity.BoardColumn;
+import com.taskflow.kanban.board.entity.BoardMember;
+import com.taskflow.kanban.board.entity.BoardRole;
+import com.taskflow.kanban.board.entity.Card;
+import com.taskflow.kanban.board.entity.CardMember;
+import com.taskflow.kanban.board.entity.CardRole;
+import com.taskflow.kanban.board.repository.BoardMemberRepository;
+import com.taskflow.kanban.board.repository.BoardRepository;
+import com.taskflow.kanban.board.repository.CardRepository;
+import com.taskflow.kanban.board.repository.ColumnRepository;
+import com.taskflow.kanban.config.CalendarProperties;
+import com.taskflow.kanban.security.CustomUserDetails;
+import com.taskflow.kanban.security.JwtService;
+import com.taskflow.kanban.user.entity.Role;
+import com.taskflow.kanban.user.entity.User;
+import com.taskflow.kanban.user.repository.RoleRepository;
+import com.taskflow.kanban.user.repository.UserRepository;
+import com.taskflow.kanban.workspace.entity.Workspace;
+import com.taskflow.kanban.workspace.entity.WorkspaceMember;
+import com.taskflow.kanban.workspace.entity.WorkspaceRole;
+import com.taskflow.kanban.workspace.repository.WorkspaceMemberRepository;
+import com.taskflow.kanban.workspace.repository.WorkspaceRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class CalendarControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private WorkspaceMemberRepository workspaceMemberRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardMemberRepository boardMemberRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CalendarProperties calendarProperties;
+
+    private String userToken;
+    private User user;
+    private Board board;
+    private int pageSize;
+
+    @BeforeEach
+    void setUp() {
+        Role userRole = roleRepository.findByName("USER").orElseGet(() -> roleRepository.save(new Role("USER")));
+        user = userRepository.save(User.builder().username("calendar_user").email("calendar@example.com")
+                .password("password").active(true).roles(Set.of(userRole)).build());
+        userToken = "Bearer " + jwtService.generateToken(new CustomUserDetails(user));
+
+        Workspace workspace = workspaceRepository.save(Workspace.builder().name("Calendar Workspace").isPrivate(false).build());
+        workspaceMemberRepository.save(WorkspaceMember.builder().workspace(workspace).user(user).role(WorkspaceRole.OWNER).build());
+        board = boardRepository.save(Board.builder().name("Test Board").workspace(workspace).build());
+        boardMemberRepository.save(BoardMember.builder().board(board).user(user).role(BoardRole.OWNER).build());
+        pageSize = calendarProperties.getPageSize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        calendarProperties.setPageSize(pageSize);
+    }
+
+    @Test
+    void calendar_returnsCardsWhoseSpanMeetsTheWindow() throws Exception {
+        BoardColumn todo = columnRepository.save(BoardColumn.builder().name("To Do").board(board).position(0).build());
+        Instant march = Instant.parse("2026-03-01T00:00:00Z");
+        cardRepository.save(Card.builder().title("Due in March").column(todo).position(0)
+                .dueDate(march.plus(Duration.ofDays(10))).build());
+        cardRepository.save(Card.builder().title("Runs through March").column(todo).position(1)
+                .startDate(march.minus(Duration.ofDays(20))).dueDate(march.plus(Duration.ofDays(45))).build());
+        cardRepository.save(Card.builder().title("Starts in March").column(todo).position(2)
+                .startDate(march.plus(Duration.ofDays(2))).build());
+        cardRepository.save(Card.builder().title("Done in February").column(todo).position(3)
+                .startDate(march.minus(Duration.ofDays(20))).dueDate(march.minus(Duration.ofDays(1))).build());
+        cardRepository.save(Card.builder().title("Archived").column(todo).position(4).archived(true)
+                .dueDate(march.plus(Duration.ofDays(3))).build());
+        cardRepository.save(Card.builder().title("Undated").column(todo).position(5).build());
+        entityManager.flush();
+
+        mockMvc.perform(get("/calendar")
+                        .param("from", "2026-03-01T00:00:00Z")
+                        .param("to", "2026-04-01T00:00:00Z")
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].title").value("Starts in March"))
+                .andExpect(jsonPath("$[1].title").value("Due in March"))
+                .andExpect(jsonPath("$[1].boardName").value("Test Board"))
+                .andExpect(jsonPath("$[2].title").value("Runs through March"));
+        mockMvc.perform(get("/calendar/boards/" + board.getId())
+                        .param("from", "2026-02-01T00:00:00Z")
+                        .param("to", "2026-03-01T00:00:00Z")
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value("Done in February"))
+                .andExpect(jsonPath("$[1].title").value("Runs through March"));
+        mockMvc.perform(get("/calendar")
+                        .param("from", "2026-04-01T00:00:00Z")
+                        .param("to", "2026-03-01T00:00:00Z")
+                        .header("Authorization", userToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void calendar_coversEveryLiveBoardTheUserCanOpen() throws Exception {
+        Instant march = Instant.parse("2026-03-01T00:00:00Z");
+        // Reached only through card membership, in a workspace the user is not in; that opens the whole board
+        Workspace other = workspaceRepository.save(Workspace.builder().name("Other Workspace").isPrivate(true).build());
+        Board ops = boardRepository.save(Board.builder().name("Ops Board").workspace(other).build());
+        BoardColumn queue = columnRepository.save(BoardColumn.builder().name("Queue").board(ops).position(0).build());
+        Card outage = cardRepository.save(Card.builder().title("Outage review").column(queue).position(0)
+                .dueDate(march.plus(Duration.ofDays(1))).build());
+        outage.getMembers().add(CardMember.builder().card(outage).user(user).role(CardRole.ASSIGNEE).build());
+        cardRepository.save(Card.builder().title("Also on Ops").column(queue).position(1)
+                .dueDate(march.plus(Duration.ofDays(2))).build());
+        Board shelved = boardRepository.save(Board.builder().name("Shelved Board").workspace(board.getWorkspace())
+                .archived(true).build());
+        BoardColumn old = columnRepository.save(BoardColumn.builder().name("Old").board(shelved).position(0).build());
+        cardRepository.save(Card.builder().title("On a shelved board").column(old).position(0)
+                .dueDate(march.plus(Duration.ofDays(3))).build());
+        entityManager.flush();
+
+        mockMvc.perform(get("/calendar")
+                        .param("from", "2026-03-01T00:00:00Z")
+                        .param("to", "2026-04-01T00:00:00Z")
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value("Outage review"))
+                .andExpect(jsonPath("$[0].boardName").value("Ops Board"))
+                .andExpect(jsonPath("$[1].title").value("Also on Ops"));
+    }
+
+    @Test
+    void calendar_streamsAWindowWiderThanAPageWithoutRepeatsOrGaps() throws Exception {
+        BoardColumn todo = columnRepository.save(BoardColumn.builder().name("To Do").board(board).position(0).build());
+        BoardColumn done = columnRepository.save(BoardColumn.builder().name("Done").board(board).position(1).build());
+        Instant march = Instant.parse("2026-03-01T00:00:00Z");
+        // Three cards share a due date across a page boundary, so only the id orders them
+        for (int i = 0; i < 3; i++) {
+            cardRepository.save(Card.builder().title("Same day " + i).column(i == 1 ? done : todo).position(i)
+                    .dueDate(march.plus(Duration.ofDays(5))).build());
+        }
+        cardRepository.save(Card.builder().title("Early").column(todo).position(3)
+                .startDate(march.minus(Duration.ofDays(3))).dueDate(march.plus(Duration.ofDays(1))).build());
+        cardRepository.save(Card.builder().title("Late").column(done).position(0)
+                .startDate(march.plus(Duration.ofDays(20))).build());
+        cardRepository.save(Card.builder().title("After the window").column(todo).position(4)
+                .dueDate(march.plus(Duration.ofDays(40))).build());
+        entityManager.flush();
+        calendarProperties.setPageSize(2);
+
+        mockMvc.perform(get("/calendar/boards/" + board.getId())
+                        .param("from", "2026-03-01T00:00:00Z")
+                        .param("to", "2026-04-01T00:00:00Z")
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(5))
+                .andExpect(jsonPath("$[0].title").value("Early"))
+                .andExpect(jsonPath("$[1].title").value(startsWith("Same day")))
+                .andExpect(jsonPath("$[2].title").value(startsWith("Same day")))
+                .andExpect(jsonPath("$[3].title").value(startsWith("Same day")))
+                .andExpect(jsonPath("$[4].title").value("Late"))
+                .andExpect(jsonPath("$[*].title", hasItems("Same day 0", "Same day 1", "Same day 2")));
+    }
+}
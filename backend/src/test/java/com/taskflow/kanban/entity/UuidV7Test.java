@@ -0,0 +1,36 @@
+package com.taskflow.kanban.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UuidV7Test {
+
+    @Test
+    void next_setsVersionVariantAndTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7.next();
+        long after = System.currentTimeMillis();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        long millis = id.getMostSignificantBits() >>> 16;
+        // The sequence may carry into the next millisecond under load, never backwards
+        assertTrue(millis >= before && millis <= after + 1, () -> "timestamp " + millis + " outside " + before + ".." + after);
+    }
+
+    @Test
+    void next_isStrictlyIncreasing() {
+        // Compare as unsigned big-endian bytes, the order PostgreSQL uses for the uuid type
+        UUID previous = UuidV7.next();
+        for (int i = 0; i < 100_000; i++) {
+            UUID current = UuidV7.next();
+            assertTrue(Long.compareUnsigned(current.getMostSignificantBits(), previous.getMostSignificantBits()) > 0,
+                    "ids out of order at " + i);
+            previous = current;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.taskflow.kanban.monitoring;
+
+import com.taskflow.kanban.board.entity.Board;
+import com.taskflow.kanban.board.entity.BoardColumn;
+import com.taskflow.kanban.board.entity.Card;
+import com.taskflow.kanban.board.repository.BoardRepository;
+import com.taskflow.kanban.board.repository.CardRepository;
+import com.taskflow.kanban.board.repository.ColumnRepository;
+import com.taskflow.kanban.config.SqlBudgetProperties;
+import com.taskflow.kanban.security.CustomUserDetails;
+import com.taskflow.kanban.security.JwtService;
+import com.taskflow.kanban.user.entity.Role;
+import com.taskflow.kanban.user.entity.User;
+import com.taskflow.kanban.user.repository.RoleRepository;
+import com.taskflow.kanban.user.repository.UserRepository;
+import com.taskflow.kanban.workspace.entity.Workspace;
+import com.taskflow.kanban.workspace.entity.WorkspaceMember;
+import com.taskflow.kanban.workspace.entity.WorkspaceRole;
+import com.taskflow.kanban.workspace.repository.WorkspaceMemberRepository;
+import com.taskflow.kanban.workspace.repository.WorkspaceRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class SqlBudgetFilterTest {
+
+    private static final String ENDPOINT = "CardController.getCardsByColumn";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private WorkspaceMemberRepository workspaceMemberRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private SqlBudgetProperties sqlBudgetProperties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String userToken;
+    private BoardColumn column;
+
+    @BeforeEach
+    void setUp() {
+        Role userRole = roleRepository.findByName("USER").orElseGet(() -> roleRepository.save(new Role("USER")));
+        User user = userRepository.save(User.builder()
+                .username("budget_user")
+                .email("budget@example.com")
+                .password("password")
+                .active(true)
+                .roles(Set.of(userRole))
+                .build());
+        userToken = "Bearer " + jwtService.generateToken(new CustomUserDetails(user));
+        Workspace workspace = workspaceRepository.save(Workspace.builder().name("Budget Workspace").isPrivate(false).build());
+        workspaceMemberRepository.save(WorkspaceMember.builder()
+                .workspace(workspace)
+                .user(user)
+                .role(WorkspaceRole.OWNER)
+                .build());
+        Board board = boardRepository.save(Board.builder().name("Budget Board").workspace(workspace).build());
+        column = columnRepository.save(BoardColumn.builder().name("To Do").board(board).position(0).build());
+        for (int i = 0; i < 3; i++) {
+            cardRepository.save(Card.builder().title("Card " + i).column(column).position(i).build());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        sqlBudgetProperties.getEndpoints().remove(ENDPOINT);
+    }
+
+    @Test
+    void requestWithinBudget_recordsStatementHistogram() throws Exception {
+        mockMvc.perform(get("/cards").param("columnId", column.getId().toString())
+                        .header("Authorization", userToken))
+                .andExpect(status().isOk());
+
+        DistributionSummary statements = meterRegistry.find("http.server.requests.sql.statements")
+                .tag("endpoint", ENDPOINT)
+                .summary();
+        assertNotNull(statements);
+        assertTrue(statements.count() >= 1);
+        assertTrue(statements.max() > 0, "JWT lookup and card query should have been counted");
+        assertNotNull(meterRegistry.find("http.server.requests.sql.time").tag("endpoint", ENDPOINT).timer());
+    }
+
+    @Test
+    void requestOverBudget_failsInStrictMode() {
+        sqlBudgetProperties.getEndpoints().put(ENDPOINT, 1);
+
+        SqlBudgetExceededException e = assertThrows(SqlBudgetExceededException.class, () ->
+                mockMvc.perform(get("/cards").param("columnId", column.getId().toString())
+                        .header("Authorization", userToken)));
+        assertTrue(e.getMessage().startsWith(ENDPOINT), e.getMessage());
+    }
+}
@@ -0,0 +1,23 @@
+package com.taskflow.kanban.monitoring;
+
+import java.util.Set;
+
+/**
+ * The SQL Hibernate renders while an action runs, read through the same statement inspector that feeds the request
+ * budget, so tests can check the statements the application really sends rather than copies of them.
+ */
+public final class SqlCapture {
+
+    private SqlCapture() {
+    }
+
+    public static Set<String> capture(Runnable action) {
+        SqlRequestContext context = SqlRequestContext.begin();
+        try {
+            action.run();
+        } finally {
+            SqlRequestContext.end();
+        }
+        return context.statements();
+    }
+}
@@ -0,0 +1,99 @@
+package com.taskflow.kanban.monitoring.jfr;
+
+import com.taskflow.kanban.security.CustomUserDetails;
+import com.taskflow.kanban.security.JwtService;
+import com.taskflow.kanban.user.entity.Role;
+import com.taskflow.kanban.user.entity.User;
+import com.taskflow.kanban.user.repository.RoleRepository;
+import com.taskflow.kanban.user.repository.UserRepository;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "jfr.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class FlightRecordingEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private String adminToken;
+    private String userToken;
+
+    @BeforeEach
+    void setUp() {
+        adminToken = tokenFor("jfr_admin", "ADMIN");
+        userToken = tokenFor("jfr_user", "USER");
+    }
+
+    @Test
+    void dump_containsTaskFlowEvents() throws Exception {
+        mockMvc.perform(get("/search").param("q", "release").header("Authorization", adminToken))
+                .andExpect(status().isOk());
+
+        byte[] recording = mockMvc.perform(get("/actuator/jfr").header("Authorization", adminToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        Path file = Files.createTempFile("jfr-test-", ".jfr");
+        try {
+            Files.write(file, recording);
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("taskflow.JwtAuthentication")
+                    && "authenticated".equals(e.getString("outcome"))));
+            assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("taskflow.Search")
+                    && e.getInt("queryLength") == "release".length()));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void dump_forbiddenForNonAdmin() throws Exception {
+        mockMvc.perform(get("/actuator/jfr").header("Authorization", userToken))
+                .andExpect(status().isForbidden());
+    }
+
+    private String tokenFor(String username, String roleName) {
+        Role role = roleRepository.findByName(roleName).orElseGet(() -> roleRepository.save(new Role(roleName)));
+        User user = userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password(passwordEncoder.encode("password"))
+                .active(true)
+                .roles(Set.of(role))
+                .build());
+        return "Bearer " + jwtService.generateToken(new CustomUserDetails(user));
+    }
+}
@@ -0,0 +1,115 @@
+package com.taskflow.kanban.repository;
+
+import com.taskflow.kanban.board.entity.ActivityLog;
+import com.taskflow.kanban.board.repository.ActivityLogRepository;
+import com.taskflow.kanban.config.IdSetProperties;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class IdSetQueriesTest {
+
+    private static final int LOGGED_ENTITIES = 20;
+
+    @Autowired
+    private ActivityLogRepository activityLogRepository;
+
+    @Autowired
+    private IdSetProperties idSetProperties;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final List<UUID> loggedIds = new ArrayList<>();
+    private Statistics statistics;
+    private int threshold;
+
+    @BeforeEach
+    void setUp() {
+        Instant now = Instant.now();
+        for (int i = 0; i < LOGGED_ENTITIES; i++) {
+            UUID entityId = UUID.randomUUID();
+            loggedIds.add(entityId);
+            activityLogRepository.save(ActivityLog.builder()
+                    .entityId(entityId)
+                    .entityType("Card")
+                    .action("CREATE")
+                    .performedBy(UUID.randomUUID())
+                    .timestamp(now.plusSeconds(i))
+                    .build());
+        }
+        entityManager.flush();
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        threshold = idSetProperties.getTempTableThreshold();
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+        idSetProperties.setTempTableThreshold(threshold);
+    }
+
+    @Test
+    void arrayBinding_reusesOneStatementForEverySetSize() {
+        idSetProperties.setTempTableThreshold(0);
+        activityLogRepository.findByEntityIdSetOrderByTimestampDesc(idsWithPadding(1));
+        long missesAfterFirst = statistics.getQueryPlanCacheMissCount();
+
+        for (int size : new int[]{7, 150, 1_000, 40_000}) {
+            List<ActivityLog> logs = activityLogRepository.findByEntityIdSetOrderByTimestampDesc(idsWithPadding(size));
+            assertEquals(LOGGED_ENTITIES, logs.size());
+            assertEquals(loggedIds.get(LOGGED_ENTITIES - 1), logs.get(0).getEntityId());
+        }
+
+        assertEquals(missesAfterFirst, statistics.getQueryPlanCacheMissCount());
+        long statements = Arrays.stream(statistics.getQueries()).filter(sql -> sql.contains("activity_logs")).count();
+        assertEquals(1, statements, () -> "Expected a single SQL string, got " + Arrays.toString(statistics.getQueries()));
+    }
+
+    @Test
+    void stagedIds_returnSameRowsAsArrayBinding() {
+        List<UUID> ids = idsWithPadding(500);
+        idSetProperties.setTempTableThreshold(0);
+        List<UUID> expected = activityLogRepository.findByEntityIdSetOrderByTimestampDesc(ids).stream()
+                .map(ActivityLog::getId).toList();
+
+        idSetProperties.setTempTableThreshold(100);
+        // Twice in one transaction: the second call must not see the first call's staged ids
+        activityLogRepository.findByEntityIdSetOrderByTimestampDesc(idsWithPadding(300));
+        List<UUID> staged = activityLogRepository.findByEntityIdSetOrderByTimestampDesc(ids).stream()
+                .map(ActivityLog::getId).toList();
+
+        assertEquals(LOGGED_ENTITIES, expected.size());
+        assertEquals(expected, staged);
+        assertEquals(0, activityLogRepository.findByEntityIdSetOrderByTimestampDesc(
+                List.of(UUID.randomUUID(), UUID.randomUUID())).size());
+    }
+
+    private List<UUID> idsWithPadding(int unmatched) {
+        List<UUID> ids = new ArrayList<>(loggedIds);
+        for (int i = 0; i < unmatched; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        return ids;
+    }
+}
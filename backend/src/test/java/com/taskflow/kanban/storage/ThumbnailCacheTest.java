@@ -0,0 +1,60 @@
+package com.taskflow.kanban.storage;
+
+import com.taskflow.kanban.config.StorageProperties;
+import com.taskflow.kanban.config.ThumbnailProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ThumbnailCacheTest {
+
+    @TempDir
+    Path root;
+
+    private StorageProperties storageProperties;
+    private ThumbnailProperties thumbnailProperties;
+
+    @BeforeEach
+    void setUp() {
+        storageProperties = new StorageProperties();
+        storageProperties.setRoot(root.toString());
+        thumbnailProperties = new ThumbnailProperties();
+        thumbnailProperties.setCacheMaxSize(DataSize.ofBytes(100));
+    }
+
+    @Test
+    void put_evictsLeastRecentlyServed() throws IOException {
+        ThumbnailCache cache = new ThumbnailCache(storageProperties, thumbnailProperties);
+        cache.put("a.jpg", new byte[40]);
+        cache.put("b.jpg", new byte[40]);
+        assertTrue(cache.get("a.jpg").isPresent());
+
+        cache.put("c.jpg", new byte[40]);
+
+        assertTrue(cache.contains("a.jpg"));
+        assertFalse(cache.contains("b.jpg"));
+        assertFalse(root.resolve("thumbnails").resolve("b.jpg").toFile().exists());
+        assertEquals(80, cache.size());
+    }
+
+    @Test
+    void restart_reloadsEntriesWithinBound() throws IOException {
+        ThumbnailCache cache = new ThumbnailCache(storageProperties, thumbnailProperties);
+        cache.put("a.jpg", new byte[40]);
+        cache.put("b.jpg", new byte[40]);
+
+        thumbnailProperties.setCacheMaxSize(DataSize.ofBytes(50));
+        ThumbnailCache reopened = new ThumbnailCache(storageProperties, thumbnailProperties);
+
+        assertEquals(40, reopened.size());
+        assertEquals(1, (reopened.contains("a.jpg") ? 1 : 0) + (reopened.contains("b.jpg") ? 1 : 0));
+    }
+}